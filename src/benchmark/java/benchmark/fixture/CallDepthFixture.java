@@ -0,0 +1,55 @@
+package benchmark.fixture;
+
+import wniemiec.app.java.executionflow.runtime.CollectCalls;
+
+/**
+ * Methods annotated with CollectCalls in which only
+ * {@link wniemiec.app.java.executionflow.runtime.hook.MethodCallHook} is woven by the
+ * benchmark profile. It is out of the application packages, since hooks
+ * are never woven in them.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class CallDepthFixture {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private int value;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Makes a call inside the outermost method annotated with CollectCalls,
+	 * which hooks accept.
+	 * 
+	 * @return		Some value
+	 */
+	@CollectCalls
+	public int callInsideOutermostMethod() {
+		return call();
+	}
+	
+	/**
+	 * Makes a call inside a method annotated with CollectCalls called by
+	 * another one, which hooks reject.
+	 * 
+	 * @return		Some value
+	 */
+	@CollectCalls
+	public int callInsideNestedMethod() {
+		return nestedMethod();
+	}
+	
+	@CollectCalls
+	private int nestedMethod() {
+		return call();
+	}
+	
+	private int call() {
+		return value++;
+	}
+}
@@ -0,0 +1,162 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares storing a method collector with Java serialization, as it was
+ * stored in the session, and with {@link InvokedCodec}. Each test method
+ * calls several tested methods, so test methods are shared by many tested
+ * invoked. Sizes of both encodings are printed when the benchmark is set up.
+ * 
+ * @apiNote		Run with <code>mvn -P benchmark test-compile exec:java</code>
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokedCodecBenchmark {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int TESTED_INVOKED_PER_TEST_METHOD = 20;
+	
+	@Param({"100", "10000"})
+	private int testedInvoked;
+	
+	private Map<Integer, List<TestedInvoked>> collector;
+	private byte[] serialized;
+	private byte[] encoded;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Setup
+	public void setUp() throws IOException {
+		collector = buildCollector();
+		serialized = serialize(collector);
+		encoded = InvokedCodec.encodeMethodCollector(collector);
+		
+		System.out.println();
+		System.out.println("Java serialization: " + serialized.length + " bytes");
+		System.out.println("Invoked codec: " + encoded.length + " bytes");
+	}
+	
+	private Map<Integer, List<TestedInvoked>> buildCollector() {
+		Map<Integer, List<TestedInvoked>> methods = new HashMap<>();
+		Invoked testMethod = null;
+		
+		for (int i = 0; i < testedInvoked; i++) {
+			if ((i % TESTED_INVOKED_PER_TEST_METHOD) == 0)
+				testMethod = buildTestMethod(i / TESTED_INVOKED_PER_TEST_METHOD);
+			
+			List<TestedInvoked> invoked = new ArrayList<>();
+			invoked.add(new TestedInvoked(buildTestedMethod(i), testMethod));
+			methods.put(i + 1, invoked);
+		}
+		
+		return methods;
+	}
+	
+	private Invoked buildTestMethod(int id) {
+		return new Invoked.Builder()
+				.binPath(Path.of("target", "test-classes", "foo", "bar", "SomeClassTest.class"))
+				.srcPath(Path.of("src", "test", "java", "foo", "bar", "SomeClassTest.java"))
+				.signature("foo.bar.SomeClassTest.testMethod" + id + "()")
+				.build();
+	}
+	
+	private Invoked buildTestedMethod(int id) {
+		Invoked method = new Invoked.Builder()
+				.binPath(Path.of("target", "classes", "foo", "bar", "SomeClass.class"))
+				.srcPath(Path.of("src", "main", "java", "foo", "bar", "SomeClass.java"))
+				.signature("foo.bar.SomeClass.method" + (id % 50) + "(int,java.lang.String)")
+				.parameterTypes(new Class<?>[] {int.class, String.class})
+				.returnType(String.class)
+				.args(id, "value")
+				.invocationLine(id + 1)
+				.build();
+		
+		// Concrete signature is computed when tested invoked are collected
+		method.getConcreteSignature();
+		
+		return method;
+	}
+	
+	private static byte[] serialize(Object obj) throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream oos = new ObjectOutputStream(content)) {
+			oos.writeObject(obj);
+		}
+		
+		return content.toByteArray();
+	}
+	
+	private static Object deserialize(byte[] content)
+			throws IOException, ClassNotFoundException {
+		try (ObjectInputStream ois = new ObjectInputStream(
+				new ByteArrayInputStream(content)
+		)) {
+			return ois.readObject();
+		}
+	}
+	
+	@Benchmark
+	public byte[] javaSerializationWrite() throws IOException {
+		return serialize(collector);
+	}
+	
+	@Benchmark
+	public byte[] codecWrite() throws IOException {
+		return InvokedCodec.encodeMethodCollector(collector);
+	}
+	
+	@Benchmark
+	public Object javaSerializationRead() throws IOException, ClassNotFoundException {
+		return deserialize(serialized);
+	}
+	
+	@Benchmark
+	public Object codecRead() throws IOException {
+		return InvokedCodec.decodeMethodCollector(encoded);
+	}
+	
+	@Benchmark
+	public Object javaSerializationRoundTrip() throws IOException, ClassNotFoundException {
+		return deserialize(serialize(collector));
+	}
+	
+	@Benchmark
+	public Object codecRoundTrip() throws IOException {
+		return InvokedCodec.copyMethodCollector(collector);
+	}
+}
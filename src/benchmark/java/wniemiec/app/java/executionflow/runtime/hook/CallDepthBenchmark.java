@@ -0,0 +1,69 @@
+package wniemiec.app.java.executionflow.runtime.hook;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmark.fixture.CallDepthFixture;
+import benchmark.fixture.CflowFixture;
+
+/**
+ * Compares {@link MethodCallHook}, which checks whether calls are inside the
+ * outermost method annotated with CollectCalls using {@link CallDepth}, with
+ * {@link CflowMethodCallHook}, which does it with cflow and cflowbelow
+ * pointcuts. The benchmark profile weaves each hook in its own fixture,
+ * along with the other hooks, as they are woven in tested classes. Calls
+ * inside a nested method are rejected by both hooks, which is what happens
+ * to most method calls in a woven test.
+ *
+ * @apiNote		Run with <code>mvn -P benchmark test-compile exec:java</code>
+ *
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallDepthBenchmark {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final CallDepthFixture callDepthFixture = new CallDepthFixture();
+	private final CflowFixture cflowFixture = new CflowFixture();
+
+
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Benchmark
+	public int callDepthInsideOutermostMethod() {
+		return callDepthFixture.callInsideOutermostMethod();
+	}
+
+	@Benchmark
+	public int cflowInsideOutermostMethod() {
+		return cflowFixture.callInsideOutermostMethod();
+	}
+
+	@Benchmark
+	public int callDepthInsideNestedMethod() {
+		return callDepthFixture.callInsideNestedMethod();
+	}
+
+	@Benchmark
+	public int cflowInsideNestedMethod() {
+		return cflowFixture.callInsideNestedMethod();
+	}
+}
@@ -0,0 +1,103 @@
+package wniemiec.app.java.executionflow.runtime.hook;
+
+/**
+ * Keeps how many methods annotated with
+ * {@link wniemiec.app.java.executionflow.runtime.CollectMethodsCalled} and
+ * {@link wniemiec.app.java.executionflow.runtime.CollectCalls} are running
+ * in a thread. Depths are only updated when these methods start and end, so
+ * that checking whether a join point is inside them does not require the
+ * counters AspectJ keeps around every join point of a cflow pointcut.
+ *
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+final class CallDepth {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final ThreadLocal<CallDepth> depths =
+			ThreadLocal.withInitial(CallDepth::new);
+	private int collectMethodsCalled;
+	private int collectCallsMethods;
+	private int collectCallsConstructors;
+
+
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private CallDepth() {
+	}
+
+
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets depths of the current thread.
+	 *
+	 * @return		Call depths
+	 */
+	static CallDepth current() {
+		return depths.get();
+	}
+
+	void enterCollectMethodsCalled() {
+		collectMethodsCalled++;
+	}
+
+	void exitCollectMethodsCalled() {
+		collectMethodsCalled--;
+	}
+
+	void enterCollectCallsMethod() {
+		collectCallsMethods++;
+	}
+
+	void exitCollectCallsMethod() {
+		collectCallsMethods--;
+	}
+
+	void enterCollectCallsConstructor() {
+		collectCallsConstructors++;
+	}
+
+	void exitCollectCallsConstructor() {
+		collectCallsConstructors--;
+	}
+
+
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Checks whether a method annotated with CollectMethodsCalled is running.
+	 *
+	 * @return		True if the current thread is inside it
+	 */
+	boolean isInsideCollectMethodsCalled() {
+		return (collectMethodsCalled > 0);
+	}
+
+	/**
+	 * Checks whether no method annotated with CollectCalls is running, which
+	 * means that a constructor annotated with it was not called by one.
+	 *
+	 * @return		True if there is no method annotated with CollectCalls
+	 * running
+	 */
+	boolean isOutsideCollectCallsMethods() {
+		return (collectCallsMethods == 0);
+	}
+
+	/**
+	 * Checks whether only one method annotated with CollectCalls is running
+	 * and it was not called by a constructor annotated with it.
+	 *
+	 * @return		True if the running method annotated with CollectCalls is
+	 * the outermost one
+	 */
+	boolean isInsideOutermostCollectCallsMethod() {
+		return (collectCallsMethods == 1) && (collectCallsConstructors == 0);
+	}
+}
@@ -0,0 +1,288 @@
+package wniemiec.app.java.executionflow.runtime.hook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+
+import wniemiec.app.java.executionflow.io.ClassPathSearcher;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Information about a join point that only depends on where it is in the 
+ * code, that is, on its shadow. It is computed once per shadow, so that hooks 
+ * do not have to build signatures and match them against regular expressions 
+ * every time the join point is reached.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+final class JoinPointShadow {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final Map<JoinPoint.StaticPart, JoinPointShadow> shadows =
+			new ConcurrentHashMap<>();
+	private static final Pattern METHOD_SIGNATURE = Pattern.compile(
+			"[A-z\\.]+(\\s|\\t)+([A-z0-9-_$]+\\.)+[A-z0-9-_$]+\\([A-z0-9-\\._$,\\s]*\\)"
+	);
+	private static final Pattern ACCESS_METHOD = Pattern.compile(".*\\.(access\\$[0-9]+\\().*");
+	private static final Pattern JAVA_PACKAGE = Pattern.compile("^java\\..+");
+	private static final Pattern JDK_PACKAGE = Pattern.compile("^jdk\\..+");
+	private static final Pattern ANONYMOUS_CLASS = Pattern.compile(".+(\\$|\\.)[0-9]+.+");
+	private final String signature;
+	private final String methodSignature;
+	private final String invokedSignature;
+	private final String calledMethodSignature;
+	private final boolean methodCall;
+	private final boolean constructorCall;
+	private final boolean validMethodSignature;
+	private final boolean nativeMethod;
+	private final boolean nativeSignature;
+	private final Map<String, ClassFiles> classFiles = new ConcurrentHashMap<>();
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private JoinPointShadow(JoinPoint.StaticPart staticPart) {
+		Signature jpSignature = staticPart.getSignature();
+		
+		signature = jpSignature.toString();
+		methodCall = staticPart.getKind().equals(JoinPoint.METHOD_CALL);
+		constructorCall = staticPart.getKind().equals(JoinPoint.CONSTRUCTOR_CALL);
+		methodSignature = buildMethodSignature(jpSignature);
+		invokedSignature = buildInvokedSignature(jpSignature);
+		calledMethodSignature = (methodSignature == null) 
+				? null 
+				: methodSignature.replace('$', '.');
+		validMethodSignature = isMethodSignature(signature);
+		nativeMethod = isNativeMethod(methodSignature);
+		nativeSignature = isNativeMethod(signature);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Factories
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets information about the shadow of a join point.
+	 * 
+	 * @param		staticPart Static part of the join point
+	 * 
+	 * @return		Join point shadow
+	 */
+	static JoinPointShadow of(JoinPoint.StaticPart staticPart) {
+		JoinPointShadow shadow = shadows.get(staticPart);
+		
+		if (shadow == null) {
+			shadow = new JoinPointShadow(staticPart);
+			shadows.putIfAbsent(staticPart, shadow);
+		}
+		
+		return shadow;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Builds signature with declaring type, name and parameter types.
+	 * 
+	 * @return		Signature or null if the join point does not have 
+	 * parameters
+	 */
+	private static String buildMethodSignature(Signature jpSignature) {
+		String signature = jpSignature.toString();
+		int parametersIndex = signature.indexOf('(');
+		
+		if (parametersIndex < 0)
+			return null;
+		
+		return	jpSignature.getDeclaringTypeName() + "." + jpSignature.getName() 
+				+ signature.substring(parametersIndex);
+	}
+	
+	private String buildInvokedSignature(Signature jpSignature) {
+		String accessAndSignature = constructorCall
+				? jpSignature.toLongString() 
+				: jpSignature.toString();
+		
+		return accessAndSignature.substring(accessAndSignature.indexOf(" ") + 1);
+	}
+	
+	private static boolean isMethodSignature(String signature) {
+		return	METHOD_SIGNATURE.matcher(signature).matches()
+				&& !ACCESS_METHOD.matcher(signature).matches();
+	}
+	
+	/**
+	 * Checks whether a signature belongs to a native Java method or 
+	 * if it is a JUnit method.
+	 * 
+	 * @param		signature Signature to be analyzed
+	 * 
+	 * @return		If the signature belongs to a native method or JUnit method
+	 */
+	private static boolean isNativeMethod(String signature) {
+		return	(signature == null)
+				|| JAVA_PACKAGE.matcher(signature).matches()
+				|| JDK_PACKAGE.matcher(signature).matches()
+				|| signature.contains("^org\\.junit\\..+")
+				|| ANONYMOUS_CLASS.matcher(signature).matches();
+	}
+	
+	
+	/**
+	 * Gets compiled and source files of a class reached from this shadow. 
+	 * They are searched once per class, since the class of the target of an
+	 * instance method call may change from one call to another.
+	 * 
+	 * @param		classSignature Class signature
+	 * 
+	 * @return		Compiled and source files of the class
+	 */
+	ClassFiles getClassFiles(String classSignature) {
+		ClassFiles files = classFiles.get(classSignature);
+		
+		if (files == null) {
+			files = ClassFiles.find(classSignature);
+			classFiles.putIfAbsent(classSignature, files);
+		}
+		
+		return files;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets signature as provided by AspectJ, that is, with return type.
+	 * 
+	 * @return		Join point signature
+	 */
+	String getSignature() {
+		return signature;
+	}
+	
+	/**
+	 * Gets signature with declaring type, name and parameter types, such as
+	 * <code>pkg.Class.method(int)</code>.
+	 * 
+	 * @return		Method signature or null if the join point does not have 
+	 * parameters
+	 */
+	String getMethodSignature() {
+		return methodSignature;
+	}
+	
+	/**
+	 * Gets signature without return type or access modifier.
+	 * 
+	 * @return		Invoked signature
+	 */
+	String getInvokedSignature() {
+		return invokedSignature;
+	}
+	
+	/**
+	 * Gets method signature in which inner classes are separated by dots.
+	 * 
+	 * @return		Method signature or null if the join point does not have 
+	 * parameters
+	 */
+	String getCalledMethodSignature() {
+		return calledMethodSignature;
+	}
+	
+	boolean isMethodCall() {
+		return methodCall;
+	}
+	
+	boolean isConstructorCall() {
+		return constructorCall;
+	}
+	
+	/**
+	 * Checks whether the join point is a method that can be collected, which 
+	 * excludes methods generated by the compiler to access private members.
+	 * 
+	 * @return		True if signature belongs to a method
+	 */
+	boolean isValidMethodSignature() {
+		return validMethodSignature;
+	}
+	
+	/**
+	 * Checks whether method signature belongs to a native Java method, JUnit 
+	 * method or anonymous class.
+	 * 
+	 * @return		True if method signature belongs to a native method
+	 */
+	boolean isNativeMethod() {
+		return nativeMethod;
+	}
+	
+	/**
+	 * Checks whether signature provided by AspectJ belongs to a native Java
+	 * method, JUnit method or anonymous class.
+	 * 
+	 * @return		True if signature belongs to a native method
+	 */
+	boolean isNativeSignature() {
+		return nativeSignature;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	/**
+	 * Compiled and source files of a class.
+	 */
+	static final class ClassFiles {
+		
+		private final Path binPath;
+		private final Path srcPath;
+		
+		private ClassFiles(Path binPath, Path srcPath) {
+			this.binPath = binPath;
+			this.srcPath = srcPath;
+		}
+		
+		private static ClassFiles find(String classSignature) {
+			try {
+				return new ClassFiles(
+						ClassPathSearcher.findBinPath(classSignature),
+						ClassPathSearcher.findSrcPath(classSignature)
+				);
+			} 
+			catch (IOException e) {
+				Consolex.writeError("MethodCollector - " + e.getMessage() + "\n");
+				
+				return new ClassFiles(null, null);
+			}
+		}
+		
+		/**
+		 * @return		Compiled file or null if it cannot be found
+		 */
+		Path getBinPath() {
+			return binPath;
+		}
+		
+		/**
+		 * @return		Source file or null if it cannot be found
+		 */
+		Path getSrcPath() {
+			return srcPath;
+		}
+	}
+}
@@ -7,8 +7,10 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import wniemiec.app.java.executionflow.collector.InvokedCollector;
 import wniemiec.app.java.executionflow.exporter.ExportManager;
 import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.SignatureTable;
 import wniemiec.app.java.executionflow.io.processing.file.PreTestMethodFileProcessor;
 import wniemiec.app.java.executionflow.io.processing.manager.ProcessingManager;
 import wniemiec.app.java.executionflow.io.runner.JUnitRunner;
@@ -81,6 +83,9 @@ public class ExecutionFlow {
 	//		Methods
 	//-------------------------------------------------------------------------	
 	public static void inEachTestMethod(Invoked testMethod, boolean isRepeatedTest) {
+		// Signatures of the last test method are no longer needed
+		SignatureTable.getInstance().clear();
+		
 		if (errorProcessingTestMethod)
 			return;
 
@@ -243,6 +248,8 @@ public class ExecutionFlow {
 	}
 	
 	public static void afterEachTestMethod(Invoked testMethod) {
+		InvokedCollector.flushAll();
+		
 		if (errorProcessingTestMethod) {
 			errorProcessingTestMethod = false;
 			return;
@@ -0,0 +1,149 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records, for each debugger command, how long the debugger took to answer
+ * it. Latencies are grouped into fixed buckets (in milliseconds).
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class CommandLatencyHistogram {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final long[] BUCKET_UPPER_BOUNDS = {
+			1, 2, 5, 10, 20, 50, 100, 200, 500, 1000
+	};
+	private final Map<String, long[]> histogram;
+	private final Map<String, Long> totalTime;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public CommandLatencyHistogram() {
+		histogram = new LinkedHashMap<>();
+		totalTime = new LinkedHashMap<>();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Records the time elapsed between sending a command and receiving its 
+	 * answer.
+	 * 
+	 * @param		command Command sent to the debugger
+	 * @param		latency Elapsed time (in milliseconds)
+	 * 
+	 * @throws		IllegalArgumentException If command is null or if latency
+	 * is negative
+	 */
+	public synchronized void record(String command, long latency) {
+		if (command == null)
+			throw new IllegalArgumentException("Command cannot be null");
+		
+		if (latency < 0)
+			throw new IllegalArgumentException("Latency cannot be negative");
+		
+		histogram.computeIfAbsent(command, key -> new long[BUCKET_UPPER_BOUNDS.length + 1])
+				 [findBucket(latency)]++;
+		totalTime.merge(command, latency, Long::sum);
+	}
+	
+	private int findBucket(long latency) {
+		int bucket = 0;
+		
+		while ((bucket < BUCKET_UPPER_BOUNDS.length) && (latency >= BUCKET_UPPER_BOUNDS[bucket]))
+			bucket++;
+		
+		return bucket;
+	}
+	
+	/**
+	 * Gets how many answers of a command took a time within a range.
+	 * 
+	 * @param		command Command sent to the debugger
+	 * @param		latency Any latency (in milliseconds) within the range
+	 * 
+	 * @return		Total answers in the range of the latency
+	 */
+	public synchronized long getCount(String command, long latency) {
+		if (!histogram.containsKey(command))
+			return 0;
+		
+		return histogram.get(command)[findBucket(latency)];
+	}
+	
+	/**
+	 * Gets how many times a command has been answered.
+	 * 
+	 * @param		command Command sent to the debugger
+	 * 
+	 * @return		Total answers
+	 */
+	public synchronized long getTotalCount(String command) {
+		if (!histogram.containsKey(command))
+			return 0;
+		
+		long total = 0;
+		
+		for (long count : histogram.get(command)) {
+			total += count;
+		}
+		
+		return total;
+	}
+	
+	public synchronized boolean isEmpty() {
+		return histogram.isEmpty();
+	}
+	
+	@Override
+	public synchronized String toString() {
+		StringBuilder report = new StringBuilder();
+		
+		for (Map.Entry<String, long[]> entry : histogram.entrySet()) {
+			report.append(buildCommandReport(entry.getKey(), entry.getValue()));
+			report.append("\n");
+		}
+		
+		return report.toString();
+	}
+
+	private String buildCommandReport(String command, long[] buckets) {
+		StringBuilder report = new StringBuilder();
+		long total = getTotalCount(command);
+		
+		report.append(command);
+		report.append(" (n=");
+		report.append(total);
+		report.append(", avg=");
+		report.append(totalTime.get(command) / total);
+		report.append("ms):");
+		
+		for (int i = 0; i < buckets.length; i++) {
+			if (buckets[i] == 0)
+				continue;
+			
+			report.append(" ");
+			report.append(buildBucketLabel(i));
+			report.append("=");
+			report.append(buckets[i]);
+		}
+		
+		return report.toString();
+	}
+	
+	private String buildBucketLabel(int bucket) {
+		if (bucket == BUCKET_UPPER_BOUNDS.length)
+			return ">=" + BUCKET_UPPER_BOUNDS[bucket-1] + "ms";
+		
+		return "<" + BUCKET_UPPER_BOUNDS[bucket] + "ms";
+	}
+}
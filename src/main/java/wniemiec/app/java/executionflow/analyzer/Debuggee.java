@@ -0,0 +1,226 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.jdi.Bootstrap;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.Connector;
+import com.sun.jdi.connect.IllegalConnectorArgumentsException;
+import com.sun.jdi.connect.ListeningConnector;
+
+import wniemiec.io.java.Consolex;
+
+/**
+ * Java virtual machine launched with the Java Debug Wire Protocol agent, 
+ * which is controlled through the Java Debug Interface.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class Debuggee {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String SOCKET_LISTENING_CONNECTOR = "com.sun.jdi.SocketListen";
+	private static final int EXIT_TIMEOUT_MS = 2000;
+	private final VirtualMachine vm;
+	private final Process process;
+	private final Path workingDirectory;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private Debuggee(VirtualMachine vm, Process process, Path workingDirectory) {
+		this.vm = vm;
+		this.process = process;
+		this.workingDirectory = workingDirectory;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Launches a debuggee and waits for it to connect to the debugger.
+	 * 
+	 * @param		workingDirectory Working directory of the debuggee
+	 * @param		classPath Class path of the debuggee
+	 * @param		suspend True if the debuggee should be suspended until the
+	 * debugger resumes it
+	 * @param		args JVM options followed by the main class and its 
+	 * arguments
+	 * 
+	 * @return		Debuggee connected to the debugger
+	 * 
+	 * @throws		IOException If debuggee cannot be launched
+	 */
+	public static Debuggee launch(Path workingDirectory, List<Path> classPath, 
+								  boolean suspend, List<String> args) 
+			throws IOException {
+		ListeningConnector connector = findSocketListeningConnector();
+		Map<String, Connector.Argument> connectorArgs = connector.defaultArguments();
+		
+		connectorArgs.get("port").setValue("0");
+		
+		try {
+			String address = connector.startListening(connectorArgs);
+			
+			try {
+				Process process = buildProcess(
+						address, 
+						workingDirectory, 
+						classPath, 
+						suspend, 
+						args
+				).start();
+				
+				return new Debuggee(connector.accept(connectorArgs), process, workingDirectory);
+			}
+			finally {
+				connector.stopListening(connectorArgs);
+			}
+		}
+		catch (IllegalConnectorArgumentsException e) {
+			throw new IOException("Debuggee cannot be launched - " + e.getMessage());
+		}
+	}
+	
+	private static ListeningConnector findSocketListeningConnector() throws IOException {
+		for (ListeningConnector connector : Bootstrap.virtualMachineManager().listeningConnectors()) {
+			if (connector.name().equals(SOCKET_LISTENING_CONNECTOR))
+				return connector;
+		}
+		
+		throw new IOException("There is no connector available for launching the debuggee");
+	}
+	
+	private static ProcessBuilder buildProcess(String address, Path workingDirectory,
+											   List<Path> classPath, boolean suspend, 
+											   List<String> args) {
+		List<String> command = new ArrayList<>();
+		
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.add(
+				"-agentlib:jdwp=transport=dt_socket,server=n,suspend=" 
+				+ (suspend ? "y" : "n") + ",address=" + address
+		);
+		command.add("-cp");
+		command.add(buildClassPath(classPath));
+		command.addAll(args);
+		
+		Consolex.writeDebug(Debuggee.class.getName() + " - COMMAND: " + command);
+		Consolex.writeDebug(Debuggee.class.getName() + " - Working directory: " + workingDirectory);
+		
+		return new ProcessBuilder(command)
+				.directory(workingDirectory.toFile())
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.redirectError(ProcessBuilder.Redirect.DISCARD);
+	}
+	
+	private static String buildClassPath(List<Path> classPath) {
+		StringBuilder classPathArgument = new StringBuilder();
+		
+		for (Path path : classPath) {
+			classPathArgument.append(path.toString());
+			classPathArgument.append(File.pathSeparator);
+		}
+		
+		// Removes last path separator
+		if (classPathArgument.length() > 0)
+			classPathArgument.deleteCharAt(classPathArgument.length()-1);
+		
+		return classPathArgument.toString();
+	}
+	
+	/**
+	 * Asks a debuggee launched through 
+	 * {@link wniemiec.app.java.executionflow.runtime.DebuggeeLauncher} to
+	 * run a test class.
+	 * 
+	 * @param		testClass Test class signature
+	 * @param		mctiFile File where the debuggee will store methods called
+	 * by tested invoked
+	 * @param		channel Address of the channel through which the debuggee
+	 * will send methods called by tested invoked or null if there is none
+	 * 
+	 * @throws		IOException If debuggee is no longer running
+	 */
+	public void runTestClass(String testClass, File mctiFile, String channel) 
+			throws IOException {
+		try (BufferedWriter input = new BufferedWriter(new OutputStreamWriter(
+				process.getOutputStream(), 
+				StandardCharsets.UTF_8
+		))) {
+			input.write(mctiFile.getAbsolutePath());
+			input.newLine();
+			input.write(testClass);
+			input.newLine();
+			input.write((channel == null) ? "" : channel);
+			input.newLine();
+		}
+	}
+	
+	/**
+	 * Disconnects from the debuggee and waits for it to end. If it does not
+	 * end in time, it is destroyed.
+	 */
+	public void close() {
+		disconnect();
+		waitForExit();
+		destroy();
+	}
+	
+	private void disconnect() {
+		try {
+			vm.dispose();
+		}
+		catch (VMDisconnectedException e) {
+			// Debuggee has already ended
+		}
+	}
+	
+	private void waitForExit() {
+		try {
+			process.waitFor(EXIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	/**
+	 * Ends the debuggee immediately.
+	 */
+	public void destroy() {
+		if (process.isAlive())
+			process.destroyForcibly();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public VirtualMachine getVirtualMachine() {
+		return vm;
+	}
+	
+	public Path getWorkingDirectory() {
+		return workingDirectory;
+	}
+	
+	public boolean isAlive() {
+		return process.isAlive();
+	}
+}
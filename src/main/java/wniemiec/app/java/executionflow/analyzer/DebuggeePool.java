@@ -0,0 +1,223 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.lib.LibraryManager;
+import wniemiec.app.java.executionflow.runtime.DebuggeeLauncher;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Keeps debuggees launched ahead of time, so that JDI analyzers do not have
+ * to wait for the Java virtual machine to start and to load JUnit, Hamcrest
+ * and AspectJ classes before running a test class. A debuggee runs only one
+ * test class: once it is taken, it is discarded after being used and another
+ * one is launched in background. The pool is kept open for the whole run, 
+ * so that debuggees launched to replace taken ones are used by the next 
+ * test methods, and it is closed when the virtual machine ends.
+ *
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class DebuggeePool {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static DebuggeePool instance;
+	private final BlockingQueue<Debuggee> debuggees;
+	private ExecutorService launcher;
+	private volatile Path workingDirectory;
+	private volatile boolean open;
+	private int size;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private DebuggeePool() {
+		debuggees = new LinkedBlockingQueue<>();
+		
+		onShutdown();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	public static synchronized DebuggeePool getInstance() {
+		if (instance == null)
+			instance = new DebuggeePool();
+		
+		return instance;
+	}
+	
+	private void onShutdown() {
+		Runtime.getRuntime().addShutdownHook(new Thread() {
+			public void run() {
+				close();
+			}
+		});
+	}
+	
+	/**
+	 * Launches debuggees in background that will be able to run the class of
+	 * a test method. If the pool is already open for the same working 
+	 * directory and size, its debuggees are kept. 
+	 * Otherwise, it is closed first.
+	 *
+	 * @param		testMethod Test method
+	 * @param		size Number of debuggees kept ready
+	 *
+	 * @throws		IllegalArgumentException If test method is null or if
+	 * size is less than 1
+	 */
+	public synchronized void open(Invoked testMethod, int size) {
+		if (testMethod == null)
+			throw new IllegalArgumentException("Test method cannot be null");
+		
+		if (size < 1)
+			throw new IllegalArgumentException("Size must be at least 1");
+		
+		Path testMethodWorkingDirectory = DebuggerAnalyzer.extractRootPathDirectory(
+				testMethod.getBinPath(),
+				testMethod.getPackage()
+		);
+		
+		if (open && (this.size == size)
+				&& testMethodWorkingDirectory.equals(workingDirectory))
+			return;
+		
+		close();
+		
+		this.size = size;
+		workingDirectory = testMethodWorkingDirectory;
+		launcher = Executors.newFixedThreadPool(size, runnable -> {
+			Thread thread = new Thread(runnable, "debuggee-pool");
+			thread.setDaemon(true);
+			
+			return thread;
+		});
+		open = true;
+		
+		for (int i = 0; i < size; i++) {
+			launchInBackground();
+		}
+	}
+	
+	private void launchInBackground() {
+		Path debuggeeWorkingDirectory = workingDirectory;
+		ExecutorService debuggeeLauncher = launcher;
+		
+		debuggeeLauncher.execute(() -> {
+			try {
+				Debuggee debuggee = Debuggee.launch(
+						debuggeeWorkingDirectory,
+						buildClassPath(),
+						false,
+						List.of(DebuggeeLauncher.class.getName())
+				);
+				
+				addIfLaunchedByCurrentLauncher(debuggee, debuggeeLauncher);
+			}
+			catch (IOException e) {
+				Consolex.writeDebug(
+						DebuggeePool.class.getName() + " - Debuggee cannot be launched: "
+						+ e.getMessage()
+				);
+			}
+		});
+	}
+	
+	/**
+	 * Keeps a debuggee only if the pool has not been closed nor reopened 
+	 * while it was launched.
+	 */
+	private synchronized void addIfLaunchedByCurrentLauncher(Debuggee debuggee,
+															 ExecutorService debuggeeLauncher) {
+		if (open && (launcher == debuggeeLauncher))
+			debuggees.add(debuggee);
+		else
+			debuggee.destroy();
+	}
+	
+	/**
+	 * Gets class path of pooled debuggees, which is the class path of the
+	 * application along with JUnit 4 and Hamcrest libraries.
+	 *
+	 * @return		Debuggee class path
+	 */
+	static List<Path> buildClassPath() {
+		List<Path> classPath = new ArrayList<>(LibraryManager.getJavaClassPath());
+		
+		classPath.add(LibraryManager.getLibrary("JUNIT_4"));
+		classPath.add(LibraryManager.getLibrary("HAMCREST"));
+		
+		return classPath;
+	}
+	
+	/**
+	 * Takes a debuggee that is ready to run a test class. Another debuggee
+	 * is launched in background to replace it.
+	 *
+	 * @param		workingDirectory Working directory of the test class
+	 *
+	 * @return		Debuggee or null if there is no debuggee ready for the
+	 * working directory
+	 */
+	synchronized Debuggee take(Path workingDirectory) {
+		if (!open || !this.workingDirectory.equals(workingDirectory))
+			return null;
+		
+		Debuggee debuggee = debuggees.poll();
+		
+		while (debuggee != null) {
+			launchInBackground();
+			
+			if (debuggee.isAlive())
+				return debuggee;
+			
+			debuggee.destroy();
+			debuggee = debuggees.poll();
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Ends all debuggees that have not been taken.
+	 */
+	public synchronized void close() {
+		if (!open)
+			return;
+		
+		open = false;
+		launcher.shutdownNow();
+		
+		Debuggee debuggee = debuggees.poll();
+		
+		while (debuggee != null) {
+			debuggee.destroy();
+			debuggee = debuggees.poll();
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public boolean isOpen() {
+		return open;
+	}
+	
+	int getReadyDebuggees() {
+		return debuggees.size();
+	}
+}
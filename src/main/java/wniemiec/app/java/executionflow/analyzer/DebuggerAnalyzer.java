@@ -13,6 +13,7 @@ import wniemiec.app.java.executionflow.analyzer.exceptions.AssertFailureExceptio
 import wniemiec.app.java.executionflow.collector.CallCollector;
 import wniemiec.app.java.executionflow.invoked.Invoked;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.io.processing.manager.FileProcessingManager;
 import wniemiec.app.java.executionflow.lib.LibraryManager;
 import wniemiec.io.java.Consolex;
 import wniemiec.task.java.Scheduler;
@@ -28,11 +29,25 @@ public abstract class DebuggerAnalyzer {
 	//-------------------------------------------------------------------------
 	//		Attributes
 	//-------------------------------------------------------------------------
+	/**
+	 * Classes whose frames are skipped by the debugger while stepping.
+	 */
+	public static final List<String> DEFAULT_CLASS_EXCLUSION_FILTERS = List.of(
+			"java.*",
+			"jdk.*",
+			"sun.*",
+			"org.aspectj.*",
+			"org.junit.*",
+			"wniemiec.app.java.executionflow.runtime.*"
+	);
 	protected volatile boolean timeout;
 	protected volatile JDB jdb;
+	protected volatile JDBOutputReader jdbOutput;
+	protected final CommandLatencyHistogram commandLatencies;
 	protected volatile List<List<Integer>> testPaths;
 	protected boolean stopJDB;
 	protected String analyzedInvokedSignature;
+	protected List<String> classExclusionFilters;
 	protected Invoked testedInvoked;
 	protected Invoked testMethod;
 	private List<String> commands;
@@ -57,8 +72,8 @@ public abstract class DebuggerAnalyzer {
 		
 		callCollector = CallCollector.getInstance();
 		timeoutTime = 10 * 60 * 1000;
-		
-		initializeJDB();
+		commandLatencies = new CommandLatencyHistogram();
+		classExclusionFilters = DEFAULT_CLASS_EXCLUSION_FILTERS;
 	}
 
 
@@ -66,24 +81,20 @@ public abstract class DebuggerAnalyzer {
 	//		Methods
 	//-------------------------------------------------------------------------
 	/**
-	 * Runs test method through JDB, registering its test path along with the
-	 * methods called by all methods or constructors called from this test
-	 * method.
+	 * Runs test method through a debugger, registering its test path along 
+	 * with the methods called by all methods or constructors called from this
+	 * test method.
 	 * 
 	 * @return		Itself to allow chained calls
 	 * 
 	 * @throws		IOException If an error occurs while reading the output 
-	 * @throws		IllegalStateException If JDB has not been initialized or 
-	 * if invocation line is incorrect
+	 * @throws		IllegalStateException If invocation line is incorrect
 	 */
 	public DebuggerAnalyzer analyze() throws IOException {
-		if (jdb == null)
-			throw new IllegalStateException("JDB has not been initialized");
-		
 		long timeoutID = -1;
 
 		try {
-			startJDB();
+			startDebugger();
 			timeoutID = enableTimeout();
 			run();
 		}
@@ -91,15 +102,9 @@ public abstract class DebuggerAnalyzer {
 			// If an assert fails, it should be ignored. 
 		}
 		finally {
-			try {
-				Thread.sleep(200);
-			} 
-			catch (InterruptedException e) {
-			}
-			
 			synchronized(lock) {
 				disableTimeout(timeoutID);
-				closeJDB();
+				closeDebugger();
 			}
 		}
 		
@@ -108,14 +113,24 @@ public abstract class DebuggerAnalyzer {
 		return this;
 	}
 	
-	private void startJDB() throws IOException {
-		jdb.run().send(buildInitCommand());
+	/**
+	 * Starts the debugger, leaving it ready to run the test method.
+	 * 
+	 * @throws		IOException If debugger cannot be started
+	 */
+	protected void startDebugger() throws IOException {
+		initializeJDB();
+		jdb.run();
+		
+		jdbOutput = new JDBOutputReader(jdb, commandLatencies).start();
+		jdb.send(buildInitCommand());
 	}
 	
 	private String[] buildInitCommand() {
 		commands = new ArrayList<>();
 		
 		clearBreakpoints();
+		excludeClasses();
 		initializeBreakpoint();
 		initializeRunClass();
 		
@@ -128,6 +143,22 @@ public abstract class DebuggerAnalyzer {
 		Consolex.writeDebug(this.getClass().getName() + " - COMMAND: clear");
 	}
 	
+	private void excludeClasses() {
+		StringBuilder command = new StringBuilder();
+		
+		command.append("exclude");
+		command.append(" ");
+		
+		if (classExclusionFilters.isEmpty())
+			command.append("none");
+		else
+			command.append(String.join(",", classExclusionFilters));
+		
+		commands.add(command.toString());
+		
+		Consolex.writeDebug(this.getClass().getName() + " - COMMAND: " + command.toString());
+	}
+	
 	private void initializeBreakpoint() {
 		StringBuilder command = new StringBuilder();
 		
@@ -160,7 +191,7 @@ public abstract class DebuggerAnalyzer {
 		return Scheduler.setTimeout(() -> {
 			synchronized(lock) {
 				callCollector.deleteStoredContent();
-				closeJDBImmediately();
+				closeDebuggerImmediately();
 				testPaths.clear();
 				
 				timeout = true;
@@ -168,7 +199,11 @@ public abstract class DebuggerAnalyzer {
 		}, timeoutTime);
 	}
 
-	private void closeJDBImmediately() {
+	/**
+	 * Ends debugger without waiting for the test method to finish. It is 
+	 * called when the timeout is reached.
+	 */
+	protected void closeDebuggerImmediately() {
 		if (jdb == null)
 			return;
 		
@@ -183,6 +218,8 @@ public abstract class DebuggerAnalyzer {
 		catch (IOException e) {
 			Consolex.writeError(e.getMessage());
 		}
+		
+		closeJDBOutput();
 	}
 
 	protected abstract void run() throws IOException;
@@ -191,6 +228,40 @@ public abstract class DebuggerAnalyzer {
 		Scheduler.clearTimeout(timeoutId);
 	}
 	
+	/**
+	 * Ends debugger after the test method has been analyzed.
+	 */
+	protected void closeDebugger() {
+		waitForJDBOutput();
+		closeJDB();
+		closeJDBOutput();
+		logCommandLatencies();
+	}
+	
+	private void waitForJDBOutput() {
+		if (jdbOutput == null)
+			return;
+		
+		jdbOutput.awaitPrompt(200);
+	}
+	
+	private void closeJDBOutput() {
+		if (jdbOutput == null)
+			return;
+		
+		jdbOutput.close();
+	}
+	
+	private void logCommandLatencies() {
+		if (commandLatencies.isEmpty())
+			return;
+		
+		Consolex.writeDebug(
+				this.getClass().getName() + " - Command latencies:\n" 
+				+ commandLatencies
+		);
+	}
+	
 	private void closeJDB() {
 		if ((jdb == null) || !jdb.isRunning())
 			return;
@@ -272,7 +343,7 @@ public abstract class DebuggerAnalyzer {
 	 * 
 	 * @throws		IllegalStateException If source file path is null
 	 */
-	private Path extractRootPathDirectory(Path classPath, String classPackage) {
+	protected static Path extractRootPathDirectory(Path classPath, String classPackage) {
 		if (classPath == null) 
 			throw new IllegalStateException("Source file path cannot be null");
 
@@ -295,6 +366,8 @@ public abstract class DebuggerAnalyzer {
 			Invoked testMethodInfo) {
 		List<Path> srcPath = new ArrayList<>();
 		
+		addProcessedSourceRoot(srcPath, invokedInfo);
+		addProcessedSourceRoot(srcPath, testMethodInfo);
 		srcPath.add(invokedInfo.getSrcPath());
 		srcPath.add(testMethodInfo.getSrcPath());
 		
@@ -327,8 +400,61 @@ public abstract class DebuggerAnalyzer {
 		return srcPath;
 	}
 
-	private List<Path> getClassPath() {
-		List<Path> classPath = LibraryManager.getJavaClassPath();
+	/**
+	 * Adds the directory of processed sources of an invoked to the source 
+	 * path, if its class has been compiled from a processed source stored 
+	 * apart from the source tree. It must come before the original source
+	 * root, so that lines read by the debugger match the class file.
+	 */
+	private void addProcessedSourceRoot(List<Path> srcPath, Invoked invoked) {
+		Path compiledSource = FileProcessingManager.getCompiledSourcePath(
+				invoked.getSrcPath(), 
+				invoked.getPackage()
+		);
+		
+		if (compiledSource.equals(invoked.getSrcPath()))
+			return;
+		
+		Path processedSourceRoot = FileProcessingManager.getProcessedSourceRoot(
+				invoked.getSrcPath(), 
+				invoked.getPackage()
+		);
+		
+		if (!srcPath.contains(processedSourceRoot))
+			srcPath.add(processedSourceRoot);
+	}
+
+	/**
+	 * Gets name of the tested invoked as it appears in its class file.
+	 * 
+	 * @return		Method name or '&lt;init&gt;' for constructors
+	 */
+	protected String extractInvokedName() {
+		if (testedInvoked.isConstructor())
+			return "<init>";
+		
+		return Invoked.extractMethodNameFromMethodSignature(
+				testedInvoked.getInvokedSignature()
+		);
+	}
+	
+	/**
+	 * Gets parameter types of the tested invoked as they appear in its 
+	 * signature.
+	 * 
+	 * @return		Parameter types separated by commas and without spaces
+	 */
+	protected String extractInvokedParameters() {
+		String signature = testedInvoked.getInvokedSignature();
+		
+		return signature.substring(
+				signature.indexOf("(") + 1, 
+				signature.lastIndexOf(")")
+		).replaceAll("\\s", "");
+	}
+	
+	protected List<Path> getClassPath() {
+		List<Path> classPath = new ArrayList<>(LibraryManager.getJavaClassPath());
 		
 		classPath.add(testMethod.getBinPath());
 		classPath.add(testedInvoked.getBinPath());
@@ -338,6 +464,24 @@ public abstract class DebuggerAnalyzer {
 		return classPath;
 	}
 	
+	/**
+	 * Opens a channel through which the debuggee will send methods called by
+	 * tested invoked to the call collector.
+	 * 
+	 * @return		Channel address or null if channel cannot be opened, in 
+	 * which case the debuggee will use the collector file
+	 */
+	protected String openCallChannel() {
+		try {
+			return callCollector.openChannel();
+		}
+		catch (IOException e) {
+			Consolex.writeWarning("Channel cannot be opened - " + e.getMessage());
+			
+			return null;
+		}
+	}
+	
 	
 	//-------------------------------------------------------------------------
 	//		Getters & Setters
@@ -369,6 +513,96 @@ public abstract class DebuggerAnalyzer {
 		return testPaths;
 	}
 	
+	/**
+	 * Gets how long the debugger took to answer each command sent to it.
+	 * 
+	 * @return		Latency histogram per debugger command
+	 */
+	CommandLatencyHistogram getCommandLatencies() {
+		return commandLatencies;
+	}
+	
+	public List<String> getClassExclusionFilters() {
+		return classExclusionFilters;
+	}
+	
+	/**
+	 * Sets classes whose frames will be skipped by the debugger while 
+	 * stepping. Each filter is either a fully qualified class name or a
+	 * pattern starting or ending with '*' (e.g. <code>java.*</code>).
+	 * 
+	 * @param		filters Class exclusion filters (an empty list disables
+	 * exclusion)
+	 * 
+	 * @throws		IllegalArgumentException If filters is null
+	 */
+	public void setClassExclusionFilters(List<String> filters) {
+		if (filters == null)
+			throw new IllegalArgumentException("Filters cannot be null");
+		
+		classExclusionFilters = List.copyOf(filters);
+	}
+	
+	/**
+	 * Parses class exclusion filters separated by commas.
+	 * 
+	 * @param		filters Class exclusion filters separated by commas (a 
+	 * blank string disables exclusion)
+	 * 
+	 * @return		Class exclusion filters
+	 * 
+	 * @throws		IllegalArgumentException If filters is null or if a filter 
+	 * has '*' neither at its start nor at its end
+	 */
+	public static List<String> parseClassExclusionFilters(String filters) {
+		if (filters == null)
+			throw new IllegalArgumentException("Filters cannot be null");
+		
+		List<String> parsedFilters = new ArrayList<>();
+		
+		for (String filter : filters.split(",")) {
+			String trimmedFilter = filter.trim();
+			
+			if (trimmedFilter.isEmpty())
+				continue;
+			
+			checkClassExclusionFilter(trimmedFilter);
+			parsedFilters.add(trimmedFilter);
+		}
+		
+		return List.copyOf(parsedFilters);
+	}
+	
+	private static void checkClassExclusionFilter(String filter) {
+		String filterWithoutWildcards = filter.substring(
+				filter.startsWith("*") ? 1 : 0, 
+				filter.endsWith("*") ? filter.length() - 1 : filter.length()
+		);
+		
+		if (filterWithoutWildcards.contains("*") || filterWithoutWildcards.contains(" "))
+			throw new IllegalArgumentException("Invalid class exclusion filter: " + filter);
+	}
+	
+	protected CallCollector getCallCollector() {
+		return callCollector;
+	}
+	
+	/**
+	 * Sets collector where methods called by tested invoked will be stored. 
+	 * By default, the collector returned by 
+	 * {@link CallCollector#getInstance()} is used.
+	 * 
+	 * @param		callCollector Call collector
+	 * 
+	 * @throws		IllegalArgumentException If call collector is null
+	 */
+	public void setCallCollector(CallCollector callCollector) {
+		if (callCollector == null)
+			throw new IllegalArgumentException("Call collector cannot be null");
+		
+		this.callCollector = callCollector;
+	}
+	
 	/**
 	 * Disables 10-minute timeout.
 	 */
@@ -1,8 +1,16 @@
 package wniemiec.app.java.executionflow.analyzer;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
+import wniemiec.app.java.executionflow.invoked.Invoked;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.user.User;
 
 /**
  * Responsible for creating {@link DebuggerAnalyzer} instances.
@@ -26,6 +34,276 @@ public class DebuggerAnalyzerFactory {
 		if (testedInvoked == null)
 			throw new IllegalArgumentException("Tested invoked cannot be null");
 		
-		return new StandardDebuggerAnalyzer(testedInvoked);
+		return withSelectedClassExclusionFilters(new StandardDebuggerAnalyzer(testedInvoked));
+	}
+	
+	public static DebuggerAnalyzer createJDITestPathAnalyzer(TestedInvoked testedInvoked) 
+			throws IOException {
+		if (testedInvoked == null)
+			throw new IllegalArgumentException("Tested invoked cannot be null");
+		
+		return withSelectedClassExclusionFilters(new JDIDebuggerAnalyzer(testedInvoked));
+	}
+	
+	public static DebuggerAnalyzer createJDIMethodEntryTestPathAnalyzer(TestedInvoked testedInvoked) 
+			throws IOException {
+		if (testedInvoked == null)
+			throw new IllegalArgumentException("Tested invoked cannot be null");
+		
+		return withSelectedClassExclusionFilters(new JDIDebuggerAnalyzer(testedInvoked, true));
+	}
+	
+	public static DebuggerAnalyzer createLineTracerTestPathAnalyzer(TestedInvoked testedInvoked) 
+			throws IOException {
+		if (testedInvoked == null)
+			throw new IllegalArgumentException("Tested invoked cannot be null");
+		
+		return withSelectedClassExclusionFilters(new LineTracerAnalyzer(testedInvoked));
+	}
+	
+	public static DebuggerAnalyzer createBranchTracerTestPathAnalyzer(TestedInvoked testedInvoked) 
+			throws IOException {
+		if (testedInvoked == null)
+			throw new IllegalArgumentException("Tested invoked cannot be null");
+		
+		return withSelectedClassExclusionFilters(new LineTracerAnalyzer(testedInvoked, true));
+	}
+	
+	/**
+	 * Creates an analyzer that reads test paths of a tested invoked from its 
+	 * class file, without running its test method. It is only available for
+	 * tested invoked that have no branches nor method calls and that are 
+	 * known to have been run a given number of times, none of which ended 
+	 * with an exception.
+	 * 
+	 * @param		testedInvoked Tested invoked along with its test method
+	 * 
+	 * @return		Analyzer or null if test paths of the tested invoked 
+	 * depend on how it is run
+	 * 
+	 * @throws		IOException If class file of the tested invoked cannot be
+	 * read
+	 * @throws		IllegalArgumentException If tested invoked is null
+	 */
+	public static DebuggerAnalyzer createStaticTestPathAnalyzer(TestedInvoked testedInvoked) 
+			throws IOException {
+		if (testedInvoked == null)
+			throw new IllegalArgumentException("Tested invoked cannot be null");
+		
+		if (!testedInvoked.hasKnownInvocations())
+			return null;
+		
+		StaticTestPathAnalyzer analyzer = new StaticTestPathAnalyzer(testedInvoked);
+		
+		if (!analyzer.hasStraightLineTestPath())
+			return null;
+		
+		return analyzer;
+	}
+	
+	public static DebuggerAnalyzer createTestPathAnalyzer(DebuggerAnalyzerType type, 
+														  TestedInvoked testedInvoked) 
+			throws IOException {
+		if (type == null)
+			throw new IllegalArgumentException("Debugger analyzer type cannot be null");
+		
+		if (type == DebuggerAnalyzerType.JDI)
+			return createJDITestPathAnalyzer(testedInvoked);
+		
+		if (type == DebuggerAnalyzerType.JDI_METHOD_ENTRY)
+			return createJDIMethodEntryTestPathAnalyzer(testedInvoked);
+		
+		if (type == DebuggerAnalyzerType.LINE_TRACER)
+			return createLineTracerTestPathAnalyzer(testedInvoked);
+		
+		if (type == DebuggerAnalyzerType.BRANCH_TRACER)
+			return createBranchTracerTestPathAnalyzer(testedInvoked);
+		
+		return createStandardTestPathAnalyzer(testedInvoked);
+	}
+	
+	/**
+	 * Creates analyzers for several tested invoked, so that the tested invoked
+	 * of test methods of a same test class share a single debug session. 
+	 * Thus, each test class is run only once, no matter how many tested 
+	 * invoked its test methods have.
+	 * 
+	 * @param		type Debugger analyzer type
+	 * @param		testedInvokedList Tested invoked along with their test 
+	 * methods
+	 * 
+	 * @return		Analyzers in the same order as the tested invoked
+	 * 
+	 * @throws		IOException If occurs an error while fetching dependencies
+	 * @throws		IllegalArgumentException If type is null or if it cannot
+	 * share a debug session, or if tested invoked list is null
+	 */
+	public static List<DebuggerAnalyzer> createSharedSessionTestPathAnalyzers(
+			DebuggerAnalyzerType type, 
+			List<TestedInvoked> testedInvokedList
+	) throws IOException {
+		return createSharedSessionTestPathAnalyzers(type, testedInvokedList, 1);
+	}
+	
+	/**
+	 * Creates analyzers for several tested invoked, so that the tested invoked
+	 * of a same test class share up to a given number of debug sessions. 
+	 * Each session runs the test class once and records the test paths of 
+	 * the tested invoked of some invocation lines, so that sessions of the 
+	 * same test class can run at the same time. Tested invoked of the same 
+	 * invocation line always share a session.
+	 * 
+	 * @param		type Debugger analyzer type
+	 * @param		testedInvokedList Tested invoked along with their test 
+	 * methods
+	 * @param		sessionsPerTestClass Maximum number of debug sessions of 
+	 * each test class
+	 * 
+	 * @return		Analyzers in the same order as the tested invoked
+	 * 
+	 * @throws		IOException If occurs an error while fetching dependencies
+	 * @throws		IllegalArgumentException If type is null or if it cannot
+	 * share a debug session, if tested invoked list is null or if sessions 
+	 * per test class is less than 1
+	 */
+	public static List<DebuggerAnalyzer> createSharedSessionTestPathAnalyzers(
+			DebuggerAnalyzerType type, 
+			List<TestedInvoked> testedInvokedList,
+			int sessionsPerTestClass
+	) throws IOException {
+		if (type == null)
+			throw new IllegalArgumentException("Debugger analyzer type cannot be null");
+		
+		if (!type.canShareDebugSession())
+			throw new IllegalArgumentException("Debugger analyzer type cannot share a debug session: " + type);
+		
+		if (testedInvokedList == null)
+			throw new IllegalArgumentException("Tested invoked list cannot be null");
+		
+		if (sessionsPerTestClass < 1)
+			throw new IllegalArgumentException("Sessions per test class must be at least 1");
+		
+		List<InvokedTestPathRecorder> recorders = new ArrayList<>();
+		Map<String, Map<Integer, List<InvokedTestPathRecorder>>> recordersByTestClass = 
+				new LinkedHashMap<>();
+		Map<String, Invoked> testMethods = new LinkedHashMap<>();
+		
+		for (TestedInvoked testedInvoked : testedInvokedList) {
+			InvokedTestPathRecorder recorder = new InvokedTestPathRecorder(testedInvoked);
+			
+			String testClass = testedInvoked.getTestMethod().getClassSignature();
+			
+			recorders.add(recorder);
+			testMethods.putIfAbsent(testClass, testedInvoked.getTestMethod());
+			recordersByTestClass.computeIfAbsent(
+					testClass, 
+					key -> new LinkedHashMap<>()
+			).computeIfAbsent(
+					recorder.getInvocationLine(), 
+					key -> new ArrayList<>()
+			).add(recorder);
+		}
+		
+		Map<InvokedTestPathRecorder, JDIDebugSession> sessions = new HashMap<>();
+		
+		for (Map.Entry<String, Map<Integer, List<InvokedTestPathRecorder>>> entry : 
+				recordersByTestClass.entrySet()) {
+			List<List<InvokedTestPathRecorder>> sessionRecorders = splitInvocationLines(
+					entry.getValue().values(), 
+					sessionsPerTestClass
+			);
+			
+			for (List<InvokedTestPathRecorder> recordersOfSession : sessionRecorders) {
+				JDIDebugSession session = new JDIDebugSession(
+						testMethods.get(entry.getKey()), 
+						recordersOfSession, 
+						(type == DebuggerAnalyzerType.JDI_METHOD_ENTRY)
+				);
+				
+				for (InvokedTestPathRecorder recorder : recordersOfSession) {
+					sessions.put(recorder, session);
+				}
+			}
+		}
+		
+		List<DebuggerAnalyzer> analyzers = new ArrayList<>();
+		
+		for (int i = 0; i < testedInvokedList.size(); i++) {
+			analyzers.add(withSelectedClassExclusionFilters(new JDIDebuggerAnalyzer(
+					testedInvokedList.get(i), 
+					sessions.get(recorders.get(i)), 
+					recorders.get(i)
+			)));
+		}
+		
+		return analyzers;
+	}
+	
+	/**
+	 * Groups analyzers that share a debug session, which must be run by the
+	 * same thread. Analyzers that do not share a debug session are in groups
+	 * of their own.
+	 * 
+	 * @param		analyzers Debugger analyzers
+	 * 
+	 * @return		Indexes of analyzers of each group, in the order of the
+	 * analyzers
+	 * 
+	 * @throws		IllegalArgumentException If analyzers is null
+	 */
+	public static List<List<Integer>> groupByDebugSession(List<DebuggerAnalyzer> analyzers) {
+		if (analyzers == null)
+			throw new IllegalArgumentException("Analyzers cannot be null");
+		
+		Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+		
+		for (int i = 0; i < analyzers.size(); i++) {
+			DebuggerAnalyzer analyzer = analyzers.get(i);
+			Object session = (analyzer instanceof JDIDebuggerAnalyzer)
+					? ((JDIDebuggerAnalyzer) analyzer).getSession()
+					: analyzer;
+			
+			groups.computeIfAbsent(session, key -> new ArrayList<>()).add(i);
+		}
+		
+		return new ArrayList<>(groups.values());
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Distributes recorders of the invocation lines of a test class among
+	 * sessions, in the order of the invocation lines.
+	 */
+	private static List<List<InvokedTestPathRecorder>> splitInvocationLines(
+			Collection<List<InvokedTestPathRecorder>> recordersByInvocationLine,
+			int maxSessions
+	) {
+		int totalSessions = Math.min(maxSessions, recordersByInvocationLine.size());
+		List<List<InvokedTestPathRecorder>> sessionRecorders = new ArrayList<>();
+		int invocationLine = 0;
+		
+		for (int i = 0; i < totalSessions; i++) {
+			sessionRecorders.add(new ArrayList<>());
+		}
+		
+		for (List<InvokedTestPathRecorder> recordersOfLine : recordersByInvocationLine) {
+			sessionRecorders.get(invocationLine % totalSessions).addAll(recordersOfLine);
+			invocationLine++;
+		}
+		
+		return sessionRecorders;
+	}
+	
+	/**
+	 * Sets classes selected by the user whose frames are skipped while 
+	 * stepping.
+	 */
+	private static DebuggerAnalyzer withSelectedClassExclusionFilters(DebuggerAnalyzer analyzer) {
+		analyzer.setClassExclusionFilters(User.getSelectedClassExclusionFilters());
+		
+		return analyzer;
 	}
 }
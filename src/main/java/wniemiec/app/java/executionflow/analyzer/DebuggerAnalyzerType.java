@@ -0,0 +1,57 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+/**
+ * Contains all strategies available for computing test paths.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public enum DebuggerAnalyzerType {
+	
+	//-------------------------------------------------------------------------
+	//		Enumerations
+	//-------------------------------------------------------------------------
+	/**
+	 * Drives JDB through its command line interface.
+	 */
+	STANDARD,
+	
+	/**
+	 * Drives the debuggee through the Java Debug Interface.
+	 */
+	JDI,
+	
+	/**
+	 * Drives the debuggee through the Java Debug Interface, stepping only 
+	 * while inside the tested invoked (from its method entry to its method 
+	 * exit).
+	 */
+	JDI_METHOD_ENTRY,
+	
+	/**
+	 * Runs the test class at normal speed with a Java agent that inserts a 
+	 * probe at each line of the tested invoked.
+	 */
+	LINE_TRACER,
+	
+	/**
+	 * Runs the test class at normal speed with a Java agent that records only
+	 * the decisions taken by the tested invoked, rebuilding the lines reached
+	 * from its control flow graph.
+	 */
+	BRANCH_TRACER;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Checks whether the analyzers of this type can compute the test paths of
+	 * all tested invoked of a test method running it only once.
+	 * 
+	 * @return		True if a debug session can be shared; false otherwise
+	 */
+	public boolean canShareDebugSession() {
+		return (this == JDI) || (this == JDI_METHOD_ENTRY);
+	}
+}
@@ -0,0 +1,397 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.sun.jdi.IncompatibleThreadStateException;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.io.FileEncoding;
+import wniemiec.app.java.executionflow.io.processing.manager.FileProcessingManager;
+
+/**
+ * Records the test paths of a tested invoked from the lines reached by the
+ * debuggee while it is running the tested invoked.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class InvokedTestPathRecorder {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String REGEX_DOLLAR_SIGN_PLUS_NUMBERS = "^.+\\$[0-9]+.*$";
+	private static final String REGEX_STRUCTURAL_LINE = "^[\\s\\t]*[\\{\\}]?[\\s\\t]*$";
+	private final Invoked testedInvoked;
+	private final Invoked testMethod;
+	private final boolean anonymousConstructor;
+	private final String invokedMethodName;
+	private final List<List<Integer>> testPaths;
+	private List<String> invokedSourceCode;
+	private List<Integer> testPath;
+	private Method invokedMethod;
+	private String analyzedInvokedSignature;
+	private int invokedDepth;
+	private int lastLineAdded;
+	private boolean lastTpAddedWasReturn;
+	private boolean incorrectInvocationLine;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Records the test paths of a tested invoked.
+	 * 
+	 * @param		testedInvoked Tested invoked along with its test method
+	 * 
+	 * @throws		IllegalArgumentException If tested invoked is null
+	 */
+	public InvokedTestPathRecorder(TestedInvoked testedInvoked) {
+		if (testedInvoked == null)
+			throw new IllegalArgumentException("Tested invoked cannot be null");
+		
+		this.testedInvoked = testedInvoked.getTestedInvoked();
+		this.testMethod = testedInvoked.getTestMethod();
+		anonymousConstructor = checkAnonymousConstructor();
+		invokedMethodName = extractInvokedMethodName();
+		testPaths = new ArrayList<>();
+		analyzedInvokedSignature = "";
+		invokedDepth = -1;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private boolean checkAnonymousConstructor() {
+		if (!testedInvoked.getClassSignature().contains("$"))
+			return false;
+		
+		return testedInvoked.getInvokedSignature().matches(REGEX_DOLLAR_SIGN_PLUS_NUMBERS);
+	}
+	
+	private String extractInvokedMethodName() {
+		if (testedInvoked.isConstructor())
+			return "<init>";
+		
+		return Invoked.extractMethodNameFromMethodSignature(
+				testedInvoked.getInvokedSignature()
+		);
+	}
+	
+	/**
+	 * Finds the class in which the tested invoked code is. It is the class of
+	 * the tested invoked, unless the tested method is inherited from one of
+	 * its superclasses.
+	 * 
+	 * @param		vm Debuggee
+	 * 
+	 * @return		Class name or null if it cannot be told apart, for
+	 * instance because the class of the tested invoked has not been loaded
+	 * yet
+	 */
+	String findInvokedDeclaringClass(VirtualMachine vm) {
+		if (anonymousConstructor)
+			return null;
+		
+		if (testedInvoked.isConstructor())
+			return testedInvoked.getClassSignature();
+		
+		String declaringClass = null;
+		
+		for (ReferenceType type : vm.classesByName(testedInvoked.getClassSignature())) {
+			for (Method method : type.methodsByName(invokedMethodName)) {
+				String name = method.declaringType().name();
+				
+				if ((declaringClass != null) && !declaringClass.equals(name))
+					return null;
+				
+				declaringClass = name;
+			}
+		}
+		
+		return declaringClass;
+	}
+	
+	/**
+	 * Checks whether a method that has just been entered is the tested
+	 * invoked.
+	 * 
+	 * @param		thread Thread running the method
+	 * @param		method Method entered
+	 * 
+	 * @return		True if it is the tested invoked; false otherwise
+	 */
+	public boolean isTestedInvoked(ThreadReference thread, Method method) {
+		if (!method.name().equals(invokedMethodName))
+			return false;
+		
+		if (method.declaringType().name().equals(testedInvoked.getClassSignature()))
+			return true;
+		
+		return isInstanceOfTestedInvokedClass(thread);
+	}
+	
+	private boolean isInstanceOfTestedInvokedClass(ThreadReference thread) {
+		try {
+			ObjectReference instance = thread.frame(0).thisObject();
+			
+			return	(instance != null)
+					&& instance.referenceType().name().equals(testedInvoked.getClassSignature());
+		}
+		catch (IncompatibleThreadStateException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Starts recording a new test path.
+	 * 
+	 * @param		method Tested invoked
+	 * @param		depth Frame depth of the tested invoked
+	 */
+	public void enter(Method method, int depth) {
+		invokedMethod = method;
+		
+		enter(method.declaringType().name(), depth);
+	}
+	
+	/**
+	 * Starts recording a new test path.
+	 * 
+	 * @param		declaringType Name of the class that declares the tested
+	 * invoked that has been entered
+	 * @param		depth Frame depth of the tested invoked
+	 */
+	public void enter(String declaringType, int depth) {
+		testPath = new ArrayList<>();
+		lastLineAdded = -1;
+		lastTpAddedWasReturn = false;
+		invokedDepth = depth;
+		
+		storeAnalyzedInvokedSignature(declaringType);
+	}
+	
+	private void storeAnalyzedInvokedSignature(String declaringType) {
+		if (!analyzedInvokedSignature.isBlank())
+			return;
+		
+		if (anonymousConstructor) {
+			analyzedInvokedSignature = declaringType
+					+ "(" + extractSignatureParameters() + ")";
+		}
+		else {
+			analyzedInvokedSignature = testedInvoked.getInvokedSignature();
+		}
+		
+		analyzedInvokedSignature = analyzedInvokedSignature.trim();
+	}
+	
+	private String extractSignatureParameters() {
+		StringBuilder params = new StringBuilder();
+		String signature = testedInvoked.getInvokedSignature();
+		String[] signatureParams = signature.substring(
+				signature.indexOf("(") + 1,
+				signature.indexOf(")")
+		).split(",");
+		
+		for (int i=1; i<signatureParams.length; i++) {
+			params.append(signatureParams[i].trim());
+			
+			if (i+1 != signatureParams.length)
+				params.append(", ");
+		}
+		
+		return params.toString();
+	}
+	
+	/**
+	 * Records a line reached by the debuggee while running the tested
+	 * invoked. Lines of methods called by the tested invoked are ignored.
+	 * 
+	 * @param		location Location reached
+	 * @param		depth Frame depth of the location
+	 */
+	public void recordLine(Location location, int depth) {
+		if (depth != invokedDepth)
+			return;
+		
+		recordLine(location.lineNumber());
+	}
+	
+	/**
+	 * Records a line reached by the debuggee while running the tested
+	 * invoked, which must belong to the tested invoked frame.
+	 * 
+	 * @param		line Line reached
+	 */
+	public void recordLine(int line) {
+		if (shouldIgnore(line))
+			return;
+		
+		testPath.add(line);
+		lastLineAdded = line;
+		lastTpAddedWasReturn = isReturnLine(getSourceLine(line));
+	}
+	
+	private boolean shouldIgnore(int line) {
+		if ((line <= 1) || (line == lastLineAdded) || lastTpAddedWasReturn)
+			return true;
+		
+		String srcLine = getSourceLine(line);
+		
+		return	srcLine.matches(REGEX_STRUCTURAL_LINE)
+				|| srcLine.contains("executionflow.runtime.CollectCalls")
+				|| isConstructorDeclaration(srcLine);
+	}
+	
+	private boolean isConstructorDeclaration(String srcLine) {
+		if (!testedInvoked.isConstructor() || srcLine.contains("new "))
+			return false;
+		
+		String constructorName = testedInvoked.getName();
+		String className = Pattern.quote(
+				constructorName.substring(constructorName.lastIndexOf('$') + 1)
+		);
+		
+		return srcLine.matches(".*\\b" + className + "[\\s\\t]*\\(.*\\{[\\s\\t]*$");
+	}
+	
+	private boolean isReturnLine(String srcLine) {
+		return srcLine.contains("return ") && !srcLine.contains("if ");
+	}
+	
+	/**
+	 * Gets a line of the source code from which the tested invoked has been
+	 * compiled.
+	 * 
+	 * @param		line Line number
+	 * 
+	 * @return		Source line or an empty string if it does not exist
+	 */
+	String getSourceLine(int line) {
+		if (invokedSourceCode == null)
+			invokedSourceCode = readInvokedSourceCode();
+		
+		if (line > invokedSourceCode.size())
+			return "";
+		
+		return invokedSourceCode.get(line-1);
+	}
+	
+	/**
+	 * Reads the source code from which the tested invoked has been compiled,
+	 * so that its lines match the line numbers of its class file.
+	 */
+	private List<String> readInvokedSourceCode() {
+		Path compiledSource = FileProcessingManager.getCompiledSourcePath(
+				testedInvoked.getSrcPath(), 
+				testedInvoked.getPackage()
+		);
+		
+		for (FileEncoding encoding : FileEncoding.values()) {
+			try {
+				return Files.readAllLines(
+						compiledSource,
+						encoding.getStandardCharset()
+				);
+			}
+			catch (IOException e) {
+				// Tries next encoding
+			}
+		}
+		
+		return List.of();
+	}
+	
+	/**
+	 * Ends the test path being recorded.
+	 */
+	public void finish() {
+		if (!isInsideTestedInvoked())
+			return;
+		
+		if (!testPath.isEmpty()) {
+			fixAnonymousConstructorTestPaths();
+			testPaths.add(testPath);
+		}
+		
+		invokedDepth = -1;
+	}
+	
+	private void fixAnonymousConstructorTestPaths() {
+		if (!anonymousConstructor || testPath.size() <= 1)
+			return;
+		
+		testPath.remove(testPath.size() - 1);
+		testPath.remove(0);
+	}
+	
+	/**
+	 * Discards all recorded test paths.
+	 */
+	public void clear() {
+		testPaths.clear();
+		invokedDepth = -1;
+	}
+	
+	/**
+	 * Marks that the invocation line of the tested invoked does not exist in
+	 * the test method class.
+	 */
+	public void markIncorrectInvocationLine() {
+		incorrectInvocationLine = true;
+	}
+	
+	public String buildIncorrectInvocationLineMessage() {
+		return "Incorrect invocation line {invocationLine: "
+				+ testedInvoked.getInvocationLine() + ", test method signature: "
+				+ testMethod.getSignatureWithoutParameters() + ")" + ", invokedSignature: "
+				+ testedInvoked.getInvokedSignature() + "}";
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public int getInvocationLine() {
+		return testedInvoked.getInvocationLine();
+	}
+	
+	public int getInvokedDepth() {
+		return invokedDepth;
+	}
+	
+	public Method getInvokedMethod() {
+		return invokedMethod;
+	}
+	
+	public boolean isInsideTestedInvoked() {
+		return (invokedDepth > 0);
+	}
+	
+	public boolean hasIncorrectInvocationLine() {
+		return incorrectInvocationLine;
+	}
+	
+	public List<List<Integer>> getTestPaths() {
+		return testPaths;
+	}
+	
+	public String getAnalyzedInvokedSignature() {
+		return analyzedInvokedSignature;
+	}
+}
@@ -0,0 +1,271 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+
+import wniemiec.component.java.JDB;
+
+/**
+ * Reads JDB output in a dedicated thread, making it available as soon as it
+ * is produced. It also detects when JDB has answered the last command sent, 
+ * recording how long each command took.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class JDBOutputReader {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String REGEX_PROMPT = 
+			"^(>(\\ |\\t)*)*[A-z0-9\\-_]+\\[[0-9]+\\](\\ |\\t|>)*$";
+	private static final long POLLING_INTERVAL = 50;
+	private final JDB jdb;
+	private final BlockingDeque<String> output;
+	private final CommandLatencyHistogram latencyHistogram;
+	private final Object promptLock;
+	private Thread readerThread;
+	private volatile boolean closed;
+	private volatile State state;
+	private String pendingCommand;
+	private long pendingCommandStartTime;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Enumerations
+	//-------------------------------------------------------------------------
+	private enum State {
+		
+		/**
+		 * JDB is waiting for a command.
+		 */
+		AT_PROMPT,
+		
+		/**
+		 * JDB is processing a command.
+		 */
+		AWAITING_ANSWER;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Reads JDB output in a dedicated thread.
+	 * 
+	 * @param		jdb JDB that has already been started
+	 * @param		latencyHistogram Histogram where command latencies will be
+	 * stored
+	 * 
+	 * @throws		IllegalArgumentException If jdb or latencyHistogram is null
+	 */
+	public JDBOutputReader(JDB jdb, CommandLatencyHistogram latencyHistogram) {
+		if (jdb == null)
+			throw new IllegalArgumentException("JDB cannot be null");
+		
+		if (latencyHistogram == null)
+			throw new IllegalArgumentException("Latency histogram cannot be null");
+		
+		this.jdb = jdb;
+		this.latencyHistogram = latencyHistogram;
+		output = new LinkedBlockingDeque<>();
+		promptLock = new Object();
+		state = State.AWAITING_ANSWER;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Starts reading JDB output.
+	 * 
+	 * @return		Itself to allow chained calls
+	 */
+	public JDBOutputReader start() {
+		readerThread = new Thread(this::readOutput, "JDB output reader");
+		
+		readerThread.setDaemon(true);
+		readerThread.start();
+		
+		return this;
+	}
+	
+	private void readOutput() {
+		try {
+			String line = jdb.read();
+			
+			while (!closed && (line != null)) {
+				parseState(line);
+				output.offer(line);
+				
+				line = jdb.read();
+			}
+		}
+		catch (RuntimeException e) {
+			// JDB output has been closed
+		}
+		finally {
+			close();
+		}
+	}
+	
+	private void parseState(String line) {
+		if (!isPrompt(line) && !isAnswer(line))
+			return;
+		
+		synchronized(promptLock) {
+			if (state == State.AWAITING_ANSWER)
+				recordLatency();
+			
+			state = State.AT_PROMPT;
+			promptLock.notifyAll();
+		}
+	}
+	
+	private boolean isPrompt(String line) {
+		return	line.matches(REGEX_PROMPT)
+				|| line.equals("> ")
+				|| line.equals(">");
+	}
+	
+	private boolean isAnswer(String line) {
+		return	line.contains("Breakpoint hit")
+				|| line.contains("Step completed")
+				|| line.contains("The application exited");
+	}
+	
+	private void recordLatency() {
+		if (pendingCommand == null)
+			return;
+		
+		long elapsedTime = System.nanoTime() - pendingCommandStartTime;
+		
+		latencyHistogram.record(
+				pendingCommand, 
+				TimeUnit.NANOSECONDS.toMillis(elapsedTime)
+		);
+		
+		pendingCommand = null;
+	}
+	
+	/**
+	 * Sends a command to JDB, timing how long it takes to be answered.
+	 * 
+	 * @param		command Command to be sent
+	 */
+	public void send(String command) {
+		synchronized(promptLock) {
+			state = State.AWAITING_ANSWER;
+			pendingCommand = command;
+			pendingCommandStartTime = System.nanoTime();
+		}
+		
+		jdb.send(command);
+	}
+	
+	/**
+	 * Waits until there is output available for reading. It returns as soon
+	 * as a line is produced by JDB or, if nothing is produced, after a short
+	 * interval, so that callers can check whether they should keep waiting.
+	 * 
+	 * @return		True if there is output available; false otherwise
+	 */
+	public boolean awaitOutput() {
+		if (!output.isEmpty())
+			return true;
+		
+		if (closed)
+			return false;
+		
+		try {
+			String line = output.poll(POLLING_INTERVAL, TimeUnit.MILLISECONDS);
+			
+			if (line == null)
+				return false;
+			
+			output.offerFirst(line);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Reads a line of JDB output, waiting for it if necessary.
+	 * 
+	 * @return		Line read or empty string if JDB output has been closed
+	 */
+	public String read() {
+		try {
+			String line = output.poll();
+			
+			while ((line == null) && !closed) {
+				line = output.poll(POLLING_INTERVAL, TimeUnit.MILLISECONDS);
+			}
+			
+			if (line == null)
+				line = output.poll();
+			
+			return (line == null) ? "" : line;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			return "";
+		}
+	}
+	
+	/**
+	 * Waits until JDB has answered the last command sent or its output has
+	 * been closed.
+	 * 
+	 * @param		timeout Maximum waiting time (in milliseconds)
+	 */
+	public void awaitPrompt(long timeout) {
+		long deadline = System.currentTimeMillis() + timeout;
+		
+		synchronized(promptLock) {
+			long remaining = timeout;
+			
+			while ((state != State.AT_PROMPT) && !closed && (remaining > 0)) {
+				try {
+					promptLock.wait(remaining);
+				} 
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					
+					return;
+				}
+				
+				remaining = deadline - System.currentTimeMillis();
+			}
+		}
+	}
+	
+	/**
+	 * Stops reading JDB output.
+	 */
+	public void close() {
+		closed = true;
+		
+		synchronized(promptLock) {
+			promptLock.notifyAll();
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public boolean isClosed() {
+		return closed && output.isEmpty();
+	}
+}
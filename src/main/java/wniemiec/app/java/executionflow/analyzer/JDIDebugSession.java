@@ -0,0 +1,622 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.IncompatibleThreadStateException;
+import com.sun.jdi.Location;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.BreakpointEvent;
+import com.sun.jdi.event.ClassPrepareEvent;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.MethodEntryEvent;
+import com.sun.jdi.event.MethodExitEvent;
+import com.sun.jdi.event.StepEvent;
+import com.sun.jdi.event.VMDeathEvent;
+import com.sun.jdi.event.VMDisconnectEvent;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.ClassPrepareRequest;
+import com.sun.jdi.request.EventRequest;
+import com.sun.jdi.request.EventRequestManager;
+import com.sun.jdi.request.MethodEntryRequest;
+import com.sun.jdi.request.MethodExitRequest;
+import com.sun.jdi.request.StepRequest;
+
+import wniemiec.app.java.executionflow.collector.CallCollector;
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Runs a test class once under the Java Debug Interface, demultiplexing the
+ * debugger events into the test paths of one or more tested invoked called by
+ * its test methods. There is a breakpoint for every invocation line, and the
+ * line events are delivered to the {@link InvokedTestPathRecorder} of the
+ * invoked that is being run.
+ * <p>
+ * By default, it steps from the invocation line into the tested invoked.
+ * When created to stop at invoked entry, it waits for a method entry event
+ * of the tested invoked instead, steps only while inside its frame and ends
+ * the test path at its method exit event.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class JDIDebugSession {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final Invoked testMethod;
+	private final List<InvokedTestPathRecorder> recorders;
+	private final boolean stopAtInvokedEntry;
+	private volatile boolean started;
+	private volatile boolean finished;
+	private volatile boolean interrupted;
+	private volatile VirtualMachine vm;
+	private volatile Debuggee debuggee;
+	private List<String> classExclusionFilters;
+	private List<InvokedTestPathRecorder> candidates;
+	private InvokedTestPathRecorder activeRecorder;
+	private StepRequest stepRequest;
+	private MethodEntryRequest methodEntryRequest;
+	private String methodEntryClass;
+	private MethodExitRequest methodExitRequest;
+	private int stepDepth;
+	private int testMethodDepth;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Runs the class of a test method under the Java Debug Interface.
+	 * 
+	 * @param		testMethod Test method
+	 * @param		recorders Recorders of the tested invoked called by test
+	 * methods of the test method class
+	 * @param		stopAtInvokedEntry True if the test paths should be
+	 * obtained from method entry and exit events of the tested invoked
+	 * instead of stepping from the invocation line
+	 * 
+	 * @throws		IllegalArgumentException If test method is null or if
+	 * there are no recorders
+	 */
+	public JDIDebugSession(Invoked testMethod, List<InvokedTestPathRecorder> recorders,
+						   boolean stopAtInvokedEntry) {
+		if (testMethod == null)
+			throw new IllegalArgumentException("Test method cannot be null");
+		
+		if ((recorders == null) || recorders.isEmpty())
+			throw new IllegalArgumentException("There must be at least one recorder");
+		
+		this.testMethod = testMethod;
+		this.recorders = recorders;
+		this.stopAtInvokedEntry = stopAtInvokedEntry;
+		candidates = new ArrayList<>();
+		testMethodDepth = -1;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Launches the debuggee, which will be suspended until {@link #run()} is
+	 * called. If {@link DebuggeePool} has a debuggee ready for the test 
+	 * class, it is used instead of launching a new one.
+	 * 
+	 * @param		workingDirectory Working directory of the debuggee
+	 * @param		classPath Class path of the debuggee
+	 * @param		classExclusionFilters Classes whose frames are skipped
+	 * while stepping
+	 * @param		mctiFile File where the debuggee will store methods called
+	 * by tested invoked
+	 * @param		channel Address of the channel through which the debuggee
+	 * will send methods called by tested invoked or null if they should only 
+	 * be stored in the mcti file
+	 * 
+	 * @throws		IOException If debuggee cannot be launched
+	 */
+	public synchronized void start(Path workingDirectory, List<Path> classPath,
+								   List<String> classExclusionFilters, File mctiFile,
+								   String channel)
+			throws IOException {
+		if (started)
+			return;
+		
+		started = true;
+		this.classExclusionFilters = classExclusionFilters;
+		debuggee = DebuggeePool.getInstance().take(workingDirectory);
+		
+		if (debuggee == null) {
+			launchDebuggee(workingDirectory, classPath, mctiFile, channel);
+		}
+		else {
+			vm = debuggee.getVirtualMachine();
+			requestTestClassPreparation();
+			debuggee.runTestClass(testMethod.getClassSignature(), mctiFile, channel);
+			
+			Consolex.writeDebug(this.getClass().getName() + " - Debuggee taken from pool: " + vm.description());
+		}
+	}
+	
+	private void launchDebuggee(Path workingDirectory, List<Path> classPath, 
+								File mctiFile, String channel) 
+			throws IOException {
+		List<String> args = new ArrayList<>();
+		
+		args.add("-D" + CallCollector.MCTI_FILE_PROPERTY + "=" + mctiFile.getAbsolutePath());
+		
+		if (channel != null)
+			args.add("-D" + CallCollector.CHANNEL_PROPERTY + "=" + channel);
+		
+		args.add("org.junit.runner.JUnitCore");
+		args.add(testMethod.getClassSignature());
+		
+		debuggee = Debuggee.launch(workingDirectory, classPath, true, args);
+		vm = debuggee.getVirtualMachine();
+		requestTestClassPreparation();
+		
+		Consolex.writeDebug(this.getClass().getName() + " - Debuggee launched: " + vm.description());
+	}
+	
+	private void requestTestClassPreparation() {
+		ClassPrepareRequest request = vm.eventRequestManager().createClassPrepareRequest();
+		request.addClassFilter(testMethod.getClassSignature());
+		request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+		request.enable();
+	}
+	
+	/**
+	 * Runs the test class until it ends, recording the test paths of all
+	 * tested invoked. If it has already been run, nothing happens.
+	 */
+	public synchronized void run() {
+		if (finished || (vm == null))
+			return;
+		
+		try {
+			handleEvents();
+		}
+		catch (VMDisconnectedException e) {
+			// Debuggee was closed before execution ended
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			finished = true;
+		}
+	}
+	
+	private void handleEvents() throws InterruptedException {
+		while (!finished) {
+			EventSet events = vm.eventQueue().remove();
+			
+			for (Event event : events) {
+				handleEvent(event);
+			}
+			
+			if (!finished)
+				events.resume();
+		}
+	}
+	
+	private void handleEvent(Event event) {
+		if (event instanceof ClassPrepareEvent) {
+			setBreakpointAtInvocationLines(((ClassPrepareEvent) event).referenceType());
+		}
+		else if (event instanceof BreakpointEvent) {
+			startIteration((BreakpointEvent) event);
+		}
+		else if (event instanceof StepEvent) {
+			parseStep((StepEvent) event);
+		}
+		else if (event instanceof MethodEntryEvent) {
+			parseMethodEntry((MethodEntryEvent) event);
+		}
+		else if (event instanceof MethodExitEvent) {
+			parseMethodExit((MethodExitEvent) event);
+		}
+		else if ((event instanceof VMDeathEvent) || (event instanceof VMDisconnectEvent)) {
+			finishAnalysis();
+		}
+	}
+	
+	private void setBreakpointAtInvocationLines(ReferenceType testClass) {
+		EventRequestManager requestManager = vm.eventRequestManager();
+		boolean hasBreakpoints = false;
+		
+		for (InvokedTestPathRecorder recorder : recorders) {
+			List<Location> locations = findInvocationLineLocations(testClass, recorder);
+			
+			if (locations.isEmpty()) {
+				recorder.markIncorrectInvocationLine();
+				continue;
+			}
+			
+			for (Location location : locations) {
+				BreakpointRequest request = requestManager.createBreakpointRequest(location);
+				request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+				request.enable();
+			}
+			
+			hasBreakpoints = true;
+		}
+		
+		if (!hasBreakpoints)
+			finished = true;
+	}
+	
+	private List<Location> findInvocationLineLocations(ReferenceType testClass,
+													   InvokedTestPathRecorder recorder) {
+		try {
+			return testClass.locationsOfLine(recorder.getInvocationLine());
+		}
+		catch (AbsentInformationException e) {
+			return List.of();
+		}
+	}
+	
+	private void startIteration(BreakpointEvent event) {
+		if (isInsideIteration() && !isSearchingInvoked())
+			return;
+		
+		ThreadReference thread = event.thread();
+		
+		candidates = findRecordersOfLine(event.location().lineNumber());
+		activeRecorder = null;
+		testMethodDepth = getFrameCount(thread);
+		
+		searchTestedInvoked(thread);
+	}
+	
+	private List<InvokedTestPathRecorder> findRecordersOfLine(int invocationLine) {
+		List<InvokedTestPathRecorder> recordersOfLine = new ArrayList<>();
+		
+		for (InvokedTestPathRecorder recorder : recorders) {
+			if (recorder.getInvocationLine() == invocationLine)
+				recordersOfLine.add(recorder);
+		}
+		
+		return recordersOfLine;
+	}
+	
+	private boolean isInsideIteration() {
+		return (testMethodDepth > 0);
+	}
+	
+	private boolean isSearchingInvoked() {
+		return (activeRecorder == null);
+	}
+	
+	private void searchTestedInvoked(ThreadReference thread) {
+		if (stopAtInvokedEntry) {
+			deleteStepRequest();
+			waitForInvokedEntry(thread);
+		}
+		else {
+			step(thread, StepRequest.STEP_INTO);
+		}
+	}
+	
+	private int getFrameCount(ThreadReference thread) {
+		try {
+			return thread.frameCount();
+		}
+		catch (IncompatibleThreadStateException e) {
+			throw new IllegalStateException("Thread is not suspended: " + thread.name());
+		}
+	}
+	
+	private void waitForInvokedEntry(ThreadReference thread) {
+		String invokedClass = findCandidatesDeclaringClass();
+		
+		if (methodEntryRequest != null) {
+			if (Objects.equals(invokedClass, methodEntryClass))
+				return;
+			
+			deleteMethodEntryRequest();
+		}
+		
+		methodEntryRequest = vm.eventRequestManager().createMethodEntryRequest();
+		methodEntryRequest.addThreadFilter(thread);
+		methodEntryRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+		
+		if (invokedClass != null)
+			methodEntryRequest.addClassFilter(invokedClass);
+		
+		for (String filter : classExclusionFilters) {
+			methodEntryRequest.addClassExclusionFilter(filter);
+		}
+		
+		methodEntryRequest.enable();
+		methodEntryClass = invokedClass;
+	}
+	
+	/**
+	 * Finds the class in which the code of all tested invoked that can be
+	 * called from the current line is, so that method entries of other
+	 * classes are not sent by the debuggee.
+	 * 
+	 * @return		Class name or null if there is no such class
+	 */
+	private String findCandidatesDeclaringClass() {
+		String declaringClass = null;
+		
+		for (InvokedTestPathRecorder recorder : candidates) {
+			String invokedClass = recorder.findInvokedDeclaringClass(vm);
+			
+			if ((invokedClass == null) 
+					|| ((declaringClass != null) && !declaringClass.equals(invokedClass)))
+				return null;
+			
+			declaringClass = invokedClass;
+		}
+		
+		return declaringClass;
+	}
+	
+	private void step(ThreadReference thread, int depth) {
+		if ((stepRequest != null) && (stepDepth == depth))
+			return;
+		
+		deleteStepRequest();
+		
+		stepRequest = vm.eventRequestManager().createStepRequest(
+				thread,
+				StepRequest.STEP_LINE,
+				depth
+		);
+		stepRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+		
+		for (String filter : classExclusionFilters) {
+			stepRequest.addClassExclusionFilter(filter);
+		}
+		
+		stepRequest.enable();
+		stepDepth = depth;
+	}
+	
+	private void deleteStepRequest() {
+		if (stepRequest == null)
+			return;
+		
+		vm.eventRequestManager().deleteEventRequest(stepRequest);
+		stepRequest = null;
+	}
+	
+	private void deleteMethodEntryRequest() {
+		if (methodEntryRequest == null)
+			return;
+		
+		vm.eventRequestManager().deleteEventRequest(methodEntryRequest);
+		methodEntryRequest = null;
+	}
+	
+	private void deleteMethodExitRequest() {
+		if (methodExitRequest == null)
+			return;
+		
+		vm.eventRequestManager().deleteEventRequest(methodExitRequest);
+		methodExitRequest = null;
+	}
+	
+	private void parseStep(StepEvent event) {
+		if (!isInsideIteration())
+			return;
+		
+		ThreadReference thread = event.thread();
+		Location location = event.location();
+		int depth = getFrameCount(thread);
+		
+		if (isSearchingInvoked())
+			parseStepWhileSearchingInvoked(thread, location, depth);
+		else
+			parseStepInsideInvoked(thread, location, depth);
+	}
+	
+	private void parseStepWhileSearchingInvoked(ThreadReference thread, Location location,
+												int depth) {
+		if (depth <= testMethodDepth) {
+			if (hasLeftInvocationLine(location, depth))
+				finishIteration();
+			else
+				step(thread, StepRequest.STEP_INTO);
+		}
+		else if (depth == testMethodDepth + 1) {
+			InvokedTestPathRecorder recorder = findCandidate(thread, location);
+			
+			if (recorder == null) {
+				step(thread, StepRequest.STEP_OUT);
+				return;
+			}
+			
+			enterTestedInvoked(recorder, thread, location, depth);
+			step(thread, StepRequest.STEP_OVER);
+		}
+		else {
+			step(thread, StepRequest.STEP_OUT);
+		}
+	}
+	
+	private boolean hasLeftInvocationLine(Location location, int depth) {
+		return	(depth < testMethodDepth)
+				|| candidates.isEmpty()
+				|| (location.lineNumber() != candidates.get(0).getInvocationLine());
+	}
+	
+	private InvokedTestPathRecorder findCandidate(ThreadReference thread, Location location) {
+		for (InvokedTestPathRecorder recorder : candidates) {
+			if (recorder.isTestedInvoked(thread, location.method()))
+				return recorder;
+		}
+		
+		return null;
+	}
+	
+	private void enterTestedInvoked(InvokedTestPathRecorder recorder, ThreadReference thread,
+									Location location, int depth) {
+		activeRecorder = recorder;
+		candidates.remove(recorder);
+		
+		recorder.enter(location.method(), depth);
+		recorder.recordLine(location, depth);
+	}
+	
+	private void parseStepInsideInvoked(ThreadReference thread, Location location, int depth) {
+		if (depth >= activeRecorder.getInvokedDepth()) {
+			activeRecorder.recordLine(location, depth);
+			return;
+		}
+		
+		exitTestedInvoked();
+		
+		if (!hasLeftInvocationLine(location, depth))
+			searchTestedInvoked(thread);
+		else
+			finishIteration();
+	}
+	
+	private void exitTestedInvoked() {
+		activeRecorder.finish();
+		activeRecorder = null;
+		
+		deleteStepRequest();
+		deleteMethodExitRequest();
+	}
+	
+	private void parseMethodEntry(MethodEntryEvent event) {
+		if (!isInsideIteration() || !isSearchingInvoked())
+			return;
+		
+		ThreadReference thread = event.thread();
+		int depth = getFrameCount(thread);
+		
+		if ((depth != testMethodDepth + 1) || !wasCalledFromInvocationLine(thread))
+			return;
+		
+		InvokedTestPathRecorder recorder = findCandidate(thread, event.location());
+		
+		if (recorder == null)
+			return;
+		
+		deleteMethodEntryRequest();
+		enterTestedInvoked(recorder, thread, event.location(), depth);
+		waitForInvokedExit(thread);
+		step(thread, StepRequest.STEP_OVER);
+	}
+	
+	private boolean wasCalledFromInvocationLine(ThreadReference thread) {
+		if (candidates.isEmpty())
+			return false;
+		
+		try {
+			Location caller = thread.frame(1).location();
+			
+			return	caller.declaringType().name().equals(testMethod.getClassSignature())
+					&& (caller.lineNumber() == candidates.get(0).getInvocationLine());
+		}
+		catch (IncompatibleThreadStateException e) {
+			return false;
+		}
+	}
+	
+	private void waitForInvokedExit(ThreadReference thread) {
+		methodExitRequest = vm.eventRequestManager().createMethodExitRequest();
+		methodExitRequest.addThreadFilter(thread);
+		methodExitRequest.addClassFilter(activeRecorder.getInvokedMethod().declaringType());
+		methodExitRequest.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+		methodExitRequest.enable();
+	}
+	
+	private void parseMethodExit(MethodExitEvent event) {
+		if (!isInsideIteration() || isSearchingInvoked())
+			return;
+		
+		if (!event.method().equals(activeRecorder.getInvokedMethod()))
+			return;
+		
+		if (getFrameCount(event.thread()) != activeRecorder.getInvokedDepth())
+			return;
+		
+		exitTestedInvoked();
+		
+		if (candidates.isEmpty())
+			finishIteration();
+		else
+			searchTestedInvoked(event.thread());
+	}
+	
+	private void finishIteration() {
+		if (activeRecorder != null)
+			activeRecorder.finish();
+		
+		deleteStepRequest();
+		deleteMethodEntryRequest();
+		deleteMethodExitRequest();
+		
+		activeRecorder = null;
+		candidates = new ArrayList<>();
+		testMethodDepth = -1;
+	}
+	
+	private void finishAnalysis() {
+		if (isInsideIteration() && !interrupted)
+			finishIteration();
+		
+		finished = true;
+	}
+	
+	/**
+	 * Ends the debuggee after the test class has been run.
+	 */
+	public void close() {
+		finished = true;
+		
+		if (debuggee != null)
+			debuggee.close();
+	}
+	
+	/**
+	 * Ends the debuggee without waiting for the test class to finish. All
+	 * test paths recorded are discarded.
+	 */
+	public void closeImmediately() {
+		interrupted = true;
+		finished = true;
+		
+		if (debuggee != null)
+			debuggee.destroy();
+		
+		for (InvokedTestPathRecorder recorder : recorders) {
+			recorder.clear();
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public boolean hasStarted() {
+		return started;
+	}
+	
+	/**
+	 * Checks whether the debuggee was ended before the test class finished.
+	 * 
+	 * @return		True if it was interrupted; false otherwise
+	 */
+	public boolean wasInterrupted() {
+		return interrupted;
+	}
+}
@@ -0,0 +1,144 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+
+/**
+ * Computes test path of a method or constructor through the Java Debug
+ * Interface. Unlike {@link StandardDebuggerAnalyzer}, the debuggee is
+ * controlled in-process by means of breakpoint and step requests, so that
+ * executed lines are obtained directly from debugger events instead of being
+ * extracted from JDB output.
+ * <p>
+ * Several analyzers can share the same {@link JDIDebugSession}. In this case,
+ * the test class is run only once, by the first analyzer to be analyzed, and
+ * the other ones just collect the test paths recorded for their invoked.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class JDIDebuggerAnalyzer extends DebuggerAnalyzer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final JDIDebugSession session;
+	private final InvokedTestPathRecorder recorder;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructors
+	//-------------------------------------------------------------------------
+	public JDIDebuggerAnalyzer(TestedInvoked testedInvoked)
+			throws IOException {
+		this(testedInvoked, false);
+	}
+	
+	/**
+	 * Computes test path of a method or constructor through the Java Debug
+	 * Interface.
+	 * 
+	 * @param		testedInvoked Tested invoked along with its test method
+	 * @param		stopAtInvokedEntry True if the test path should be
+	 * obtained from method entry and exit events of the tested invoked
+	 * instead of stepping from the invocation line
+	 * 
+	 * @throws		IOException If occurs an error while fetching dependencies
+	 */
+	public JDIDebuggerAnalyzer(TestedInvoked testedInvoked, boolean stopAtInvokedEntry)
+			throws IOException {
+		this(testedInvoked, new InvokedTestPathRecorder(testedInvoked), stopAtInvokedEntry);
+	}
+	
+	private JDIDebuggerAnalyzer(TestedInvoked testedInvoked, InvokedTestPathRecorder recorder,
+								boolean stopAtInvokedEntry)
+			throws IOException {
+		this(
+				testedInvoked,
+				new JDIDebugSession(
+						testedInvoked.getTestMethod(),
+						List.of(recorder),
+						stopAtInvokedEntry
+				),
+				recorder
+		);
+	}
+	
+	/**
+	 * Computes test path of a method or constructor through a debug session
+	 * that may be shared with other analyzers of the same test class.
+	 * 
+	 * @param		testedInvoked Tested invoked along with its test method
+	 * @param		session Debug session that will run the test class
+	 * @param		recorder Recorder of the tested invoked, which must belong
+	 * to the session
+	 * 
+	 * @throws		IOException If occurs an error while fetching dependencies
+	 */
+	JDIDebuggerAnalyzer(TestedInvoked testedInvoked, JDIDebugSession session,
+						InvokedTestPathRecorder recorder)
+			throws IOException {
+		super(testedInvoked);
+		
+		this.session = session;
+		this.recorder = recorder;
+		testPaths = recorder.getTestPaths();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	protected void startDebugger() throws IOException {
+		if (session.hasStarted())
+			return;
+		
+		Path workingDirectory = extractRootPathDirectory(
+				testMethod.getBinPath(),
+				testMethod.getPackage()
+		);
+		
+		session.start(
+				workingDirectory, 
+				getClassPath(), 
+				classExclusionFilters, 
+				getCallCollector().getMctiFile(),
+				openCallChannel()
+		);
+	}
+	
+	@Override
+	protected void run() throws IOException {
+		session.run();
+		
+		if (session.wasInterrupted())
+			timeout = true;
+		
+		if (recorder.hasIncorrectInvocationLine())
+			throw new IllegalStateException(recorder.buildIncorrectInvocationLineMessage());
+		
+		analyzedInvokedSignature = recorder.getAnalyzedInvokedSignature();
+	}
+	
+	@Override
+	protected void closeDebugger() {
+		session.close();
+	}
+	
+	@Override
+	protected void closeDebuggerImmediately() {
+		session.closeImmediately();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	JDIDebugSession getSession() {
+		return session;
+	}
+}
@@ -0,0 +1,264 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import wniemiec.app.java.executionflow.collector.CallCollector;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.runtime.tracer.BranchTraceFile;
+import wniemiec.app.java.executionflow.runtime.tracer.LineTracerAgent;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Computes test path of a method or constructor by running its test class
+ * once, at normal speed, with a Java agent that inserts a probe at each line
+ * of the tested invoked. Unlike debugger-based analyzers, the debuggee is 
+ * never suspended: lines reached are buffered by the debuggee and read after
+ * it ends.
+ * <p>
+ * Alternatively, only the decisions taken by the tested invoked, such as
+ * outcomes of conditional jumps, are recorded, and lines reached are rebuilt
+ * afterwards from its control flow graph. This reduces the overhead of 
+ * methods with loops, since no probe is run at each line.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class LineTracerAnalyzer extends DebuggerAnalyzer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static Path agentJar;
+	private final InvokedTestPathRecorder recorder;
+	private final boolean recordBranchesOnly;
+	private volatile Process debuggee;
+	private Path configFile;
+	private Path outputFile;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public LineTracerAnalyzer(TestedInvoked testedInvoked) throws IOException {
+		this(testedInvoked, false);
+	}
+	
+	/**
+	 * Computes test path of a method or constructor by running its test 
+	 * class with a Java agent.
+	 * 
+	 * @param		testedInvoked Tested invoked along with its test method
+	 * @param		recordBranchesOnly True if only decisions taken by the
+	 * tested invoked should be recorded, rebuilding lines reached from its
+	 * control flow graph
+	 * 
+	 * @throws		IOException If occurs an error while fetching dependencies
+	 */
+	public LineTracerAnalyzer(TestedInvoked testedInvoked, boolean recordBranchesOnly) 
+			throws IOException {
+		super(testedInvoked);
+		
+		this.recordBranchesOnly = recordBranchesOnly;
+		recorder = new InvokedTestPathRecorder(testedInvoked);
+		testPaths = recorder.getTestPaths();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	protected void startDebugger() throws IOException {
+		Path workingDirectory = extractRootPathDirectory(
+				testMethod.getBinPath(), 
+				testMethod.getPackage()
+		);
+		
+		outputFile = Files.createTempFile("ef-tracer", ".tp");
+		configFile = createConfigFile();
+		debuggee = buildDebuggeeProcess(workingDirectory).start();
+	}
+	
+	private Path createConfigFile() throws IOException {
+		Properties config = new Properties();
+		
+		config.setProperty(LineTracerAgent.OUTPUT, outputFile.toString());
+		config.setProperty(LineTracerAgent.INVOKED_CLASS, testedInvoked.getClassSignature());
+		config.setProperty(LineTracerAgent.INVOKED_NAME, extractInvokedName());
+		config.setProperty(LineTracerAgent.INVOKED_PARAMETERS, extractInvokedParameters());
+		config.setProperty(LineTracerAgent.TEST_CLASS, testMethod.getClassSignature());
+		config.setProperty(
+				LineTracerAgent.INVOCATION_LINE, 
+				String.valueOf(testedInvoked.getInvocationLine())
+		);
+		config.setProperty(
+				LineTracerAgent.MODE, 
+				recordBranchesOnly ? LineTracerAgent.MODE_BRANCHES : LineTracerAgent.MODE_LINES
+		);
+		
+		Path file = Files.createTempFile("ef-tracer", ".properties");
+		
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			config.store(writer, null);
+		}
+		
+		return file;
+	}
+	
+	private ProcessBuilder buildDebuggeeProcess(Path workingDirectory) throws IOException {
+		List<String> command = new ArrayList<>();
+		File mctiFile = getCallCollector().getMctiFile();
+		String channel = openCallChannel();
+		
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-javaagent:" + getAgentJar() + "=" + configFile);
+		
+		command.add("-D" + CallCollector.MCTI_FILE_PROPERTY + "=" + mctiFile.getAbsolutePath());
+		
+		if (channel != null)
+			command.add("-D" + CallCollector.CHANNEL_PROPERTY + "=" + channel);
+		
+		command.add("-cp");
+		command.add(buildClassPath());
+		command.add("org.junit.runner.JUnitCore");
+		command.add(testMethod.getClassSignature());
+		
+		Consolex.writeDebug(this.getClass().getName() + " - COMMAND: " + command);
+		Consolex.writeDebug(this.getClass().getName() + " - Working directory: " + workingDirectory);
+		
+		return new ProcessBuilder(command)
+				.directory(workingDirectory.toFile())
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.redirectError(ProcessBuilder.Redirect.DISCARD);
+	}
+	
+	/**
+	 * Gets a jar that only contains a manifest pointing to 
+	 * {@link LineTracerAgent}, whose classes are loaded from the debuggee
+	 * class path.
+	 * 
+	 * @return		Agent jar
+	 * 
+	 * @throws		IOException If jar cannot be created
+	 */
+	private static synchronized Path getAgentJar() throws IOException {
+		if ((agentJar != null) && Files.exists(agentJar))
+			return agentJar;
+		
+		Manifest manifest = new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().putValue("Premain-Class", LineTracerAgent.class.getName());
+		
+		agentJar = Files.createTempFile("ef-tracer-agent", ".jar");
+		agentJar.toFile().deleteOnExit();
+		
+		try (OutputStream jar = new JarOutputStream(Files.newOutputStream(agentJar), manifest)) {
+			jar.flush();
+		}
+		
+		return agentJar;
+	}
+	
+	private String buildClassPath() {
+		List<String> classPath = new ArrayList<>();
+		
+		for (Path path : getClassPath()) {
+			classPath.add(path.toString());
+		}
+		
+		return String.join(File.pathSeparator, classPath);
+	}
+	
+	@Override
+	protected void run() throws IOException {
+		try {
+			debuggee.waitFor();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		
+		if (timeout)
+			return;
+		
+		readTestPaths();
+		analyzedInvokedSignature = recorder.getAnalyzedInvokedSignature();
+	}
+	
+	private void readTestPaths() throws IOException {
+		if (recordBranchesOnly) {
+			readBranchTraces();
+			return;
+		}
+		
+		for (String testPath : Files.readAllLines(outputFile, StandardCharsets.UTF_8)) {
+			if (testPath.isBlank())
+				continue;
+			
+			recorder.enter(testedInvoked.getClassSignature(), 1);
+			
+			for (String line : testPath.split(",")) {
+				recorder.recordLine(Integer.parseInt(line));
+			}
+			
+			recorder.finish();
+		}
+	}
+	
+	private void readBranchTraces() throws IOException {
+		if (Files.size(outputFile) == 0)
+			return;
+		
+		for (int[] testPath : BranchTraceFile.readTestPaths(outputFile)) {
+			recorder.enter(testedInvoked.getClassSignature(), 1);
+			
+			for (int line : testPath) {
+				recorder.recordLine(line);
+			}
+			
+			recorder.finish();
+		}
+	}
+	
+	@Override
+	protected void closeDebugger() {
+		destroyDebuggee();
+		deleteTemporaryFiles();
+	}
+	
+	private void destroyDebuggee() {
+		if ((debuggee != null) && debuggee.isAlive())
+			debuggee.destroyForcibly();
+	}
+	
+	private void deleteTemporaryFiles() {
+		try {
+			if (configFile != null)
+				Files.deleteIfExists(configFile);
+			
+			if (outputFile != null)
+				Files.deleteIfExists(outputFile);
+		}
+		catch (IOException e) {
+			Consolex.writeDebug(this.getClass().getName() + " - " + e.getMessage());
+		}
+	}
+	
+	@Override
+	protected void closeDebuggerImmediately() {
+		destroyDebuggee();
+	}
+}
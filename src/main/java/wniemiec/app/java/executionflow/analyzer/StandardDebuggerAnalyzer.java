@@ -124,7 +124,7 @@ class StandardDebuggerAnalyzer extends DebuggerAnalyzer {
 	}
 	
 	private void sendJDB(String command) {
-		jdb.send(command);
+		jdbOutput.send(command);
 		
 		Consolex.writeDebug(this.getClass().getName() + " - COMMAND: " + command);
 	}
@@ -142,7 +142,12 @@ class StandardDebuggerAnalyzer extends DebuggerAnalyzer {
 	}
 	
 	private boolean parseOutput() throws IOException {
-		if (!isJDBReady())
+		if (jdbOutput.isClosed()) {
+			stopJDB = true;
+			return true;
+		}
+		
+		if (!jdbOutput.awaitOutput())
 			return false;
 
 		initializeLine();
@@ -166,21 +171,8 @@ class StandardDebuggerAnalyzer extends DebuggerAnalyzer {
 		return stopJDB || finishedTestedInvoked || initializationFinished();
 	}
 	
-	private boolean isJDBReady() {
-		if (jdb.isReady())
-			return true;
-		
-		try {
-			Thread.sleep(200);
-		} 
-		catch (InterruptedException e) {
-		}
-		
-		return false;
-	}
-
 	private void initializeLine() {
-		line = jdb.read();
+		line = jdbOutput.read();
     	
     	Consolex.writeDebug(this.getClass().getName() + " - LINE: " + line);
 	}
@@ -313,7 +305,7 @@ class StandardDebuggerAnalyzer extends DebuggerAnalyzer {
 	}
 	
 	private void initializeSrcLine() {
-		srcLine = jdb.read();
+		srcLine = jdbOutput.read();
 		
 		Consolex.writeDebug(this.getClass().getName() + " - SRC: " + srcLine);
 	}
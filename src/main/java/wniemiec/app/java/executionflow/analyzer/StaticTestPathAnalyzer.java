@@ -0,0 +1,139 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.runtime.tracer.StraightLineMethod;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Computes test path of a method or constructor that has no branches, that
+ * is, whose test path is fully determined by its code. The test path is read
+ * from the line number table of its class file, so that neither the test
+ * method nor a debugger is run.
+ * <p>
+ * It only applies to tested invoked that have no conditional jumps,
+ * switches, exception handlers or method calls, since methods called by the
+ * tested invoked are collected while the test method runs.
+ * <p>
+ * Since the test method is not run, the number of test paths is the number
+ * of times the tested invoked returned normally from its invocation line 
+ * while it was collected. Thus, it only applies to tested invoked whose runs
+ * were counted and none of which ended with an exception.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class StaticTestPathAnalyzer extends DebuggerAnalyzer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String REGEX_INVOKED_DECLARATION = 
+			"[\\s\\t]*(public|protected|private)[\\s\\t]+.+\\(.*\\)[\\s\\t]*\\{[\\s\\t]*$";
+	private final InvokedTestPathRecorder recorder;
+	private final int[] lines;
+	private final int invocations;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Computes test path of a method or constructor from its class file.
+	 * 
+	 * @param		testedInvoked Tested invoked along with its test method
+	 * 
+	 * @throws		IOException If class file of the tested invoked cannot be
+	 * read
+	 */
+	public StaticTestPathAnalyzer(TestedInvoked testedInvoked) throws IOException {
+		super(testedInvoked);
+		
+		recorder = new InvokedTestPathRecorder(testedInvoked);
+		testPaths = recorder.getTestPaths();
+		lines = readLines();
+		invocations = testedInvoked.getInvocations();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private int[] readLines() throws IOException {
+		if (testedInvoked.belongsToAnonymousClass())
+			return new int[0];
+		
+		return StraightLineMethod.readLines(
+				Files.readAllBytes(testedInvoked.getBinPath()),
+				testedInvoked.getClassSignature(),
+				extractInvokedName(),
+				extractInvokedParameters()
+		);
+	}
+	
+	@Override
+	protected void startDebugger() {
+		Consolex.writeDebug(
+				this.getClass().getName() + " - Test path read from "
+				+ testedInvoked.getBinPath()
+		);
+	}
+	
+	@Override
+	protected void run() {
+		for (int i = 0; i < invocations; i++) {
+			recordTestPath();
+		}
+		
+		analyzedInvokedSignature = recorder.getAnalyzedInvokedSignature();
+	}
+	
+	private void recordTestPath() {
+		recorder.enter(testedInvoked.getClassSignature(), 1);
+		
+		for (int line : lines) {
+			if (!isInvokedDeclaration(recorder.getSourceLine(line)))
+				recorder.recordLine(line);
+		}
+		
+		recorder.finish();
+	}
+	
+	/**
+	 * Checks whether a line is a declaration that is annotated with 
+	 * {@link wniemiec.app.java.executionflow.runtime.CollectCalls} when the
+	 * tested invoked is processed. Class files read by this analyzer have not
+	 * been processed, so that these lines must be ignored in order to get 
+	 * the same test paths as the other analyzers.
+	 */
+	private boolean isInvokedDeclaration(String srcLine) {
+		return	srcLine.matches(REGEX_INVOKED_DECLARATION)
+				&& !srcLine.contains("return ")
+				&& !srcLine.contains(" new ");
+	}
+	
+	@Override
+	protected void closeDebugger() {
+	}
+	
+	@Override
+	protected void closeDebuggerImmediately() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Checks whether test path of the tested invoked can be read from its
+	 * class file.
+	 * 
+	 * @return		True if tested invoked has no branches nor method calls;
+	 * false otherwise
+	 */
+	public boolean hasStraightLineTestPath() {
+		return (lines.length > 0);
+	}
+}
@@ -1,23 +1,31 @@
 package wniemiec.app.java.executionflow.collector;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.InvokedReader;
+import wniemiec.app.java.executionflow.invoked.InvokedWriter;
+import wniemiec.app.java.executionflow.invoked.SignatureSet;
+import wniemiec.app.java.executionflow.io.ipc.MessageServer;
+import wniemiec.app.java.executionflow.io.ipc.MessageWriter;
 import wniemiec.io.java.Consolex;
 
 /**
  * Responsible for collect method signatures of methods called inside a method
- * or constructor.
+ * or constructor. Calls are kept in memory and only stored in the collector 
+ * file when {@link #flush()} is called or when the virtual machine shuts 
+ * down. If the virtual machine was launched with a channel (see 
+ * {@link #openChannel()}), calls are streamed through it instead.
  * 
  * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
  * @since		7.0.0
@@ -27,9 +35,27 @@ public class CallCollector {
 	//-------------------------------------------------------------------------
 	//		Attributes
 	//-------------------------------------------------------------------------
+	/**
+	 * System property with the path of the file where methods called by 
+	 * tested invoked are stored. If it is not set, 'mcti.ef' in the temporary
+	 * directory is used.
+	 */
+	public static final String MCTI_FILE_PROPERTY = "executionflow.mcti";
+	
+	/**
+	 * System property with the address of the channel through which methods
+	 * called by tested invoked are sent. If it is not set, they are stored in
+	 * the collector file.
+	 */
+	public static final String CHANNEL_PROPERTY = "executionflow.channel";
 	private static CallCollector instance;
 	private Map<Invoked, Set<String>> methodsCalledByTestedInvoked;
 	private static final File MCTI_FILE;
+	private final File mctiFile;
+	private volatile boolean hasPendingCalls;
+	private volatile boolean flushOnShutdown;
+	private MessageWriter writer;
+	private MessageServer channel;
 	
 	
 	//-------------------------------------------------------------------------
@@ -37,16 +63,20 @@ public class CallCollector {
 	//-------------------------------------------------------------------------
 	static {
 		File tmpDir = new File(System.getProperty("java.io.tmpdir"));
+		String mctiFilePath = System.getProperty(MCTI_FILE_PROPERTY);
 		
-		MCTI_FILE = new File(tmpDir, "mcti.ef");
+		MCTI_FILE = (mctiFilePath == null) 
+				? new File(tmpDir, "mcti.ef")
+				: new File(mctiFilePath);
 	}
 	
 	
 	//-------------------------------------------------------------------------
 	//		Constructor
 	//-------------------------------------------------------------------------
-	private CallCollector() {
-		methodsCalledByTestedInvoked = new HashMap<>();	
+	private CallCollector(File mctiFile) {
+		this.mctiFile = mctiFile;
+		methodsCalledByTestedInvoked = new ConcurrentHashMap<>();
 	}
 	
 	
@@ -54,14 +84,51 @@ public class CallCollector {
 	//		Methods
 	//-------------------------------------------------------------------------
 	public static CallCollector getInstance() {
-		if (instance == null)
-			instance = new CallCollector();
+		if (instance == null) {
+			instance = new CallCollector(MCTI_FILE);
+			instance.connectToChannel(System.getProperty(CHANNEL_PROPERTY));
+		}
 		
 		return instance;
 	}
 	
+	private void connectToChannel(String address) {
+		if (address == null)
+			return;
+		
+		try {
+			writer = MessageWriter.connect(address);
+		}
+		catch (IOException | IllegalArgumentException e) {
+			Consolex.writeError("Channel - " + e.getMessage() 
+					+ ". Collector file will be used instead.");
+		}
+	}
+	
+	/**
+	 * Creates a collector that is independent of the one returned by 
+	 * {@link #getInstance()}, which is useful when several debuggees are run
+	 * at the same time. The debuggee must be launched with the system 
+	 * property {@link #MCTI_FILE_PROPERTY} set to the path of the collector 
+	 * file.
+	 * 
+	 * @param		mctiFile File where methods called by tested invoked will
+	 * be stored
+	 * 
+	 * @return		New collector
+	 * 
+	 * @throws		IllegalArgumentException If mcti file is null
+	 */
+	public static CallCollector createInstance(File mctiFile) {
+		if (mctiFile == null)
+			throw new IllegalArgumentException("Mcti file cannot be null");
+		
+		return new CallCollector(mctiFile);
+	}
+	
 	/**
 	 * Stores the signature of a method called inside a method or constructor.
+	 * Signatures already collected for the invoked are ignored.
 	 * 
 	 * @param		signatureOfMethodCalledByInvoked Signature of the method 
 	 * called
@@ -79,30 +146,114 @@ public class CallCollector {
 		if (invoked == null)
 			throw new IllegalArgumentException("Invoked cannot be null");
 		
-		if (methodsCalledByTestedInvoked.containsKey(invoked)) {
-			Set<String> invokedMethods = methodsCalledByTestedInvoked.get(invoked);
-			invokedMethods.add(signatureOfMethodCalledByInvoked);
+		Set<String> invokedMethods = methodsCalledByTestedInvoked.computeIfAbsent(
+				invoked, 
+				key -> new SignatureSet()
+		);
+		
+		if (invokedMethods.add(signatureOfMethodCalledByInvoked)) {
+			hasPendingCalls = true;
+			registerFlushOnShutdown();
+			sendCall(signatureOfMethodCalledByInvoked, invoked);
 		}
-		else {
-			Set<String> invokedMethods = new HashSet<>();
-			invokedMethods.add(signatureOfMethodCalledByInvoked);
+	}
+	
+	private void sendCall(String signatureOfMethodCalledByInvoked, Invoked invoked) {
+		if (writer == null)
+			return;
+		
+		try {
+			writer.writeMethodCalled(signatureOfMethodCalledByInvoked, invoked);
+		}
+		catch (IOException e) {
+			Consolex.writeError("Channel - " + e.getMessage());
+		}
+	}
+	
+	private void registerFlushOnShutdown() {
+		if (flushOnShutdown)
+			return;
+		
+		synchronized (this) {
+			if (flushOnShutdown)
+				return;
 			
-			methodsCalledByTestedInvoked.put(invoked, invokedMethods);
+			Runtime.getRuntime().addShutdownHook(new Thread(this::flushAndClose));
+			flushOnShutdown = true;
 		}
+	}
+	
+	/**
+	 * Stores calls collected since the last flush in the collector file, 
+	 * merging them with the calls already stored there. If there is a 
+	 * channel, calls sent through it are delivered instead.
+	 */
+	public synchronized void flush() {
+		if (!hasPendingCalls)
+			return;
+		
+		hasPendingCalls = false;
 		
-		storeCall();
+		if (writer == null)
+			storeCollectedMethods();
+		else
+			sendPendingCalls();
+	}
+	
+	private void sendPendingCalls() {
+		try {
+			writer.flush();
+		}
+		catch (IOException e) {
+			Consolex.writeError("Channel - " + e.getMessage());
+		}
 	}
 	
-	private void storeCall() {
-		if (methodsCalledByTestedInvoked.isEmpty())
+	private synchronized void flushAndClose() {
+		flush();
+		
+		if (writer == null)
 			return;
 		
-		store(methodsCalledByTestedInvoked);
+		try {
+			writer.close();
+		}
+		catch (IOException e) {
+			Consolex.writeError("Channel - " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Opens a channel through which debuggees can send methods called by 
+	 * tested invoked to this collector, so that they do not have to be stored
+	 * in the collector file. The channel is closed by 
+	 * {@link #mergeMethodsCalledByTestedInvoked()}.
+	 * 
+	 * @return		Address that must be given to the debuggee through the 
+	 * system property {@link #CHANNEL_PROPERTY}
+	 * 
+	 * @throws		IOException If channel cannot be opened
+	 */
+	public synchronized String openChannel() throws IOException {
+		if (channel == null)
+			channel = MessageServer.open(this::addCall);
+		
+		return channel.getAddress();
 	}
 	
-	private void store(Map<Invoked, Set<String>> methodsCalledByTestedInvoked) {
-		this.methodsCalledByTestedInvoked = methodsCalledByTestedInvoked;
-		storeCollectedMethods();
+	private void addCall(String signatureOfMethodCalledByInvoked, Invoked invoked) {
+		methodsCalledByTestedInvoked.computeIfAbsent(
+				invoked, 
+				key -> new SignatureSet()
+		).add(signatureOfMethodCalledByInvoked);
+	}
+	
+	private synchronized void closeChannel() {
+		if (channel == null)
+			return;
+		
+		channel.close();
+		channel = null;
 	}
 	
 	/**
@@ -130,60 +281,30 @@ public class CallCollector {
 	 * @throws		IOException If 'mcti.ef' cannot be read
 	 */
 	private void load() throws FileNotFoundException, IOException {
-		if (!MCTI_FILE.exists())
+		if (!mctiFile.exists())
 			return;
 	
-		try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(MCTI_FILE))) {
-			if (ois.available() == 0)
-				return;
-			
-			@SuppressWarnings("unchecked")
-			Map<Invoked, Set<String>> storedCollection = 
-					(Map<Invoked, Set<String>>) ois.readObject();
-			
-			combineCollectedMethodWithStoredCollection(storedCollection);
+		if (mctiFile.length() == 0)
+			return;
+		
+		try (InvokedReader reader = new InvokedReader(new FileInputStream(mctiFile))) {
+			combineCollectedMethodWithStoredCollection(
+					reader.readMethodsCalledByTestedInvoked()
+			);
 		}
-		catch(java.io.EOFException | ClassNotFoundException e) {
-			MCTI_FILE.delete();
+		catch(EOFException | StreamCorruptedException e) {
+			mctiFile.delete();
 		}
 	}
 	
 	private void combineCollectedMethodWithStoredCollection(Map<Invoked, Set<String>> 
 															storedCollection) {
 		for (Map.Entry<Invoked, Set<String>> e : storedCollection.entrySet()) {
-			Invoked storedInvocation = e.getKey();
-			Set<String> storedMethodsCalled = e.getValue();
-			
-			if (methodsCalledByTestedInvoked.containsKey(storedInvocation)) {
-				mergeCollectedMethodWithStoredCollection(
-						storedInvocation, 
-						storedMethodsCalled
-				);
-			}
-			else {
-				methodsCalledByTestedInvoked.put(
-						storedInvocation, 
-						storedMethodsCalled
-				);							
-			}
-		}
-	}
-	
-	private void mergeCollectedMethodWithStoredCollection(Invoked storedInvocation, 
-														  Set<String> storedMethodsCalled) {
-		Set<String> currentMethodsCalled = 
-				methodsCalledByTestedInvoked.get(storedInvocation);
-
-		for (String invokedMethod : storedMethodsCalled)
-			currentMethodsCalled.add(invokedMethod);
-		
-		for (String methodCalled : storedMethodsCalled) {
-			if (!currentMethodsCalled.contains(methodCalled)) {
-				currentMethodsCalled.add(methodCalled);
-			}
+			methodsCalledByTestedInvoked.computeIfAbsent(
+					e.getKey(), 
+					invoked -> new SignatureSet()
+			).addAll(e.getValue());
 		}
-		
-		methodsCalledByTestedInvoked.put(storedInvocation, currentMethodsCalled);
 	}
 	
 	/**
@@ -195,56 +316,85 @@ public class CallCollector {
 	 * @throws		IOException If 'mcti.ef' cannot be written
 	 */
 	private void store() throws FileNotFoundException, IOException {
-		try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(MCTI_FILE))) {
-			oos.writeObject(methodsCalledByTestedInvoked);
-			oos.flush();
+		try (InvokedWriter writer = new InvokedWriter(new FileOutputStream(mctiFile))) {
+			writer.writeMethodsCalledByTestedInvoked(copyMethodsCalledByTestedInvoked());
 		}
 	}
 	
-	public void mergeMethodsCalledByTestedInvoked() {
-		Map<Invoked, Set<String>> invokedMethods = loadMethodsCalledByTestedInvoked();
+	private Map<Invoked, Set<String>> copyMethodsCalledByTestedInvoked() {
+		Map<Invoked, Set<String>> copy = new HashMap<>();
 		
-		for (Map.Entry<Invoked, Set<String>> mcti : invokedMethods.entrySet()) {
-			if (methodsCalledByTestedInvoked.containsKey(mcti.getKey())) {
-				methodsCalledByTestedInvoked.get(mcti.getKey()).addAll(mcti.getValue());
-			}
-			else {
-				methodsCalledByTestedInvoked.put(mcti.getKey(), mcti.getValue());
-			}
+		for (Map.Entry<Invoked, Set<String>> mcti : methodsCalledByTestedInvoked.entrySet()) {
+			copy.put(mcti.getKey(), new SignatureSet(mcti.getValue()));
 		}
+		
+		return copy;
+	}
+	
+	/**
+	 * Merges methods called by tested invoked sent by the debuggee, either 
+	 * through the channel or the collector file, into this collector. It must
+	 * be called after the debuggee has ended.
+	 */
+	public void mergeMethodsCalledByTestedInvoked() {
+		closeChannel();
+		combineCollectedMethodWithStoredCollection(loadMethodsCalledByTestedInvoked());
 	}
 	
-	@SuppressWarnings("unchecked")
 	private Map<Invoked, Set<String>> loadMethodsCalledByTestedInvoked() {
-		if (!MCTI_FILE.exists())
+		if (!mctiFile.exists())
 			return new HashMap<>();
 		
 		Map<Invoked, Set<String>> invokedMethods = new HashMap<>();
 
-		try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(MCTI_FILE))) {
-			invokedMethods = (Map<Invoked, Set<String>>) ois.readObject();
+		try (InvokedReader reader = new InvokedReader(new FileInputStream(mctiFile))) {
+			invokedMethods = reader.readMethodsCalledByTestedInvoked();
 		} 
-		catch (IOException | ClassNotFoundException e) {
+		catch (IOException e) {
 			Consolex.writeError("Methods called by tested invoked - " + e.getMessage());
 		}
 	
-		MCTI_FILE.delete();
+		mctiFile.delete();
 		
 		return invokedMethods;
 	}
 	
+	/**
+	 * Merges methods called by tested invoked collected by another collector
+	 * into this one.
+	 * 
+	 * @param		collector Another collector
+	 * 
+	 * @throws		IllegalArgumentException If collector is null
+	 */
+	public synchronized void merge(CallCollector collector) {
+		if (collector == null)
+			throw new IllegalArgumentException("Collector cannot be null");
+		
+		for (Map.Entry<Invoked, Set<String>> mcti : collector.getMethodsCalledByTestedInvoked().entrySet()) {
+			methodsCalledByTestedInvoked.computeIfAbsent(
+					mcti.getKey(), 
+					invoked -> new SignatureSet()
+			).addAll(mcti.getValue());
+		}
+	}
+	
 	public void reset() {
 		methodsCalledByTestedInvoked.clear();
 	}
 	
 	public boolean deleteStoredContent() {
-		return MCTI_FILE.delete();
+		return mctiFile.delete();
 	}
 	
 	
 	//-------------------------------------------------------------------------
 	//		Getters
 	//-------------------------------------------------------------------------
+	public File getMctiFile() {
+		return mctiFile;
+	}
+	
 	public Map<Invoked, Set<String>> getMethodsCalledByTestedInvoked() {
 		try {
 			load();
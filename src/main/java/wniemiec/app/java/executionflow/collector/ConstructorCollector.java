@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -65,7 +66,20 @@ public class ConstructorCollector extends InvokedCollector {
 			return;
 		
 		putInConstructorCollection(testedInvoked.getTestedInvoked(), testedInvoked);
-		storeConstructorCollector();
+		markAsModified();
+	}
+	
+	@Override
+	public void countInvocation(String signature, int invocationLine, 
+								boolean returnedNormally) {
+		TestedInvoked testedInvoked = constructorCollector.get(invocationLine);
+		
+		if ((testedInvoked == null) 
+				|| !testedInvoked.getTestedInvoked().getInvokedSignature().equals(signature))
+			return;
+		
+		testedInvoked.countInvocation(returnedNormally);
+		markAsModified();
 	}
 	
 	private boolean wasConstructorCollected(Invoked constructor) {
@@ -80,27 +94,27 @@ public class ConstructorCollector extends InvokedCollector {
 		);
 	}
 	
-	private void storeConstructorCollector() {
-		try {
-			User.storeConstructorCollector(constructorCollector);
-		} 
-		catch (IOException e) {
-		}
+	@Override
+	protected void store() throws IOException {
+		User.storeConstructorCollector(constructorCollector);
 	}
 	
 	@Override
 	public Set<TestedInvoked> getAllCollectedInvoked() {
-		return new HashSet<>(getConstructorCollection());
+		return Collections.unmodifiableSet(new HashSet<>(getConstructorCollection()));
 	}
 	
 	private Collection<TestedInvoked> getConstructorCollection() {
 		try {
-			constructorCollector = User.getConstructorCollector();
+			if (shouldReadStoredContent()) {
+				constructorCollector = User.getConstructorCollector();
+				markAsStored();
+			}
 			
 			if (constructorCollector == null)
 				constructorCollector = new HashMap<>();
 			
-			return constructorCollector.values();
+			return Collections.unmodifiableCollection(constructorCollector.values());
 		} 
 		catch (IOException e) {
 			return new ArrayList<>();
@@ -111,6 +125,7 @@ public class ConstructorCollector extends InvokedCollector {
 	public void reset() {
 		constructorCollector.clear();
 		User.resetConstructorCollector();
+		markAsStored();
 	}
 
 	@Override
@@ -122,7 +137,7 @@ public class ConstructorCollector extends InvokedCollector {
 				getConstructorCollection()
 		);
 		
-		storeConstructorCollector();
+		markAsModified();
 	}
 
 	@Override
@@ -1,17 +1,23 @@
 package wniemiec.app.java.executionflow.collector;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import wniemiec.app.java.executionflow.invoked.Invoked;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.io.java.Consolex;
 
 /**
- * Responsible for collect methods or constructors.
+ * Responsible for collect methods or constructors. Collected invoked are kept
+ * in memory and stored in the session when {@link #flush()} is called, 
+ * which happens at the end of each test method, before running a test method
+ * in another virtual machine and when the virtual machine shuts down.
  * 
  * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
  * @since		7.0.0
@@ -22,12 +28,34 @@ public abstract class InvokedCollector {
 	//		Attributes
 	//-------------------------------------------------------------------------
 	private static Map<Invoked, Integer> modifiedCollectorInvocationLine;
+	private static final List<InvokedCollector> collectors = 
+			new CopyOnWriteArrayList<>();
+	
+	/**
+	 * Indicates whether there are changes that were not stored yet.
+	 */
+	private volatile boolean modified;
+	
+	/**
+	 * Indicates whether collected invoked are the same as the stored ones, 
+	 * which is not the case if another virtual machine may have stored them.
+	 */
+	private volatile boolean upToDate;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Initialization block
+	//-------------------------------------------------------------------------
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(InvokedCollector::flushAll));
+	}
 	
 	
 	//-------------------------------------------------------------------------
 	//		Constructor
 	//-------------------------------------------------------------------------
 	protected InvokedCollector() {
+		collectors.add(this);
 	}
 	
 	
@@ -41,11 +69,99 @@ public abstract class InvokedCollector {
 	 */
 	public abstract void collect(TestedInvoked testedInvoked);
 	
+	/**
+	 * Counts a run of a collected invoked from its invocation line, so that
+	 * it is known how many test paths it has. Runs of invoked that have not
+	 * been collected are ignored.
+	 * 
+	 * @param		signature Invoked signature
+	 * @param		invocationLine Test method line from which it was run
+	 * @param		returnedNormally True if the run did not end with an 
+	 * exception
+	 */
+	public abstract void countInvocation(String signature, int invocationLine, 
+										 boolean returnedNormally);
+	
 	/**
 	 * Removes all collected invoked.
 	 */
 	public abstract void reset();	
 	
+	/**
+	 * Stores collected invoked in the session.
+	 * 
+	 * @throws		IOException If session cannot be written
+	 */
+	protected abstract void store() throws IOException;
+	
+	/**
+	 * Stores collected invoked in the session if they were modified since 
+	 * the last time they were stored.
+	 */
+	public final synchronized void flush() {
+		if (!modified)
+			return;
+		
+		try {
+			store();
+			markAsStored();
+		}
+		catch (IOException e) {
+			Consolex.writeError(getClass().getSimpleName() + " - " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Stores all modified collectors in the session.
+	 */
+	public static void flushAll() {
+		for (InvokedCollector collector : collectors) {
+			collector.flush();
+		}
+	}
+	
+	/**
+	 * Indicates that another virtual machine may have stored collected 
+	 * invoked, so that collectors without pending changes read them from the
+	 * session again.
+	 */
+	public static void invalidateAll() {
+		for (InvokedCollector collector : collectors) {
+			collector.upToDate = false;
+		}
+	}
+	
+	protected final void markAsModified() {
+		modified = true;
+	}
+	
+	protected final void markAsStored() {
+		modified = false;
+		upToDate = true;
+	}
+	
+	/**
+	 * Checks whether there are changes that were not stored in the session 
+	 * yet.
+	 * 
+	 * @return		True if collected invoked were modified since the last 
+	 * time they were stored
+	 */
+	protected final boolean hasPendingChanges() {
+		return modified;
+	}
+	
+	/**
+	 * Checks whether collected invoked should be read from the session, that
+	 * is, whether there are no pending changes and they may have been stored
+	 * by another virtual machine.
+	 * 
+	 * @return		True if collected invoked should be read from the session
+	 */
+	protected final boolean shouldReadStoredContent() {
+		return !modified && !upToDate;
+	}
+	
 	protected static void updateInvokedInvocationLines(Map<Integer, List<Integer>> mapping, 
 													   Path testMethodSrcFile, 
 													   Collection<TestedInvoked> collector) {
@@ -103,6 +219,10 @@ public abstract class InvokedCollector {
 		}
 		
 		modifiedCollectorInvocationLine = null;
+		
+		for (InvokedCollector collector : collectors) {
+			collector.markAsModified();
+		}
 	}
 	
 	/**
@@ -115,5 +235,11 @@ public abstract class InvokedCollector {
 	public abstract void updateInvocationLines(Map<Integer, List<Integer>> map, 
 									  		   Path testMethodSrcFile);
 	
+	/**
+	 * Gets collected invoked. The set cannot be modified, but its invoked 
+	 * are the collected ones, so that changes to them are kept.
+	 * 
+	 * @return		Read-only set of collected invoked
+	 */
 	public abstract Set<TestedInvoked> getAllCollectedInvoked();
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -71,7 +72,25 @@ public class MethodCollector extends InvokedCollector {
 			putInMethodCollection(testedInvoked.getTestedInvoked(), list);
 		}
 		
-		storeMethodCollector();
+		markAsModified();
+	}
+	
+	@Override
+	public void countInvocation(String signature, int invocationLine, 
+								boolean returnedNormally) {
+		List<TestedInvoked> list = methodCollector.get(invocationLine);
+		
+		if (list == null)
+			return;
+		
+		for (TestedInvoked testedInvoked : list) {
+			if (testedInvoked.getTestedInvoked().getInvokedSignature().equals(signature)) {
+				testedInvoked.countInvocation(returnedNormally);
+				markAsModified();
+				
+				return;
+			}
+		}
 	}
 	
 	private boolean wasMethodCollected(Invoked method) {
@@ -86,12 +105,9 @@ public class MethodCollector extends InvokedCollector {
 		methodCollector.put(method.getInvocationLine(), list);
 	}
 
-	private void storeMethodCollector() {
-		try {
-			User.storeMethodCollector(methodCollector);
-		}
-		catch (IOException e) {
-		}
+	@Override
+	protected void store() throws IOException {
+		User.storeMethodCollector(methodCollector);
 	}
 	
 	@Override
@@ -105,17 +121,20 @@ public class MethodCollector extends InvokedCollector {
 			collectors.add(collector.get(0));
 		}
 		
-		return collectors;
+		return Collections.unmodifiableSet(collectors);
 	}
 	
 	private Collection<List<TestedInvoked>> getMethodCollection() {
 		try {
-			methodCollector = User.getMethodCollector();
+			if (shouldReadStoredContent()) {
+				methodCollector = User.getMethodCollector();
+				markAsStored();
+			}
 			
 			if (methodCollector == null)
 				methodCollector = new HashMap<>();
 			
-			return methodCollector.values();
+			return Collections.unmodifiableCollection(methodCollector.values());
 		} 
 		catch (IOException e) {
 			return List.of(new ArrayList<>());
@@ -126,6 +145,7 @@ public class MethodCollector extends InvokedCollector {
 	public void reset() {
 		methodCollector.clear();
 		User.resetMethodCollector();
+		markAsStored();
 	}
 	
 	@Override
@@ -139,7 +159,7 @@ public class MethodCollector extends InvokedCollector {
 			);
 		}
 		
-		storeMethodCollector();
+		markAsModified();
 	}
 
 	@Override
@@ -4,19 +4,24 @@ import java.io.IOException;
 import java.nio.channels.InterruptedByTimeoutException;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzer;
+import wniemiec.app.java.executionflow.collector.CallCollector;
 import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.SignatureTable;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
 import wniemiec.io.java.Consolex;
 
 /**
  * Responsible for running {@link DebuggerAnalyzer} from a 
- * {@link TestedInvoked}.
+ * {@link TestedInvoked}. Several tested invoked can be parsed at the same 
+ * time, each one with its own debugger analyzer.
  * 
  * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
  * @since		7.0.0
@@ -29,23 +34,22 @@ public class TestedInvokedParser {
 	/**
 	 * Stores computed test paths from a class.<br />
 	 * <ul>
-	 * 	<li><b>Key:</b> Test method and tested invoked</li>
-	 * 	<li><b>Value:</b> List of test paths</li>
+	 * 	<li><b>Key:</b> Ids of test method and tested invoked signatures 
+	 * 	and invocation line</li>
+	 * 	<li><b>Value:</b> Tested invoked and its test paths</li>
 	 * </ul>
 	 */
-	protected Map<TestedInvoked, List<List<Integer>>> computedTestPaths;
+	protected Map<TestPathsKey, TestPaths> computedTestPaths;
 	
-	private DebuggerAnalyzer debuggerAnalyzer;
 	private Map<String, Path> processedSourceFiles;
-	private TestedInvoked testedInvoked;
 
 	
 	//-------------------------------------------------------------------------
 	//		Constructor
 	//-------------------------------------------------------------------------	
 	public TestedInvokedParser() {
-		this.computedTestPaths = new HashMap<>();
-		this.processedSourceFiles = new HashMap<>();
+		this.computedTestPaths = new ConcurrentHashMap<>();
+		this.processedSourceFiles = new ConcurrentHashMap<>();
 	}
 	
 
@@ -63,18 +67,13 @@ public class TestedInvokedParser {
 	public void parse(TestedInvoked testedInvoked, 
 					  DebuggerAnalyzer debuggerAnalyzer) 
 			throws IOException {
-		initParser(debuggerAnalyzer, testedInvoked);
-		runDebugger();
-		storeResults();
-	}
-
-	private void initParser(DebuggerAnalyzer debuggerAnalyzer, 
-							TestedInvoked testedInvoked) {
-		this.debuggerAnalyzer = debuggerAnalyzer;
-		this.testedInvoked = testedInvoked;
+		runDebugger(debuggerAnalyzer, testedInvoked);
+		storeResults(debuggerAnalyzer, testedInvoked);
 	}
 
-	private void runDebugger() throws IOException {
+	private void runDebugger(DebuggerAnalyzer debuggerAnalyzer, 
+							 TestedInvoked testedInvoked) 
+			throws IOException {
 		Consolex.writeInfo(
 				"Computing test path of invoked " 
 				+ testedInvoked.getTestedInvoked().getConcreteSignature() 
@@ -83,28 +82,32 @@ public class TestedInvokedParser {
 		
 		debuggerAnalyzer.analyze();
 
-		checkDebuggerTimeout();
+		checkDebuggerTimeout(debuggerAnalyzer);
 	}
 
-	private void checkDebuggerTimeout() throws InterruptedByTimeoutException {
+	private void checkDebuggerTimeout(DebuggerAnalyzer debuggerAnalyzer) 
+			throws InterruptedByTimeoutException {
 		if (!debuggerAnalyzer.checkTimeout())
 			return;
 		
 		throw new InterruptedByTimeoutException();
 	}
 	
-	private void storeResults() {
+	private void storeResults(DebuggerAnalyzer debuggerAnalyzer, 
+							  TestedInvoked testedInvoked) {
 		if (!debuggerAnalyzer.hasTestPaths())
 			return;
 		
 		if (isConstructor())
-			fixAnonymousClassSignature(testedInvoked.getTestedInvoked());
+			fixAnonymousClassSignature(testedInvoked.getTestedInvoked(), debuggerAnalyzer);
 		
 		storeTestPath(
 				new TestedInvoked(
 						testedInvoked.getTestedInvoked(), 
 						testedInvoked.getTestMethod()
-		));
+				),
+				debuggerAnalyzer
+		);
 		
 		processedSourceFiles.put(
 				testedInvoked.getTestedInvoked().getConcreteSignature(),
@@ -116,22 +119,25 @@ public class TestedInvokedParser {
 		return false;
 	}
 
-	private void fixAnonymousClassSignature(Invoked invoked) {
+	private void fixAnonymousClassSignature(Invoked invoked, 
+											DebuggerAnalyzer debuggerAnalyzer) {
 		if (debuggerAnalyzer.getAnalyzedInvokedSignature().isBlank())
 			return;
 		
-		if (!isAnalyzedInvokedSignatureEqualsToInvoked(invoked)) {
+		if (!isAnalyzedInvokedSignatureEqualsToInvoked(invoked, debuggerAnalyzer)) {
 			invoked.setSignature(debuggerAnalyzer.getAnalyzedInvokedSignature());
 		}
 	}
 	
-	private boolean isAnalyzedInvokedSignatureEqualsToInvoked(Invoked invoked) {
+	private boolean isAnalyzedInvokedSignatureEqualsToInvoked(Invoked invoked, 
+															  DebuggerAnalyzer debuggerAnalyzer) {
 		return	invoked.getInvokedSignature().equals(
 						debuggerAnalyzer.getAnalyzedInvokedSignature()
 				);
 	}
 	
-	protected void storeTestPath(TestedInvoked invokedContainer) {
+	protected void storeTestPath(TestedInvoked invokedContainer, 
+								 DebuggerAnalyzer debuggerAnalyzer) {
 		if (!debuggerAnalyzer.hasTestPaths())
 			return;
 			
@@ -139,34 +145,18 @@ public class TestedInvokedParser {
 			if (testPath.isEmpty())
 				continue;
 			
-			if (computedTestPaths.containsKey(invokedContainer))
-				storeExistingTestPath(invokedContainer, testPath);
-			else	
-				storeNewTestPath(invokedContainer, testPath);
+			computedTestPaths.computeIfAbsent(
+					new TestPathsKey(invokedContainer), 
+					key -> new TestPaths(invokedContainer)
+			).add(testPath);
 		}
 	}
-	
-	private void storeExistingTestPath(TestedInvoked invokedContainer, 
-									   List<Integer> testPath) {
-		List<List<Integer>> testPaths = computedTestPaths.get(invokedContainer);
-		testPaths.add(testPath);
-	}
-
-	private void storeNewTestPath(TestedInvoked invokedContainer, 
-								  List<Integer> testPath) {
-		List<List<Integer>> testPaths = new ArrayList<>();
-		testPaths.add(testPath);
-		
-		computedTestPaths.put(invokedContainer, testPaths);
-	}
 
 	@Override
 	public String toString() {
 		return "TestedInvokedParser ["
-					+ "testPaths=" + computedTestPaths 
-					+ ", debuggerAnalyzer=" + debuggerAnalyzer
+					+ "testPaths=" + getTestPaths() 
 					+ ", processedSourceFiles=" + processedSourceFiles 
-					+ ", testedInvoked=" + testedInvoked 
 				+ "]";
 	}
 	
@@ -189,7 +179,9 @@ public class TestedInvokedParser {
 		if (computedTestPaths.isEmpty())
 			return List.of(new ArrayList<Integer>(0));
 		
-		return computedTestPaths.get(testedInvoked);
+		TestPaths testPaths = computedTestPaths.get(new TestPathsKey(testedInvoked));
+		
+		return (testPaths == null) ? null : testPaths.getTestPaths();
 	}
 	
 	/**
@@ -205,7 +197,13 @@ public class TestedInvokedParser {
 	 * been executed
 	 */
 	public Map<TestedInvoked, List<List<Integer>>> getTestPaths() {
-		return computedTestPaths;
+		Map<TestedInvoked, List<List<Integer>>> testPaths = new LinkedHashMap<>();
+		
+		for (TestPaths computed : computedTestPaths.values()) {
+			testPaths.put(computed.getTestedInvoked(), computed.getTestPaths());
+		}
+		
+		return testPaths;
 	}
 	
 	public Map<String, Path> getProcessedSourceFiles() {
@@ -213,10 +211,94 @@ public class TestedInvokedParser {
 	}
 	
 	public Map<Invoked, Set<String>> getMethodsCalledByTestedInvoked() {
-		return debuggerAnalyzer.getMethodsCalledByTestedInvoked();
+		return CallCollector.getInstance().getMethodsCalledByTestedInvoked();
 	}
 	
 	public Set<TestedInvoked> getMethodsAndConstructorsUsedInTestMethod() {
-		return computedTestPaths.keySet();
+		return getTestPaths().keySet();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	/**
+	 * Identifies a tested invoked by the ids of its signatures in 
+	 * {@link SignatureTable} and by its invocation line, as 
+	 * {@link TestedInvoked#equals(Object)} does with the signatures. Ids are
+	 * only valid during the test method run in which the parser is used.
+	 */
+	protected static final class TestPathsKey {
+		
+		private final int testMethodId;
+		private final int testMethodConcreteId;
+		private final int testedInvokedId;
+		private final int testedInvokedConcreteId;
+		private final int invocationLine;
+		
+		TestPathsKey(TestedInvoked testedInvoked) {
+			testMethodId = testedInvoked.getTestMethod().getSignatureId();
+			testMethodConcreteId = testedInvoked.getTestMethod().getConcreteSignatureId();
+			testedInvokedId = testedInvoked.getTestedInvoked().getSignatureId();
+			testedInvokedConcreteId = testedInvoked.getTestedInvoked().getConcreteSignatureId();
+			invocationLine = testedInvoked.getTestedInvoked().getInvocationLine();
+		}
+		
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			
+			result = prime * result + testMethodId;
+			result = prime * result + testMethodConcreteId;
+			result = prime * result + testedInvokedId;
+			result = prime * result + testedInvokedConcreteId;
+			result = prime * result + invocationLine;
+			
+			return result;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			
+			if ((obj == null) || (getClass() != obj.getClass()))
+				return false;
+			
+			TestPathsKey other = (TestPathsKey) obj;
+			
+			return	(testMethodId == other.testMethodId)
+					&& (testMethodConcreteId == other.testMethodConcreteId)
+					&& (testedInvokedId == other.testedInvokedId)
+					&& (testedInvokedConcreteId == other.testedInvokedConcreteId)
+					&& (invocationLine == other.invocationLine);
+		}
+	}
+	
+	/**
+	 * Test paths computed for a tested invoked.
+	 */
+	protected static final class TestPaths {
+		
+		private final TestedInvoked testedInvoked;
+		private final List<List<Integer>> testPaths;
+		
+		TestPaths(TestedInvoked testedInvoked) {
+			this.testedInvoked = testedInvoked;
+			this.testPaths = Collections.synchronizedList(new ArrayList<>());
+		}
+		
+		void add(List<Integer> testPath) {
+			testPaths.add(testPath);
+		}
+		
+		TestedInvoked getTestedInvoked() {
+			return testedInvoked;
+		}
+		
+		List<List<Integer>> getTestPaths() {
+			return testPaths;
+		}
 	}
 }
@@ -3,12 +3,13 @@ package wniemiec.app.java.executionflow.exporter.signature;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import wniemiec.io.java.CsvFileManager;
+import wniemiec.app.java.executionflow.invoked.SignatureMap;
+import wniemiec.app.java.executionflow.invoked.SignatureSet;
+import wniemiec.app.java.executionflow.invoked.SignatureTable;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
 import wniemiec.io.java.Consolex;
 
@@ -40,11 +41,11 @@ public class TestedInvokedExporter {
 	 * signatures.
 	 * 
 	 * <ul>
-	 * 	<li><b>Key:</b> Invoked signature</li>
-	 * 	<li><b>Value:</b> List of test methods that tests an invoked</li>
+	 * 	<li><b>Key:</b> Invoked signature id</li>
+	 * 	<li><b>Value:</b> Test methods that tests an invoked</li>
 	 * </ul>
 	 */
-	private Map<String, List<String>> invokedMethodSignatures;
+	private SignatureMap<SignatureSet> invokedMethodSignatures;
 	
 	private CsvFileManager csvFile;
 	
@@ -85,115 +86,33 @@ public class TestedInvokedExporter {
 		} 
 		catch (IOException e) {
 			e.printStackTrace();
-			invokedMethodSignatures = new HashMap<>();
+			invokedMethodSignatures = new SignatureMap<>();
 		}
 		
-		mergesMaps(
-				extractInvokedWithTesters(invokedContainer), 
-				invokedMethodSignatures
-		);
-	}
-	
-	/**
-	 * Given two Maps, adds all content from the first Map to the second.
-	 * 
-	 * @param		source Some map
-	 * @param		target Map that will be merge with map1 
-	 */
-	private void mergesMaps(Map<String, List<String>> source, 
-								  Map<String, List<String>> target) {
-		if ((source == null) || source.isEmpty())
-			return;
-		
-		for (Map.Entry<String, List<String>> e : source.entrySet()) {
-			String keyMap1 = e.getKey();
-
-			// Adds content from first Map to the second
-			for (String contentMap1 : e.getValue()) {
-				List<String> contentMap2;
-				// If second Map contains the same key as the first, add all
-				// the content of this key from first Map in the second
-				if (target.containsKey(keyMap1)) {
-					contentMap2 = target.get(keyMap1);
-					
-					if (!contentMap2.contains(contentMap1)) {
-						contentMap2.add(contentMap1);
-					}
-				}
-				else {
-					contentMap2 = new ArrayList<>();
-					contentMap2.add(contentMap1);
-					target.put(keyMap1, contentMap2);
-				}
-			}
+		for (TestedInvoked container : invokedContainer) {
+			invokedMethodSignatures.computeIfAbsent(
+					container.getTestedInvoked().getConcreteSignatureId(), 
+					id -> new SignatureSet()
+			).addId(container.getTestMethod().getSignatureId());
 		}
 	}
 
-	private Map<String, List<String>>  readStoredExportFile() throws IOException {
+	private SignatureMap<SignatureSet> readStoredExportFile() throws IOException {
+		SignatureMap<SignatureSet> storedSignatures = new SignatureMap<>();
+		
 		if (!csvFile.exists())
-			return new HashMap<>();
+			return storedSignatures;
 		
-		Map<String, List<String>> invokedMethodSignatures = new HashMap<>();
+		SignatureTable signatures = SignatureTable.getInstance();
 		
 		for (List<String> line : csvFile.readLines(";")) {
-			List<String> invokedMethod = new ArrayList<>();
-			
-			for (int i=1; i<line.size(); i++) {
-				invokedMethod.add(line.get(i));
-			}
-			
-			invokedMethodSignatures.put(line.get(0), invokedMethod);
-		}			
-		
-		
-		return invokedMethodSignatures;
-	}
-	
-	/**
-	 * Converts a set of {@link SignaturesInfo} in the following Map:
-	 * <ul>
-	 * 	<li><b>Key:</b> Invoked signature</li>
-	 * 	<li><b>Value:</b> List of test methods that tests the invoked</li>
-	 * </ul>
-	 * 
-	 * @param		signatures Set of {@link SignaturesInfo} to be converted
-	 * 
-	 * @return		Map with the above structure
-	 */
-	private Map<String, List<String>> extractInvokedWithTesters(
-			Set<TestedInvoked> invokedContainer) {
-		Map<String, List<String>> invokedWithTesters = new HashMap<>();
-		
-		for (TestedInvoked container : invokedContainer) {
-			if (invokedWithTesters.containsKey(
-					container.getTestedInvoked().getConcreteSignature())) {
-				storeExistingInvoked(invokedWithTesters, container);
-			}
-			else {
-				storeNewInvoked(invokedWithTesters, container);
-			}
+			storedSignatures.put(
+					signatures.intern(line.get(0)), 
+					new SignatureSet(line.subList(1, line.size()))
+			);
 		}
 		
-		return invokedWithTesters;
-	}
-
-	private void storeNewInvoked(Map<String, List<String>> invokedWithTesters, 
-								 TestedInvoked container) {
-		List<String> testMethodSignatures = new ArrayList<>();
-		testMethodSignatures.add(container.getTestMethod().getInvokedSignature());
-		
-		invokedWithTesters.put(
-				container.getTestedInvoked().getConcreteSignature(), 
-				testMethodSignatures
-		);
-	}
-
-	private void storeExistingInvoked(Map<String, List<String>> invokedWithTesters,
-									  TestedInvoked container) {
-		List<String> testMethodSignatures = invokedWithTesters.get(
-				container.getTestedInvoked().getConcreteSignature()
-		);
-		testMethodSignatures.add(container.getTestMethod().getInvokedSignature());
+		return storedSignatures;
 	}
 
 	private void storeExportFile() {
@@ -202,11 +121,18 @@ public class TestedInvokedExporter {
 		
 		csvFile.delete();
 		
+		List<List<String>> lines = new ArrayList<>();
+		
+		invokedMethodSignatures.forEach((invokedSignature, testMethodSignatures) -> {
+			List<String> content = new ArrayList<>();
+			content.add(invokedSignature);
+			content.addAll(testMethodSignatures);
+			
+			lines.add(content);
+		});
+		
 		try {
-			for (Map.Entry<String, List<String>> e : invokedMethodSignatures.entrySet()) {
-				List<String> content = e.getValue();
-				content.add(0, e.getKey());
-				
+			for (List<String> content : lines) {
 				csvFile.writeLine(content, ";");
 			}
 		} 
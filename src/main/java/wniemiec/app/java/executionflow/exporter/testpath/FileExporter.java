@@ -12,13 +12,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import wniemiec.app.java.ExecutionFlow;
 import wniemiec.app.java.executionflow.exporter.SignatureToPath;
+import wniemiec.app.java.executionflow.invoked.SignatureMap;
+import wniemiec.app.java.executionflow.invoked.SignatureSet;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
 import wniemiec.io.java.Consolex;
 
@@ -104,11 +105,11 @@ public class FileExporter implements TestPathExporter {
 	private Map<TestedInvoked, List<List<Integer>>> mergeTestedInvoked(
 			Map<TestedInvoked, List<List<Integer>>> collectedTestPaths) {
 		Map<TestedInvoked, List<List<Integer>>> mergedTestPaths = new HashMap<>();
-		Map<String, List<List<Integer>>> uniqueMergedTestPaths = new HashMap<>();
-		Set<String> checked = new HashSet<>();
+		SignatureMap<List<List<Integer>>> uniqueMergedTestPaths = new SignatureMap<>();
+		SignatureSet checked = new SignatureSet();
 		
 		for (Map.Entry<TestedInvoked, List<List<Integer>>> e : collectedTestPaths.entrySet()) {
-			String testMethodSignature = e.getKey().getTestMethod().getConcreteSignature();
+			int testMethodSignature = e.getKey().getTestMethod().getConcreteSignatureId();
 			List<List<Integer>> testPaths = e.getValue();
 			
 			if (uniqueMergedTestPaths.containsKey(testMethodSignature)) {
@@ -121,11 +122,10 @@ public class FileExporter implements TestPathExporter {
 		}
 		
 		for (TestedInvoked testedInvoked : collectedTestPaths.keySet()) {
-			String testMethodSignature = testedInvoked.getTestMethod().getConcreteSignature();
+			int testMethodSignature = testedInvoked.getTestMethod().getConcreteSignatureId();
 			List<List<Integer>> testPaths = uniqueMergedTestPaths.get(testMethodSignature);
 			
-			if (!checked.contains(testMethodSignature)) {
-				checked.add(testMethodSignature);
+			if (checked.addId(testMethodSignature)) {
 				mergedTestPaths.put(testedInvoked, testPaths);
 			}
 		}
@@ -0,0 +1,94 @@
+package wniemiec.app.java.executionflow.gui.popup;
+
+import java.awt.BorderLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.ButtonGroup;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.JRadioButton;
+
+/**
+ * Responsible for creating a selector of how many test paths can be computed
+ * at the same time.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class AnalysisWorkersSelector extends Selector {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private int selectedAnalysisWorkers;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public AnalysisWorkersSelector(JDialog window) {
+		super(window);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public JPanel create() {
+		JPanel analysisWorkersSelector = new JPanel();
+		
+		analysisWorkersSelector.setBackground(bgColor);
+		analysisWorkersSelector.setLayout(new BorderLayout(0, 0));
+		analysisWorkersSelector.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+		analysisWorkersSelector.add(createTitle("Parallel analysis (JDI only)"), BorderLayout.NORTH);
+		analysisWorkersSelector.add(createAnalysisWorkersOptions(), BorderLayout.SOUTH);
+		
+		return analysisWorkersSelector;
+	}
+	
+	private JPanel createAnalysisWorkersOptions() {				
+		JRadioButton rdoSequential = createWorkersRdoButton("Off", 1);
+		JRadioButton rdoTwo = createWorkersRdoButton("2 workers", 2);
+		JRadioButton rdoFour = createWorkersRdoButton("4 workers", 4);
+		JRadioButton rdoAllCores = createWorkersRdoButton(
+				"All cores", 
+				Runtime.getRuntime().availableProcessors()
+		);
+		
+		rdoSequential.doClick();
+		
+		ButtonGroup rdoGroup = new ButtonGroup();
+		rdoGroup.add(rdoSequential);
+		rdoGroup.add(rdoTwo);
+		rdoGroup.add(rdoFour);
+		rdoGroup.add(rdoAllCores);
+		
+		JPanel analysisWorkersOptions = new JPanel();
+		analysisWorkersOptions.setBackground(bgColor);
+		analysisWorkersOptions.add(rdoSequential);
+		analysisWorkersOptions.add(rdoTwo);
+		analysisWorkersOptions.add(rdoFour);
+		analysisWorkersOptions.add(rdoAllCores);
+		
+		return analysisWorkersOptions;
+	}
+	
+	private JRadioButton createWorkersRdoButton(String title, int workers) {
+		JRadioButton rdoWorkers = createThemeRadioButton(title);
+		
+		rdoWorkers.addActionListener(event -> 
+			selectedAnalysisWorkers = workers
+		);
+		
+		return rdoWorkers;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public int getSelectedAnalysisWorkers() {
+		return selectedAnalysisWorkers;
+	}
+}
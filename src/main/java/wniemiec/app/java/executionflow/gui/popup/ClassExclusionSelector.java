@@ -0,0 +1,75 @@
+package wniemiec.app.java.executionflow.gui.popup;
+
+import java.awt.BorderLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzer;
+
+/**
+ * Responsible for creating a selector of classes whose frames are skipped
+ * by the debugger while stepping.
+ *
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class ClassExclusionSelector extends Selector {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int COLUMNS = 60;
+	private JTextField txtFilters;
+
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public ClassExclusionSelector(JDialog window) {
+		super(window);
+	}
+
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public JPanel create() {
+		JPanel classExclusionSelector = new JPanel();
+	
+		classExclusionSelector.setBackground(bgColor);
+		classExclusionSelector.setLayout(new BorderLayout(0, 0));
+		classExclusionSelector.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+		classExclusionSelector.add(
+				createTitle("Classes skipped while stepping (empty to step into all classes)"),
+				BorderLayout.NORTH
+		);
+		classExclusionSelector.add(createFiltersTextField(), BorderLayout.SOUTH);
+	
+		return classExclusionSelector;
+	}
+	
+	private JTextField createFiltersTextField() {
+		txtFilters = new JTextField(
+				String.join(",", DebuggerAnalyzer.DEFAULT_CLASS_EXCLUSION_FILTERS),
+				COLUMNS
+		);
+	
+		txtFilters.setToolTipText("Class names or patterns such as java.* separated by commas");
+	
+		return txtFilters;
+	}
+
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public String getFilters() {
+		return (txtFilters == null)
+				? String.join(",", DebuggerAnalyzer.DEFAULT_CLASS_EXCLUSION_FILTERS)
+				: txtFilters.getText();
+	}
+}
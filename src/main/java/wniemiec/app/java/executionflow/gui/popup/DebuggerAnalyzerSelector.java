@@ -0,0 +1,136 @@
+package wniemiec.app.java.executionflow.gui.popup;
+
+import java.awt.BorderLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.ButtonGroup;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.JRadioButton;
+
+import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzerType;
+
+/**
+ * Responsible for creating a selector of the debugger that will be used for
+ * computing test paths.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class DebuggerAnalyzerSelector extends Selector {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private DebuggerAnalyzerType selectedDebuggerAnalyzerType;
+
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public DebuggerAnalyzerSelector(JDialog window) {
+		super(window);
+	}
+
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public JPanel create() {
+		JPanel debuggerAnalyzerSelector = new JPanel();
+		
+		debuggerAnalyzerSelector.setBackground(bgColor);
+		debuggerAnalyzerSelector.setLayout(new BorderLayout(0, 0));
+		debuggerAnalyzerSelector.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+		debuggerAnalyzerSelector.add(createTitle("Debugger"), BorderLayout.NORTH);
+		debuggerAnalyzerSelector.add(createDebuggerAnalyzerOptions(), BorderLayout.SOUTH);
+		
+		return debuggerAnalyzerSelector;
+	}
+
+	private JPanel createDebuggerAnalyzerOptions() {				
+		JRadioButton rdoStandard = createStandardRdoButton();
+		JRadioButton rdoJdi = createJdiRdoButton();
+		JRadioButton rdoJdiMethodEntry = createJdiMethodEntryRdoButton();
+		JRadioButton rdoLineTracer = createLineTracerRdoButton();
+		JRadioButton rdoBranchTracer = createBranchTracerRdoButton();
+		
+		ButtonGroup rdoGroup = new ButtonGroup();
+		rdoGroup.add(rdoStandard);
+		rdoGroup.add(rdoJdi);
+		rdoGroup.add(rdoJdiMethodEntry);
+		rdoGroup.add(rdoLineTracer);
+		rdoGroup.add(rdoBranchTracer);
+		
+		JPanel debuggerAnalyzerOptions = new JPanel();
+		debuggerAnalyzerOptions.setBackground(bgColor);
+		debuggerAnalyzerOptions.add(rdoStandard);
+		debuggerAnalyzerOptions.add(rdoJdi);
+		debuggerAnalyzerOptions.add(rdoJdiMethodEntry);
+		debuggerAnalyzerOptions.add(rdoLineTracer);
+		debuggerAnalyzerOptions.add(rdoBranchTracer);
+		
+		return debuggerAnalyzerOptions;
+	}
+	
+	private JRadioButton createStandardRdoButton() {
+		JRadioButton rdoStandard = createThemeRadioButton("JDB");
+		
+		rdoStandard.addActionListener(event -> 
+			selectedDebuggerAnalyzerType = DebuggerAnalyzerType.STANDARD
+		);
+		
+		rdoStandard.doClick();
+		
+		return rdoStandard;
+	}
+	
+	private JRadioButton createJdiRdoButton() {
+		JRadioButton rdoJdi = createThemeRadioButton("JDI");
+		
+		rdoJdi.addActionListener(event -> 
+			selectedDebuggerAnalyzerType = DebuggerAnalyzerType.JDI
+		);
+		
+		return rdoJdi;
+	}
+	
+	private JRadioButton createJdiMethodEntryRdoButton() {
+		JRadioButton rdoJdiMethodEntry = createThemeRadioButton("JDI (method entry)");
+		
+		rdoJdiMethodEntry.addActionListener(event -> 
+			selectedDebuggerAnalyzerType = DebuggerAnalyzerType.JDI_METHOD_ENTRY
+		);
+		
+		return rdoJdiMethodEntry;
+	}
+	
+	private JRadioButton createLineTracerRdoButton() {
+		JRadioButton rdoLineTracer = createThemeRadioButton("Line tracer");
+		
+		rdoLineTracer.addActionListener(event -> 
+			selectedDebuggerAnalyzerType = DebuggerAnalyzerType.LINE_TRACER
+		);
+		
+		return rdoLineTracer;
+	}
+	
+	private JRadioButton createBranchTracerRdoButton() {
+		JRadioButton rdoBranchTracer = createThemeRadioButton("Branch tracer");
+		
+		rdoBranchTracer.addActionListener(event -> 
+			selectedDebuggerAnalyzerType = DebuggerAnalyzerType.BRANCH_TRACER
+		);
+		
+		return rdoBranchTracer;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public DebuggerAnalyzerType getSelectedDebuggerAnalyzerType() {
+		return selectedDebuggerAnalyzerType;
+	}
+}
@@ -7,6 +7,7 @@ import javax.swing.JDialog;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
 
+import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzerType;
 import wniemiec.app.java.executionflow.exporter.testpath.TestPathExportType;
 import wniemiec.app.java.executionflow.gui.AppIcon;
 import wniemiec.app.java.executionflow.gui.ThemePanel;
@@ -32,6 +33,11 @@ public class MainSelector extends JDialog {
 	private final LoggingLevelSelector loggingLevelSelector;
 	private final ExportTypeSelector exportTypeSelector;
 	private final AssertProcessingSelector assertProcessingSelector;
+	private final DebuggerAnalyzerSelector debuggerAnalyzerSelector;
+	private final AnalysisWorkersSelector analysisWorkersSelector;
+	private final ClassExclusionSelector classExclusionSelector;
+	private final ProcessedFilesSelector processedFilesSelector;
+	private final WeavingScopeSelector weavingScopeSelector;
 	
 	
 	//-------------------------------------------------------------------------
@@ -41,6 +47,11 @@ public class MainSelector extends JDialog {
 		loggingLevelSelector = new LoggingLevelSelector(this);
 		exportTypeSelector = new ExportTypeSelector(this);
 		assertProcessingSelector = new AssertProcessingSelector(this);
+		debuggerAnalyzerSelector = new DebuggerAnalyzerSelector(this);
+		analysisWorkersSelector = new AnalysisWorkersSelector(this);
+		classExclusionSelector = new ClassExclusionSelector(this);
+		processedFilesSelector = new ProcessedFilesSelector(this);
+		weavingScopeSelector = new WeavingScopeSelector(this);
 	}
 	
 	
@@ -71,7 +82,8 @@ public class MainSelector extends JDialog {
 		
 		JPanel selectorsPanel = new JPanel(new BorderLayout(0, 0));
 		
-		selectorsPanel.add(assertProcessingSelector.create(), BorderLayout.NORTH);
+		selectorsPanel.add(createProcessingPanel(), BorderLayout.NORTH);
+		selectorsPanel.add(createDebuggerPanel(), BorderLayout.CENTER);
 		selectorsPanel.add(exportTypeSelector.create(), BorderLayout.SOUTH);
 		
 		body.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
@@ -81,6 +93,26 @@ public class MainSelector extends JDialog {
 		return body;
 	}
 	
+	private JPanel createProcessingPanel() {
+		JPanel processingPanel = new JPanel(new BorderLayout(0, 0));
+		
+		processingPanel.add(assertProcessingSelector.create(), BorderLayout.NORTH);
+		processingPanel.add(processedFilesSelector.create(), BorderLayout.CENTER);
+		processingPanel.add(weavingScopeSelector.create(), BorderLayout.SOUTH);
+		
+		return processingPanel;
+	}
+	
+	private JPanel createDebuggerPanel() {
+		JPanel debuggerPanel = new JPanel(new BorderLayout(0, 0));
+		
+		debuggerPanel.add(debuggerAnalyzerSelector.create(), BorderLayout.NORTH);
+		debuggerPanel.add(analysisWorkersSelector.create(), BorderLayout.CENTER);
+		debuggerPanel.add(classExclusionSelector.create(), BorderLayout.SOUTH);
+		
+		return debuggerPanel;
+	}
+	
 	private boolean wasLoggingLevelSelected() {
 		return (loggingLevelSelector.getSelectedLogging() != null);
 	}
@@ -100,4 +132,28 @@ public class MainSelector extends JDialog {
 	public boolean getShouldComputeTestPathOfFailingAsserts() {
 		return assertProcessingSelector.getShouldComputeTestPathOfFailingAsserts();
 	}
+	
+	public DebuggerAnalyzerType getSelectedDebuggerAnalyzerType() {
+		return debuggerAnalyzerSelector.getSelectedDebuggerAnalyzerType();
+	}
+	
+	public int getSelectedAnalysisWorkers() {
+		return analysisWorkersSelector.getSelectedAnalysisWorkers();
+	}
+	
+	public String getSelectedClassExclusionFilters() {
+		return classExclusionSelector.getFilters();
+	}
+	
+	public boolean getShouldKeepProcessedFiles() {
+		return processedFilesSelector.getShouldKeepProcessedFiles();
+	}
+	
+	public String getSelectedWeavingIncludes() {
+		return weavingScopeSelector.getIncludes();
+	}
+	
+	public String getSelectedWeavingExcludes() {
+		return weavingScopeSelector.getExcludes();
+	}
 }
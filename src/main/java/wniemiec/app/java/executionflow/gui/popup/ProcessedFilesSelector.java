@@ -0,0 +1,95 @@
+package wniemiec.app.java.executionflow.gui.popup;
+
+import java.awt.BorderLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.ButtonGroup;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.JRadioButton;
+
+/**
+ * Responsible for creating a selector that decides whether processed source 
+ * files should replace the original ones, so that they can be inspected.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class ProcessedFilesSelector extends Selector {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private boolean shouldKeepProcessedFiles;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public ProcessedFilesSelector(JDialog window) {
+		super(window);
+	}
+
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public JPanel create() {
+		JPanel selectionPanel = new JPanel();
+		
+		selectionPanel.setBackground(bgColor);
+		selectionPanel.setLayout(new BorderLayout(0, 0));
+		selectionPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+		selectionPanel.add(createTitle("Do you want to keep processed source files to inspect them?"), BorderLayout.NORTH);
+		selectionPanel.add(createProcessedFilesOptions(), BorderLayout.SOUTH);
+		
+		return selectionPanel;
+	}
+
+	private JPanel createProcessedFilesOptions() {				
+		JRadioButton rdoYes = createYesRdoButton();
+		JRadioButton rdoNo = createNoRdoButton();
+		
+		ButtonGroup rdoGroup = new ButtonGroup();
+		rdoGroup.add(rdoYes);
+		rdoGroup.add(rdoNo);
+		
+		JPanel optionsPanel = new JPanel();
+		optionsPanel.setBackground(bgColor);
+		optionsPanel.add(rdoYes);
+		optionsPanel.add(rdoNo);
+		
+		return optionsPanel;
+	}
+	
+	private JRadioButton createYesRdoButton() {
+		JRadioButton rdoYes = createThemeRadioButton("Yes");
+		
+		rdoYes.addActionListener(event -> 
+			shouldKeepProcessedFiles = true
+		);
+		
+		return rdoYes;
+	}
+	
+	private JRadioButton createNoRdoButton() {
+		JRadioButton rdoNo = createThemeRadioButton("No");
+		
+		rdoNo.addActionListener(event -> 
+			shouldKeepProcessedFiles = false
+		);
+		
+		rdoNo.doClick();
+		
+		return rdoNo;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public boolean getShouldKeepProcessedFiles() {
+		return shouldKeepProcessedFiles;
+	}
+}
@@ -0,0 +1,88 @@
+package wniemiec.app.java.executionflow.gui.popup;
+
+import java.awt.BorderLayout;
+import java.awt.GridLayout;
+
+import javax.swing.BorderFactory;
+import javax.swing.JDialog;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+/**
+ * Responsible for creating a selector of packages in which hooks can be
+ * woven.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class WeavingScopeSelector extends Selector {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int COLUMNS = 30;
+	private JTextField txtIncludes;
+	private JTextField txtExcludes;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public WeavingScopeSelector(JDialog window) {
+		super(window);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public JPanel create() {
+		JPanel weavingScopeSelector = new JPanel();
+		
+		weavingScopeSelector.setBackground(bgColor);
+		weavingScopeSelector.setLayout(new BorderLayout(0, 0));
+		weavingScopeSelector.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+		weavingScopeSelector.add(
+				createTitle("Weaving scope (package patterns, such as com.example..*)"),
+				BorderLayout.NORTH
+		);
+		weavingScopeSelector.add(createWeavingScopeOptions(), BorderLayout.SOUTH);
+		
+		return weavingScopeSelector;
+	}
+	
+	private JPanel createWeavingScopeOptions() {
+		txtIncludes = createThemeTextField();
+		txtExcludes = createThemeTextField();
+		
+		JPanel weavingScopeOptions = new JPanel(new GridLayout(2, 2, 5, 2));
+		weavingScopeOptions.setBackground(bgColor);
+		weavingScopeOptions.add(createTitle("Include (empty for all)"));
+		weavingScopeOptions.add(txtIncludes);
+		weavingScopeOptions.add(createTitle("Exclude"));
+		weavingScopeOptions.add(txtExcludes);
+		
+		return weavingScopeOptions;
+	}
+	
+	private JTextField createThemeTextField() {
+		JTextField txt = new JTextField(COLUMNS);
+		
+		txt.setToolTipText("Patterns separated by commas");
+		
+		return txt;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public String getIncludes() {
+		return (txtIncludes == null) ? "" : txtIncludes.getText();
+	}
+	
+	public String getExcludes() {
+		return (txtExcludes == null) ? "" : txtExcludes.getText();
+	}
+}
@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,6 +28,17 @@ public class Invoked implements Serializable {
 	//		Attributes
 	//-------------------------------------------------------------------------
 	private static final long serialVersionUID = 700L;
+	private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+			"boolean", boolean.class,
+			"byte", byte.class,
+			"char", char.class,
+			"short", short.class,
+			"int", int.class,
+			"long", long.class,
+			"float", float.class,
+			"double", double.class,
+			"void", void.class
+	);
 	private File binPath;
 	private File srcPath;
 	private String invokedSignature;
@@ -39,6 +51,11 @@ public class Invoked implements Serializable {
 	private String invokedName;
 	private Class<?> returnType;
 	private boolean isConstructor;
+	private String[] parameterTypeNames;
+	private String returnTypeName;
+	private transient int signatureId;
+	private transient int concreteSignatureId;
+	private transient int signatureTableGeneration;
 	
 	
 	//-------------------------------------------------------------------------
@@ -63,6 +80,27 @@ public class Invoked implements Serializable {
 		this.isConstructor = isConstructor;
 	}
 	
+	/**
+	 * Creates an invoked read by {@link InvokedReader}. Parameter and return
+	 * types are kept as class names until they are requested.
+	 */
+	Invoked(File binPath, File srcPath, int invocationLine, 
+			String invokedSignature, String concreteInvokedSignature, 
+			String invokedName, String returnTypeName, 
+			String[] parameterTypeNames, List<String> args, 
+			boolean isConstructor) {
+		this.binPath = binPath;
+		this.srcPath = srcPath;
+		this.invocationLine = invocationLine;
+		this.invokedSignature = invokedSignature;
+		this.concreteInvokedSignature = concreteInvokedSignature;
+		this.invokedName = invokedName;
+		this.returnTypeName = returnTypeName;
+		this.parameterTypeNames = parameterTypeNames;
+		this.args = args;
+		this.isConstructor = isConstructor;
+	}
+	
 	@SuppressWarnings({ "rawtypes", "unused" })
 	private Object[] normalizeArgs(Object[] args) {
 		for (int i = 0; i < args.length; i++) {
@@ -480,6 +518,33 @@ public class Invoked implements Serializable {
 		return invokedSignature;
 	}
 	
+	/**
+	 * Gets id of invoked signature in {@link SignatureTable}.
+	 * 
+	 * @return		Signature id
+	 * 
+	 * @implNote	Lazy initialization
+	 */
+	public int getSignatureId() {
+		discardIdsFromClearedSignatureTable();
+		
+		if (signatureId == SignatureTable.NONE)
+			signatureId = SignatureTable.getInstance().intern(invokedSignature);
+		
+		return signatureId;
+	}
+	
+	private void discardIdsFromClearedSignatureTable() {
+		int generation = SignatureTable.getInstance().getGeneration();
+		
+		if (signatureTableGeneration == generation)
+			return;
+		
+		signatureId = SignatureTable.NONE;
+		concreteSignatureId = SignatureTable.NONE;
+		signatureTableGeneration = generation;
+	}
+	
 	/**
 	 * Gets class signature. 
 	 * 
@@ -596,14 +661,143 @@ public class Invoked implements Serializable {
 		}
 	}
 
+	/**
+	 * Gets types of invoked's parameters.
+	 * 
+	 * @return		Parameter types
+	 * 
+	 * @implNote	Lazy initialization when the invoked was read by 
+	 * {@link InvokedReader}
+	 */
 	public Class<?>[] getParameterTypes() {
+		if ((parameterTypes == null) && (parameterTypeNames != null)) {
+			Class<?>[] types = new Class<?>[parameterTypeNames.length];
+			
+			for (int i = 0; i < types.length; i++) {
+				types[i] = resolveClass(parameterTypeNames[i]);
+			}
+			
+			parameterTypes = types;
+		}
+		
 		return parameterTypes;
 	}
 	
+	/**
+	 * Gets invoked's return type.
+	 * 
+	 * @return		Return type
+	 * 
+	 * @implNote	Lazy initialization when the invoked was read by 
+	 * {@link InvokedReader}
+	 */
 	public Class<?> getReturnType() {
+		if ((returnType == null) && (returnTypeName != null))
+			returnType = resolveClass(returnTypeName);
+		
 		return this.returnType;
 	}
 	
+	private static Class<?> resolveClass(String className) {
+		Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+		
+		if (primitiveType != null)
+			return primitiveType;
+		
+		try {
+			return Class.forName(className, false, Invoked.class.getClassLoader());
+		} 
+		catch (ClassNotFoundException e) {
+			Consolex.writeError("Class cannot be found: " + className);
+			
+			return null;
+		}
+	}
+	
+	/**
+	 * Gets names of invoked's parameter types without resolving them.
+	 * 
+	 * @return		Parameter type names or null if there are no parameter 
+	 * types
+	 */
+	String[] getParameterTypeNames() {
+		if ((parameterTypeNames != null) || (parameterTypes == null))
+			return parameterTypeNames;
+		
+		String[] names = new String[parameterTypes.length];
+		
+		for (int i = 0; i < names.length; i++) {
+			names[i] = (parameterTypes[i] == null) ? null : parameterTypes[i].getName();
+		}
+		
+		return names;
+	}
+	
+	/**
+	 * Gets name of invoked's return type without resolving it.
+	 * 
+	 * @return		Return type name or null if there is no return type
+	 */
+	String getReturnTypeName() {
+		if ((returnTypeName != null) || (returnType == null))
+			return returnTypeName;
+		
+		return returnType.getName();
+	}
+	
+	/**
+	 * Gets compiled file path as it is stored, without converting it.
+	 * 
+	 * @return		Compiled file path
+	 */
+	String getBinPathName() {
+		return binPath.getPath();
+	}
+	
+	/**
+	 * Gets source file path as it is stored, without converting it.
+	 * 
+	 * @return		Source file path
+	 */
+	String getSrcPathName() {
+		return srcPath.getPath();
+	}
+	
+	/**
+	 * Gets concrete signature only if it was set or computed, so that it is 
+	 * not computed just to be stored.
+	 * 
+	 * @return		Concrete signature or null
+	 */
+	String getStoredConcreteSignature() {
+		return concreteInvokedSignature;
+	}
+	
+	/**
+	 * Gets id of concrete signature in {@link SignatureTable}.
+	 * 
+	 * @return		Concrete signature id
+	 * 
+	 * @implNote	Lazy initialization
+	 */
+	public int getConcreteSignatureId() {
+		discardIdsFromClearedSignatureTable();
+		
+		if (concreteSignatureId == SignatureTable.NONE)
+			concreteSignatureId = SignatureTable.getInstance().intern(getConcreteSignature());
+		
+		return concreteSignatureId;
+	}
+	
+	/**
+	 * Gets invoked name only if it was set or computed.
+	 * 
+	 * @return		Invoked name or null
+	 */
+	String getStoredName() {
+		return invokedName;
+	}
+	
 	public String getConcreteSignature() {
 		if ((concreteInvokedSignature == null) || concreteInvokedSignature.isBlank()) {
 			concreteInvokedSignature = invokedSignature.replaceAll("\\$[0-9]+", "");
@@ -618,6 +812,7 @@ public class Invoked implements Serializable {
 			throw new IllegalArgumentException("Signature cannot be null");
 		
 		this.concreteInvokedSignature = concreteSignature;
+		this.concreteSignatureId = SignatureTable.NONE;
 	}
 
 	public void setSignature(String signature) {
@@ -625,6 +820,7 @@ public class Invoked implements Serializable {
 			throw new IllegalArgumentException("Signature cannot be null");
 		
 		this.invokedSignature = signature;
+		this.signatureId = SignatureTable.NONE;
 	}
 	
 	public boolean isConstructor() {
@@ -0,0 +1,94 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converts collections of invoked to and from the format written by 
+ * {@link InvokedWriter}.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public final class InvokedCodec {
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private InvokedCodec() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	public static byte[] encodeMethodCollector(Map<Integer, List<TestedInvoked>> collector) 
+			throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		
+		try (InvokedWriter writer = new InvokedWriter(content)) {
+			writer.writeMethodCollector(collector);
+		}
+		
+		return content.toByteArray();
+	}
+	
+	public static Map<Integer, List<TestedInvoked>> decodeMethodCollector(byte[] content) 
+			throws IOException {
+		try (InvokedReader reader = new InvokedReader(new ByteArrayInputStream(content))) {
+			return reader.readMethodCollector();
+		}
+	}
+	
+	public static byte[] encodeConstructorCollector(Map<Integer, TestedInvoked> collector) 
+			throws IOException {
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		
+		try (InvokedWriter writer = new InvokedWriter(content)) {
+			writer.writeConstructorCollector(collector);
+		}
+		
+		return content.toByteArray();
+	}
+	
+	public static Map<Integer, TestedInvoked> decodeConstructorCollector(byte[] content) 
+			throws IOException {
+		try (InvokedReader reader = new InvokedReader(new ByteArrayInputStream(content))) {
+			return reader.readConstructorCollector();
+		}
+	}
+	
+	/**
+	 * Creates a deep copy of a method collector, so that invoked in the copy
+	 * are not affected by later changes to the original.
+	 * 
+	 * @param		collector Method collector
+	 * 
+	 * @return		Copy of the collector
+	 * 
+	 * @throws		IOException If collector cannot be copied
+	 */
+	public static Map<Integer, List<TestedInvoked>> copyMethodCollector(
+			Map<Integer, List<TestedInvoked>> collector) throws IOException {
+		return decodeMethodCollector(encodeMethodCollector(collector));
+	}
+	
+	/**
+	 * Creates a deep copy of a constructor collector, so that invoked in the 
+	 * copy are not affected by later changes to the original.
+	 * 
+	 * @param		collector Constructor collector
+	 * 
+	 * @return		Copy of the collector
+	 * 
+	 * @throws		IOException If collector cannot be copied
+	 */
+	public static Map<Integer, TestedInvoked> copyConstructorCollector(
+			Map<Integer, TestedInvoked> collector) throws IOException {
+		return decodeConstructorCollector(encodeConstructorCollector(collector));
+	}
+}
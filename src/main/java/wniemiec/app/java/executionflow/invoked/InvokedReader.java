@@ -0,0 +1,281 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads invoked, tested invoked and collections of them written by 
+ * {@link InvokedWriter}. Strings and invoked written once are shared by all
+ * values that refer to them, and classes of parameter and return types are
+ * only resolved when they are requested. Maps keep the order in which their
+ * entries were written.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class InvokedReader implements Closeable {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final DataInputStream input;
+	private final List<String> strings;
+	private final List<Invoked> invoked;
+	private byte version;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Creates a reader and reads the stream header.
+	 * 
+	 * @param		input Stream written by {@link InvokedWriter}
+	 * 
+	 * @throws		IOException If header cannot be read
+	 * @throws		StreamCorruptedException If input was not written by 
+	 * {@link InvokedWriter} or if its version is not supported
+	 * @throws		IllegalArgumentException If input is null
+	 */
+	public InvokedReader(InputStream input) throws IOException {
+		if (input == null)
+			throw new IllegalArgumentException("Input cannot be null");
+		
+		this.input = new DataInputStream(new BufferedInputStream(input));
+		this.strings = new ArrayList<>();
+		this.invoked = new ArrayList<>();
+		
+		readHeader();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void readHeader() throws IOException {
+		if (input.readInt() != InvokedWriter.MAGIC)
+			throw new StreamCorruptedException("Content was not written by InvokedWriter");
+		
+		version = input.readByte();
+		
+		if ((version < 1) || (version > InvokedWriter.VERSION))
+			throw new StreamCorruptedException("Unsupported invoked format version: " + version);
+	}
+	
+	/**
+	 * Reads an invoked.
+	 * 
+	 * @return		Invoked or null
+	 * 
+	 * @throws		IOException If invoked cannot be read
+	 */
+	public Invoked readInvoked() throws IOException {
+		int reference = readVarInt();
+		
+		if (reference == InvokedWriter.NULL_REFERENCE)
+			return null;
+		
+		if (reference != InvokedWriter.NEW_REFERENCE)
+			return getReferenced(invoked, reference);
+		
+		int flags = input.readByte();
+		File binPath = new File(readString());
+		File srcPath = new File(readString());
+		int invocationLine = unzigzag(readVarInt());
+		String signature = readString();
+		String concreteSignature = readString();
+		String name = readString();
+		String returnTypeName = readString();
+		String[] parameterTypeNames = readStrings();
+		String[] args = readStrings();
+		Invoked newInvoked = new Invoked(
+				binPath, 
+				srcPath, 
+				invocationLine, 
+				signature, 
+				concreteSignature, 
+				name, 
+				returnTypeName, 
+				parameterTypeNames, 
+				(args == null) ? null : new ArrayList<>(Arrays.asList(args)), 
+				(flags & InvokedWriter.CONSTRUCTOR_FLAG) != 0
+		);
+		
+		invoked.add(newInvoked);
+		
+		return newInvoked;
+	}
+	
+	/**
+	 * Reads a tested invoked.
+	 * 
+	 * @return		Tested invoked
+	 * 
+	 * @throws		IOException If tested invoked cannot be read
+	 */
+	public TestedInvoked readTestedInvoked() throws IOException {
+		Invoked testedInvoked = readInvoked();
+		Invoked testMethod = readInvoked();
+		
+		if ((testedInvoked == null) || (testMethod == null))
+			throw new StreamCorruptedException("Tested invoked is incomplete");
+		
+		TestedInvoked collector = new TestedInvoked(testedInvoked, testMethod);
+		
+		if (version >= 2)
+			collector.setInvocations(unzigzag(readVarInt()));
+		
+		return collector;
+	}
+	
+	/**
+	 * Reads tested methods grouped by invocation line.
+	 * 
+	 * @return		Method collector
+	 * 
+	 * @throws		IOException If collector cannot be read
+	 */
+	public Map<Integer, List<TestedInvoked>> readMethodCollector() throws IOException {
+		int size = readVarInt();
+		Map<Integer, List<TestedInvoked>> collector = new LinkedHashMap<>();
+		
+		for (int i = 0; i < size; i++) {
+			int invocationLine = unzigzag(readVarInt());
+			int listSize = readVarInt();
+			List<TestedInvoked> testedInvoked = new ArrayList<>(listSize);
+			
+			for (int j = 0; j < listSize; j++) {
+				testedInvoked.add(readTestedInvoked());
+			}
+			
+			collector.put(invocationLine, testedInvoked);
+		}
+		
+		return collector;
+	}
+	
+	/**
+	 * Reads tested constructors by invocation line.
+	 * 
+	 * @return		Constructor collector
+	 * 
+	 * @throws		IOException If collector cannot be read
+	 */
+	public Map<Integer, TestedInvoked> readConstructorCollector() throws IOException {
+		int size = readVarInt();
+		Map<Integer, TestedInvoked> collector = new LinkedHashMap<>();
+		
+		for (int i = 0; i < size; i++) {
+			int invocationLine = unzigzag(readVarInt());
+			
+			collector.put(invocationLine, readTestedInvoked());
+		}
+		
+		return collector;
+	}
+	
+	/**
+	 * Reads methods called by tested invoked.
+	 * 
+	 * @return		Methods called by tested invoked
+	 * 
+	 * @throws		IOException If methods called cannot be read
+	 */
+	public Map<Invoked, Set<String>> readMethodsCalledByTestedInvoked() throws IOException {
+		int size = readVarInt();
+		Map<Invoked, Set<String>> methodsCalledByTestedInvoked = new LinkedHashMap<>();
+		
+		for (int i = 0; i < size; i++) {
+			Invoked testedInvoked = readInvoked();
+			int setSize = readVarInt();
+			Set<String> methodsCalled = new SignatureSet();
+			
+			for (int j = 0; j < setSize; j++) {
+				methodsCalled.add(readString());
+			}
+			
+			methodsCalledByTestedInvoked.put(testedInvoked, methodsCalled);
+		}
+		
+		return methodsCalledByTestedInvoked;
+	}
+	
+	private String[] readStrings() throws IOException {
+		int length = readVarInt() - 1;
+		
+		if (length < 0)
+			return null;
+		
+		String[] strs = new String[length];
+		
+		for (int i = 0; i < length; i++) {
+			strs[i] = readString();
+		}
+		
+		return strs;
+	}
+	
+	private String readString() throws IOException {
+		int reference = readVarInt();
+		
+		if (reference == InvokedWriter.NULL_REFERENCE)
+			return null;
+		
+		if (reference != InvokedWriter.NEW_REFERENCE)
+			return getReferenced(strings, reference);
+		
+		byte[] content = new byte[readVarInt()];
+		input.readFully(content);
+		
+		String str = new String(content, StandardCharsets.UTF_8);
+		strings.add(str);
+		
+		return str;
+	}
+	
+	private static <T> T getReferenced(List<T> values, int reference) 
+			throws IOException {
+		int position = reference - InvokedWriter.FIRST_REFERENCE;
+		
+		if ((position < 0) || (position >= values.size()))
+			throw new StreamCorruptedException("Invalid reference: " + reference);
+		
+		return values.get(position);
+	}
+	
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	private int readVarInt() throws IOException {
+		int value = 0;
+		
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = input.readUnsignedByte();
+			
+			value |= (b & 0x7F) << shift;
+			
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		
+		throw new StreamCorruptedException("Malformed varint");
+	}
+	
+	@Override
+	public void close() throws IOException {
+		input.close();
+	}
+}
@@ -0,0 +1,268 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes invoked, tested invoked and collections of them in a compact binary
+ * format, which is read by {@link InvokedReader}. Unlike Java serialization,
+ * it does not write class descriptors, and parameter and return types are 
+ * written as class names, so they are only resolved when requested.
+ * 
+ * <h1>Format</h1>
+ * A stream starts with a header ({@link #MAGIC} and {@link #VERSION}), 
+ * followed by the written values. Each string and each invoked is written 
+ * once per stream and then referred to by its position:
+ * <ul>
+ * 	<li><b>Reference:</b> varint, where 0 is null, 1 is a new value that 
+ * 	follows and n is the value written at position n - 2</li>
+ * 	<li><b>String:</b> reference, followed by its UTF-8 length (varint) and
+ * 	bytes if it is new</li>
+ * 	<li><b>Invoked:</b> reference, followed by flags (byte), compiled file 
+ * 	path, source file path, invocation line (zigzag varint), signature, 
+ * 	concrete signature, name, return type, parameter types and arguments if
+ * 	it is new. Arrays and lists are written as their size plus one (varint,
+ * 	0 if null) followed by their elements</li>
+ * 	<li><b>Tested invoked:</b> tested invoked, test method and number of
+ * 	runs (zigzag varint, since version 2)</li>
+ * 	<li><b>Maps:</b> size (varint) followed by their entries</li>
+ * </ul>
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class InvokedWriter implements Closeable {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	/**
+	 * First bytes of a stream ("EFIV").
+	 */
+	public static final int MAGIC = 0x45464956;
+	
+	/**
+	 * Format version written by this writer.
+	 */
+	public static final byte VERSION = 2;
+	static final int NULL_REFERENCE = 0;
+	static final int NEW_REFERENCE = 1;
+	static final int FIRST_REFERENCE = 2;
+	static final int CONSTRUCTOR_FLAG = 1;
+	private final DataOutputStream output;
+	private final Map<String, Integer> strings;
+	private final Map<Invoked, Integer> invoked;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Creates a writer and writes the stream header.
+	 * 
+	 * @param		output Stream where values will be written
+	 * 
+	 * @throws		IOException If header cannot be written
+	 * @throws		IllegalArgumentException If output is null
+	 */
+	public InvokedWriter(OutputStream output) throws IOException {
+		if (output == null)
+			throw new IllegalArgumentException("Output cannot be null");
+		
+		this.output = new DataOutputStream(new BufferedOutputStream(output));
+		this.strings = new HashMap<>();
+		this.invoked = new IdentityHashMap<>();
+		
+		this.output.writeInt(MAGIC);
+		this.output.writeByte(VERSION);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Writes an invoked. An invoked already written to this stream is 
+	 * written as a reference to it.
+	 * 
+	 * @param		invoked Invoked or null
+	 * 
+	 * @throws		IOException If invoked cannot be written
+	 */
+	public void writeInvoked(Invoked invoked) throws IOException {
+		if (writeReference(this.invoked, invoked))
+			return;
+		
+		output.writeByte(invoked.isConstructor() ? CONSTRUCTOR_FLAG : 0);
+		writeString(invoked.getBinPathName());
+		writeString(invoked.getSrcPathName());
+		writeVarInt(zigzag(invoked.getInvocationLine()));
+		writeString(invoked.getInvokedSignature());
+		writeString(invoked.getStoredConcreteSignature());
+		writeString(invoked.getStoredName());
+		writeString(invoked.getReturnTypeName());
+		writeStrings(invoked.getParameterTypeNames());
+		writeStrings((invoked.getArgs() == null) 
+				? null 
+				: invoked.getArgs().toArray(new String[0]));
+	}
+	
+	/**
+	 * Writes a tested invoked.
+	 * 
+	 * @param		testedInvoked Tested invoked
+	 * 
+	 * @throws		IOException If tested invoked cannot be written
+	 */
+	public void writeTestedInvoked(TestedInvoked testedInvoked) throws IOException {
+		writeInvoked(testedInvoked.getTestedInvoked());
+		writeInvoked(testedInvoked.getTestMethod());
+		writeVarInt(zigzag(testedInvoked.getInvocations()));
+	}
+	
+	/**
+	 * Writes tested methods grouped by invocation line, as kept by method 
+	 * collector.
+	 * 
+	 * @param		collector Method collector
+	 * 
+	 * @throws		IOException If collector cannot be written
+	 */
+	public void writeMethodCollector(Map<Integer, List<TestedInvoked>> collector) 
+			throws IOException {
+		writeVarInt(collector.size());
+		
+		for (Map.Entry<Integer, List<TestedInvoked>> entry : collector.entrySet()) {
+			writeVarInt(zigzag(entry.getKey()));
+			writeVarInt(entry.getValue().size());
+			
+			for (TestedInvoked testedInvoked : entry.getValue()) {
+				writeTestedInvoked(testedInvoked);
+			}
+		}
+	}
+	
+	/**
+	 * Writes tested constructors by invocation line, as kept by constructor
+	 * collector.
+	 * 
+	 * @param		collector Constructor collector
+	 * 
+	 * @throws		IOException If collector cannot be written
+	 */
+	public void writeConstructorCollector(Map<Integer, TestedInvoked> collector) 
+			throws IOException {
+		writeVarInt(collector.size());
+		
+		for (Map.Entry<Integer, TestedInvoked> entry : collector.entrySet()) {
+			writeVarInt(zigzag(entry.getKey()));
+			writeTestedInvoked(entry.getValue());
+		}
+	}
+	
+	/**
+	 * Writes methods called by tested invoked, as kept by call collector.
+	 * 
+	 * @param		methodsCalledByTestedInvoked Methods called by tested 
+	 * invoked
+	 * 
+	 * @throws		IOException If methods called cannot be written
+	 */
+	public void writeMethodsCalledByTestedInvoked(Map<Invoked, Set<String>> 
+												  methodsCalledByTestedInvoked) 
+			throws IOException {
+		writeVarInt(methodsCalledByTestedInvoked.size());
+		
+		for (Map.Entry<Invoked, Set<String>> entry : methodsCalledByTestedInvoked.entrySet()) {
+			writeInvoked(entry.getKey());
+			writeVarInt(entry.getValue().size());
+			
+			for (String signature : entry.getValue()) {
+				writeString(signature);
+			}
+		}
+	}
+	
+	private void writeStrings(String[] strs) throws IOException {
+		if (strs == null) {
+			writeVarInt(0);
+			return;
+		}
+		
+		writeVarInt(strs.length + 1);
+		
+		for (String str : strs) {
+			writeString(str);
+		}
+	}
+	
+	private void writeString(String str) throws IOException {
+		if (writeReference(strings, str))
+			return;
+		
+		byte[] content = str.getBytes(StandardCharsets.UTF_8);
+		
+		writeVarInt(content.length);
+		output.write(content);
+	}
+	
+	/**
+	 * Writes a reference to a value. If the value is new, it is registered, 
+	 * and its content must be written next.
+	 * 
+	 * @return		True if the value was fully written; false if its content 
+	 * must be written
+	 */
+	private <T> boolean writeReference(Map<T, Integer> references, T value) 
+			throws IOException {
+		if (value == null) {
+			writeVarInt(NULL_REFERENCE);
+			
+			return true;
+		}
+		
+		Integer position = references.get(value);
+		
+		if (position != null) {
+			writeVarInt(position + FIRST_REFERENCE);
+			
+			return true;
+		}
+		
+		references.put(value, references.size());
+		writeVarInt(NEW_REFERENCE);
+		
+		return false;
+	}
+	
+	private static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+	
+	private void writeVarInt(int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			output.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		
+		output.writeByte(value);
+	}
+	
+	public void flush() throws IOException {
+		output.flush();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		output.close();
+	}
+}
@@ -0,0 +1,163 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Map whose keys are signature ids in {@link SignatureTable}, using an open
+ * addressing table of integers instead of entries. Entries are iterated in
+ * the order in which they were added.
+ * 
+ * @param		<V> Value type
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class SignatureMap<V> {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int INITIAL_CAPACITY = 8;
+	
+	/**
+	 * Position of each entry plus one, where 0 is an empty slot.
+	 */
+	private int[] slots;
+	private int[] keys;
+	private Object[] values;
+	private int size;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public SignatureMap() {
+		slots = new int[INITIAL_CAPACITY * 2];
+		keys = new int[INITIAL_CAPACITY];
+		values = new Object[INITIAL_CAPACITY];
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets value of a signature.
+	 * 
+	 * @param		id Signature id
+	 * 
+	 * @return		Value or null if there is no value for the signature
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(int id) {
+		int position = slots[findSlot(id)] - 1;
+		
+		return (position < 0) ? null : (V) values[position];
+	}
+	
+	public boolean containsKey(int id) {
+		return slots[findSlot(id)] != 0;
+	}
+	
+	/**
+	 * Sets value of a signature.
+	 * 
+	 * @param		id Signature id
+	 * @param		value Value
+	 * 
+	 * @return		Previous value or null if signature had no value
+	 * 
+	 * @throws		IllegalArgumentException If id is {@link SignatureTable#NONE}
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(int id, V value) {
+		if (id == SignatureTable.NONE)
+			throw new IllegalArgumentException("Id cannot be NONE");
+		
+		int slot = findSlot(id);
+		int position = slots[slot] - 1;
+		
+		if (position >= 0) {
+			V previous = (V) values[position];
+			values[position] = value;
+			
+			return previous;
+		}
+		
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2);
+			values = Arrays.copyOf(values, size * 2);
+		}
+		
+		keys[size] = id;
+		values[size] = value;
+		slots[slot] = ++size;
+		
+		if ((size * 2) > slots.length)
+			rehash();
+		
+		return null;
+	}
+	
+	/**
+	 * Gets value of a signature, creating it if the signature has no value.
+	 * 
+	 * @param		id Signature id
+	 * @param		factory Creates the value from the id
+	 * 
+	 * @return		Value of the signature
+	 */
+	public V computeIfAbsent(int id, IntFunction<V> factory) {
+		V value = get(id);
+		
+		if (value == null) {
+			value = factory.apply(id);
+			put(id, value);
+		}
+		
+		return value;
+	}
+	
+	private int findSlot(int id) {
+		int mask = slots.length - 1;
+		int slot = SignatureSet.mix(id) & mask;
+		
+		while ((slots[slot] != 0) && (keys[slots[slot] - 1] != id)) {
+			slot = (slot + 1) & mask;
+		}
+		
+		return slot;
+	}
+	
+	private void rehash() {
+		slots = new int[slots.length * 2];
+		
+		for (int i = 0; i < size; i++) {
+			slots[findSlot(keys[i])] = i + 1;
+		}
+	}
+	
+	/**
+	 * Runs an action for each entry, in the order in which they were added.
+	 * 
+	 * @param		action Receives the signature and its value
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<String, V> action) {
+		SignatureTable table = SignatureTable.getInstance();
+		
+		for (int i = 0; i < size; i++) {
+			action.accept(table.getSignature(keys[i]), (V) values[i]);
+		}
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+}
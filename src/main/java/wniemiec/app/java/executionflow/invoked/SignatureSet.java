@@ -0,0 +1,189 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Set of signatures that only keeps their ids in {@link SignatureTable}, 
+ * using an open addressing table of integers instead of entries. Signatures
+ * are iterated in the order in which they were added. It is safe to use by
+ * several threads, and iterators do not reflect signatures added after they
+ * were created.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class SignatureSet extends AbstractSet<String> {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int INITIAL_CAPACITY = 8;
+	private final SignatureTable table;
+	private int[] slots;
+	private int[] ids;
+	private int size;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructors
+	//-------------------------------------------------------------------------
+	public SignatureSet() {
+		table = SignatureTable.getInstance();
+		slots = new int[INITIAL_CAPACITY * 2];
+		ids = new int[INITIAL_CAPACITY];
+	}
+	
+	/**
+	 * Creates a set with the signatures of a collection.
+	 * 
+	 * @param		signatures Signatures
+	 * 
+	 * @throws		IllegalArgumentException If signatures is null or if it 
+	 * contains null
+	 */
+	public SignatureSet(Collection<String> signatures) {
+		this();
+		
+		if (signatures == null)
+			throw new IllegalArgumentException("Signatures cannot be null");
+		
+		addAll(signatures);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Adds a signature.
+	 * 
+	 * @param		signature Signature
+	 * 
+	 * @return		True if signature was not in the set
+	 * 
+	 * @throws		IllegalArgumentException If signature is null
+	 */
+	@Override
+	public boolean add(String signature) {
+		return addId(table.intern(signature));
+	}
+	
+	/**
+	 * Adds a signature from its id.
+	 * 
+	 * @param		id Signature id in {@link SignatureTable}
+	 * 
+	 * @return		True if signature was not in the set
+	 * 
+	 * @throws		IllegalArgumentException If id is {@link SignatureTable#NONE}
+	 */
+	public synchronized boolean addId(int id) {
+		if (id == SignatureTable.NONE)
+			throw new IllegalArgumentException("Id cannot be NONE");
+		
+		int slot = findSlot(id);
+		
+		if (slots[slot] == id)
+			return false;
+		
+		slots[slot] = id;
+		
+		if (size == ids.length)
+			ids = Arrays.copyOf(ids, size * 2);
+		
+		ids[size++] = id;
+		
+		if ((size * 2) > slots.length)
+			rehash();
+		
+		return true;
+	}
+	
+	private int findSlot(int id) {
+		int mask = slots.length - 1;
+		int slot = mix(id) & mask;
+		
+		while ((slots[slot] != SignatureTable.NONE) && (slots[slot] != id)) {
+			slot = (slot + 1) & mask;
+		}
+		
+		return slot;
+	}
+	
+	static int mix(int id) {
+		int hash = id * 0x9E3779B9;
+		
+		return hash ^ (hash >>> 16);
+	}
+	
+	private void rehash() {
+		slots = new int[slots.length * 2];
+		
+		for (int i = 0; i < size; i++) {
+			slots[findSlot(ids[i])] = ids[i];
+		}
+	}
+	
+	@Override
+	public boolean contains(Object obj) {
+		if (!(obj instanceof String))
+			return false;
+		
+		return containsId(table.find((String) obj));
+	}
+	
+	/**
+	 * Checks whether the set has a signature.
+	 * 
+	 * @param		id Signature id in {@link SignatureTable}
+	 * 
+	 * @return		True if signature is in the set
+	 */
+	public synchronized boolean containsId(int id) {
+		if (id == SignatureTable.NONE)
+			return false;
+		
+		return slots[findSlot(id)] == id;
+	}
+	
+	@Override
+	public synchronized int size() {
+		return size;
+	}
+	
+	@Override
+	public synchronized void clear() {
+		Arrays.fill(slots, SignatureTable.NONE);
+		size = 0;
+	}
+	
+	@Override
+	public Iterator<String> iterator() {
+		final int[] snapshot;
+		
+		synchronized (this) {
+			snapshot = Arrays.copyOf(ids, size);
+		}
+		
+		return new Iterator<>() {
+			private int next;
+			
+			@Override
+			public boolean hasNext() {
+				return next < snapshot.length;
+			}
+			
+			@Override
+			public String next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				
+				return table.getSignature(snapshot[next++]);
+			}
+		};
+	}
+}
@@ -0,0 +1,163 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns a dense integer id to each method, constructor or class signature
+ * used in a run, so that signatures can be compared and used as keys 
+ * without hashing and comparing their content again. Each signature is 
+ * kept once, and its id is valid until the table is cleared, which happens
+ * when a test method run starts.
+ * 
+ * @apiNote		Ids must not be kept from one run to another or sent to 
+ * another virtual machine, since each one has its own table
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public final class SignatureTable {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	/**
+	 * Id that does not belong to any signature.
+	 */
+	public static final int NONE = 0;
+	private static final int INITIAL_CAPACITY = 256;
+	private static final SignatureTable instance = new SignatureTable();
+	private final Map<String, Integer> ids;
+	private volatile String[] signatures;
+	private volatile int generation;
+	private int size;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private SignatureTable() {
+		ids = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+		signatures = new String[INITIAL_CAPACITY];
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	public static SignatureTable getInstance() {
+		return instance;
+	}
+	
+	/**
+	 * Gets id of a signature, assigning a new one if the signature has not 
+	 * been seen yet. Ids start at 1 and are consecutive.
+	 * 
+	 * @param		signature Signature
+	 * 
+	 * @return		Signature id
+	 * 
+	 * @throws		IllegalArgumentException If signature is null
+	 */
+	public int intern(String signature) {
+		if (signature == null)
+			throw new IllegalArgumentException("Signature cannot be null");
+		
+		Integer id = ids.get(signature);
+		
+		return (id == null) ? addSignature(signature) : id;
+	}
+	
+	private synchronized int addSignature(String signature) {
+		Integer id = ids.get(signature);
+		
+		if (id != null)
+			return id;
+		
+		size++;
+		
+		if (size >= signatures.length)
+			signatures = Arrays.copyOf(signatures, signatures.length * 2);
+		
+		signatures[size] = signature;
+		ids.put(signature, size);
+		
+		return size;
+	}
+	
+	/**
+	 * Removes all signatures, so that ids assigned from now on start at 1 
+	 * again. Ids cached by {@link Invoked} are discarded by comparing them
+	 * with {@link #getGeneration()}.
+	 * 
+	 * @apiNote		It must not be called while a run is interning 
+	 * signatures, neither while a {@link SignatureSet} or a 
+	 * {@link SignatureMap} filled before it is still in use
+	 */
+	public synchronized void clear() {
+		ids.clear();
+		signatures = new String[INITIAL_CAPACITY];
+		size = 0;
+		generation++;
+	}
+	
+	/**
+	 * Gets id of a signature without assigning one to it.
+	 * 
+	 * @param		signature Signature
+	 * 
+	 * @return		Signature id or {@link #NONE} if the signature has not 
+	 * been seen yet
+	 */
+	public int find(String signature) {
+		if (signature == null)
+			return NONE;
+		
+		Integer id = ids.get(signature);
+		
+		return (id == null) ? NONE : id;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets signature that has an id.
+	 * 
+	 * @param		id Signature id
+	 * 
+	 * @return		Signature
+	 * 
+	 * @throws		IllegalArgumentException If there is no signature with the
+	 * id
+	 */
+	public String getSignature(int id) {
+		String[] currentSignatures = signatures;
+		
+		if ((id <= NONE) || (id >= currentSignatures.length) 
+				|| (currentSignatures[id] == null))
+			throw new IllegalArgumentException("There is no signature with id " + id);
+		
+		return currentSignatures[id];
+	}
+	
+	/**
+	 * Gets how many times the table has been cleared.
+	 * 
+	 * @return		Table generation
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+	
+	/**
+	 * Gets how many signatures have an id.
+	 * 
+	 * @return		Number of signatures
+	 */
+	public synchronized int size() {
+		return size;
+	}
+}
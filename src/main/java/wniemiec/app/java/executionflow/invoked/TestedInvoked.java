@@ -15,9 +15,17 @@ public class TestedInvoked implements Serializable {
 	//		Attributes
 	//-------------------------------------------------------------------------
 	private static final long serialVersionUID = 700L;
+	private static final int UNKNOWN_INVOCATIONS = -1;
 	private Invoked testedInvoked;
 	private Invoked testMethod;
 	
+	/**
+	 * Number of times the tested invoked has been run from its invocation 
+	 * line and returned normally. It is zero if runs were not counted and
+	 * {@link #UNKNOWN_INVOCATIONS} if a run ended with an exception.
+	 */
+	private int invocations;
+	
 	
 	//-------------------------------------------------------------------------
 	//		Constructor
@@ -48,6 +56,21 @@ public class TestedInvoked implements Serializable {
 	//-------------------------------------------------------------------------
 	//		Methods
 	//-------------------------------------------------------------------------
+	/**
+	 * Counts a run of the tested invoked from its invocation line. A run 
+	 * that ends with an exception makes the number of runs unknown, since 
+	 * its test path ends before the tested invoked returns.
+	 * 
+	 * @param		returnedNormally True if the run did not end with an 
+	 * exception
+	 */
+	public void countInvocation(boolean returnedNormally) {
+		if (!returnedNormally)
+			invocations = UNKNOWN_INVOCATIONS;
+		else if (invocations != UNKNOWN_INVOCATIONS)
+			invocations++;
+	}
+	
 	@Override
 	public String toString() {
 		return "TestedInvoked ["
@@ -107,4 +130,30 @@ public class TestedInvoked implements Serializable {
 	public Invoked getTestMethod() {
 		return testMethod;
 	}
+	
+	/**
+	 * Gets how many times the tested invoked has been run from its invocation
+	 * line.
+	 * 
+	 * @return		Number of runs, or a value lower than 1 if it is not 
+	 * known
+	 */
+	public int getInvocations() {
+		return invocations;
+	}
+	
+	public void setInvocations(int invocations) {
+		this.invocations = invocations;
+	}
+	
+	/**
+	 * Checks whether it is known how many times the tested invoked has been
+	 * run from its invocation line, which requires all runs to have returned
+	 * normally.
+	 * 
+	 * @return		True if number of runs is known; false otherwise
+	 */
+	public boolean hasKnownInvocations() {
+		return (invocations > 0);
+	}
 }
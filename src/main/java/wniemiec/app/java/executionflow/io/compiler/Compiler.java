@@ -2,6 +2,7 @@ package wniemiec.app.java.executionflow.io.compiler;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import wniemiec.app.java.executionflow.io.FileEncoding;
 
@@ -24,4 +25,22 @@ public interface Compiler {
 	 */
 	public void compile(Path target, Path outputDir, FileEncoding encode) 
 			throws IOException;
+	
+	/**
+	 * Compiles several files and stores them in a specified directory. 
+	 * Unless overridden, files are compiled one at a time.
+	 * 
+	 * @param		targets Paths of source files to be compiled
+	 * @param		outputDir Path where compiled files will be saved
+	 * @param		encode File encoding
+	 * 
+	 * @throws		IOException If an error occurs during compilation
+	 */
+	public default void compile(List<Path> targets, Path outputDir, 
+								FileEncoding encode) 
+			throws IOException {
+		for (Path target : targets) {
+			compile(target, outputDir, encode);
+		}
+	}
 }
@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.compiler;
 
 import wniemiec.app.java.executionflow.io.compiler.aspectj.AspectJCompilerBuilder;
+import wniemiec.app.java.executionflow.io.compiler.aspectj.IncrementalAspectJCompiler;
 import wniemiec.app.java.executionflow.io.compiler.aspectj.StandardAspectJCompiler;
 
 /**
@@ -24,4 +25,15 @@ public class CompilerFactory {
 	public static AspectJCompilerBuilder createStandardAspectJCompiler() {
 		return new StandardAspectJCompiler.Builder();
 	}
+	
+	/**
+	 * Creates a compiler that keeps the state of AspectJ compiler between 
+	 * compilations within the same run, so that compiling again the same 
+	 * files is faster.
+	 * 
+	 * @return		Builder of the compiler
+	 */
+	public static AspectJCompilerBuilder createIncrementalAspectJCompiler() {
+		return new IncrementalAspectJCompiler.Builder();
+	}
 }
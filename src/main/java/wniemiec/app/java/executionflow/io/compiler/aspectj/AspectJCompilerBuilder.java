@@ -33,6 +33,16 @@ public interface AspectJCompilerBuilder {
 	 */
 	public AspectJCompilerBuilder classpath(List<Path> classpath);
 	
+	/**
+	 * Restricts the classes in which hooks can be woven. By default, there
+	 * is no restriction.
+	 * 
+	 * @param		weavingScope Weaving scope
+	 * 
+	 * @return		Itself to allow chained calls
+	 */
+	public AspectJCompilerBuilder weavingScope(WeavingScope weavingScope);
+	
 	/**
 	 * Creates {@link Compiler} with provided information.
 	 * 
@@ -0,0 +1,382 @@
+package wniemiec.app.java.executionflow.io.compiler.aspectj;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.aspectj.ajdt.ajc.AjdtCommand;
+import org.aspectj.bridge.IMessage;
+import org.aspectj.bridge.MessageHandler;
+
+import wniemiec.app.java.executionflow.io.FileEncoding;
+import wniemiec.app.java.executionflow.io.compiler.Compiler;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Responsible for compiling Java files keeping the state of AspectJ
+ * compiler between compilations. When the same files are compiled again
+ * to the same output directory, AspectJ compiler performs an incremental
+ * build: the classpath is not loaded again and classes from inpath that
+ * have not changed are not woven again.
+ * 
+ * @apiNote		Compatible with AspectJ
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class IncrementalAspectJCompiler implements Compiler {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	/**
+	 * Maximum number of compiler states kept at the same time. Each state
+	 * holds the classpath and woven classes of a compilation.
+	 */
+	private static final int MAX_SESSIONS = 4;
+	private static Map<List<String>, Session> sessions;
+	private static Path stagingRoot;
+	private MessageHandler messageHandler;
+	private List<Path> classpaths;
+	private Path inpath;
+	private WeavingScope weavingScope;
+	private List<String> commands;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Initialization blocks
+	//-------------------------------------------------------------------------
+	static {
+		sessions = new LinkedHashMap<>(MAX_SESSIONS, 0.75f, true) {
+			private static final long serialVersionUID = 810L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<String>, Session> eldest) {
+				if (size() <= MAX_SESSIONS)
+					return false;
+				
+				eldest.getValue().close();
+				
+				return true;
+			}
+		};
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private IncrementalAspectJCompiler(Path inpath, List<Path> classpaths,
+									   WeavingScope weavingScope) {
+		if (inpath == null)
+			throw new IllegalArgumentException("Inpath cannot be null");
+		
+		if (classpaths == null)
+			throw new IllegalArgumentException("Classpaths cannot be null");
+		
+		this.messageHandler = new MessageHandler();
+		this.inpath = inpath.normalize().toAbsolutePath();
+		this.classpaths = classpaths;
+		this.weavingScope = (weavingScope == null) ? WeavingScope.everything() : weavingScope;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Builder
+	//-------------------------------------------------------------------------
+	public static class Builder implements AspectJCompilerBuilder {
+		private List<Path> classpaths;
+		private Path inpath;
+		private WeavingScope weavingScope;
+		
+		
+		@Override
+		public Builder inpath (Path inpath) {
+			this.inpath = inpath;
+			
+			return this;
+		}
+		
+		@Override
+		public Builder classpath(List<Path> classpath) {
+			this.classpaths = classpath;
+			
+			return this;
+		}
+		
+		@Override
+		public Builder weavingScope(WeavingScope weavingScope) {
+			this.weavingScope = weavingScope;
+			
+			return this;
+		}
+		
+		@Override
+		public Compiler build() {
+			return new IncrementalAspectJCompiler(inpath, classpaths, weavingScope);
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public void compile(Path target, Path outputDir, FileEncoding encode)
+			throws IOException {
+		compile(List.of(target), outputDir, encode);
+	}
+	
+	/**
+	 * Compiles several files in a single run. If the same files have already
+	 * been compiled to the same output directory, only the compiler state is
+	 * updated. If an incremental build fails, a full build is performed to
+	 * make sure that the error is not caused by an outdated state.
+	 */
+	@Override
+	public void compile(List<Path> targets, Path outputDir, FileEncoding encode)
+			throws IOException {
+		if (targets.isEmpty())
+			return;
+		
+		synchronized (sessions) {
+			List<String> key = buildKey(targets, outputDir, encode);
+			Session session = sessions.get(key);
+			
+			if ((session == null) || !build(session, targets)) {
+				sessions.remove(key);
+				
+				if (session != null)
+					session.close();
+				
+				session = new Session(buildCommands(outputDir, encode));
+				sessions.put(key, session);
+				build(session, targets);
+			}
+		}
+		
+		dump(outputDir);
+		
+		if (checkError())
+			throw new IOException("Compilation error. Check the log for more information");
+	}
+	
+	private List<String> buildKey(List<Path> targets, Path outputDir,
+								  FileEncoding encode) 
+			throws IOException {
+		List<String> key = new ArrayList<>(buildCommands(outputDir, encode));
+		
+		for (Path target : targets) {
+			key.add(target.normalize().toAbsolutePath().toString());
+		}
+		
+		return key;
+	}
+	
+	private boolean build(Session session, List<Path> targets) throws IOException {
+		messageHandler = new MessageHandler();
+		session.stage(targets);
+		session.build(messageHandler);
+		
+		return !checkError();
+	}
+	
+	private List<String> buildCommands(Path outputDir, FileEncoding encode) 
+			throws IOException {
+		commands = new ArrayList<>();
+		
+		enableIncrementalBuild();
+		ignoreUncheckedWarnings();
+		initializeInpath();
+		initializeWeavingScope();
+		initializeCompilerVersion();
+		initializeOutput(outputDir);
+		initializeEncoding(encode);
+		initializeClassPaths(outputDir);
+		
+		return commands;
+	}
+	
+	private void enableIncrementalBuild() {
+		commands.add("-incremental");
+	}
+	
+	private void ignoreUncheckedWarnings() {
+		commands.add("-Xlint:ignore");
+	}
+	
+	private void initializeInpath() {
+		commands.add("-inpath");
+		commands.add(inpath.toAbsolutePath().toString());
+	}
+	
+	/**
+	 * Only aspects declared in the configuration are woven, so that it is
+	 * used only if the scope restricts some hooks.
+	 */
+	private void initializeWeavingScope() throws IOException {
+		if (weavingScope.isEverything())
+			return;
+		
+		commands.add("-xmlConfigured");
+		commands.add(weavingScope.getConfiguration().toString());
+	}
+	
+	private void initializeCompilerVersion() {
+		commands.add("-9.0");
+	}
+	
+	private void initializeEncoding(FileEncoding encode) {
+		commands.add("-encoding");
+		commands.add(encode.getName());
+	}
+	
+	/**
+	 * Output directory must be in the classpath, since classes that have
+	 * not changed are read from it in incremental builds.
+	 */
+	private void initializeClassPaths(Path outputDir) {
+		StringBuilder cps = new StringBuilder();
+		
+		commands.add("-classpath");
+		
+		for (Path classpath : classpaths) {
+			cps.append(classpath.toAbsolutePath().toString());
+			cps.append(File.pathSeparator);
+		}
+		
+		cps.append(outputDir.normalize().toAbsolutePath().toString());
+		commands.add(cps.toString());
+	}
+	
+	private void initializeOutput(Path outputDir) {
+		commands.add("-d");
+		commands.add(outputDir.normalize().toAbsolutePath().toString());
+	}
+	
+	private void dump(Path outputDir) {
+		Consolex.writeDebug(this.getClass().getName() + " - start");
+		
+		for (IMessage message : messageHandler.getMessages(null, true)) {
+			Consolex.writeDebug(message.toString());
+		}
+		
+		Consolex.writeDebug(
+				this.getClass().getName()
+				+ " - Output dir: "
+				+ outputDir.toAbsolutePath().toString()
+		);
+	}
+	
+	private boolean checkError() {
+		for (IMessage message : messageHandler.getMessages(null, true)) {
+			if (message.toString().contains("error at"))
+				return true;
+		}
+		
+		return false;
+	}
+	
+	private static Path getStagingRoot() throws IOException {
+		if (stagingRoot == null) {
+			stagingRoot = Files.createTempDirectory("executionflow-ajc");
+			
+			Runtime.getRuntime().addShutdownHook(new Thread(() ->
+				deleteDirectory(stagingRoot)
+			));
+		}
+		
+		return stagingRoot;
+	}
+	
+	private static void deleteDirectory(Path directory) {
+		if (!Files.exists(directory))
+			return;
+		
+		try (Stream<Path> files = Files.walk(directory)) {
+			files.sorted(Comparator.reverseOrder())
+				.map(Path::toFile)
+				.forEach(File::delete);
+		}
+		catch (IOException | UncheckedIOException e) {
+			Consolex.writeDebug("Staging directory could not be deleted: " + directory);
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	/**
+	 * Compiler state of a set of files. Incremental builds require source
+	 * roots, so files are copied to a directory that only contains them.
+	 * Copies are always newer than the last build, which makes them be
+	 * compiled again even if their content has not changed, since their
+	 * class files may have been restored in the meantime.
+	 */
+	private static class Session {
+		
+		private final AjdtCommand command;
+		private final List<String> commands;
+		private Path sourceRoot;
+		private long lastBuildTime;
+		private boolean built;
+		
+		public Session(List<String> commands) {
+			this.command = new AjdtCommand();
+			this.commands = commands;
+		}
+		
+		public void stage(List<Path> targets) throws IOException {
+			if (sourceRoot == null)
+				sourceRoot = Files.createTempDirectory(getStagingRoot(), "session");
+			
+			FileTime modificationTime = FileTime.fromMillis(
+					Math.max(System.currentTimeMillis(), lastBuildTime + 1)
+			);
+			
+			for (int i = 0; i < targets.size(); i++) {
+				Path target = targets.get(i);
+				Path stagedFile = sourceRoot
+						.resolve(String.valueOf(i))
+						.resolve(target.getFileName());
+				
+				Files.createDirectories(stagedFile.getParent());
+				Files.copy(target, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+				Files.setLastModifiedTime(stagedFile, modificationTime);
+			}
+		}
+		
+		public void build(MessageHandler messageHandler) {
+			if (built) {
+				command.repeatCommand(messageHandler);
+			}
+			else {
+				List<String> args = new ArrayList<>(commands);
+				
+				args.add("-sourceroots");
+				args.add(sourceRoot.toString());
+				
+				command.runCommand(args.toArray(new String[] {}), messageHandler);
+				built = true;
+			}
+			
+			lastBuildTime = System.currentTimeMillis();
+		}
+		
+		public void close() {
+			if (sourceRoot != null)
+				deleteDirectory(sourceRoot);
+		}
+	}
+}
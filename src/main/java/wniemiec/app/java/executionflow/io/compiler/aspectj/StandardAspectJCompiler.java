@@ -31,13 +31,15 @@ public class StandardAspectJCompiler implements Compiler {
 	private MessageHandler messageHandler;
 	private List<Path> classpaths;
 	private Path inpath;
+	private WeavingScope weavingScope;
 	private List<String> commands;
 	
 	
 	//-------------------------------------------------------------------------
 	//		Constructor
 	//-------------------------------------------------------------------------
-	private StandardAspectJCompiler(Path inpath, List<Path> classpaths) {
+	private StandardAspectJCompiler(Path inpath, List<Path> classpaths,
+									WeavingScope weavingScope) {
 		if (inpath == null)
 			throw new IllegalArgumentException("Inpath cannot be null");
 		
@@ -48,6 +50,7 @@ public class StandardAspectJCompiler implements Compiler {
 		this.messageHandler = new MessageHandler();
 		this.inpath = inpath.normalize().toAbsolutePath();
 		this.classpaths = classpaths;
+		this.weavingScope = (weavingScope == null) ? WeavingScope.everything() : weavingScope;
 	}
 	
 	
@@ -57,6 +60,7 @@ public class StandardAspectJCompiler implements Compiler {
 	public static class Builder implements AspectJCompilerBuilder {
 		private List<Path> classpaths;
 		private Path inpath;
+		private WeavingScope weavingScope;
 		
 		
 		@Override
@@ -73,9 +77,16 @@ public class StandardAspectJCompiler implements Compiler {
 			return this;
 		}
 		
+		@Override
+		public Builder weavingScope(WeavingScope weavingScope) {
+			this.weavingScope = weavingScope;
+			
+			return this;
+		}
+		
 		@Override
 		public Compiler build() {
-			return new StandardAspectJCompiler(inpath, classpaths);
+			return new StandardAspectJCompiler(inpath, classpaths, weavingScope);
 		}
 	}
 	
@@ -86,8 +97,22 @@ public class StandardAspectJCompiler implements Compiler {
 	@Override
 	public void compile(Path target, Path outputDir, FileEncoding encode) 
 			throws IOException {
+		compile(List.of(target), outputDir, encode);
+	}
+	
+	/**
+	 * Compiles several files in a single run, so that aspects are woven and
+	 * the classpath is loaded only once.
+	 */
+	@Override
+	public void compile(List<Path> targets, Path outputDir, FileEncoding encode) 
+			throws IOException {
+		if (targets.isEmpty())
+			return;
+		
+		messageHandler = new MessageHandler();
 		compiler.run(
-			buildCommands(target, outputDir, encode),
+			buildCommands(targets, outputDir, encode),
 			messageHandler
 		);
 		compiler.quit();
@@ -98,16 +123,22 @@ public class StandardAspectJCompiler implements Compiler {
 			throw new IOException("Compilation error. Check the log for more information");
 	}
 
-	private String[] buildCommands(Path target, Path outputDir, FileEncoding encode) {
+	private String[] buildCommands(List<Path> targets, Path outputDir, 
+								   FileEncoding encode) 
+			throws IOException {
 		commands = new ArrayList<>();
 		
 		ignoreUncheckedWarnings();
 		initializeInpath();
+		initializeWeavingScope();
 		initializeCompilerVersion();
 		initializeOutput(outputDir);
 		initializeEncoding(encode);
 		initializeClassPaths();
-		initializeTarget(target);
+		
+		for (Path target : targets) {
+			initializeTarget(target);
+		}
 		
 		return commands.toArray(new String[] {});
 	}
@@ -123,6 +154,18 @@ public class StandardAspectJCompiler implements Compiler {
 		}
 	}
 	
+	/**
+	 * Only aspects declared in the configuration are woven, so that it is
+	 * used only if the scope restricts some hooks.
+	 */
+	private void initializeWeavingScope() throws IOException {
+		if (weavingScope.isEverything())
+			return;
+		
+		commands.add("-xmlConfigured");
+		commands.add(weavingScope.getConfiguration().toString());
+	}
+	
 	private void initializeCompilerVersion() {
 		commands.add("-9.0");
 	}
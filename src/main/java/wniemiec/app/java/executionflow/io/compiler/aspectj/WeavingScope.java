@@ -0,0 +1,235 @@
+package wniemiec.app.java.executionflow.io.compiler.aspectj;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Classes in which hooks that collect invoked and methods called can be
+ * woven. Classes out of the scope are compiled without join points of these
+ * hooks, instead of having them checked at runtime. Test method hook is not
+ * scoped, since it is only woven in test methods.
+ * 
+ * @apiNote		Packages are given as AspectJ type patterns, such as
+ * <code>com.example..*</code>
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class WeavingScope {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String HOOKS_PACKAGE =
+			"wniemiec.app.java.executionflow.runtime.hook";
+	private static final List<String> SCOPED_HOOKS = List.of(
+			"MethodHook",
+			"ConstructorHook",
+			"MethodCallHook"
+	);
+	private static final String TEST_METHOD_HOOK = "TestMethodHook";
+	private static final Pattern TYPE_PATTERN = Pattern.compile("[\\w$.*]+");
+	private static final WeavingScope EVERYTHING = new WeavingScope(List.of(), List.of());
+	private final List<String> includes;
+	private final List<String> excludes;
+	private Path configuration;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private WeavingScope(List<String> includes, List<String> excludes) {
+		this.includes = includes;
+		this.excludes = excludes;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Factories
+	//-------------------------------------------------------------------------
+	/**
+	 * Creates a scope that does not restrict hooks.
+	 * 
+	 * @return		Scope with all classes
+	 */
+	public static WeavingScope everything() {
+		return EVERYTHING;
+	}
+	
+	/**
+	 * Creates a scope from package patterns separated by commas or
+	 * whitespaces.
+	 * 
+	 * @param		includes Patterns of classes that can be woven or empty if
+	 * all classes not excluded can be woven
+	 * @param		excludes Patterns of classes that should not be woven
+	 * 
+	 * @return		Weaving scope
+	 * 
+	 * @throws		IllegalArgumentException If includes or excludes is null or
+	 * if some pattern is not a valid type pattern
+	 */
+	public static WeavingScope of(String includes, String excludes) {
+		if (includes == null)
+			throw new IllegalArgumentException("Includes cannot be null");
+		
+		if (excludes == null)
+			throw new IllegalArgumentException("Excludes cannot be null");
+		
+		List<String> includePatterns = parsePatterns(includes);
+		List<String> excludePatterns = parsePatterns(excludes);
+		
+		if (includePatterns.isEmpty() && excludePatterns.isEmpty())
+			return EVERYTHING;
+		
+		return new WeavingScope(includePatterns, excludePatterns);
+	}
+	
+	private static List<String> parsePatterns(String patterns) {
+		List<String> parsedPatterns = new ArrayList<>();
+		
+		for (String pattern : patterns.trim().split("[,\\s]+")) {
+			if (pattern.isEmpty())
+				continue;
+			
+			if (!TYPE_PATTERN.matcher(pattern).matches())
+				throw new IllegalArgumentException("Invalid package pattern: " + pattern);
+			
+			parsedPatterns.add(pattern);
+		}
+		
+		return parsedPatterns;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Generates AspectJ type pattern of classes in the scope.
+	 * 
+	 * @return		Type pattern or null if all classes are in the scope
+	 */
+	public String toTypePattern() {
+		if (isEverything())
+			return null;
+		
+		if (excludes.isEmpty())
+			return joinPatterns(includes);
+		
+		if (includes.isEmpty())
+			return "!" + joinPatterns(excludes);
+		
+		return joinPatterns(includes) + " && !" + joinPatterns(excludes);
+	}
+	
+	private String joinPatterns(List<String> patterns) {
+		return "(" + String.join(" || ", patterns) + ")";
+	}
+	
+	/**
+	 * Generates the declarations of hooks for AspectJ XML configuration
+	 * (aop.xml). Hooks that collect invoked and methods called are restricted
+	 * to classes in the scope.
+	 * 
+	 * @return		Aspect elements, one per line
+	 */
+	public List<String> buildAspectDeclarations() {
+		List<String> declarations = new ArrayList<>();
+		String scope = isEverything() ? "" : " scope=\"" + escapeXml(toTypePattern()) + "\"";
+		
+		declarations.add("<aspect name=\"" + HOOKS_PACKAGE + "." + TEST_METHOD_HOOK + "\"/>");
+		
+		for (String hook : SCOPED_HOOKS) {
+			declarations.add("<aspect name=\"" + HOOKS_PACKAGE + "." + hook + "\"" + scope + "/>");
+		}
+		
+		return declarations;
+	}
+	
+	private static String escapeXml(String str) {
+		return str.replace("&", "&amp;");
+	}
+	
+	/**
+	 * Gets AspectJ XML configuration that restricts hooks to this scope at
+	 * compile time. It is generated once per scope.
+	 * 
+	 * @return		Configuration file
+	 * 
+	 * @throws		IOException If configuration file cannot be created
+	 */
+	public synchronized Path getConfiguration() throws IOException {
+		if ((configuration != null) && Files.exists(configuration))
+			return configuration;
+		
+		StringBuilder content = new StringBuilder();
+		
+		content.append("<aspectj>\n");
+		content.append("\t<aspects>\n");
+		
+		for (String declaration : buildAspectDeclarations()) {
+			content.append("\t\t").append(declaration).append('\n');
+		}
+		
+		content.append("\t</aspects>\n");
+		content.append("</aspectj>\n");
+		
+		configuration = Files.createTempFile("ef-weaving-scope", ".xml");
+		configuration.toFile().deleteOnExit();
+		Files.writeString(configuration, content.toString(), StandardCharsets.UTF_8);
+		
+		return configuration;
+	}
+	
+	@Override
+	public int hashCode() {
+		return Objects.hash(includes, excludes);
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		
+		if ((obj == null) || (getClass() != obj.getClass()))
+			return false;
+		
+		WeavingScope other = (WeavingScope) obj;
+		
+		return	includes.equals(other.includes)
+				&& excludes.equals(other.excludes);
+	}
+	
+	@Override
+	public String toString() {
+		return "WeavingScope [includes=" + includes + ", excludes=" + excludes + "]";
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Checks whether all classes are in the scope.
+	 * 
+	 * @return		True if hooks are not restricted
+	 */
+	public boolean isEverything() {
+		return includes.isEmpty() && excludes.isEmpty();
+	}
+	
+	public List<String> getIncludes() {
+		return includes;
+	}
+	
+	public List<String> getExcludes() {
+		return excludes;
+	}
+}
@@ -0,0 +1,22 @@
+package wniemiec.app.java.executionflow.io.ipc;
+
+import wniemiec.app.java.executionflow.invoked.Invoked;
+
+/**
+ * Receives messages sent through a {@link MessageServer} channel. Methods 
+ * are called by the thread that reads the connection from which the message
+ * was received.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public interface MessageListener {
+	
+	/**
+	 * Called when a method called inside an invoked is received.
+	 * 
+	 * @param		signature Signature of the method called
+	 * @param		invoked Method or constructor that made the call
+	 */
+	void onMethodCalled(String signature, Invoked invoked);
+}
@@ -0,0 +1,210 @@
+package wniemiec.app.java.executionflow.io.ipc;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Receives messages sent by {@link MessageWriter} from other virtual 
+ * machines through a loopback socket, so that they do not have to be 
+ * exchanged through files. Each connection is read by its own thread, which
+ * passes received messages to a {@link MessageListener}.
+ * 
+ * @apiNote		The channel must only be closed after the virtual machines 
+ * that write to it have ended, since closing it waits for all messages 
+ * they sent to be read
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class MessageServer implements Closeable {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int ACCEPT_TIMEOUT_MS = 50;
+	private static final int CLOSE_TIMEOUT_MS = 10 * 1000;
+	private final ServerSocket serverSocket;
+	private final MessageListener listener;
+	private final Thread acceptor;
+	private final List<Thread> readers;
+	private final List<Socket> connections;
+	private volatile boolean closing;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private MessageServer(MessageListener listener) throws IOException {
+		this.listener = listener;
+		this.readers = new CopyOnWriteArrayList<>();
+		this.connections = new CopyOnWriteArrayList<>();
+		this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		this.acceptor = new Thread(this::acceptConnections, "ef-message-server");
+		
+		serverSocket.setSoTimeout(ACCEPT_TIMEOUT_MS);
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Factories
+	//-------------------------------------------------------------------------
+	/**
+	 * Opens a channel on a free loopback port.
+	 * 
+	 * @param		listener Listener that will receive messages
+	 * 
+	 * @return		Message server
+	 * 
+	 * @throws		IOException If channel cannot be opened
+	 * @throws		IllegalArgumentException If listener is null
+	 */
+	public static MessageServer open(MessageListener listener) throws IOException {
+		if (listener == null)
+			throw new IllegalArgumentException("Listener cannot be null");
+		
+		return new MessageServer(listener);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void acceptConnections() {
+		while (true) {
+			try {
+				startReader(serverSocket.accept());
+			}
+			catch (SocketTimeoutException e) {
+				// No pending connection: writers that ended before closing 
+				// have all been accepted
+				if (closing)
+					return;
+			}
+			catch (IOException e) {
+				return;
+			}
+		}
+	}
+	
+	private void startReader(Socket connection) {
+		Thread reader = new Thread(() -> read(connection), "ef-message-reader");
+		
+		connections.add(connection);
+		readers.add(reader);
+		reader.setDaemon(true);
+		reader.start();
+	}
+	
+	private void read(Socket connection) {
+		Map<Integer, Invoked> invokedIds = new HashMap<>();
+		
+		try (DataInputStream input = new DataInputStream(
+				new BufferedInputStream(connection.getInputStream())
+		)) {
+			while (true) {
+				readMessage(input, invokedIds);
+			}
+		}
+		catch (EOFException e) {
+			// Writer has closed the connection
+		}
+		catch (IOException e) {
+			if (!connection.isClosed())
+				Consolex.writeError("Message channel - " + e.getMessage());
+		}
+	}
+	
+	private void readMessage(DataInputStream input, Map<Integer, Invoked> invokedIds) 
+			throws IOException {
+		MessageType type = MessageType.of(input.readByte());
+		
+		if (type == MessageType.INVOKED) {
+			int id = input.readInt();
+			
+			invokedIds.put(id, new Invoked.Builder()
+					.signature(input.readUTF())
+					.binPath(Path.of(input.readUTF()))
+					.srcPath(Path.of(input.readUTF()))
+					.invocationLine(input.readInt())
+					.isConstructor(input.readBoolean())
+					.build()
+			);
+		}
+		else {
+			Invoked invoked = invokedIds.get(input.readInt());
+			String signature = input.readUTF();
+			
+			if (invoked == null)
+				throw new IOException("Method called by an unknown invoked: " + signature);
+			
+			listener.onMethodCalled(signature, invoked);
+		}
+	}
+	
+	/**
+	 * Reads all messages sent by writers that have already ended and closes
+	 * the channel.
+	 */
+	@Override
+	public void close() {
+		closing = true;
+		
+		try {
+			acceptor.join(CLOSE_TIMEOUT_MS);
+			
+			for (Thread reader : readers) {
+				reader.join(CLOSE_TIMEOUT_MS);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			closeSockets();
+		}
+	}
+	
+	private void closeSockets() {
+		try {
+			serverSocket.close();
+			
+			for (Socket connection : connections) {
+				connection.close();
+			}
+		}
+		catch (IOException e) {
+			// Channel will not be used anymore
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets address that must be given to {@link MessageWriter#connect(String)}
+	 * in order to send messages to this channel.
+	 * 
+	 * @return		Channel address
+	 */
+	public String getAddress() {
+		return String.valueOf(serverSocket.getLocalPort());
+	}
+}
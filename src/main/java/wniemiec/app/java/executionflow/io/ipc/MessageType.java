@@ -0,0 +1,66 @@
+package wniemiec.app.java.executionflow.io.ipc;
+
+import java.io.IOException;
+
+/**
+ * Types of messages sent through a {@link MessageServer} channel. Each 
+ * message starts with the code of its type, followed by its content:
+ * <ul>
+ * 	<li><b>INVOKED:</b> id (int), signature (UTF), compiled file path 
+ * 	(UTF), source file path (UTF), invocation line (int), constructor 
+ * 	(boolean)</li>
+ * 	<li><b>METHOD_CALLED:</b> invoked id (int), signature (UTF)</li>
+ * </ul>
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+enum MessageType {
+	
+	INVOKED((byte) 1),
+	METHOD_CALLED((byte) 2);
+	
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final byte code;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private MessageType(byte code) {
+		this.code = code;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets message type from its code.
+	 * 
+	 * @param		code Message type code
+	 * 
+	 * @return		Message type
+	 * 
+	 * @throws		IOException If there is no message type with the code
+	 */
+	static MessageType of(byte code) throws IOException {
+		for (MessageType type : values()) {
+			if (type.code == code)
+				return type;
+		}
+		
+		throw new IOException("Unknown message type: " + code);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	byte getCode() {
+		return code;
+	}
+}
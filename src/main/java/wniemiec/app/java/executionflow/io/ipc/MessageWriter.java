@@ -0,0 +1,137 @@
+package wniemiec.app.java.executionflow.io.ipc;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.HashMap;
+import java.util.Map;
+
+import wniemiec.app.java.executionflow.invoked.Invoked;
+
+/**
+ * Sends messages to a {@link MessageServer} running in another virtual 
+ * machine. Messages are buffered until {@link #flush()} is called. Each 
+ * invoked is sent once and then referred to by an id.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public final class MessageWriter implements Closeable {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final Socket socket;
+	private final DataOutputStream output;
+	private final Map<Invoked, Integer> invokedIds;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private MessageWriter(Socket socket) throws IOException {
+		this.socket = socket;
+		this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+		this.invokedIds = new HashMap<>();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Factories
+	//-------------------------------------------------------------------------
+	/**
+	 * Connects to a message server.
+	 * 
+	 * @param		address Channel address, as provided by 
+	 * {@link MessageServer#getAddress()}
+	 * 
+	 * @return		Message writer
+	 * 
+	 * @throws		IOException If server cannot be reached
+	 * @throws		IllegalArgumentException If address is not a valid 
+	 * channel address
+	 */
+	public static MessageWriter connect(String address) throws IOException {
+		if ((address == null) || !address.matches("[0-9]+"))
+			throw new IllegalArgumentException("Invalid channel address: " + address);
+		
+		Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(address));
+		socket.setTcpNoDelay(true);
+		
+		return new MessageWriter(socket);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Sends a method called inside an invoked.
+	 * 
+	 * @param		signature Signature of the method called
+	 * @param		invoked Method or constructor that made the call
+	 * 
+	 * @throws		IOException If message cannot be sent
+	 */
+	public synchronized void writeMethodCalled(String signature, Invoked invoked) 
+			throws IOException {
+		int invokedId = getInvokedId(invoked);
+		
+		output.writeByte(MessageType.METHOD_CALLED.getCode());
+		output.writeInt(invokedId);
+		output.writeUTF(signature);
+	}
+	
+	private int getInvokedId(Invoked invoked) throws IOException {
+		Integer id = invokedIds.get(invoked);
+		
+		if (id == null) {
+			id = invokedIds.size();
+			invokedIds.put(invoked, id);
+			writeInvoked(id, invoked);
+		}
+		
+		return id;
+	}
+	
+	private void writeInvoked(int id, Invoked invoked) throws IOException {
+		output.writeByte(MessageType.INVOKED.getCode());
+		output.writeInt(id);
+		output.writeUTF(invoked.getInvokedSignature());
+		output.writeUTF(invoked.getBinPath().toString());
+		output.writeUTF(invoked.getSrcPath().toString());
+		output.writeInt(invoked.getInvocationLine());
+		output.writeBoolean(invoked.isConstructor());
+	}
+	
+	/**
+	 * Sends pending messages.
+	 * 
+	 * @throws		IOException If messages cannot be sent
+	 */
+	public synchronized void flush() throws IOException {
+		output.flush();
+	}
+	
+	/**
+	 * Sends pending messages and closes the connection, which tells the 
+	 * server that no more messages will be sent.
+	 * 
+	 * @throws		IOException If connection cannot be closed
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (socket.isClosed())
+			return;
+		
+		try {
+			output.flush();
+		}
+		finally {
+			socket.close();
+		}
+	}
+}
@@ -5,6 +5,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import wniemiec.io.java.TextFileManager;
@@ -58,6 +59,27 @@ public abstract class FileProcessor implements Serializable {
 		return outputFile.toString();
 	}
 
+	/**
+	 * Processes source code without reading or writing any file.
+	 * 
+	 * @param		sourceCode Source code lines
+	 * 
+	 * @return		Processed source code lines
+	 * 
+	 * @throws		Exception If an error occurs during processing
+	 * @throws		IllegalArgumentException If source code is null
+	 */
+	public final List<String> processLines(List<String> sourceCode) throws Exception {
+		if (sourceCode == null)
+			throw new IllegalArgumentException("Source code cannot be null");
+		
+		List<String> processedCode = doProcessing(new ArrayList<>(sourceCode));
+		
+		dump(processedCode);
+		
+		return processedCode;
+	}
+
 	private List<String> readLinesOf(Path file) throws IOException {
 		TextFileManager txtFileManager = new TextFileManager(
 				file, 
@@ -69,6 +91,26 @@ public abstract class FileProcessor implements Serializable {
 	
 	protected abstract List<String> doProcessing(List<String> sourceCode) throws Exception;
 	
+	/**
+	 * Gets information gathered by the last processing that is not part of
+	 * the processed file.
+	 * 
+	 * @return		Information gathered by the last processing or null if
+	 * there is none
+	 */
+	public Serializable getProcessingInfo() {
+		return null;
+	}
+	
+	/**
+	 * Restores information gathered by a previous processing of the same 
+	 * file. It is used when the processed file is not processed again.
+	 * 
+	 * @param		info Information returned by {@link #getProcessingInfo()}
+	 */
+	public void restoreProcessingInfo(Serializable info) {
+	}
+	
 	private void writeLinesInOutputFile(List<String> lines) throws IOException {
 		TextFileManager outFileManager = new TextFileManager(
 				outputFile, 
@@ -94,6 +136,19 @@ public abstract class FileProcessor implements Serializable {
 	//-------------------------------------------------------------------------
 	//		Getters & Setters
 	//-------------------------------------------------------------------------
+	public abstract ProcessorType getType();
+	
+	/**
+	 * Gets the options that change how a file is processed. Files with the
+	 * same content that are processed by the same type of processor with the
+	 * same options are processed in the same way.
+	 * 
+	 * @return		Processing options or an empty string if there are none
+	 */
+	public String getOptions() {
+		return "";
+	}
+	
 	public FileEncoding getEncoding() {
 		return encoding;
 	}
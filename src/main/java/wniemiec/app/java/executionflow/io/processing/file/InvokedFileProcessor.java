@@ -224,4 +224,13 @@ public class InvokedFileProcessor extends FileProcessor {
 		
 		processedLines = printCallProcessor.processLines();
 	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	@Override
+	public ProcessorType getType() {
+		return ProcessorType.INVOKED;
+	}
 }
@@ -1,5 +1,6 @@
 package wniemiec.app.java.executionflow.io.processing.file;
 
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -8,6 +9,7 @@ import wniemiec.app.java.executionflow.io.processing.processor.AssertProcessor;
 import wniemiec.app.java.executionflow.io.processing.processor.JUnit5ToJUnit4Processor;
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 import wniemiec.app.java.executionflow.io.processing.processor.TestMethodHighlighter;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenStream;
 
 /**
  * Responsible for pre-processing test method file. Handles exceptions
@@ -27,6 +29,7 @@ public class PreTestMethodFileProcessor extends FileProcessor {
 	private List<String> testMethodArgs;
 	private List<String> processedLines;
 	private boolean shouldSurroundAssertsWithTryCatch;
+	private transient JavaTokenStream tokenStream;
 		
 	
 	//-------------------------------------------------------------------------
@@ -261,6 +264,7 @@ public class PreTestMethodFileProcessor extends FileProcessor {
 	@Override
 	protected List<String> doProcessing(List<String> sourceCode) {
 		processedLines = sourceCode;
+		tokenStream = new JavaTokenStream(processedLines);
 		convertJUnit5ToJUnit4();
 		commentAllTestMethodsExcept(testMethodSignature);
 		
@@ -274,12 +278,14 @@ public class PreTestMethodFileProcessor extends FileProcessor {
 		SourceCodeProcessor testMethodHighlighter = 
 				new TestMethodHighlighter(processedLines, signature);
 		
+		testMethodHighlighter.setTokenStream(tokenStream);
 		processedLines = testMethodHighlighter.processLines();
 	}
 	
 	private void surroundAssertsWithTryCatch() {
 		SourceCodeProcessor assertProcessor = new AssertProcessor(processedLines);
 		
+		assertProcessor.setTokenStream(tokenStream);
 		processedLines = assertProcessor.processLines();
 	}
 	
@@ -292,9 +298,35 @@ public class PreTestMethodFileProcessor extends FileProcessor {
 	}
 	
 	
+	@Override
+	public Serializable getProcessingInfo() {
+		return totalTests;
+	}
+	
+	@Override
+	public void restoreProcessingInfo(Serializable info) {
+		if (info == null)
+			return;
+		
+		totalTests = (Integer) info;
+	}
+	
+	
 	//-------------------------------------------------------------------------
 	//		Getters
 	//-------------------------------------------------------------------------
+	@Override
+	public ProcessorType getType() {
+		return ProcessorType.PRE_TEST_METHOD;
+	}
+	
+	@Override
+	public String getOptions() {
+		return	testMethodSignature
+				+ ";" + testMethodArgs
+				+ ";" + shouldSurroundAssertsWithTryCatch;
+	}
+	
 	public static int getTotalTests() {
 		return totalTests;
 	}
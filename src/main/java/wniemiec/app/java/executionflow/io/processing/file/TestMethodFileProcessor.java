@@ -1,6 +1,8 @@
 package wniemiec.app.java.executionflow.io.processing.file;
 
+import java.io.Serializable;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -249,9 +251,40 @@ public class TestMethodFileProcessor extends FileProcessor {
 	}
 	
 	
+	/**
+	 * Gets the mapping of the original file with the modified file.
+	 * 
+	 * @return		Copy of {@link #getMapping()}
+	 */
+	@Override
+	public Serializable getProcessingInfo() {
+		HashMap<Integer, ArrayList<Integer>> info = new HashMap<>();
+		
+		for (Map.Entry<Integer, List<Integer>> entry : mapping.entrySet()) {
+			info.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+		}
+		
+		return info;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public void restoreProcessingInfo(Serializable info) {
+		if (info == null)
+			return;
+		
+		mapping = new HashMap<>((Map<Integer, List<Integer>>) info);
+	}
+	
+	
 	//-------------------------------------------------------------------------
 	//		Getters
 	//-------------------------------------------------------------------------
+	@Override
+	public ProcessorType getType() {
+		return ProcessorType.TEST_METHOD;
+	}
+	
 	/**
 	 * Gets the mapping of the original file with the modified file.
 	 * 
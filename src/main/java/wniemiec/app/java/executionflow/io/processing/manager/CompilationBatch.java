@@ -0,0 +1,134 @@
+package wniemiec.app.java.executionflow.io.processing.manager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import wniemiec.io.java.Consolex;
+
+/**
+ * Processed files that are compiled together, in as few compiler runs as
+ * possible.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class CompilationBatch {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final List<FilesProcessingManager> filesManagers;
+	private final List<FileProcessingManager> fileManagers;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public CompilationBatch() {
+		filesManagers = new ArrayList<>();
+		fileManagers = new ArrayList<>();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Adds a processed file to the batch, unless it has already been 
+	 * compiled. Its binary file is backed up right away, so that it can be
+	 * restored after the batch is compiled.
+	 * 
+	 * @param		filesManager Manager that keeps track of the file
+	 * @param		fm File manager of the processed file
+	 * 
+	 * @return		Itself to allow chained calls
+	 * 
+	 * @throws		IllegalArgumentException If any argument is null
+	 */
+	public CompilationBatch add(FilesProcessingManager filesManager, 
+								FileProcessingManager fm) {
+		if (filesManager == null)
+			throw new IllegalArgumentException("Files manager cannot be null");
+		
+		if (fm == null)
+			throw new IllegalArgumentException("File manager cannot be null");
+		
+		if (filesManager.wasCompiled(fm))
+			return this;
+		
+		fm.createBinBackupFile(false);
+		filesManagers.add(filesManager);
+		fileManagers.add(fm);
+		
+		return this;
+	}
+	
+	/**
+	 * Compiles all files of the batch.
+	 * 
+	 * @throws		IOException If an error occurs during compilation or during
+	 * class serialization
+	 * @throws		NoClassDefFoundError If aspectjtools.jar is not found
+	 */
+	public void compile() throws IOException {
+		if (fileManagers.isEmpty())
+			return;
+		
+		FileProcessingManager.compileFiles(fileManagers);
+		
+		for (int i = 0; i < fileManagers.size(); i++) {
+			filesManagers.get(i).markFileAsCompiled(fileManagers.get(i));
+		}
+		
+		filesManagers.clear();
+		fileManagers.clear();
+	}
+	
+	/**
+	 * Removes a file from the batch, so that it is not compiled. Its binary
+	 * file is not restored.
+	 * 
+	 * @param		fm File manager of the file
+	 */
+	public void remove(FileProcessingManager fm) {
+		for (int i = fileManagers.size() - 1; i >= 0; i--) {
+			if (fileManagers.get(i).equals(fm)) {
+				filesManagers.remove(i);
+				fileManagers.remove(i);
+			}
+		}
+	}
+	
+	/**
+	 * Restores original source and binary files of all files of the batch.
+	 * It should be called when the batch cannot be compiled, since none of 
+	 * its files will have been compiled.
+	 */
+	public void restore() {
+		for (int i = 0; i < fileManagers.size(); i++) {
+			restoreOriginalFile(fileManagers.get(i));
+			filesManagers.get(i).remove(fileManagers.get(i));
+		}
+		
+		filesManagers.clear();
+		fileManagers.clear();
+	}
+	
+	private void restoreOriginalFile(FileProcessingManager fm) {
+		try {
+			fm.revertCompilation();
+			fm.revertProcessing();
+		}
+		catch (IOException e) {
+			Consolex.writeError(
+					"An error occurred while restoring the original file - " 
+					+ e.getMessage()
+			);
+		}
+	}
+	
+	public boolean isEmpty() {
+		return fileManagers.isEmpty();
+	}
+}
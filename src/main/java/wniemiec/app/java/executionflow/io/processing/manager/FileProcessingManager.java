@@ -4,16 +4,26 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import wniemiec.app.java.ExecutionFlow;
 import wniemiec.app.java.executionflow.io.FileEncoding;
 import wniemiec.app.java.executionflow.io.compiler.Compiler;
 import wniemiec.app.java.executionflow.io.compiler.CompilerFactory;
+import wniemiec.app.java.executionflow.io.compiler.aspectj.WeavingScope;
 import wniemiec.app.java.executionflow.io.processing.file.FileProcessor;
 import wniemiec.app.java.executionflow.io.processing.file.factory.FileProcessorFactory;
 import wniemiec.app.java.executionflow.lib.LibraryManager;
@@ -36,10 +46,23 @@ public class FileProcessingManager implements Serializable {
 	private transient Path binFile;
 	private transient Path binFileBackup;
 	private transient Path binDirectory;
+	private String classPackage;
 	private FileProcessor fileProcessor;
 	private boolean encodingError;
 	private boolean lastWasError;
 	
+	/**
+	 * If true, files are processed in memory and the processed source is 
+	 * stored apart from the source tree instead of replacing the source file.
+	 */
+	private boolean inMemory;
+	private boolean srcBackupStoredInMemory;
+	private byte[] srcBackupInMemory;
+	private transient String cacheKey;
+	private transient ProcessedFile cachedFile;
+	private transient Serializable processingInfo;
+	private transient WeavingScope weavingScope;
+	
 	
 	//-------------------------------------------------------------------------
 	//		Constructor
@@ -53,12 +76,17 @@ public class FileProcessingManager implements Serializable {
 	 * @param		backupExtensionName Backup file extension name
 	 * @param		fileParserFactory Factory that will produce 
 	 * {@link FileProcessor} that will be used for parsing file
+	 * @param		keepProcessedFiles True if processed source file should
+	 * replace the source file, so that it can be inspected; false if it
+	 * should be stored apart from the source tree
+	 * @param		weavingScope Classes in which hooks can be woven
 	 * 
 	 * @throws		IllegalArgumentException If srcFilePath does not exist
 	 */
 	private FileProcessingManager(Path srcFilePath, Path binDirectory,
 						String classPackage, String backupExtensionName, 
-						FileProcessorFactory fileParserFactory) {
+						FileProcessorFactory fileParserFactory,
+						boolean keepProcessedFiles, WeavingScope weavingScope) {
 		srcFilePath = srcFilePath.normalize().toAbsolutePath();
 		binDirectory = binDirectory.normalize().toAbsolutePath();
 		
@@ -68,6 +96,9 @@ public class FileProcessingManager implements Serializable {
 					: backupExtensionName;
 		
 		this.binDirectory = extractRootBinDirectory(binDirectory, classPackage);
+		this.classPackage = classPackage;
+		this.inMemory = !keepProcessedFiles;
+		this.weavingScope = weavingScope;
 		
 		initializeBinFile(binDirectory, backupExtension, filename);
 		initializeSrcFile(srcFilePath, backupExtension);
@@ -85,6 +116,8 @@ public class FileProcessingManager implements Serializable {
 		private String pkg;
 		private String backupExtensionName;
 		private FileProcessorFactory fileProcessorFactory;
+		private boolean keepProcessedFiles = true;
+		private WeavingScope weavingScope = WeavingScope.everything();
 		
 
 		public Builder srcPath(Path srcPath) {
@@ -134,6 +167,36 @@ public class FileProcessingManager implements Serializable {
 			return this;
 		}
 		
+		/**
+		 * @param		keepProcessedFiles True if processed source file should
+		 * replace the source file, so that it can be inspected; false if it
+		 * should be stored apart from the source tree (default is true)
+		 * 
+		 * @return		Itself to allow chained calls
+		 */
+		public Builder keepProcessedFiles(boolean keepProcessedFiles) {
+			this.keepProcessedFiles = keepProcessedFiles;
+			
+			return this;
+		}
+		
+		/**
+		 * @param		weavingScope Classes in which hooks can be woven 
+		 * (default is all classes)
+		 * 
+		 * @return		Itself to allow chained calls
+		 * 
+		 * @throws		IllegalArgumentException If weaving scope is null
+		 */
+		public Builder weavingScope(WeavingScope weavingScope) {
+			if (weavingScope == null)
+				throw new IllegalArgumentException("Weaving scope cannot be null");
+			
+			this.weavingScope = weavingScope;
+			
+			return this;
+		}
+		
 		/**
 		 * Creates {@link FileProcessingManager} with provided information. It is 
 		 * necessary to provide all required fields.. The required fields 
@@ -157,7 +220,9 @@ public class FileProcessingManager implements Serializable {
 					binPath.getParent(),
 					pkg,
 					backupExtensionName,
-					fileProcessorFactory
+					fileProcessorFactory,
+					keepProcessedFiles,
+					weavingScope
 			);
 		}
 		
@@ -261,7 +326,9 @@ public class FileProcessingManager implements Serializable {
 	
 	/**
 	 * Parses and process file, saving modified file in the same file passed 
-	 * to constructor.
+	 * to constructor. If processed files should not be kept, the file is
+	 * processed in memory and the modified file is stored apart from the 
+	 * source tree instead.
 	 * 
 	 * @param		autoRestore Checks if processed files exist against the 
 	 * current file. If so, restore them before processing. Default is true.
@@ -276,13 +343,58 @@ public class FileProcessingManager implements Serializable {
 	public FileProcessingManager processFile(boolean autoRestore) throws Exception {
 		createSrcBackupFile(autoRestore);
 		
-		Path processedFile = processFile();
+		cachedFile = findInCache();
+		
+		if (cachedFile != null) {
+			restoreProcessedFile(cachedFile);
+			
+			return this;
+		}
+		
+		if (inMemory) {
+			storeProcessedSource(processSourceInMemory());
+		}
+		else {
+			Path processedFile = processFile();
+			
+			storeProcessedFile(processedFile);
+		}
 		
-		storeProcessedFile(processedFile);
+		processingInfo = fileProcessor.getProcessingInfo();
 		
 		return this;
 	}
 	
+	private ProcessedFile findInCache() {
+		try {
+			cacheKey = ProcessedFileCache.generateKey(
+					readCurrentSource(),
+					fileProcessor.getType(),
+					fileProcessor.getOptions(),
+					ProcessedFileCache.generateClasspathFingerprint(
+							generateAspectsRootDirectory(), 
+							generateClasspath()
+					) + getWeavingScope()
+			);
+		}
+		catch (IOException e) {
+			cacheKey = null;
+			
+			return null;
+		}
+		
+		return ProcessedFileCache.getInstance().get(cacheKey);
+	}
+	
+	private void restoreProcessedFile(ProcessedFile processedFile) 
+			throws IOException {
+		Consolex.writeDebug("Processed file restored from cache: " + srcFile);
+		
+		storeProcessedSource(processedFile.getProcessedSource());
+		encodingError = (processedFile.getEncoding() != FileEncoding.UTF_8);
+		fileProcessor.restoreProcessingInfo(processedFile.getProcessingInfo());
+	}
+	
 	/**
 	 * Creates a copy of source file passed to the constructor to allow to 
 	 * restore it after.
@@ -293,11 +405,29 @@ public class FileProcessingManager implements Serializable {
 	 * It will be saved in the same directory of the original file
 	 */
 	public FileProcessingManager createSrcBackupFile(boolean autoRestore) {
-		createBackupFile(srcFile, srcFileBackup, autoRestore);
+		if (inMemory)
+			createSrcBackupInMemory(autoRestore);
+		else
+			createBackupFile(srcFile, srcFileBackup, autoRestore);
 		
 		return this;
 	}
 	
+	private void createSrcBackupInMemory(boolean autoRestore) {
+		if (srcBackupStoredInMemory && autoRestore)
+			revertProcessingInMemory();
+		
+		try {
+			srcBackupInMemory = hasProcessedSource() 
+					? Files.readAllBytes(getProcessedSourcePath()) 
+					: null;
+			srcBackupStoredInMemory = true;
+		}
+		catch (IOException e) {
+			Consolex.writeError(e.getMessage());
+		}
+	}
+	
 	private void createBackupFile(Path file, Path bkpFile, boolean autoRestore) {
 		try {
 			Files.copy(file, bkpFile, StandardCopyOption.COPY_ATTRIBUTES);
@@ -330,6 +460,9 @@ public class FileProcessingManager implements Serializable {
 	 * @throws		IOException If file has not a backup file
 	 */
 	public FileProcessingManager revertProcessing() throws IOException {
+		if (inMemory)
+			revertProcessingInMemory();
+		
 		if (!hasSrcBackupStored())
 			return this;
 
@@ -343,6 +476,24 @@ public class FileProcessingManager implements Serializable {
 		return this;
 	}
 
+	private void revertProcessingInMemory() {
+		if (!srcBackupStoredInMemory)
+			return;
+		
+		try {
+			if (srcBackupInMemory == null)
+				Files.deleteIfExists(getProcessedSourcePath());
+			else
+				Files.write(getProcessedSourcePath(), srcBackupInMemory);
+		}
+		catch (IOException e) {
+			Consolex.writeError(e.getMessage());
+		}
+		
+		srcBackupInMemory = null;
+		srcBackupStoredInMemory = false;
+	}
+
 	private Path processFile() throws Exception {
 		Path processedFile = null;
 		
@@ -376,6 +527,159 @@ public class FileProcessingManager implements Serializable {
 		Files.move(processedFile, srcFile, StandardCopyOption.REPLACE_EXISTING);
 	}
 	
+	private byte[] processSourceInMemory() throws Exception {
+		byte[] source = readCurrentSource();
+		
+		try {	
+			return processSourceUsingEncode(source, FileEncoding.UTF_8);
+		} 
+		catch (CharacterCodingException e) {	
+			encodingError = true;
+			
+			return processSourceUsingEncode(source, FileEncoding.ISO_8859_1);
+		}
+	}
+	
+	private byte[] processSourceUsingEncode(byte[] source, FileEncoding encoding) 
+			throws Exception {
+		Charset charset = encoding.getStandardCharset();
+		String sourceCode = charset.newDecoder()
+				.decode(ByteBuffer.wrap(source))
+				.toString();
+		
+		fileProcessor.setEncoding(encoding);
+		
+		List<String> processedLines = fileProcessor.processLines(
+				sourceCode.lines().collect(Collectors.toList())
+		);
+		StringBuilder processedSource = new StringBuilder();
+		
+		for (String line : processedLines) {
+			processedSource.append(line);
+			processedSource.append(System.lineSeparator());
+		}
+		
+		return processedSource.toString().getBytes(charset);
+	}
+	
+	/**
+	 * Reads the source file with the changes made by previous processings of
+	 * it, if any.
+	 */
+	private byte[] readCurrentSource() throws IOException {
+		if (inMemory && hasProcessedSource())
+			return Files.readAllBytes(getProcessedSourcePath());
+		
+		return Files.readAllBytes(srcFile);
+	}
+	
+	private void storeProcessedSource(byte[] processedSource) throws IOException {
+		if (inMemory) {
+			Files.createDirectories(getProcessedSourcePath().getParent());
+			Files.write(getProcessedSourcePath(), processedSource);
+		}
+		else {
+			Files.write(srcFile, processedSource);
+		}
+	}
+	
+	private boolean hasProcessedSource() throws IOException {
+		return isUpToDate(getProcessedSourcePath(), srcFile);
+	}
+	
+	/**
+	 * Checks whether there is a processed source that is newer than the
+	 * source file, so that processed sources left by an interrupted 
+	 * execution are not used once the source file changes.
+	 */
+	private static boolean isUpToDate(Path processedSource, Path srcFile) 
+			throws IOException {
+		if (!Files.exists(processedSource))
+			return false;
+		
+		return	Files.getLastModifiedTime(processedSource).compareTo(
+					Files.getLastModifiedTime(srcFile)
+				) >= 0;
+	}
+	
+	private Path getProcessedSourcePath() {
+		return getProcessedSourcePath(srcFile, classPackage);
+	}
+	
+	/**
+	 * Gets where the processed source is stored when the source file should
+	 * not be replaced. The compiler reads it from there, and so do test 
+	 * methods run in other processes.
+	 */
+	private static Path getProcessedSourcePath(Path srcFile, String classPackage) {
+		Path processedSource = getProcessedSourceRoot(srcFile, classPackage);
+		
+		if ((classPackage != null) && !classPackage.isEmpty())
+			processedSource = processedSource.resolve(classPackage.replace('.', '/'));
+		
+		return processedSource.resolve(srcFile.getFileName());
+	}
+	
+	/**
+	 * Gets the source root directory in which processed sources of a source 
+	 * root are stored when the source files should not be replaced. Processed
+	 * sources are placed in it according to their packages, so that it can be
+	 * used as a source path.
+	 * 
+	 * @param		srcFile Source file
+	 * @param		classPackage Package of the class of the source file
+	 * 
+	 * @return		Source root directory of processed sources
+	 * 
+	 * @throws		IllegalArgumentException If source file is null
+	 */
+	public static Path getProcessedSourceRoot(Path srcFile, String classPackage) {
+		if (srcFile == null)
+			throw new IllegalArgumentException("Source file cannot be null");
+		
+		Path srcRoot = srcFile.normalize().toAbsolutePath().getParent();
+		
+		if ((classPackage != null) && !classPackage.isEmpty()) {
+			for (int i=0; i<classPackage.split("\\.").length; i++) {
+				srcRoot = srcRoot.getParent();
+			}
+		}
+		
+		String id = Integer.toHexString(String.valueOf(srcRoot).hashCode());
+		
+		return ExecutionFlow.getAppRootPath()
+				.resolve("processed")
+				.resolve(id);
+	}
+	
+	/**
+	 * Gets the source file from which the class file of a source file has
+	 * been compiled. It is the processed source, if processed sources are 
+	 * stored apart from the source tree; otherwise, it is the source file 
+	 * itself. Line numbers of the class file only match this source file.
+	 * 
+	 * @param		srcFile Source file
+	 * @param		classPackage Package of the class of the source file
+	 * 
+	 * @return		Processed source, if it is stored apart from the source 
+	 * tree; source file otherwise
+	 * 
+	 * @throws		IllegalArgumentException If source file is null
+	 */
+	public static Path getCompiledSourcePath(Path srcFile, String classPackage) {
+		Path processedSource = getProcessedSourcePath(srcFile, classPackage);
+		
+		try {
+			if (isUpToDate(processedSource, srcFile))
+				return processedSource;
+		}
+		catch (IOException e) {
+			Consolex.writeDebug("Processed source cannot be read: " + e.getMessage());
+		}
+		
+		return srcFile;
+	}
+	
 	/**
 	 * Compiles processed file.
 	 *  
@@ -385,23 +689,164 @@ public class FileProcessingManager implements Serializable {
 	 * @throws		NoClassDefFoundError If aspectjtools.jar is not found
 	 */
 	public FileProcessingManager compileFile() throws IOException {
-		Compiler compiler = CompilerFactory.createStandardAspectJCompiler()
-				.inpath(generateAspectsRootDirectory())
-				.classpath(generateClasspath())
-				.build();
-
+		compileFiles(List.of(this));
+		
+		return this;
+	}
+	
+	/**
+	 * Compiles processed files. Files that have the same output directory 
+	 * and encoding are compiled in a single run. If several managers have 
+	 * processed the same file, it is compiled only once, with the changes
+	 * made by all of them.
+	 * 
+	 * @param		fileManagers Managers of the processed files, in the order
+	 * in which the files were processed
+	 * 
+	 * @throws		IOException If an error occurs during compilation
+	 * @throws		NoClassDefFoundError If aspectjtools.jar is not found
+	 * @throws		IllegalArgumentException If file managers is null
+	 */
+	public static void compileFiles(List<FileProcessingManager> fileManagers) 
+			throws IOException {
+		if (fileManagers == null)
+			throw new IllegalArgumentException("File managers cannot be null");
+		
+		Map<Path, Map<FileEncoding, List<FileProcessingManager>>> pendingFiles = 
+				new LinkedHashMap<>();
+		
+		for (FileProcessingManager fm : getLastManagerOfEachFile(fileManagers)) {
+			if (fm.cachedFile != null) {
+				fm.restoreClassFiles(fm.cachedFile);
+			}
+			else {
+				pendingFiles
+						.computeIfAbsent(fm.binDirectory, dir -> new LinkedHashMap<>())
+						.computeIfAbsent(fm.getEncoding(), encoding -> new ArrayList<>())
+						.add(fm);
+			}
+		}
+		
+		if (pendingFiles.isEmpty())
+			return;
+		
+		Compiler compiler = fileManagers.get(0).createCompiler();
+		
+		for (Map.Entry<Path, Map<FileEncoding, List<FileProcessingManager>>> outputDir : 
+				pendingFiles.entrySet()) {
+			for (Map.Entry<FileEncoding, List<FileProcessingManager>> files : 
+					outputDir.getValue().entrySet()) {
+				compile(compiler, files.getValue(), outputDir.getKey(), files.getKey());
+			}
+		}
+	}
+	
+	private static Collection<FileProcessingManager> getLastManagerOfEachFile(
+			List<FileProcessingManager> fileManagers) {
+		Map<Path, FileProcessingManager> lastManagers = new LinkedHashMap<>();
+		
+		for (FileProcessingManager fm : fileManagers) {
+			lastManagers.put(fm.getCompilationTarget(), fm);
+		}
+		
+		return lastManagers.values();
+	}
+	
+	private static void compile(Compiler compiler, List<FileProcessingManager> fileManagers,
+								Path outputDir, FileEncoding encoding) 
+			throws IOException {
+		List<Path> targets = new ArrayList<>();
+		
+		for (FileProcessingManager fm : fileManagers) {
+			targets.add(fm.getCompilationTarget());
+		}
+		
 		try {
-			if (encodingError)	
-				compiler.compile(srcFile, binDirectory, FileEncoding.ISO_8859_1);
-			else
-				compiler.compile(srcFile, binDirectory, FileEncoding.UTF_8);
+			compiler.compile(targets, outputDir, encoding);
 		} 
 		catch (java.lang.NoClassDefFoundError e) {
 			Consolex.writeError("aspectjtools.jar not found");
 			throw e;
 		}
 		
-		return this;
+		for (FileProcessingManager fm : fileManagers) {
+			fm.storeInCache();
+		}
+	}
+	
+	private Compiler createCompiler() {
+		return CompilerFactory.createIncrementalAspectJCompiler()
+				.inpath(generateAspectsRootDirectory())
+				.classpath(generateClasspath())
+				.weavingScope(getWeavingScope())
+				.build();
+	}
+	
+	/**
+	 * Weaving scope is not kept in backups, so that managers restored from
+	 * them weave hooks in all classes.
+	 */
+	private WeavingScope getWeavingScope() {
+		return (weavingScope == null) ? WeavingScope.everything() : weavingScope;
+	}
+	
+	private Path getCompilationTarget() {
+		return inMemory ? getProcessedSourcePath() : srcFile;
+	}
+	
+	private FileEncoding getEncoding() {
+		return encodingError ? FileEncoding.ISO_8859_1 : FileEncoding.UTF_8;
+	}
+	
+	private void restoreClassFiles(ProcessedFile processedFile) throws IOException {
+		Path classDirectory = binFile.getParent();
+		
+		for (Map.Entry<String, byte[]> classFile : processedFile.getClassFiles().entrySet()) {
+			Files.write(classDirectory.resolve(classFile.getKey()), classFile.getValue());
+		}
+	}
+	
+	private void storeInCache() {
+		if (cacheKey == null)
+			return;
+		
+		try {
+			Map<String, byte[]> classFiles = readClassFiles();
+			
+			if (classFiles.isEmpty())
+				return;
+			
+			ProcessedFileCache.getInstance().put(cacheKey, new ProcessedFile(
+					getEncoding(),
+					readCurrentSource(),
+					processingInfo,
+					classFiles
+			));
+		}
+		catch (IOException e) {
+			Consolex.writeDebug("Processed file cannot be cached: " + e.getMessage());
+		}
+	}
+	
+	/**
+	 * Reads the class file of the compiled file along with the class files
+	 * of its inner classes.
+	 */
+	private Map<String, byte[]> readClassFiles() throws IOException {
+		Map<String, byte[]> classFiles = new HashMap<>();
+		String className = binFile.getFileName().toString().replace(".class", "");
+		
+		try (Stream<Path> files = Files.list(binFile.getParent())) {
+			for (Path file : files.collect(Collectors.toList())) {
+				String filename = file.getFileName().toString();
+				
+				if (filename.equals(className + ".class") 
+						|| (filename.startsWith(className + "$") && filename.endsWith(".class")))
+					classFiles.put(filename, Files.readAllBytes(file));
+			}
+		}
+		
+		return classFiles;
 	}
 
 	private Path generateAspectsRootDirectory() {
@@ -465,6 +910,9 @@ public class FileProcessingManager implements Serializable {
 	 * @return		True if file has source backup file; false otherwise
 	 */
 	public boolean hasSrcBackupStored() {
+		if (inMemory)
+			return srcBackupStoredInMemory;
+		
 		return Files.exists(srcFileBackup);
 	}
 	
@@ -484,6 +932,9 @@ public class FileProcessingManager implements Serializable {
 	}
 	
 	public void deleteSrcBackupFile() throws IOException {
+		srcBackupInMemory = null;
+		srcBackupStoredInMemory = false;
+		
 		Files.deleteIfExists(srcFileBackup);
 	}
 	
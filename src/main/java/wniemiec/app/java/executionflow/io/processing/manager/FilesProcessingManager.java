@@ -292,13 +292,7 @@ public class FilesProcessingManager {
 	 */
 	public FilesProcessingManager compile(FileProcessingManager fm) 
 			throws IOException {	
-		if (wasCompiled(fm))
-			return this;
-		
-		fm.createBinBackupFile(false);
-		fm.compileFile();
-
-		markFileAsCompiled(fm);
+		new CompilationBatch().add(this, fm).compile();
 		
 		return this;
 	}
@@ -314,7 +308,7 @@ public class FilesProcessingManager {
 		return compiledFiles.contains(fm.hashCode());
 	}
 
-	private void markFileAsCompiled(FileProcessingManager fm) 
+	void markFileAsCompiled(FileProcessingManager fm) 
 			throws IOException {
 		compiledFiles.add(fm.hashCode());
 		
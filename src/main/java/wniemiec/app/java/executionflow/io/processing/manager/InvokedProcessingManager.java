@@ -101,6 +101,31 @@ public class InvokedProcessingManager {
 		invokedFilesManager.compile(invokedFileManager);
 	}
 	
+	/**
+	 * Processes a file and adds it to a compilation batch, so that it is 
+	 * compiled along with other files.
+	 * 
+	 * @param		invokedFileManager File manager of the file
+	 * @param		autoRestore Checks if processed files exist against the 
+	 * current file. If so, restore them before processing
+	 * @param		batch Compilation batch
+	 * 
+	 * @throws		Exception If an error occurs during processing
+	 */
+	public void process(FileProcessingManager invokedFileManager, 
+						boolean autoRestore, CompilationBatch batch) 
+			throws Exception {
+		checkInvokedFilesManagerIsInitialized();
+		checkFileProcessingManager(invokedFileManager);
+		
+		if (invokedFilesManager.wasProcessed(invokedFileManager))
+			return;
+		
+		invokedFilesManager.createBackup();
+		invokedFilesManager.processFile(invokedFileManager, autoRestore);
+		batch.add(invokedFilesManager, invokedFileManager);
+	}
+	
 	private void checkInvokedFilesManagerIsInitialized() {
 		if (!isInvokedFilesManagerInitialized()) {
 			throw new IllegalStateException("Invoked files manager was destroyed");
@@ -0,0 +1,86 @@
+package wniemiec.app.java.executionflow.io.processing.manager;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import wniemiec.app.java.executionflow.io.FileEncoding;
+
+/**
+ * Result of processing and compiling a source file, which can be restored
+ * instead of processing and compiling the file again.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class ProcessedFile implements Serializable {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final long serialVersionUID = 810L;
+	private final FileEncoding encoding;
+	private final byte[] processedSource;
+	private final Serializable processingInfo;
+	
+	/**
+	 * Key: Class file name<br />
+	 * Value: Class file content
+	 */
+	private final HashMap<String, byte[]> classFiles;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Result of processing and compiling a source file.
+	 * 
+	 * @param		encoding Encoding used to read the source file
+	 * @param		processedSource Content of the processed source file
+	 * @param		processingInfo Information gathered by the file processor
+	 * or null if there is none
+	 * @param		classFiles Class files generated by the compilation, where
+	 * the key is the name of the class file and the value is its content
+	 * 
+	 * @throws		IllegalArgumentException If encoding, processed source or
+	 * class files is null
+	 */
+	public ProcessedFile(FileEncoding encoding, byte[] processedSource,
+						 Serializable processingInfo, 
+						 Map<String, byte[]> classFiles) {
+		if (encoding == null)
+			throw new IllegalArgumentException("Encoding cannot be null");
+		
+		if (processedSource == null)
+			throw new IllegalArgumentException("Processed source cannot be null");
+		
+		if (classFiles == null)
+			throw new IllegalArgumentException("Class files cannot be null");
+		
+		this.encoding = encoding;
+		this.processedSource = processedSource;
+		this.processingInfo = processingInfo;
+		this.classFiles = new HashMap<>(classFiles);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public FileEncoding getEncoding() {
+		return encoding;
+	}
+	
+	public byte[] getProcessedSource() {
+		return processedSource;
+	}
+	
+	public Serializable getProcessingInfo() {
+		return processingInfo;
+	}
+	
+	public Map<String, byte[]> getClassFiles() {
+		return classFiles;
+	}
+}
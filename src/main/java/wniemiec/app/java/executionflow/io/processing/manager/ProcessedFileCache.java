@@ -0,0 +1,427 @@
+package wniemiec.app.java.executionflow.io.processing.manager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.io.processing.file.ProcessorType;
+import wniemiec.io.java.Consolex;
+
+/**
+ * Stores processed and compiled files across runs, so that a file with the
+ * same content that is processed by the same type of processor with the 
+ * same options and compiled with the same classpath is not processed nor
+ * compiled again. When the cache exceeds its maximum size, the least 
+ * recently used files are removed.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class ProcessedFileCache {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final long DEFAULT_MAX_SIZE = 128L * 1024 * 1024;
+	private static final String ENTRY_EXTENSION = ".ef";
+	private static ProcessedFileCache instance;
+	private final Path directory;
+	private final long maxSize;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Stores processed and compiled files in a directory.
+	 * 
+	 * @param		directory Directory where files will be stored
+	 * @param		maxSize Maximum size of the directory, in bytes
+	 * 
+	 * @throws		IllegalArgumentException If directory is null or if 
+	 * maximum size is not positive
+	 */
+	public ProcessedFileCache(Path directory, long maxSize) {
+		if (directory == null)
+			throw new IllegalArgumentException("Directory cannot be null");
+		
+		if (maxSize <= 0)
+			throw new IllegalArgumentException("Maximum size must be positive");
+		
+		this.directory = directory;
+		this.maxSize = maxSize;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Factories
+	//-------------------------------------------------------------------------
+	public static ProcessedFileCache getInstance() {
+		if (instance == null) {
+			instance = new ProcessedFileCache(
+					ExecutionFlow.getAppRootPath().resolve("cache"), 
+					DEFAULT_MAX_SIZE
+			);
+		}
+		
+		return instance;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Generates the key of a processed file.
+	 * 
+	 * @param		source Content of the source file before processing
+	 * @param		type Type of processor
+	 * @param		options Processing options
+	 * @param		classpathFingerprint Fingerprint of the classpath used to
+	 * compile the processed file
+	 * 
+	 * @return		Key
+	 * 
+	 * @throws		IllegalArgumentException If any argument is null
+	 * 
+	 * @see			#generateClasspathFingerprint(Path, List)
+	 */
+	public static String generateKey(byte[] source, ProcessorType type,
+									 String options, String classpathFingerprint) {
+		if (source == null)
+			throw new IllegalArgumentException("Source cannot be null");
+		
+		if (type == null)
+			throw new IllegalArgumentException("Processor type cannot be null");
+		
+		if (options == null)
+			throw new IllegalArgumentException("Options cannot be null");
+		
+		if (classpathFingerprint == null)
+			throw new IllegalArgumentException("Classpath fingerprint cannot be null");
+		
+		MessageDigest digest = createDigest();
+		
+		digest.update(source);
+		digest.update((byte) 0);
+		digest.update(type.getName().getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(options.getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+		digest.update(classpathFingerprint.getBytes(StandardCharsets.UTF_8));
+		
+		return toHex(digest.digest());
+	}
+	
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} 
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder();
+		
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		
+		return hex.toString();
+	}
+	
+	/**
+	 * Generates a fingerprint of the classpath used to compile a file. Jar 
+	 * files and the classes of the inpath are identified by their size and 
+	 * modification date. Other directories are identified by the size and 
+	 * modification date of the class files in them, so that a processed file
+	 * is compiled again when a class it depends on changes. Class files that 
+	 * have been compiled by processing are identified by their backups, 
+	 * which are the original class files.
+	 * 
+	 * @param		inpath Directory with the aspects that are woven
+	 * @param		classpath Classpath
+	 * 
+	 * @return		Fingerprint
+	 * 
+	 * @throws		IllegalArgumentException If inpath or classpath is null
+	 */
+	public static String generateClasspathFingerprint(Path inpath, List<Path> classpath) {
+		if (inpath == null)
+			throw new IllegalArgumentException("Inpath cannot be null");
+		
+		if (classpath == null)
+			throw new IllegalArgumentException("Classpath cannot be null");
+		
+		StringBuilder fingerprint = new StringBuilder();
+		
+		try (Stream<Path> inpathFiles = Files.walk(inpath)) {
+			for (Path file : inpathFiles.sorted().collect(Collectors.toList())) {
+				appendFileFingerprint(fingerprint, file);
+			}
+		}
+		catch (IOException e) {
+			appendFileFingerprint(fingerprint, inpath);
+		}
+		
+		for (Path path : classpath) {
+			if (path == null)
+				continue;
+			
+			if (Files.isDirectory(path))
+				appendDirectoryFingerprint(fingerprint, path);
+			else
+				appendFileFingerprint(fingerprint, path);
+		}
+		
+		return fingerprint.toString();
+	}
+	
+	private static void appendFileFingerprint(StringBuilder fingerprint, Path file) {
+		fingerprint.append(file.toAbsolutePath().normalize());
+		
+		if (Files.isRegularFile(file)) {
+			try {
+				fingerprint.append(':');
+				fingerprint.append(Files.size(file));
+				fingerprint.append(':');
+				fingerprint.append(Files.getLastModifiedTime(file).toMillis());
+			} 
+			catch (IOException e) {
+				fingerprint.append('?');
+			}
+		}
+		
+		fingerprint.append(';');
+	}
+	
+	private static void appendDirectoryFingerprint(StringBuilder fingerprint, 
+												   Path directory) {
+		MessageDigest digest = createDigest();
+		
+		try (Stream<Path> files = Files.walk(directory)) {
+			List<Path> allFiles = files.sorted().collect(Collectors.toList());
+			Map<Path, Path> originalClassFiles = findOriginalClassFiles(allFiles);
+			
+			for (Path file : allFiles) {
+				if (!isClassFile(file) || hasBackedUpOuterClass(file, originalClassFiles))
+					continue;
+				
+				Path originalFile = originalClassFiles.getOrDefault(file, file);
+				
+				digest.update(directory.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) ':');
+				digest.update(Long.toString(Files.size(originalFile)).getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) ':');
+				digest.update(Long.toString(getLastModifiedTime(originalFile)).getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) ';');
+			}
+		}
+		catch (IOException e) {
+			digest.update((byte) '?');
+		}
+		
+		fingerprint.append(directory.toAbsolutePath().normalize());
+		fingerprint.append(':');
+		fingerprint.append(toHex(digest.digest()));
+		fingerprint.append(';');
+	}
+	
+	private static boolean isClassFile(Path file) {
+		return	file.getFileName().toString().endsWith(".class") 
+				&& Files.isRegularFile(file);
+	}
+	
+	/**
+	 * Finds the class files as they were before processing. If a class file
+	 * has been backed up more than once, the oldest backup is the original 
+	 * one.
+	 * 
+	 * @return		Oldest backup of each class file that has been backed up
+	 */
+	private static Map<Path, Path> findOriginalClassFiles(List<Path> files) {
+		Map<Path, Path> originalClassFiles = new HashMap<>();
+		
+		for (Path file : files) {
+			String filename = file.getFileName().toString();
+			
+			if (!filename.contains(".class.") || !filename.endsWith("bkp"))
+				continue;
+			
+			Path classFile = file.resolveSibling(
+					filename.substring(0, filename.indexOf(".class.") + ".class".length())
+			);
+			
+			originalClassFiles.merge(classFile, file, (current, backup) -> 
+				(getLastModifiedTime(backup) < getLastModifiedTime(current)) ? backup : current
+			);
+		}
+		
+		return originalClassFiles;
+	}
+	
+	/**
+	 * Checks whether a class file is an inner class of a class that has been
+	 * compiled by processing. Inner classes are not backed up, so that they
+	 * are identified by their outer classes.
+	 */
+	private static boolean hasBackedUpOuterClass(Path classFile, 
+												 Map<Path, Path> originalClassFiles) {
+		String filename = classFile.getFileName().toString();
+		
+		if (!filename.contains("$"))
+			return false;
+		
+		return originalClassFiles.containsKey(classFile.resolveSibling(
+				filename.substring(0, filename.indexOf('$')) + ".class"
+		));
+	}
+	
+	private static long getLastModifiedTime(Path file) {
+		try {
+			return Files.getLastModifiedTime(file).toMillis();
+		} 
+		catch (IOException e) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Gets a processed file, marking it as the most recently used one.
+	 * 
+	 * @param		key Key generated by 
+	 * {@link #generateKey(byte[], ProcessorType, String, String)}
+	 * 
+	 * @return		Processed file or null if there is no processed file with
+	 * the provided key
+	 * 
+	 * @throws		IllegalArgumentException If key is null
+	 */
+	public synchronized ProcessedFile get(String key) {
+		if (key == null)
+			throw new IllegalArgumentException("Key cannot be null");
+		
+		Path entry = getEntryPath(key);
+		
+		if (!Files.exists(entry))
+			return null;
+		
+		ProcessedFile processedFile = null;
+		
+		try (InputStream is = Files.newInputStream(entry); 
+				ObjectInputStream ois = new ObjectInputStream(is)) {
+			processedFile = (ProcessedFile) ois.readObject();
+			
+			Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+		} 
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			Consolex.writeDebug("Corrupted processed file cache entry: " + entry);
+			deleteEntry(entry);
+		}
+		
+		return processedFile;
+	}
+	
+	/**
+	 * Stores a processed file. If the cache exceeds its maximum size, the 
+	 * least recently used files are removed.
+	 * 
+	 * @param		key Key generated by 
+	 * {@link #generateKey(byte[], ProcessorType, String, String)}
+	 * @param		processedFile Processed file
+	 * 
+	 * @throws		IOException If the processed file cannot be stored
+	 * @throws		IllegalArgumentException If key or processed file is null
+	 */
+	public synchronized void put(String key, ProcessedFile processedFile) 
+			throws IOException {
+		if (key == null)
+			throw new IllegalArgumentException("Key cannot be null");
+		
+		if (processedFile == null)
+			throw new IllegalArgumentException("Processed file cannot be null");
+		
+		Files.createDirectories(directory);
+		
+		Path entry = getEntryPath(key);
+		Path tmpEntry = directory.resolve(key + ENTRY_EXTENSION + ".tmp");
+		
+		try (OutputStream os = Files.newOutputStream(tmpEntry); 
+				ObjectOutputStream oos = new ObjectOutputStream(os)) {
+			oos.writeObject(processedFile);
+		}
+		
+		Files.move(tmpEntry, entry, StandardCopyOption.REPLACE_EXISTING);
+		
+		removeLeastRecentlyUsed();
+	}
+	
+	private Path getEntryPath(String key) {
+		return directory.resolve(key + ENTRY_EXTENSION);
+	}
+	
+	private void removeLeastRecentlyUsed() throws IOException {
+		List<Path> entries = getEntriesFromLeastRecentlyUsed();
+		long size = 0;
+		
+		for (Path entry : entries) {
+			size += Files.size(entry);
+		}
+		
+		for (int i = 0; (i < entries.size() - 1) && (size > maxSize); i++) {
+			size -= Files.size(entries.get(i));
+			deleteEntry(entries.get(i));
+		}
+	}
+
+	private List<Path> getEntriesFromLeastRecentlyUsed() throws IOException {
+		List<Path> entries;
+		
+		try (Stream<Path> files = Files.list(directory)) {
+			entries = files
+					.filter(file -> file.toString().endsWith(ENTRY_EXTENSION))
+					.collect(Collectors.toCollection(ArrayList::new));
+		}
+		
+		entries.sort(Comparator.comparingLong(ProcessedFileCache::getLastUsage));
+		
+		return entries;
+	}
+	
+	private static long getLastUsage(Path entry) {
+		try {
+			return Files.getLastModifiedTime(entry).toMillis();
+		} 
+		catch (IOException e) {
+			return 0;
+		}
+	}
+	
+	private void deleteEntry(Path entry) {
+		try {
+			Files.deleteIfExists(entry);
+		} 
+		catch (IOException e) {
+			Consolex.writeDebug("Processed file cache entry cannot be deleted: " + entry);
+		}
+	}
+}
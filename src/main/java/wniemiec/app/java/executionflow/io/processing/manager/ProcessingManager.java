@@ -315,6 +315,8 @@ public class ProcessingManager {
 						testMethod.getArgs(),
 						User.hasSelectedSurroundAssertsWithTryCatch()
 				))
+				.keepProcessedFiles(User.hasSelectedKeepProcessedFiles())
+				.weavingScope(User.getSelectedWeavingScope())
 				.build();
 	}
 	
@@ -328,16 +330,36 @@ public class ProcessingManager {
 	 * 	<li>Processing of test methods</li>
 	 * 	<li>Processing of tested methods and constructors</li>
 	 * </ul>
+	 * Then, compiles the processed files in a single batch.
 	 * 
 	 * @param		testedInvoked Tested invoked
 	 * 
 	 * @throws		IOException If an error occurs while processing files
 	 */
 	public void doProcessingInTestedInvoked(TestedInvoked testedInvoked) throws Exception {
-		withTestedInvoked(testedInvoked);
+		CompilationBatch batch = new CompilationBatch();
 		
-		processTestMethod();
-		processInvokedMethod();
+		doProcessingInTestedInvoked(testedInvoked, batch);
+		compileProcessedFiles(batch);
+	}
+	
+	/**
+	 * Performs the same processing as {@link #doProcessingInTestedInvoked(
+	 * TestedInvoked)}, but only adds the processed files to a compilation 
+	 * batch, so that files of several tested invoked can be compiled 
+	 * together by {@link #compileProcessedFiles(CompilationBatch)}.
+	 * 
+	 * @param		testedInvoked Tested invoked
+	 * @param		batch Compilation batch
+	 * 
+	 * @throws		IOException If an error occurs while processing files
+	 */
+	public void doProcessingInTestedInvoked(TestedInvoked testedInvoked, 
+											CompilationBatch batch) 
+			throws Exception {
+		withTestedInvoked(testedInvoked);
+		processTestMethod(batch);
+		processInvokedMethod(batch);
 	}
 	
 	private void withTestedInvoked(TestedInvoked testedInvoked) {
@@ -363,6 +385,8 @@ public class ProcessingManager {
 				.filePackage(testMethod.getPackage())
 				.backupExtensionName("testMethod.bkp")
 				.fileProcessorFactory(new TestMethodFileProcessorFactory())
+				.keepProcessedFiles(User.hasSelectedKeepProcessedFiles())
+				.weavingScope(User.getSelectedWeavingScope())
 				.build();
 	}
 	
@@ -373,17 +397,19 @@ public class ProcessingManager {
 				.filePackage(invoked.getPackage())
 				.backupExtensionName("invoked.bkp")
 				.fileProcessorFactory(new InvokedFileProcessorFactory())
+				.keepProcessedFiles(User.hasSelectedKeepProcessedFiles())
+				.weavingScope(User.getSelectedWeavingScope())
 				.build();
 	}
 	
-	private void processTestMethod() throws Exception {
+	private void processTestMethod(CompilationBatch batch) throws Exception {
 		Consolex.writeInfo(
 				"Processing source file of test method "
 				+ currentTestMethod.getConcreteSignature() 
 				+ "..."
 		);
 		
-		doProcessingInTestMethod(currentTestMethodFileManager);
+		doProcessingInTestMethod(currentTestMethodFileManager, batch);
 
 		collectorProcessingManager.updateCollectorsFromMapping(
 				TestMethodFileProcessor.getMapping(),
@@ -394,13 +420,14 @@ public class ProcessingManager {
 		Consolex.writeInfo("Processing completed");
 	}
 
-	private void doProcessingInTestMethod(FileProcessingManager testMethodFileManager) 
+	private void doProcessingInTestMethod(FileProcessingManager testMethodFileManager,
+										  CompilationBatch batch) 
 			throws Exception {
 		if (testMethodProcessingManager == null)
 			initializeTestMethodProcessingManager(true);
 		
 		try {
-			testMethodProcessingManager.processAndCompile(testMethodFileManager, autoRestore);
+			testMethodProcessingManager.process(testMethodFileManager, autoRestore, batch);
 		} 
 		catch (Exception e) {
 			Consolex.writeError(e.toString());
@@ -409,13 +436,13 @@ public class ProcessingManager {
 		}
 	}
 	
-	private void processInvokedMethod() throws Exception {
+	private void processInvokedMethod(CompilationBatch batch) throws Exception {
 		Consolex.writeInfo("Processing source file of invoked - " 
 				+ currentTestedInvoked.getConcreteSignature() 
 				+ "..."
 		);
 		
-		doProcessingInInvoked(currentInvokedFileManager);
+		doProcessingInInvoked(currentInvokedFileManager, batch);
 		
 		collectorProcessingManager.updateCollectorsFromMapping(
 				new HashMap<>(),
@@ -426,15 +453,17 @@ public class ProcessingManager {
 		Consolex.writeInfo("Processing completed");
 	}
 	
-	private void doProcessingInInvoked(FileProcessingManager invokedFileManager) 
+	private void doProcessingInInvoked(FileProcessingManager invokedFileManager,
+									   CompilationBatch batch) 
 			throws Exception {
 		if (invokedProcessingManager == null)
 			initializeInvokedProcessingManager(true);
 		
 		try {
-			invokedProcessingManager.processAndCompile(
+			invokedProcessingManager.process(
 					invokedFileManager, 
-					isTestMethodFileAndInvokedFileTheSameFile()
+					isTestMethodFileAndInvokedFileTheSameFile(),
+					batch
 			);
 		} 
 		catch (Exception e) {
@@ -444,11 +473,53 @@ public class ProcessingManager {
 		}
 	}
 	
+	/**
+	 * Compiles processed files of a batch. If compilation fails, all files of
+	 * the batch are restored.
+	 * 
+	 * @param		batch Compilation batch
+	 * 
+	 * @throws		IOException If an error occurs during compilation
+	 */
+	public void compileProcessedFiles(CompilationBatch batch) throws IOException {
+		if (batch.isEmpty())
+			return;
+		
+		Consolex.writeInfo("Compiling processed files...");
+		
+		try {
+			batch.compile();
+		}
+		catch (IOException e) {
+			Consolex.writeError(e.toString());
+			batch.restore();
+			throw e;
+		}
+		
+		Consolex.writeInfo("Compilation completed");
+	}
+	
 	private boolean isTestMethodFileAndInvokedFileTheSameFile() {
 		return	currentTestMethod.getSrcPath()
 				.equals(currentTestedInvoked.getSrcPath());
 	}
 	
+	/**
+	 * Undoes the last processing, removing its files from a compilation 
+	 * batch so that they are not compiled.
+	 * 
+	 * @param		batch Compilation batch
+	 */
+	public void undoLastProcessing(CompilationBatch batch) {
+		if (currentTestMethodFileManager != null)
+			batch.remove(currentTestMethodFileManager);
+		
+		if (currentInvokedFileManager != null)
+			batch.remove(currentInvokedFileManager);
+		
+		undoLastProcessing();
+	}
+	
 	public void undoLastProcessing() {
 		if (currentTestMethodFileManager != null)
 			undoTestMethodProcessing(currentTestMethodFileManager);
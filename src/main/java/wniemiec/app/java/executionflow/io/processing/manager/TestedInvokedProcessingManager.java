@@ -1,14 +1,25 @@
 package wniemiec.app.java.executionflow.io.processing.manager;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.channels.InterruptedByTimeoutException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzer;
+import wniemiec.app.java.executionflow.analyzer.DebuggeePool;
 import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzerFactory;
+import wniemiec.app.java.executionflow.collector.CallCollector;
 import wniemiec.app.java.executionflow.collector.InvokedCollector;
 import wniemiec.app.java.executionflow.collector.parser.TestedInvokedParser;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.user.User;
 import wniemiec.io.java.Consolex;
 
 /**
@@ -45,7 +56,98 @@ public class TestedInvokedProcessingManager {
 		processingManager.initializeManagers();
 		
 		dumpCollector(invokedCollector);
-
+		
+		List<TestedInvoked> invokedToRun = parseStraightLineInvoked(parser, invokedCollector);
+		
+		if (invokedToRun.isEmpty())
+			return parser;
+		
+		warnIfParallelAnalysisIsNotSupported();
+		
+		if (User.getSelectedDebuggerAnalyzerType().canShareDebugSession())
+			processAndParseWithDebuggeePool(parser, invokedToRun);
+		else
+			processAndParseEach(parser, invokedToRun);
+		
+		return parser;
+	}
+	
+	/**
+	 * Computes test paths of tested invoked that have no branches nor method
+	 * calls straight from their class files, so that they are neither 
+	 * processed nor run. It is only done for tested invoked whose runs from 
+	 * their invocation lines have been counted while they were collected,
+	 * which gives the same test paths as the selected debugger analyzer. 
+	 * The other ones are left to the selected debugger analyzer.
+	 * 
+	 * @return		Tested invoked whose test paths have not been computed
+	 */
+	private List<TestedInvoked> parseStraightLineInvoked(TestedInvokedParser parser, 
+														 Collection<TestedInvoked> invokedCollector) {
+		List<TestedInvoked> invokedToRun = new ArrayList<>();
+		
+		for (TestedInvoked collector : invokedCollector) {
+			if (!parseIfStraightLine(parser, collector))
+				invokedToRun.add(collector);
+		}
+		
+		Consolex.writeDebug(
+				TestedInvokedProcessingManager.class.getName() + " - " + 
+				(invokedCollector.size() - invokedToRun.size()) + 
+				" tested invoked parsed from their class files"
+		);
+		
+		return invokedToRun;
+	}
+	
+	private boolean parseIfStraightLine(TestedInvokedParser parser, TestedInvoked collector) {
+		try {
+			DebuggerAnalyzer analyzer = DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(
+					collector
+			);
+			
+			if (analyzer == null)
+				return false;
+			
+			parser.parse(collector, analyzer);
+			
+			return analyzer.hasTestPaths();
+		}
+		catch (IOException e) {
+			Consolex.writeDebug(
+					TestedInvokedProcessingManager.class.getName() + " - " + 
+					e.getMessage()
+			);
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * Launches debuggees while tested invoked are processed, so that they 
+	 * are ready by the time their test paths are computed. The pool is kept
+	 * open for the next test methods, being closed when the run ends.
+	 */
+	private void processAndParseWithDebuggeePool(TestedInvokedParser parser, 
+												 Collection<TestedInvoked> invokedCollector) {
+		DebuggeePool.getInstance().open(
+				invokedCollector.iterator().next().getTestMethod(), 
+				User.getSelectedAnalysisWorkers()
+		);
+		
+		processAndParseSharingDebugSession(parser, invokedCollector);
+	}
+	
+	private void warnIfParallelAnalysisIsNotSupported() {
+		if (User.getSelectedAnalysisWorkers() <= 1)
+			return;
+		
+		if (!User.getSelectedDebuggerAnalyzerType().canShareDebugSession())
+			Consolex.writeWarning("Parallel analysis is only available with JDI - computing test paths sequentially");
+	}
+	
+	private void processAndParseEach(TestedInvokedParser parser, 
+									 Collection<TestedInvoked> invokedCollector) {
 		for (TestedInvoked collector : invokedCollector) {				
 			try {
 				doProcessingAndParsing(parser, collector);
@@ -62,8 +164,199 @@ public class TestedInvokedProcessingManager {
 				processingManager.undoLastProcessing();
 			}
 		}
+	}
+	
+	/**
+	 * Processes all tested invoked before computing their test paths, so 
+	 * that each test method is run only once for all of its tested invoked.
+	 * Their files are compiled together once all of them have been 
+	 * processed. Tested invoked in the same file as their test method cannot
+	 * be processed along with the others, so they are processed and parsed 
+	 * one at a time.
+	 */
+	private void processAndParseSharingDebugSession(TestedInvokedParser parser, 
+													Collection<TestedInvoked> invokedCollector) {
+		List<TestedInvoked> processedInvoked = new ArrayList<>();
+		List<TestedInvoked> invokedInTestMethodFile = new ArrayList<>();
+		CompilationBatch batch = new CompilationBatch();
 		
-		return parser;
+		for (TestedInvoked collector : invokedCollector) {
+			if (isTestedInvokedInTheSameFileAsTestMethod(collector)) {
+				invokedInTestMethodFile.add(collector);
+				continue;
+			}
+			
+			try {
+				processingManager.doProcessingInTestedInvoked(collector, batch);
+				processedInvoked.add(collector);
+			}
+			catch (Exception e) {
+				Consolex.writeError(e.toString());
+				
+				processingManager.undoLastProcessing(batch);
+			}
+		}
+		
+		try {
+			processingManager.compileProcessedFiles(batch);
+		}
+		catch (IOException e) {
+			processedInvoked.clear();
+		}
+		
+		parseSharingDebugSession(parser, processedInvoked);
+		processAndParseEach(parser, invokedInTestMethodFile);
+	}
+	
+	private void parseSharingDebugSession(TestedInvokedParser parser, 
+										  List<TestedInvoked> processedInvoked) {
+		if (processedInvoked.isEmpty())
+			return;
+		
+		int workers = User.getSelectedAnalysisWorkers();
+		List<DebuggerAnalyzer> analyzers;
+		
+		try {
+			analyzers = DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+					User.getSelectedDebuggerAnalyzerType(),
+					processedInvoked,
+					workers
+			);
+		}
+		catch (IOException e) {
+			Consolex.writeError(e.toString());
+			return;
+		}
+		
+		if (workers > 1)
+			parseInParallel(parser, processedInvoked, analyzers, workers);
+		else
+			parse(parser, processedInvoked, analyzers);
+	}
+	
+	void parse(TestedInvokedParser parser, List<TestedInvoked> testedInvoked,
+			   List<DebuggerAnalyzer> analyzers) {
+		for (int i = 0; i < testedInvoked.size(); i++) {
+			try {
+				parser.parse(testedInvoked.get(i), analyzers.get(i));
+			}
+			catch (InterruptedByTimeoutException e1) {
+				Consolex.writeWarning("Time exceeded");
+			} 
+			catch (IllegalStateException | IOException e2) {
+				Consolex.writeError(e2.toString());
+			}
+		}
+	}
+	
+	/**
+	 * Computes test paths of several tested invoked at the same time. Each
+	 * debug session runs in a worker of its own, so that tested invoked of
+	 * the same test method whose test paths are recorded by different 
+	 * sessions are analyzed in parallel. Each worker has its own call 
+	 * collector, which are merged into the global one once all test paths 
+	 * have been computed.
+	 */
+	void parseInParallel(TestedInvokedParser parser, List<TestedInvoked> testedInvoked,
+						 List<DebuggerAnalyzer> analyzers, int workers) {
+		List<List<Integer>> sessions = DebuggerAnalyzerFactory.groupByDebugSession(analyzers);
+		int poolSize = Math.min(workers, sessions.size());
+		BlockingQueue<CallCollector> callCollectors = createWorkerCallCollectors(poolSize);
+		ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+		
+		Consolex.writeDebug(
+				TestedInvokedProcessingManager.class.getName() + 
+				" - parsing " + sessions.size() + " debug sessions with " + 
+				poolSize + " workers"
+		);
+		
+		for (List<Integer> indexes : sessions) {
+			pool.execute(() -> 
+				parseWithWorkerCallCollector(
+						parser, 
+						testedInvoked, 
+						analyzers, 
+						indexes, 
+						callCollectors
+				)
+			);
+		}
+		
+		awaitTermination(pool);
+		mergeWorkerCallCollectors(callCollectors);
+	}
+	
+	private BlockingQueue<CallCollector> createWorkerCallCollectors(int workers) {
+		BlockingQueue<CallCollector> callCollectors = new ArrayBlockingQueue<>(workers);
+		File tmpDir = new File(System.getProperty("java.io.tmpdir"));
+		
+		for (int i = 0; i < workers; i++) {
+			CallCollector callCollector = CallCollector.createInstance(
+					new File(tmpDir, "mcti-" + i + ".ef")
+			);
+			
+			callCollector.deleteStoredContent();
+			callCollectors.add(callCollector);
+		}
+		
+		return callCollectors;
+	}
+	
+	private void parseWithWorkerCallCollector(TestedInvokedParser parser, 
+											  List<TestedInvoked> testedInvoked,
+											  List<DebuggerAnalyzer> analyzers, 
+											  List<Integer> indexes,
+											  BlockingQueue<CallCollector> callCollectors) {
+		CallCollector callCollector;
+		
+		try {
+			callCollector = callCollectors.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		
+		try {
+			List<TestedInvoked> sessionInvoked = new ArrayList<>();
+			List<DebuggerAnalyzer> sessionAnalyzers = new ArrayList<>();
+			
+			for (int index : indexes) {
+				analyzers.get(index).setCallCollector(callCollector);
+				sessionInvoked.add(testedInvoked.get(index));
+				sessionAnalyzers.add(analyzers.get(index));
+			}
+			
+			parse(parser, sessionInvoked, sessionAnalyzers);
+		}
+		finally {
+			callCollectors.add(callCollector);
+		}
+	}
+	
+	private void awaitTermination(ExecutorService pool) {
+		pool.shutdown();
+		
+		try {
+			while (!pool.awaitTermination(1, TimeUnit.MINUTES))
+				Consolex.writeDebug(
+						TestedInvokedProcessingManager.class.getName() + 
+						" - waiting for analysis workers"
+				);
+		}
+		catch (InterruptedException e) {
+			pool.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private void mergeWorkerCallCollectors(Collection<CallCollector> callCollectors) {
+		CallCollector globalCallCollector = CallCollector.getInstance();
+		
+		for (CallCollector callCollector : callCollectors) {
+			globalCallCollector.merge(callCollector);
+			callCollector.deleteStoredContent();
+		}
 	}
 
 	private void doProcessingAndParsing(TestedInvokedParser parser, 
@@ -81,7 +374,8 @@ public class TestedInvokedProcessingManager {
 	
 	private DebuggerAnalyzer getDebuggerAnalyzerFor(TestedInvoked testedInvoked) 
 			throws IOException {
-		return DebuggerAnalyzerFactory.createStandardTestPathAnalyzer(
+		return DebuggerAnalyzerFactory.createTestPathAnalyzer(
+				User.getSelectedDebuggerAnalyzerType(),
 				testedInvoked
 		);
 	}
@@ -1,10 +1,11 @@
 package wniemiec.app.java.executionflow.io.processing.processor;
 
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-import wniemiec.util.java.RoundBracketBalance;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.BracketCounter;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaToken;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType;
 
 /**
  * Surround asserts with try-catch so that test method execution does not
@@ -18,7 +19,17 @@ public class AssertProcessor extends SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	//		Attributes
 	//---------------------------------------------------------------------
-	private final RoundBracketBalance roundBracketsBalance;
+	private static final Pattern PATTERN_ASSERT = Pattern.compile(
+			"(\\ |\\t|\\{)+(Assert\\.)?assert[A-z]+(\\ |\\t)*\\((.+\\);)?"
+	);
+	private static final Pattern PATTERN_DECLARATION = Pattern.compile(
+			".*(public|protected|private|static|transient|class)[\\s\\t]+.+"
+	);
+	private static final Pattern PATTERN_INLINE_TRY_CATCH = Pattern.compile(
+			"[\\s\\t]*try([\\s\\t]+\\{|\\{)[^;]+;\\}[\\s\\t]*"
+			+ "catch([\\s\\t]+\\(|\\()[^)]+\\).*"
+	);
+	private final BracketCounter roundBracketsBalance;
 	private boolean inAssert;
 	
 	
@@ -28,7 +39,7 @@ public class AssertProcessor extends SourceCodeProcessor {
 	public AssertProcessor(List<String> sourceCode) {
 		super(sourceCode, true);
 		
-		roundBracketsBalance = new RoundBracketBalance();
+		roundBracketsBalance = BracketCounter.roundBrackets();
 		inAssert = false;
 	}
 	
@@ -49,7 +60,7 @@ public class AssertProcessor extends SourceCodeProcessor {
 	}
 	
 	private String processMultilineAssert(String line) {
-		if (!roundBracketsBalance.parse(line).isBalanceEmpty())
+		if (!roundBracketsBalance.parse(getTokens()).isBalanceEmpty())
 			return line;
 
 		inAssert = false;
@@ -71,21 +82,16 @@ public class AssertProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isAssertInstruction(String line) {
-		final Pattern assertPattern = 
-				Pattern.compile("(\\ |\\t|\\{)+(Assert\\.)?assert[A-z]+" +
-								"(\\ |\\t)*\\((.+\\);)?");
-
-		return	assertPattern.matcher(line).find()
+		return	PATTERN_ASSERT.matcher(line).find()
 				&& !isDeclaration(line);
 	}
 
 	private boolean isDeclaration(String line) {
-		return line.matches(".*(public|protected|private|static|transient|" +
-							"class)[\\s\\t]+.+");
+		return PATTERN_DECLARATION.matcher(line).matches();
 	}
 
 	private String processAssert(String line) {
-		if (!roundBracketsBalance.parse(line).isBalanceEmpty()) {
+		if (!roundBracketsBalance.parse(getTokens()).isBalanceEmpty()) {
 			inAssert = true;
 			
 			return openTryCatchStatement(line);
@@ -93,7 +99,7 @@ public class AssertProcessor extends SourceCodeProcessor {
 		
 		if (hasInlineTryCatch(line))
 			line = processLineWithInlineTryCatch(line);
-		else if (hasInlineComment(line))
+		else if (hasInlineComment())
 			line = processLineWithComment(line);
 		else
 			line = processLineWithoutComment(line);
@@ -102,8 +108,7 @@ public class AssertProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean hasInlineTryCatch(String line) {
-		return	line.matches("[\\s\\t]*try([\\s\\t]+\\{|\\{)[^;]+;\\}[\\s\\t]*"
-				+ "catch([\\s\\t]+\\(|\\()[^)]+\\).*");
+		return PATTERN_INLINE_TRY_CATCH.matcher(line).matches();
 	}
 
 	private String processLineWithInlineTryCatch(String line) {
@@ -117,8 +122,17 @@ public class AssertProcessor extends SourceCodeProcessor {
 				+ line.substring(idxEndTryContent+1);
 	}
 	
-	private boolean hasInlineComment(String line) {
-		return line.contains("//") || line.contains("*/");
+	private boolean hasInlineComment() {
+		return (findInlineComment() != null);
+	}
+	
+	private JavaToken findInlineComment() {
+		for (JavaToken token : getTokens()) {
+			if (token.is(JavaTokenType.COMMENT))
+				return token;
+		}
+		
+		return null;
 	}
 
 	private String processLineWithComment(String line) {	
@@ -139,12 +153,14 @@ public class AssertProcessor extends SourceCodeProcessor {
 	}
 
 	private int getStartIndexOfInlineComment(String line) {
-		Pattern p = Pattern.compile("[\\s\\t]*(\\/\\/|\\*\\/)");
-		Matcher m = p.matcher(line);
+		int idxStartComment = findInlineComment().getColumn();
 		
-		m.find();
+		while ((idxStartComment > 0) 
+				&& Character.isWhitespace(line.charAt(idxStartComment-1))) {
+			idxStartComment--;
+		}
 		
-		return m.start();
+		return idxStartComment;
 	}
 	
 	private String buildTryCatchStatement(String tryContent, String catchContent) {
@@ -0,0 +1,65 @@
+package wniemiec.app.java.executionflow.io.processing.processor;
+
+import java.util.regex.Pattern;
+
+/**
+ * Keeps track of whether lines of a source code belong to a comment. Lines
+ * must be parsed in the order they appear in the source code.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class CommentTracker {
+
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_COMMENT_FULL_LINE = 
+			Pattern.compile("^[\\t\\s]*(\\/\\/).*");
+	private boolean inMultiLineComment;
+	private boolean inInlineComment;
+	
+	
+	//---------------------------------------------------------------------
+	//		Methods
+	//---------------------------------------------------------------------
+	/**
+	 * Parses the next line of the source code.
+	 * 
+	 * @param		line Line
+	 * 
+	 * @return		True if the line belongs to a comment; false otherwise
+	 */
+	public boolean parse(String line) {
+		checkInlineComment(line);
+		checkMultiLineComment(line);
+		
+		return inComment(line);
+	}
+	
+	private void checkInlineComment(String line) {
+		inInlineComment = PATTERN_COMMENT_FULL_LINE.matcher(line).matches();
+	}
+	
+	private void checkMultiLineComment(String line) {
+		if (line.contains("/*") && !line.contains("*/")) {
+			inMultiLineComment = true;
+		}
+		else if (inMultiLineComment && line.contains("*/")) {
+			inMultiLineComment = false;
+		}
+	}
+	
+	/**
+	 * Checks whether the last parsed line belongs to a comment.
+	 * 
+	 * @param		line Content of the last parsed line
+	 * 
+	 * @return		True if the line belongs to a comment; false otherwise
+	 */
+	public boolean inComment(String line) {
+		return	inMultiLineComment
+				|| inInlineComment
+				|| line.contains("*/");
+	}
+}
@@ -4,9 +4,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
-import wniemiec.util.java.RoundBracketBalance;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.BracketCounter;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaLexer;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaToken;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType;
 
 /**
  * Converts method calls with arguments on multiple lines to a call with 
@@ -20,10 +24,16 @@ public class MultilineToInlineCallsConverter extends SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	//		Attributes
 	//---------------------------------------------------------------------
+	private static final Set<String> CLASS_KEYWORDS = 
+			Set.of("class", "implements", "throws");
+	private static final Pattern PATTERN_ONLY_CLOSED_CURLY_BRACKET = 
+			Pattern.compile("^.*[\\s\\t)}]+;[\\s\\t]*$");
+	private static final Pattern PATTERN_TEST_ANNOTATION = 
+			Pattern.compile("[\\s\\t]*@Test.+");
 	private static Map<Integer, List<Integer>> mapping = new HashMap<>();
 	private boolean insideMultilineArgs = false;
 	private int idxMethodInvocation = -1;
-	private RoundBracketBalance rbb;
+	private BracketCounter rbb;
 	
 	
 	//---------------------------------------------------------------------
@@ -54,7 +64,7 @@ public class MultilineToInlineCallsConverter extends SourceCodeProcessor {
 
 		checkIsOutOfMethod();
 		
-		if (isMethodCallWithMultipleLines(line)) {
+		if (isMethodCallWithMultipleLines()) {
 			processedLine = parseMethodCallWithMultipleLines(line);
 			checkBalanceOfParentheses(processedLine);
 		}
@@ -86,21 +96,64 @@ public class MultilineToInlineCallsConverter extends SourceCodeProcessor {
 		}
 	}
 
-	private boolean isMethodCallWithMultipleLines(String line) {
-		return	isMethodCallWithMultiArgs(line)
-				&& !hasClassKeywords(line) 
+	private boolean isMethodCallWithMultipleLines() {
+		List<JavaToken> tokens = getTokens();
+		
+		return	isMethodCallWithMultiArgs(tokens)
+				&& !hasClassKeywords(tokens) 
 				&& !isLastLine();
 	}
 
-	private boolean isMethodCallWithMultiArgs(String line) {
-		return	line.matches(".+,([^;{(\\[]+|[\\s\\t]*)$") 
-				|| line.matches(".+\\([^)]*$");
+	private boolean isMethodCallWithMultiArgs(List<JavaToken> tokens) {
+		return	endsWithArgumentSeparator(tokens) 
+				|| hasUnclosedRoundBracket(tokens);
+	}
+	
+	/**
+	 * Checks whether there is nothing after the last comma that starts a new
+	 * statement, block, call or array.
+	 */
+	private boolean endsWithArgumentSeparator(List<JavaToken> tokens) {
+		for (int i = tokens.size()-1; i >= 0; i--) {
+			JavaToken token = tokens.get(i);
+			
+			if (token.isSymbol(','))
+				return (token.getColumn() > 0);
+			
+			if (token.is(JavaTokenType.SEMICOLON) 
+					|| token.is(JavaTokenType.OPENING_CURLY_BRACKET)
+					|| token.is(JavaTokenType.OPENING_ROUND_BRACKET)
+					|| token.isSymbol('['))
+				return false;
+		}
+		
+		return false;
 	}
 	
-	private boolean hasClassKeywords(String line) {
-		Pattern classKeywords = Pattern.compile("(@|class|implements|throws)");
+	private boolean hasUnclosedRoundBracket(List<JavaToken> tokens) {
+		for (int i = tokens.size()-1; i >= 0; i--) {
+			JavaToken token = tokens.get(i);
+			
+			if (token.is(JavaTokenType.OPENING_ROUND_BRACKET))
+				return (token.getColumn() > 0);
+			
+			if (token.is(JavaTokenType.CLOSING_ROUND_BRACKET))
+				return false;
+		}
 		
-		return classKeywords.matcher(line).find();
+		return false;
+	}
+	
+	private boolean hasClassKeywords(List<JavaToken> tokens) {
+		for (JavaToken token : tokens) {
+			if (token.isSymbol('@'))
+				return true;
+			
+			if (token.is(JavaTokenType.WORD) && CLASS_KEYWORDS.contains(token.getText()))
+				return true;
+		}
+		
+		return false;
 	}
 
 	private boolean isLastLine() {
@@ -144,10 +197,10 @@ public class MultilineToInlineCallsConverter extends SourceCodeProcessor {
 
 	private void checkBalanceOfParentheses(String line) {		
 		if (rbb == null) {
-			rbb = new RoundBracketBalance();
+			rbb = BracketCounter.roundBrackets();
 		}
 		
-		rbb.parse(line);
+		rbb.parse(JavaLexer.tokenize(line));
 	}
 	
 	private boolean isParenthesesBalanced() {
@@ -162,9 +215,7 @@ public class MultilineToInlineCallsConverter extends SourceCodeProcessor {
 	}
 
 	private boolean hasOnlyClosedCurlyBracketAndSemicolon(String line) {
-		final String regexOnlyClosedCurlyBracket = "^.*[\\s\\t)}]+;[\\s\\t]*$";
-		
-		return line.matches(regexOnlyClosedCurlyBracket);
+		return PATTERN_ONLY_CLOSED_CURLY_BRACKET.matcher(line).matches();
 	}
 	
 	private void addMapping(int newLine, int oldLine) {
@@ -183,7 +234,7 @@ public class MultilineToInlineCallsConverter extends SourceCodeProcessor {
 	}
 	
 	private boolean hasTestAnnotation(String line) {
-		return line.matches("[\\s\\t]*@Test.+");
+		return PATTERN_TEST_ANNOTATION.matcher(line).matches();
 	}
 	
 	private void eraseLine(int idxLine) {
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaToken;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenStream;
 import wniemiec.data.java.Encryptor;
 import wniemiec.data.java.Encryptors;
 
@@ -13,12 +15,14 @@ public abstract class SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	//		Attributes
 	//---------------------------------------------------------------------
-	private boolean inMultiLineComment;
-	private boolean inInlineComment;
+	private static final Pattern PATTERN_CONTENT_IN_PARENTHESIS = 
+			Pattern.compile("\\(.*\\)");
+	private CommentTracker commentTracker;
 	private int currentIdx;
 	private List<String> sourceCode;
 	private boolean ignoreComments;
 	private Encryptor encryptor;
+	private JavaTokenStream tokenStream;
 	
 	
 	//---------------------------------------------------------------------
@@ -27,6 +31,7 @@ public abstract class SourceCodeProcessor {
 	protected SourceCodeProcessor(List<String> sourceCode, boolean ignoreComments) {
 		this.sourceCode = sourceCode;
 		this.ignoreComments = ignoreComments;
+		commentTracker = new CommentTracker();
 		encryptor = Encryptors.md5();
 	}
 	
@@ -36,7 +41,7 @@ public abstract class SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	public final List<String> processLines() {
 		for (currentIdx = 0; currentIdx < sourceCode.size(); currentIdx++) {
-			checkComments(sourceCode.get(currentIdx));
+			commentTracker.parse(sourceCode.get(currentIdx));
 			
 			if (!inComment() || (inComment() && !ignoreComments)) {
 				String processedLine = processLine(sourceCode.get(currentIdx));
@@ -50,30 +55,35 @@ public abstract class SourceCodeProcessor {
 		return sourceCode;
 	}
 	
-	private void checkComments(String line) {
-		checkInlineComment(line);
-		checkMultiLineComment(line);
-	}
-	
-	private void checkInlineComment(String str) {
-		final String regexCommentFullLine = "^[\\t\\s]*(\\/\\/).*";
+	/**
+	 * Processes a single line. It allows several processors to share the
+	 * same pass over the source code, as long as each one is given the lines
+	 * in the order they appear in the source code and
+	 * {@link #finishProcessing()} is called after the last line.
+	 * 
+	 * @param		idx Index of the line
+	 * @param		inComment If the line belongs to a comment
+	 */
+	public final void processLine(int idx, boolean inComment) {
+		currentIdx = idx;
 		
-		inInlineComment = str.matches(regexCommentFullLine);
+		if (!inComment || !ignoreComments)
+			sourceCode.set(idx, processLine(sourceCode.get(idx)));
 	}
 	
-	private void checkMultiLineComment(String line) {
-		if (line.contains("/*") && !line.contains("*/")) {
-			inMultiLineComment = true;
-		}
-		else if (inMultiLineComment && line.contains("*/")) {
-			inMultiLineComment = false;
-		}
+	/**
+	 * Ends a pass made through {@link #processLine(int, boolean)}.
+	 * 
+	 * @return		Processed lines
+	 */
+	public final List<String> finishProcessing() {
+		whenFinished(sourceCode);
+		
+		return sourceCode;
 	}
 	
 	protected boolean inComment() {
-		return	inMultiLineComment
-				|| inInlineComment
-				|| sourceCode.get(currentIdx).contains("*/");
+		return commentTracker.inComment(sourceCode.get(currentIdx));
 	}
 	
 	protected abstract String processLine(String line);
@@ -83,8 +93,7 @@ public abstract class SourceCodeProcessor {
 	}
 	
 	protected String extractContentBetweenParenthesis(String content) {
-		Pattern patternContentInParenthesis = Pattern.compile("\\(.*\\)");
-		Matcher contentBetweenParenthesis = patternContentInParenthesis.matcher(content);
+		Matcher contentBetweenParenthesis = PATTERN_CONTENT_IN_PARENTHESIS.matcher(content);
 		
 		if (!contentBetweenParenthesis.find())
 			return "";
@@ -139,6 +148,42 @@ public abstract class SourceCodeProcessor {
 		return sourceCode.get(currentIdx+1);
 	}
 	
+	/**
+	 * Gets tokens of the current line.
+	 * 
+	 * @return		Tokens of the line being processed
+	 */
+	protected List<JavaToken> getTokens() {
+		return getTokens(currentIdx);
+	}
+	
+	/**
+	 * Gets tokens of a line. Source code is split into tokens only once, 
+	 * unless a line changes.
+	 * 
+	 * @param		idx Index of the line
+	 * 
+	 * @return		Tokens of the line
+	 * 
+	 * @throws		IllegalArgumentException If index is out of bounds
+	 */
+	protected List<JavaToken> getTokens(int idx) {
+		if (tokenStream == null)
+			tokenStream = new JavaTokenStream(sourceCode);
+		
+		return tokenStream.getTokens(idx);
+	}
+	
+	/**
+	 * Uses tokens that have already been split by another processor that 
+	 * works on the same source code.
+	 * 
+	 * @param		tokenStream Tokens of the source code
+	 */
+	public void setTokenStream(JavaTokenStream tokenStream) {
+		this.tokenStream = tokenStream;
+	}
+	
 	protected String getPreviousLine() {
 		if (currentIdx-1 < 0)
 			return "";
@@ -2,9 +2,10 @@ package wniemiec.app.java.executionflow.io.processing.processor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.invoked.Invoked;
-import wniemiec.util.java.CurlyBracketBalance;
+import wniemiec.app.java.executionflow.io.processing.processor.lexer.BracketCounter;
 
 /**
  * Comments on all test methods except the one with the signature provided.
@@ -17,8 +18,22 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	//		Attributes
 	//---------------------------------------------------------------------
-	private CurlyBracketBalance curlyBracketBalanceTestMethod;
-	private CurlyBracketBalance curlyBracketBalanceIgnoredMethod;
+	private static final Pattern PATTERN_JUNIT4_TEST = Pattern.compile(
+			".*@(.*\\.)?(org\\.junit\\.)?Test(\\ |\\t)*(\\ |\\t)*(\\(.*\\))?.*"
+	);
+	private static final Pattern PATTERN_REPEATED_TEST = Pattern.compile(
+			".*@(.*\\.)?RepeatedTest(\\ |\\t)*\\(.+\\)(\\ |\\t)*.*"
+	);
+	private static final Pattern PATTERN_PARAMETERIZED_TEST = Pattern.compile(
+			".*@(.*\\.)?(org\\.junit\\.jupiter\\.params\\.)?"
+			+ "ParameterizedTest(\\ |\\t)*(\\ |\\t)*.*"
+	);
+	private static final Pattern PATTERN_METHOD_DECLARATION = Pattern.compile(
+			"^.*[\\s\\t]+((?!new)[A-z0-9\\_\\<\\>\\,\\[\\]\\.\\$])+"
+			+ "[\\s\\t]+([A-z0-9\\_\\$]+)[\\s\\t]*\\(.*\\).*$"
+	);
+	private BracketCounter curlyBracketBalanceTestMethod;
+	private BracketCounter curlyBracketBalanceIgnoredMethod;
 	private boolean ignoreMethod;
 	private boolean inTestAnnotationScope;
 	private boolean isTestMethodToBeHighlighted;
@@ -56,10 +71,10 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 			return line;
 		
 		if (isInsideTestMethod()) {
-			updateCurlyBracketBalance(line);
+			updateCurlyBracketBalance();
 		}
 		else if (isTestMethodDeclaration(line)) {
-			initializeCurlyBracketBalance(line);
+			initializeCurlyBracketBalance();
 			isTestMethodToBeHighlighted = isTheMethodToBeHighlighted(line);
 		}
 		
@@ -88,47 +103,33 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 	}
 	
 	private boolean isJUnit4Annotation(String line) {
-		final String regexJUnit4Test = ".*@(.*\\.)?"
-				+ "(org\\.junit\\.)?Test(\\ |\\t)*(\\ |\\t)*(\\(.*\\))?.*";
-		
-		return line.matches(regexJUnit4Test);
+		return PATTERN_JUNIT4_TEST.matcher(line).matches();
 	}
 
 	private boolean isJUnit5RepeatedTestAnnotation(String line) {
-		final String regexRepeatedTest = ".*@(.*\\.)?"
-				+ "RepeatedTest(\\ |\\t)*\\(.+\\)(\\ |\\t)*.*";
-		
-		return line.matches(regexRepeatedTest);
+		return PATTERN_REPEATED_TEST.matcher(line).matches();
 	}
 	
 	private boolean isJUnit5ParameterizedTest(String line) {
-		final String regexParameterizedTest = ".*@(.*\\.)?"
-				+ "(org\\.junit\\.jupiter\\.params\\.)?"
-				+ "ParameterizedTest(\\ |\\t)*(\\ |\\t)*.*";
-		
-		return line.matches(regexParameterizedTest);
+		return PATTERN_PARAMETERIZED_TEST.matcher(line).matches();
 	}
 	
 	private boolean isInsideTestMethod() {
 		return	(curlyBracketBalanceTestMethod != null);
 	}
 	
-	private void updateCurlyBracketBalance(String line) {
-		curlyBracketBalanceTestMethod.parse(line);
+	private void updateCurlyBracketBalance() {
+		curlyBracketBalanceTestMethod.parse(getTokens());
 	}
 	
 	private boolean isTestMethodDeclaration(String line) {
-		final String regexMethodDeclaration = 
-				"^.*[\\s\\t]+((?!new)[A-z0-9\\_\\<\\>\\,\\[\\]\\.\\$])+"
-				+ "[\\s\\t]+([A-z0-9\\_\\$]+)[\\s\\t]*\\(.*\\).*$";
-		
-		return	line.matches(regexMethodDeclaration)
+		return	PATTERN_METHOD_DECLARATION.matcher(line).matches()
 				&& !line.contains("private ");
 	}
 	
-	private void initializeCurlyBracketBalance(String line) {
-		curlyBracketBalanceTestMethod = new CurlyBracketBalance();
-		curlyBracketBalanceTestMethod.parse(line);
+	private void initializeCurlyBracketBalance() {
+		curlyBracketBalanceTestMethod = BracketCounter.curlyBrackets();
+		curlyBracketBalanceTestMethod.parse(getTokens());
 	}
 	
 	private boolean isTheMethodToBeHighlighted(String line) {
@@ -227,13 +228,13 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 			if (isLastLineOfMethodToBeIgnored())
 				ignoredMethods.add(getCurrentIndex());
 			
-			updateCurlyBracketBalanceOfIgnoredMethod(line);
+			updateCurlyBracketBalanceOfIgnoredMethod();
 			
 			ignoreMethod = !isLastLineOfMethodToBeIgnored();
 		}
 		else if (isTestMethodDeclaration(line) && !isTheMethodToBeHighlighted(line)) {
 			checkIfCurlyBracketBalanceOfIgnoredMethodIsInitialized();
-			updateCurlyBracketBalanceOfIgnoredMethod(line);
+			updateCurlyBracketBalanceOfIgnoredMethod();
 			
 			ignoreMethod = true;
 			ignoredMethods.add(getCurrentIndex());
@@ -242,11 +243,11 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 	
 	private void checkIfCurlyBracketBalanceOfIgnoredMethodIsInitialized() {
 		if (curlyBracketBalanceIgnoredMethod == null)
-			curlyBracketBalanceIgnoredMethod = new CurlyBracketBalance();
+			curlyBracketBalanceIgnoredMethod = BracketCounter.curlyBrackets();
 	}
 	
-	private void updateCurlyBracketBalanceOfIgnoredMethod(String line) {
-		curlyBracketBalanceIgnoredMethod.parse(line);
+	private void updateCurlyBracketBalanceOfIgnoredMethod() {
+		curlyBracketBalanceIgnoredMethod.parse(getTokens());
 	}
 	
 	private boolean isLastLineOfMethodToBeIgnored() {
@@ -289,7 +290,7 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 	
 	private void commentBodyOfIgnoredMethods(List<String> lines) {
 		for (int idx : ignoredMethods) {
-			CurlyBracketBalance cbb = new CurlyBracketBalance();
+			BracketCounter cbb = BracketCounter.curlyBrackets();
 			String line = lines.get(idx);
 			
 			if (removeInlineComments(line).isBlank())
@@ -303,7 +304,7 @@ public class TestMethodHighlighter extends SourceCodeProcessor {
 
 			do {
 				line = lines.get(idx);
-				cbb.parse(line);
+				cbb.parse(getTokens(idx));
 				lines.set(idx, "//@ " + line);
 				idx++;
 			}
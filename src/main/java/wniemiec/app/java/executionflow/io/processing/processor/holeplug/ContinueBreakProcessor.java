@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -20,6 +21,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class ContinueBreakProcessor extends SourceCodeProcessor {
 	
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_CONTINUE_BREAK = 
+			Pattern.compile("^(\\ |\\t)*(continue|break)(\\ |\\t)*[^;\\s\\t\\(\\)\\.]*;");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -45,9 +53,6 @@ public class ContinueBreakProcessor extends SourceCodeProcessor {
 	}
 
 	private boolean isContinueOrBreakKeyword(String line) {
-		final String regexContinueBreak = 
-				"^(\\ |\\t)*(continue|break)(\\ |\\t)*[^;\\s\\t\\(\\)\\.]*;";
-		
-		return line.matches(regexContinueBreak);
+		return PATTERN_CONTINUE_BREAK.matcher(line).matches();
 	}
 }
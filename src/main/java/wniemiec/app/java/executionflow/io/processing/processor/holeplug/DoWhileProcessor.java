@@ -14,6 +14,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class DoWhileProcessor extends SourceCodeProcessor {
 
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_DO = 
+			Pattern.compile("[\\t\\s\\}]*do[\\n\\s\\t\\{]+");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -34,9 +41,7 @@ public class DoWhileProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isDoKeyword(String line) {
-		final Pattern patternDo = Pattern.compile("[\\t\\s\\}]*do[\\n\\s\\t\\{]+");
-		
-		return patternDo.matcher(line).find();
+		return PATTERN_DO.matcher(line).find();
 	}
 
 	private String putVariableNextToOpenCurlyBracket(String line) {
@@ -17,6 +17,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class ElseProcessor extends SourceCodeProcessor {
 
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_ELSE = 
+			Pattern.compile("[\\s\\t\\}]*else(\\ |\\t|\\{|$)+.*");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -37,10 +44,7 @@ public class ElseProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isElseKeyword(String line) {
-		final Pattern patternElse = 
-				Pattern.compile("[\\s\\t\\}]*else(\\ |\\t|\\{|$)+.*");
-		
-		return !line.contains("if") && patternElse.matcher(line).find();
+		return !line.contains("if") && PATTERN_ELSE.matcher(line).find();
 	}
 	
 	private String putVariableNextToOpenCurlyBracket(String line) {
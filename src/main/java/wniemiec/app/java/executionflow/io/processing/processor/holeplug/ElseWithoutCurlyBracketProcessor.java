@@ -18,6 +18,13 @@ public class ElseWithoutCurlyBracketProcessor extends SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	//		Attributes
 	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_CLOSED_CURLY_BRACKET_NEXT_TO_IF_ELSE = 
+			Pattern.compile("(\\t|\\ )*\\}(\\t|\\ )*(else if|else)(\\t|\\ )*(\\(|\\{).*");
+	private static final Pattern PATTERN_CATCH_KEYWORD = 
+			Pattern.compile("[\\s\\t\\}]*catch(\\ |\\t)*\\(.*\\)(\\ |\\t)*");
+	private static final Pattern PATTERN_ELSE = 
+			Pattern.compile("[\\s\\t\\}]*else(\\ |\\t|\\{|$)+.*");
+	
 	private ElseBlockManager elseBlockManager = new ElseBlockManager();
 	
 	private boolean inElseWithoutCurlyBrackets;
@@ -81,10 +88,7 @@ public class ElseWithoutCurlyBracketProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean hasClosingCurlyBracketNextToIf(String nextLine) {
-		final String regexClosedCurlyBracketNextToIfElse = "(\\t|\\ )*"
-				+ "\\}(\\t|\\ )*(else if|else)(\\t|\\ )*(\\(|\\{).*";
-		
-		return nextLine.matches(regexClosedCurlyBracketNextToIfElse);
+		return PATTERN_CLOSED_CURLY_BRACKET_NEXT_TO_IF_ELSE.matcher(nextLine).matches();
 	}
 
 	private String moveClosedCurlyBracketToCurrentLine(String line) {
@@ -142,10 +146,7 @@ public class ElseWithoutCurlyBracketProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean hasCatchKeyword(String line) {
-		final String regexCatchKeyword = "[\\s\\t\\}]*"
-				+ "catch(\\ |\\t)*\\(.*\\)(\\ |\\t)*";
-		
-		return line.matches(regexCatchKeyword);
+		return PATTERN_CATCH_KEYWORD.matcher(line).matches();
 	}
 	
 	private String parseElse(String line, String nextLine) {
@@ -202,11 +203,8 @@ public class ElseWithoutCurlyBracketProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isElseKeyword(String line) {
-		final Pattern patternElse = Pattern.compile("[\\s\\t\\}]*"
-				+ "else(\\ |\\t|\\{|$)+.*");
-		
 		return	!line.contains("if") 
-				&& patternElse.matcher(line).find();
+				&& PATTERN_ELSE.matcher(line).find();
 	}
 	
 	
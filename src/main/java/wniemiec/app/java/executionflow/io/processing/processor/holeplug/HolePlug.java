@@ -2,6 +2,9 @@ package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
 
+import wniemiec.app.java.executionflow.io.processing.processor.CommentTracker;
+import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
+
 /**
  * Adds instructions to pieces of code that are omitted during compilation.
  * Are they:
@@ -13,6 +16,10 @@ import java.util.List;
  * 	<li>switch clauses</li>
  * 	<li>variable declarations that are not initialized</li>
  * </ul>
+ * All of them are applied in a single pass over the source code. Processors
+ * that read the next line see it as if the previous processors had already
+ * gone through the whole source code, so that the result is the same as
+ * running each processor separately.
  * 
  * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
  * @since 		5.0.0
@@ -23,6 +30,18 @@ public class HolePlug {
 	//		Attributes
 	//-------------------------------------------------------------------------
 	private List<String> sourceCode;
+	
+	/**
+	 * Processors applied to a line as soon as the pass reaches it.
+	 */
+	private final List<SourceCodeProcessor> leadingProcessors;
+	
+	/**
+	 * Processors applied to a line once leading processors have gone through
+	 * the next one.
+	 */
+	private final List<SourceCodeProcessor> trailingProcessors;
+	private final CommentTracker commentTracker;
 
 	
 	//-------------------------------------------------------------------------
@@ -30,6 +49,22 @@ public class HolePlug {
 	//-------------------------------------------------------------------------
 	public HolePlug(List<String> sourceCode) {
 		this.sourceCode = sourceCode;
+		
+		leadingProcessors = List.of(
+				new OpenCurlyBracketProcessor(sourceCode),
+				new InvokedProcessor(sourceCode)
+		);
+		trailingProcessors = List.of(
+				new ElseWithoutCurlyBracketProcessor(sourceCode),
+				new ElseProcessor(sourceCode),
+				new TryCatchFinallyProcessor(sourceCode),
+				new ContinueBreakProcessor(sourceCode),
+				new DoWhileProcessor(sourceCode),
+				new WhileProcessor(sourceCode),
+				new SwitchProcessor(sourceCode),
+				new UninitializedVariableProcessor(sourceCode)
+		);
+		commentTracker = new CommentTracker();
 	}
 	
 	
@@ -37,82 +72,38 @@ public class HolePlug {
 	//		Methods
 	//-------------------------------------------------------------------------
 	public List<String> processLines() {
-		moveAloneOpenCurlyBracketsToThePreviousLine();
-		putCollectAnnotationNextToInvokedDeclarations();
-		addCurlyBracketsInElseStatementsWithoutCurlyBrackets();
-		addInstructionNextToElseKeywords();
-		addInstructionNextToTryFinallyKeywords();
-		addInstructionNextToContinueBreakKeywords();
-		addInstructionNextToDoWhileKeywords();
-		addInstructionNextToWhileKeywords();
-		addInstructionInSwitchStructures();
-		addInstructionNextToUninitializedVariables();
+		boolean previousLineInComment = false;
 		
-		return sourceCode;
-	}
-
-	private void addInstructionNextToUninitializedVariables() {
-		UninitializedVariableProcessor uninitializedVariableProcessor = 
-				new UninitializedVariableProcessor(sourceCode);
+		for (int i = 0; i < sourceCode.size(); i++) {
+			boolean inComment = commentTracker.parse(sourceCode.get(i));
+			
+			processLine(leadingProcessors, i, inComment);
+			
+			if (i > 0)
+				processLine(trailingProcessors, i-1, previousLineInComment);
+			
+			previousLineInComment = inComment;
+		}
 		
-		sourceCode = uninitializedVariableProcessor.processLines();
-	}
-
-	private void addInstructionInSwitchStructures() {
-		SwitchProcessor switchProcessor = new SwitchProcessor(sourceCode);
+		if (!sourceCode.isEmpty())
+			processLine(trailingProcessors, sourceCode.size()-1, previousLineInComment);
 		
-		sourceCode = switchProcessor.processLines();
-	}
-
-	private void addInstructionNextToWhileKeywords() {
-		WhileProcessor whileProcessor = new WhileProcessor(sourceCode);
-		
-		sourceCode = whileProcessor.processLines();
-	}
-
-	private void addInstructionNextToDoWhileKeywords() {
-		DoWhileProcessor doWhileProcessor = new DoWhileProcessor(sourceCode);
-		
-		sourceCode = doWhileProcessor.processLines();
-	}
-
-	private void addInstructionNextToContinueBreakKeywords() {
-		ContinueBreakProcessor continueBreakProcessor =
-				new ContinueBreakProcessor(sourceCode);
+		finishProcessing(leadingProcessors);
+		finishProcessing(trailingProcessors);
 		
-		sourceCode = continueBreakProcessor.processLines();
-	}
-
-	private void addInstructionNextToTryFinallyKeywords() {
-		TryCatchFinallyProcessor tryCatchFinallyProcessor = 
-				new TryCatchFinallyProcessor(sourceCode);
-		
-		sourceCode = tryCatchFinallyProcessor.processLines();
-	}
-
-	private void addInstructionNextToElseKeywords() {
-		ElseProcessor elseProcessor = new ElseProcessor(sourceCode);
-		
-		sourceCode = elseProcessor.processLines();
-	}
-
-	private void addCurlyBracketsInElseStatementsWithoutCurlyBrackets() {
-		ElseWithoutCurlyBracketProcessor processor = 
-				new ElseWithoutCurlyBracketProcessor(sourceCode);
-		
-		sourceCode = processor.processLines();
+		return sourceCode;
 	}
-
-	private void putCollectAnnotationNextToInvokedDeclarations() {
-		InvokedProcessor invokedProcessor = new InvokedProcessor(sourceCode);
-		
-		sourceCode = invokedProcessor.processLines();
+	
+	private void processLine(List<SourceCodeProcessor> processors, int idx, 
+							 boolean inComment) {
+		for (SourceCodeProcessor processor : processors) {
+			processor.processLine(idx, inComment);
+		}
 	}
-
-	private void moveAloneOpenCurlyBracketsToThePreviousLine() {
-		OpenCurlyBracketProcessor openCurlyBracketProcessor = 
-				new OpenCurlyBracketProcessor(sourceCode);
-		
-		sourceCode = openCurlyBracketProcessor.processLines();
+	
+	private void finishProcessing(List<SourceCodeProcessor> processors) {
+		for (SourceCodeProcessor processor : processors) {
+			sourceCode = processor.finishProcessing();
+		}
 	}
 }
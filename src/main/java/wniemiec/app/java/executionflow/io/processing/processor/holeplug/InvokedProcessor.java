@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -16,6 +17,12 @@ public class InvokedProcessor extends SourceCodeProcessor {
 	//---------------------------------------------------------------------
 	//		Attributes
 	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_METHOD_DECLARATION = Pattern.compile(
+			"[\\s\\t]*(public|protected|private)[\\s\\t]+.+"
+			+ "\\(.*\\)[\\s\\t]*\\{[\\s\\t]*$"
+	);
+	private static final Pattern PATTERN_CONSTRUCTOR_INSTANTIATION = 
+			Pattern.compile("(\\ |\\t)*new[\\s\\t\\{\\n]+");
 	private boolean insideInvoked;
 	
 	
@@ -54,18 +61,11 @@ public class InvokedProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isMethodDeclaration(String line) {
-		final String regexMethodDeclaration = 
-				"[\\s\\t]*(public|protected|private)[\\s\\t]+.+"
-				+ "\\(.*\\)[\\s\\t]*\\{[\\s\\t]*$";
-		
-		return line.matches(regexMethodDeclaration);
+		return PATTERN_METHOD_DECLARATION.matcher(line).matches();
 	}
 	
 	private boolean isConstructor(String line) {
-		final String regexConstructorInstantiation = 
-				"(\\ |\\t)*new[\\s\\t\\{\\n]+";
-		
-		return	line.matches(regexConstructorInstantiation) || 
+		return	PATTERN_CONSTRUCTOR_INSTANTIATION.matcher(line).matches() || 
 				line.contains(" new ");
 	}
 }
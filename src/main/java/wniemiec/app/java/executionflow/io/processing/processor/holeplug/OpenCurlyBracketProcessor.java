@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -12,6 +13,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class OpenCurlyBracketProcessor extends SourceCodeProcessor {
 
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_ONLY_OPENING_CURLY_BRACKET = 
+			Pattern.compile("^(\\s|\\t)*\\{(\\s|\\t|\\/)*$");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -36,8 +44,6 @@ public class OpenCurlyBracketProcessor extends SourceCodeProcessor {
 	}
 
 	private boolean hasOnlyOpeningCurlyBracket(String line) {
-		final String regexOnlyOpeningCurlyBracket = "^(\\s|\\t)*\\{(\\s|\\t|\\/)*$";
-		
-		return line.matches(regexOnlyOpeningCurlyBracket);
+		return PATTERN_ONLY_OPENING_CURLY_BRACKET.matcher(line).matches();
 	}
 }
@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -13,6 +14,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class SwitchProcessor extends SourceCodeProcessor {
 
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_SWITCH = 
+			Pattern.compile("[\\t\\s\\}]*(case|default)[\\t\\s]+.*:.*");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -33,9 +41,7 @@ public class SwitchProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isSwitchStatement(String line) {
-		final String regexSwitch = "[\\t\\s\\}]*(case|default)[\\t\\s]+.*:.*";
-		
-		return line.matches(regexSwitch);
+		return PATTERN_SWITCH.matcher(line).matches();
 	}
 	
 	private String putVariableNextToColon(String line) {		
@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -10,6 +11,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class TryCatchFinallyProcessor extends SourceCodeProcessor {
 
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_TRY_FINALLY = 
+			Pattern.compile("[\\t\\s\\}]*(try|finally)[\\s\\t\\{]+");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -30,9 +38,7 @@ public class TryCatchFinallyProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isTryOrFinallyStatement(String line) {
-		final String regexTryFinally = "[\\t\\s\\}]*(try|finally)[\\s\\t\\{]+";
-		
-		return line.matches(regexTryFinally);
+		return PATTERN_TRY_FINALLY.matcher(line).matches();
 	}
 	
 	private String putVariableNextToOpenCurlyBracket(String line) {
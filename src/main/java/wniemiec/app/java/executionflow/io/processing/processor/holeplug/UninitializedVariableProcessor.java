@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -13,6 +14,15 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class UninitializedVariableProcessor extends SourceCodeProcessor {
 	
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_UNINITIALIZED_VAR_DECLARATION = Pattern.compile(
+			"( |\\t)*(final(\\s|\\t)+)?[A-z0-9\\-_$<?>,\\.]+"
+			+ "(\\s|\\t)[A-z0-9\\-_$]+(((,)[A-z0-9\\-_$]+)?)+;"
+	);
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -33,11 +43,7 @@ public class UninitializedVariableProcessor extends SourceCodeProcessor {
 	}
 
 	private boolean isUninitializedVarDeclaration(String line) {
-		final String regexUninitializedVarDeclaration = 
-				"( |\\t)*(final(\\s|\\t)+)?[A-z0-9\\-_$<?>,\\.]+"
-				+ "(\\s|\\t)[A-z0-9\\-_$]+(((,)[A-z0-9\\-_$]+)?)+;";
-		
-		return	line.matches(regexUninitializedVarDeclaration)
+		return	PATTERN_UNINITIALIZED_VAR_DECLARATION.matcher(line).matches()
 				&& !line.contains("return ") 
 				&& !line.contains("return(")
 				&& !line.contains("throw ")
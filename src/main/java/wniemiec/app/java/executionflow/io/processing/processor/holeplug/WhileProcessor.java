@@ -1,6 +1,7 @@
 package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.util.List;
+import java.util.regex.Pattern;
 
 import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcessor;
 
@@ -13,6 +14,13 @@ import wniemiec.app.java.executionflow.io.processing.processor.SourceCodeProcess
  */
 public class WhileProcessor extends SourceCodeProcessor {
 
+	//---------------------------------------------------------------------
+	//		Attributes
+	//---------------------------------------------------------------------
+	private static final Pattern PATTERN_WHILE_STATEMENT = 
+			Pattern.compile(".*while[\\s\\t]+\\(.+\\)[\\s\\t{]*[^};]");
+	
+	
 	//---------------------------------------------------------------------
 	//		Constructor
 	//---------------------------------------------------------------------
@@ -33,10 +41,7 @@ public class WhileProcessor extends SourceCodeProcessor {
 	}
 	
 	private boolean isWhileStatement(String line) {
-		final String regexWhileStatement = 
-				".*while[\\s\\t]+\\(.+\\)[\\s\\t{]*[^};]";
-		
-		return line.matches(regexWhileStatement);
+		return PATTERN_WHILE_STATEMENT.matcher(line).matches();
 	}
 	
 	private String putVariableNextToOpenCurlyBracket(String line) {
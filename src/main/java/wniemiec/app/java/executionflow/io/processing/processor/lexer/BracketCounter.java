@@ -0,0 +1,100 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+import java.util.List;
+
+/**
+ * Keeps the balance between opening and closing brackets of a piece of
+ * source code. Brackets inside literals and comments are not taken into
+ * account.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class BracketCounter {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final JavaTokenType openingBracket;
+	private final JavaTokenType closingBracket;
+	private int balance;
+	private boolean alreadyIncreased;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private BracketCounter(JavaTokenType openingBracket, JavaTokenType closingBracket) {
+		this.openingBracket = openingBracket;
+		this.closingBracket = closingBracket;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Factories
+	//-------------------------------------------------------------------------
+	public static BracketCounter curlyBrackets() {
+		return new BracketCounter(
+				JavaTokenType.OPENING_CURLY_BRACKET,
+				JavaTokenType.CLOSING_CURLY_BRACKET
+		);
+	}
+	
+	public static BracketCounter roundBrackets() {
+		return new BracketCounter(
+				JavaTokenType.OPENING_ROUND_BRACKET,
+				JavaTokenType.CLOSING_ROUND_BRACKET
+		);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Updates the balance with the brackets of some tokens.
+	 * 
+	 * @param		tokens Tokens
+	 * 
+	 * @return		Itself to allow chained calls
+	 * 
+	 * @throws		IllegalArgumentException If tokens is null
+	 */
+	public BracketCounter parse(List<JavaToken> tokens) {
+		if (tokens == null)
+			throw new IllegalArgumentException("Tokens cannot be null");
+		
+		for (JavaToken token : tokens) {
+			if (token.is(openingBracket)) {
+				balance++;
+				alreadyIncreased = true;
+			}
+			else if (token.is(closingBracket)) {
+				balance--;
+			}
+		}
+		
+		return this;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public int getBalance() {
+		return balance;
+	}
+	
+	public boolean isBalanceEmpty() {
+		return (balance == 0);
+	}
+	
+	/**
+	 * Checks whether an opening bracket has already been parsed.
+	 * 
+	 * @return		True if an opening bracket has been parsed; false otherwise
+	 */
+	public boolean alreadyIncreased() {
+		return alreadyIncreased;
+	}
+}
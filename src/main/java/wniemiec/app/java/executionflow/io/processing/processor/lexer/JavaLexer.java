@@ -0,0 +1,263 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits Java source code into tokens, one line at a time. Multi-line
+ * comments and text blocks are carried over from one line to the next, so
+ * that lines must be given in the order they appear in the source code.
+ * Whitespace is not part of any token.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class JavaLexer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String TEXT_BLOCK_DELIMITER = "\"\"\"";
+	private Mode mode;
+	private String line;
+	private int idx;
+	private List<JavaToken> tokens;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructors
+	//-------------------------------------------------------------------------
+	public JavaLexer() {
+		this(Mode.CODE);
+	}
+	
+	/**
+	 * Splits Java source code into tokens starting from a line that may be
+	 * inside a multi-line comment or text block.
+	 * 
+	 * @param		mode Where the first line starts
+	 */
+	JavaLexer(Mode mode) {
+		this.mode = mode;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Splits a piece of source code that does not start inside a multi-line
+	 * comment or text block into tokens.
+	 * 
+	 * @param		code Piece of source code
+	 * 
+	 * @return		Tokens
+	 * 
+	 * @throws		IllegalArgumentException If code is null
+	 */
+	public static List<JavaToken> tokenize(String code) {
+		return new JavaLexer().tokenizeLine(code);
+	}
+	
+	/**
+	 * Splits the next line of the source code into tokens.
+	 * 
+	 * @param		line Line
+	 * 
+	 * @return		Tokens
+	 * 
+	 * @throws		IllegalArgumentException If line is null
+	 */
+	public List<JavaToken> tokenizeLine(String line) {
+		if (line == null)
+			throw new IllegalArgumentException("Line cannot be null");
+		
+		this.line = line;
+		idx = 0;
+		tokens = new ArrayList<>();
+		
+		while (idx < line.length()) {
+			if (mode == Mode.MULTI_LINE_COMMENT)
+				readMultiLineComment(idx);
+			else if (mode == Mode.TEXT_BLOCK)
+				readTextBlock(idx, idx);
+			else
+				readToken();
+		}
+		
+		return tokens;
+	}
+	
+	private void readToken() {
+		char current = line.charAt(idx);
+		
+		if (Character.isWhitespace(current))
+			idx++;
+		else if (line.startsWith("//", idx))
+			addToken(JavaTokenType.COMMENT, idx, line.length());
+		else if (line.startsWith("/*", idx))
+			readMultiLineComment(idx + 2);
+		else if (line.startsWith(TEXT_BLOCK_DELIMITER, idx))
+			readTextBlock(idx, idx + TEXT_BLOCK_DELIMITER.length());
+		else if (current == '"')
+			readLiteral(JavaTokenType.STRING_LITERAL, '"');
+		else if (current == '\'')
+			readLiteral(JavaTokenType.CHAR_LITERAL, '\'');
+		else if (Character.isJavaIdentifierStart(current))
+			readWord();
+		else if (isNumberStart(current))
+			readNumber();
+		else
+			readSymbol(current);
+	}
+	
+	private void readMultiLineComment(int contentStart) {
+		int end = line.indexOf("*/", contentStart);
+		
+		if (end < 0) {
+			mode = Mode.MULTI_LINE_COMMENT;
+			addToken(JavaTokenType.COMMENT, idx, line.length());
+		}
+		else {
+			mode = Mode.CODE;
+			addToken(JavaTokenType.COMMENT, idx, end + 2);
+		}
+	}
+	
+	private void readTextBlock(int start, int contentStart) {
+		int end = findUnescaped(TEXT_BLOCK_DELIMITER, contentStart);
+		
+		if (end < 0) {
+			mode = Mode.TEXT_BLOCK;
+			addToken(JavaTokenType.STRING_LITERAL, start, line.length());
+		}
+		else {
+			mode = Mode.CODE;
+			addToken(
+					JavaTokenType.STRING_LITERAL,
+					start,
+					end + TEXT_BLOCK_DELIMITER.length()
+			);
+		}
+	}
+	
+	/**
+	 * Reads a string or char literal. Unterminated literals end with the
+	 * line.
+	 */
+	private void readLiteral(JavaTokenType type, char quote) {
+		int end = findUnescaped(String.valueOf(quote), idx + 1);
+		
+		addToken(type, idx, (end < 0) ? line.length() : end + 1);
+	}
+	
+	private int findUnescaped(String str, int from) {
+		for (int i = from; i < line.length(); i++) {
+			if (line.charAt(i) == '\\')
+				i++;
+			else if (line.startsWith(str, i))
+				return i;
+		}
+		
+		return -1;
+	}
+	
+	private void readWord() {
+		int end = idx + 1;
+		
+		while ((end < line.length()) && Character.isJavaIdentifierPart(line.charAt(end)))
+			end++;
+		
+		addToken(JavaTokenType.WORD, idx, end);
+	}
+	
+	private boolean isNumberStart(char current) {
+		return	Character.isDigit(current)
+				|| ((current == '.')
+						&& (idx + 1 < line.length())
+						&& Character.isDigit(line.charAt(idx + 1)));
+	}
+	
+	private void readNumber() {
+		int end = idx + 1;
+		
+		while (end < line.length()) {
+			char current = line.charAt(end);
+			
+			if (isExponentSign(end))
+				end++;
+			else if (Character.isJavaIdentifierPart(current) || (current == '.'))
+				end++;
+			else
+				break;
+		}
+		
+		addToken(JavaTokenType.NUMBER, idx, end);
+	}
+	
+	private boolean isExponentSign(int index) {
+		char current = line.charAt(index);
+		char previous = Character.toLowerCase(line.charAt(index - 1));
+		boolean isHex = line.regionMatches(true, idx, "0x", 0, 2);
+		
+		return	((current == '+') || (current == '-'))
+				&& (isHex ? (previous == 'p') : (previous == 'e'));
+	}
+	
+	private void readSymbol(char current) {
+		JavaTokenType type;
+		
+		switch (current) {
+			case '{':
+				type = JavaTokenType.OPENING_CURLY_BRACKET;
+				break;
+			case '}':
+				type = JavaTokenType.CLOSING_CURLY_BRACKET;
+				break;
+			case '(':
+				type = JavaTokenType.OPENING_ROUND_BRACKET;
+				break;
+			case ')':
+				type = JavaTokenType.CLOSING_ROUND_BRACKET;
+				break;
+			case ';':
+				type = JavaTokenType.SEMICOLON;
+				break;
+			default:
+				type = JavaTokenType.SYMBOL;
+		}
+		
+		addToken(type, idx, idx + 1);
+	}
+	
+	private void addToken(JavaTokenType type, int start, int end) {
+		tokens.add(new JavaToken(type, line.substring(start, end), start));
+		idx = end;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Checks where the next line starts.
+	 * 
+	 * @return		Where the next line starts
+	 */
+	Mode getMode() {
+		return mode;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	/**
+	 * Where a line starts.
+	 */
+	enum Mode {
+		CODE,
+		MULTI_LINE_COMMENT,
+		TEXT_BLOCK;
+	}
+}
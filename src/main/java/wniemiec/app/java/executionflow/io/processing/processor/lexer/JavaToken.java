@@ -0,0 +1,97 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+/**
+ * Token of a line of Java source code.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class JavaToken {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final JavaTokenType type;
+	private final String text;
+	private final int column;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Token of a line of Java source code.
+	 * 
+	 * @param		type Token type
+	 * @param		text Token content
+	 * @param		column Index of the line where the token starts
+	 */
+	JavaToken(JavaTokenType type, String text, int column) {
+		this.type = type;
+		this.text = text;
+		this.column = column;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Checks whether the token is of a type.
+	 * 
+	 * @param		type Token type
+	 * 
+	 * @return		True if the token is of the provided type; false otherwise
+	 */
+	public boolean is(JavaTokenType type) {
+		return (this.type == type);
+	}
+	
+	/**
+	 * Checks whether the token is a symbol.
+	 * 
+	 * @param		symbol Symbol
+	 * 
+	 * @return		True if the token is the provided symbol; false otherwise
+	 */
+	public boolean isSymbol(char symbol) {
+		return	(type == JavaTokenType.SYMBOL) 
+				&& (text.charAt(0) == symbol);
+	}
+	
+	@Override
+	public String toString() {
+		return type + "[" + text + "]@" + column;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public JavaTokenType getType() {
+		return type;
+	}
+	
+	public String getText() {
+		return text;
+	}
+	
+	/**
+	 * Gets index of the line where the token starts.
+	 * 
+	 * @return		Index of the first character of the token
+	 */
+	public int getColumn() {
+		return column;
+	}
+	
+	/**
+	 * Gets index of the line right after the token.
+	 * 
+	 * @return		Index of the character after the last character of the 
+	 * token
+	 */
+	public int getEndColumn() {
+		return column + text.length();
+	}
+}
@@ -0,0 +1,123 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tokens of a source code, split once and shared by all processors that
+ * work on it. Lines are split as they are requested, and a line is split
+ * again only if its content has changed since it was last split.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class JavaTokenStream {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final List<String> sourceCode;
+	
+	/**
+	 * Content of each line when it was split.
+	 */
+	private final List<String> splitLines;
+	private final List<List<JavaToken>> tokens;
+	
+	/**
+	 * Where the line after each split line starts.
+	 */
+	private final List<JavaLexer.Mode> nextLineModes;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Tokens of a source code.
+	 * 
+	 * @param		sourceCode Source code lines, which may be changed by
+	 * processors while they are being read
+	 * 
+	 * @throws		IllegalArgumentException If source code is null
+	 */
+	public JavaTokenStream(List<String> sourceCode) {
+		if (sourceCode == null)
+			throw new IllegalArgumentException("Source code cannot be null");
+		
+		this.sourceCode = sourceCode;
+		splitLines = new ArrayList<>();
+		tokens = new ArrayList<>();
+		nextLineModes = new ArrayList<>();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets tokens of a line. If the line or the one before it has changed,
+	 * they are split again.
+	 * 
+	 * @param		idx Index of the line
+	 * 
+	 * @return		Tokens of the line
+	 * 
+	 * @throws		IllegalArgumentException If index is out of bounds
+	 */
+	public List<JavaToken> getTokens(int idx) {
+		if ((idx < 0) || (idx >= sourceCode.size()))
+			throw new IllegalArgumentException("Index out of bounds");
+		
+		if (idx > 0)
+			update(idx - 1);
+		
+		update(idx);
+		
+		return tokens.get(idx);
+	}
+	
+	private void update(int idx) {
+		while (splitLines.size() <= idx) {
+			splitLine(splitLines.size());
+		}
+		
+		if (!sourceCode.get(idx).equals(splitLines.get(idx)))
+			splitLine(idx);
+	}
+	
+	private void splitLine(int idx) {
+		JavaLexer lexer = new JavaLexer(getModeAt(idx));
+		String line = sourceCode.get(idx);
+		List<JavaToken> lineTokens = lexer.tokenizeLine(line);
+		
+		if (idx == splitLines.size()) {
+			splitLines.add(line);
+			tokens.add(lineTokens);
+			nextLineModes.add(lexer.getMode());
+		}
+		else {
+			splitLines.set(idx, line);
+			tokens.set(idx, lineTokens);
+			
+			if (nextLineModes.set(idx, lexer.getMode()) != lexer.getMode())
+				discardLinesAfter(idx);
+		}
+	}
+	
+	private JavaLexer.Mode getModeAt(int idx) {
+		return (idx == 0) ? JavaLexer.Mode.CODE : nextLineModes.get(idx - 1);
+	}
+	
+	/**
+	 * Discards lines that started inside a multi-line comment or text block
+	 * that no longer exists, or vice versa.
+	 */
+	private void discardLinesAfter(int idx) {
+		for (int i = splitLines.size() - 1; i > idx; i--) {
+			splitLines.remove(i);
+			tokens.remove(i);
+			nextLineModes.remove(i);
+		}
+	}
+}
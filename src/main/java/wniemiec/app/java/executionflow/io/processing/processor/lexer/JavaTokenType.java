@@ -0,0 +1,51 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+/**
+ * Contains all kinds of tokens produced by {@link JavaLexer}.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public enum JavaTokenType {
+	
+	//-------------------------------------------------------------------------
+	//		Enumerations
+	//-------------------------------------------------------------------------
+	/**
+	 * Identifier or keyword.
+	 */
+	WORD,
+	
+	/**
+	 * Numeric literal.
+	 */
+	NUMBER,
+	
+	/**
+	 * String literal, including its quotes. Text blocks that span multiple
+	 * lines produce one token per line.
+	 */
+	STRING_LITERAL,
+	
+	/**
+	 * Character literal, including its quotes.
+	 */
+	CHAR_LITERAL,
+	
+	/**
+	 * Inline or multi-line comment. Multi-line comments produce one token 
+	 * per line.
+	 */
+	COMMENT,
+	
+	OPENING_CURLY_BRACKET,
+	CLOSING_CURLY_BRACKET,
+	OPENING_ROUND_BRACKET,
+	CLOSING_ROUND_BRACKET,
+	SEMICOLON,
+	
+	/**
+	 * Any other character, such as operators, dots, commas and at signs.
+	 */
+	SYMBOL;
+}
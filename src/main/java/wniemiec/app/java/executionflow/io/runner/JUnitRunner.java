@@ -6,6 +6,7 @@ import java.util.List;
 
 import wniemiec.component.java.JUnit4Runner;
 import wniemiec.app.java.executionflow.collector.CallCollector;
+import wniemiec.app.java.executionflow.collector.InvokedCollector;
 import wniemiec.app.java.executionflow.invoked.Invoked;
 import wniemiec.app.java.executionflow.lib.LibraryManager;
 import wniemiec.io.java.Consolex;
@@ -87,6 +88,10 @@ public class JUnitRunner {
 				insideJUnitAPICheckpoint.enable();
 			
 			resetCallsCollection();
+			
+			// Collected invoked are read by the virtual machine that runs 
+			// the test method
+			InvokedCollector.flushAll();
 			run(testMethod);
 			waitForJUnitAPI();
 		}
@@ -94,6 +99,7 @@ public class JUnitRunner {
 			Consolex.writeError("Restart - " + e.toString());
 		}
 		finally {
+			InvokedCollector.invalidateAll();
 			disableJUnitRunnerCheckpoint();
 		}
 	}
@@ -0,0 +1,85 @@
+package wniemiec.app.java.executionflow.runtime;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import wniemiec.app.java.executionflow.collector.CallCollector;
+
+/**
+ * Entry point of debuggees launched ahead of time. It loads the classes used
+ * for running tests and then waits for the file where methods called by 
+ * tested invoked must be stored, for the test class that must be run and 
+ * for the address of the channel through which methods called by tested 
+ * invoked must be sent (empty if there is none), which are read, one per 
+ * line, from the standard input.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class DebuggeeLauncher {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String JUNIT_RUNNER = "org.junit.runner.JUnitCore";
+	private static final String[] PRELOADED_CLASSES = {
+			JUNIT_RUNNER,
+			"org.junit.Assert",
+			"org.junit.runners.BlockJUnit4ClassRunner",
+			"org.hamcrest.CoreMatchers",
+			"org.aspectj.lang.JoinPoint",
+			"org.aspectj.runtime.reflect.Factory"
+	};
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private DebuggeeLauncher() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	public static void main(String[] args) throws IOException, ReflectiveOperationException {
+		preloadClasses();
+		
+		BufferedReader input = new BufferedReader(new InputStreamReader(
+				System.in, 
+				StandardCharsets.UTF_8
+		));
+		String mctiFile = input.readLine();
+		String testClass = input.readLine();
+		String channel = input.readLine();
+		
+		if ((mctiFile == null) || (testClass == null))
+			return;
+		
+		System.setProperty(CallCollector.MCTI_FILE_PROPERTY, mctiFile);
+		
+		if ((channel != null) && !channel.isEmpty())
+			System.setProperty(CallCollector.CHANNEL_PROPERTY, channel);
+		
+		runTestClass(testClass);
+	}
+	
+	private static void preloadClasses() {
+		for (String className : PRELOADED_CLASSES) {
+			try {
+				Class.forName(className);
+			}
+			catch (ClassNotFoundException | LinkageError e) {
+				// Class will be loaded when it is used, if it exists
+			}
+		}
+	}
+	
+	private static void runTestClass(String testClass) throws ReflectiveOperationException {
+		Class.forName(JUNIT_RUNNER)
+			.getMethod("main", String[].class)
+			.invoke(null, (Object) new String[] {testClass});
+	}
+}
@@ -0,0 +1,162 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Receives the probes inserted into the tested invoked by
+ * {@link BranchProbeTransformer}. Each thread keeps a trace per running
+ * invocation of the tested invoked, and only invocations made from the
+ * invocation line of the test method class are kept.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class BranchProbe {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final ThreadLocal<Deque<BranchTrace>> INVOCATIONS =
+			ThreadLocal.withInitial(ArrayDeque::new);
+	private static final List<BranchTrace> TRACES = new ArrayList<>();
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private BranchProbe() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Probe run when the tested invoked starts.
+	 * 
+	 * @param		method Index of the instrumented method
+	 */
+	public static void enter(int method) {
+		INVOCATIONS.get().push(new BranchTrace(
+				method,
+				InvocationLine.isCallerOfTestedInvoked()
+		));
+	}
+	
+	/**
+	 * Probe run when a conditional jump of the tested invoked is taken.
+	 */
+	public static void taken() {
+		BranchTrace invocation = INVOCATIONS.get().peek();
+		
+		if (invocation != null)
+			invocation.addBranch(true);
+	}
+	
+	/**
+	 * Probe run when a conditional jump of the tested invoked is not taken.
+	 */
+	public static void notTaken() {
+		BranchTrace invocation = INVOCATIONS.get().peek();
+		
+		if (invocation != null)
+			invocation.addBranch(false);
+	}
+	
+	/**
+	 * Probe run before a switch of the tested invoked.
+	 * 
+	 * @param		key Switch key
+	 */
+	public static void select(int key) {
+		BranchTrace invocation = INVOCATIONS.get().peek();
+		
+		if (invocation != null)
+			invocation.addSelection(key);
+	}
+	
+	/**
+	 * Probe run when an exception handler of the tested invoked is reached.
+	 * 
+	 * @param		exception Exception caught
+	 * @param		handler Index of the exception handler
+	 */
+	public static void handle(Throwable exception, int handler) {
+		BranchTrace invocation = INVOCATIONS.get().peek();
+		
+		if ((invocation != null) && invocation.isRecording())
+			invocation.addException(findThrowLine(exception), handler);
+	}
+	
+	/**
+	 * Gets the line of the tested invoked frame where an exception was
+	 * thrown. It must be called directly by a probe.
+	 * 
+	 * @param		exception Exception
+	 * 
+	 * @return		Line or -1 if it cannot be found
+	 */
+	private static int findThrowLine(Throwable exception) {
+		StackTraceElement[] exceptionFrames = exception.getStackTrace();
+		
+		// Frames: this method, probe, tested invoked and its callers
+		int testedInvokedFrames = new Throwable().getStackTrace().length - 2;
+		int index = exceptionFrames.length - testedInvokedFrames;
+		
+		if ((index < 0) || (index >= exceptionFrames.length))
+			return -1;
+		
+		return exceptionFrames[index].getLineNumber();
+	}
+	
+	/**
+	 * Probe run when the tested invoked returns.
+	 */
+	public static void exit() {
+		BranchTrace invocation = INVOCATIONS.get().poll();
+		
+		if ((invocation == null) || !invocation.isRecording())
+			return;
+		
+		synchronized (TRACES) {
+			TRACES.add(invocation);
+		}
+	}
+	
+	/**
+	 * Probe run when the tested invoked throws an exception.
+	 * 
+	 * @param		exception Exception thrown
+	 */
+	public static void exitByException(Throwable exception) {
+		BranchTrace invocation = INVOCATIONS.get().poll();
+		
+		if ((invocation == null) || !invocation.isRecording())
+			return;
+		
+		invocation.addException(findThrowLine(exception), -1);
+		
+		synchronized (TRACES) {
+			TRACES.add(invocation);
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets decisions taken by each invocation of the tested invoked made
+	 * from the invocation line, in the order they ended.
+	 * 
+	 * @return		Traces
+	 */
+	static List<BranchTrace> getTraces() {
+		synchronized (TRACES) {
+			return new ArrayList<>(TRACES);
+		}
+	}
+}
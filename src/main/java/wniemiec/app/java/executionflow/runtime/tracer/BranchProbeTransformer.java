@@ -0,0 +1,246 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import aj.org.objectweb.asm.ClassReader;
+import aj.org.objectweb.asm.ClassVisitor;
+import aj.org.objectweb.asm.ClassWriter;
+import aj.org.objectweb.asm.Label;
+import aj.org.objectweb.asm.MethodVisitor;
+import aj.org.objectweb.asm.Opcodes;
+import aj.org.objectweb.asm.Type;
+
+/**
+ * Inserts {@link BranchProbe} calls into the tested invoked: one when it
+ * starts, one at each outcome of its conditional jumps, one before each of
+ * its switches, one at each of its exception handlers and one whenever it
+ * ends. Lines are not probed: they are rebuilt afterwards from the original
+ * class file, which is kept along with the instrumented methods.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class BranchProbeTransformer implements ClassFileTransformer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String BRANCH_PROBE = Type.getInternalName(BranchProbe.class);
+	private final InvokedMatcher matcher;
+	private volatile byte[] classFile;
+	private volatile List<String> instrumentedMethods;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Inserts branch probes into a tested invoked.
+	 * 
+	 * @param		invokedClass Binary name of the class that declares the
+	 * tested invoked
+	 * @param		invokedName Method name or '&lt;init&gt;' for constructors
+	 * @param		invokedParameters Parameter types of the tested invoked as
+	 * they appear in its signature
+	 */
+	public BranchProbeTransformer(String invokedClass, String invokedName,
+								  List<String> invokedParameters) {
+		matcher = new InvokedMatcher(invokedClass, invokedName, invokedParameters);
+		classFile = new byte[0];
+		instrumentedMethods = List.of();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public byte[] transform(ClassLoader loader, String className,
+							Class<?> classBeingRedefined,
+							ProtectionDomain protectionDomain,
+							byte[] classfileBuffer) {
+		if (!matcher.isInvokedClass(className))
+			return null;
+		
+		try {
+			ClassReader reader = new ClassReader(classfileBuffer);
+			ClassWriter writer = new ProbeClassWriter(loader);
+			List<String> methods = new ArrayList<>();
+			
+			reader.accept(new ProbeClassVisitor(writer, methods), ClassReader.SKIP_FRAMES);
+			
+			classFile = classfileBuffer.clone();
+			instrumentedMethods = methods;
+			
+			return writer.toByteArray();
+		}
+		catch (RuntimeException e) {
+			System.err.println("Branch probes cannot be inserted into " + className + ": " + e);
+			
+			return null;
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets the class file of the tested invoked before being instrumented.
+	 * 
+	 * @return		Class file or an empty array if the class has not been
+	 * loaded
+	 */
+	public byte[] getClassFile() {
+		return classFile;
+	}
+	
+	/**
+	 * Gets name and descriptor of the instrumented methods, whose indexes are
+	 * the ones informed to {@link BranchProbe#enter(int)}.
+	 * 
+	 * @return		Instrumented methods
+	 */
+	public List<String> getInstrumentedMethods() {
+		return instrumentedMethods;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	private class ProbeClassVisitor extends ClassVisitor {
+		
+		private final List<String> methods;
+		
+		public ProbeClassVisitor(ClassVisitor classVisitor, List<String> methods) {
+			super(Opcodes.ASM8, classVisitor);
+			
+			this.methods = methods;
+		}
+		
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor,
+										 String signature, String[] exceptions) {
+			MethodVisitor methodVisitor = super.visitMethod(
+					access,
+					name,
+					descriptor,
+					signature,
+					exceptions
+			);
+			
+			if (((access & Opcodes.ACC_ABSTRACT) != 0)
+					|| !matcher.isTestedInvoked(name, descriptor))
+				return methodVisitor;
+			
+			methods.add(name + descriptor);
+			
+			return new BranchProbeMethodVisitor(
+					methodVisitor,
+					name.equals(InvokedMatcher.CONSTRUCTOR_NAME),
+					methods.size() - 1
+			);
+		}
+	}
+	
+	/**
+	 * Exception handlers are numbered in the order they first appear in the
+	 * exception table, as done by {@link ControlFlowGraph}.
+	 */
+	private static class BranchProbeMethodVisitor extends ProbeMethodVisitor {
+		
+		private final int method;
+		private final Map<Label, Integer> handlers;
+		
+		public BranchProbeMethodVisitor(MethodVisitor methodVisitor, boolean constructor,
+										int method) {
+			super(methodVisitor, constructor);
+			
+			this.method = method;
+			handlers = new HashMap<>();
+		}
+		
+		@Override
+		protected void visitEnterProbe() {
+			super.visitLdcInsn(method);
+			visitProbe("enter", "(I)V");
+		}
+		
+		private void visitProbe(String name, String descriptor) {
+			super.visitMethodInsn(Opcodes.INVOKESTATIC, BRANCH_PROBE, name, descriptor, false);
+		}
+		
+		@Override
+		public void visitJumpInsn(int opcode, Label label) {
+			if ((opcode == Opcodes.GOTO) || (opcode == Opcodes.JSR)) {
+				super.visitJumpInsn(opcode, label);
+				return;
+			}
+			
+			Label taken = new Label();
+			Label next = new Label();
+			
+			super.visitJumpInsn(opcode, taken);
+			visitProbe("notTaken", "()V");
+			super.visitJumpInsn(Opcodes.GOTO, next);
+			super.visitLabel(taken);
+			visitProbe("taken", "()V");
+			super.visitJumpInsn(Opcodes.GOTO, label);
+			super.visitLabel(next);
+		}
+		
+		@Override
+		public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+			visitSelectProbe();
+			super.visitTableSwitchInsn(min, max, dflt, labels);
+		}
+		
+		private void visitSelectProbe() {
+			super.visitInsn(Opcodes.DUP);
+			visitProbe("select", "(I)V");
+		}
+		
+		@Override
+		public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+			visitSelectProbe();
+			super.visitLookupSwitchInsn(dflt, keys, labels);
+		}
+		
+		@Override
+		public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+			super.visitTryCatchBlock(start, end, handler, type);
+			handlers.putIfAbsent(handler, handlers.size());
+		}
+		
+		@Override
+		public void visitLabel(Label label) {
+			super.visitLabel(label);
+			
+			Integer handler = handlers.get(label);
+			
+			if (handler == null)
+				return;
+			
+			super.visitInsn(Opcodes.DUP);
+			super.visitLdcInsn(handler);
+			visitProbe("handle", "(Ljava/lang/Throwable;I)V");
+		}
+		
+		@Override
+		protected void visitExitProbe() {
+			visitProbe("exit", "()V");
+		}
+		
+		@Override
+		protected void visitExceptionExitProbe() {
+			super.visitInsn(Opcodes.DUP);
+			visitProbe("exitByException", "(Ljava/lang/Throwable;)V");
+		}
+	}
+}
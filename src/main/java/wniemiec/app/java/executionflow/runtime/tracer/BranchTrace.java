@@ -0,0 +1,230 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Control flow decisions taken by an invocation of the tested invoked.
+ * Outcomes of conditional jumps are stored as a bitstream, while switch keys
+ * and exceptions caught by the tested invoked, which are rare, are stored as
+ * integers. Each exception is stored along with the number of branches and
+ * switch keys recorded before it, so that it can be placed in the bitstream.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class BranchTrace {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int EXCEPTION_FIELDS = 4;
+	private final int method;
+	private final boolean recording;
+	private long[] branches;
+	private int branchCount;
+	private int[] selections;
+	private int selectionCount;
+	private int[] exceptions;
+	private int exceptionCount;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructors
+	//-------------------------------------------------------------------------
+	/**
+	 * Control flow decisions taken by an invocation of the tested invoked.
+	 * 
+	 * @param		method Index of the instrumented method that was invoked
+	 * @param		recording False if decisions taken should be discarded
+	 */
+	public BranchTrace(int method, boolean recording) {
+		this.method = method;
+		this.recording = recording;
+		branches = recording ? new long[1] : new long[0];
+		selections = new int[0];
+		exceptions = new int[0];
+	}
+	
+	private BranchTrace(int method, long[] branches, int branchCount, int[] selections,
+						int[] exceptions) {
+		this.method = method;
+		this.branches = branches;
+		this.branchCount = branchCount;
+		this.selections = selections;
+		this.exceptions = exceptions;
+		recording = true;
+		selectionCount = selections.length;
+		exceptionCount = exceptions.length / EXCEPTION_FIELDS;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Records the outcome of a conditional jump.
+	 * 
+	 * @param		taken True if the jump was taken
+	 */
+	public void addBranch(boolean taken) {
+		if (!recording)
+			return;
+		
+		if ((branchCount >>> 6) == branches.length)
+			branches = Arrays.copyOf(branches, branches.length * 2);
+		
+		if (taken)
+			branches[branchCount >>> 6] |= 1L << (branchCount & 63);
+		
+		branchCount++;
+	}
+	
+	/**
+	 * Records the key of a switch.
+	 * 
+	 * @param		key Switch key
+	 */
+	public void addSelection(int key) {
+		if (!recording)
+			return;
+		
+		if (selectionCount == selections.length)
+			selections = Arrays.copyOf(selections, Math.max(4, selectionCount * 2));
+		
+		selections[selectionCount++] = key;
+	}
+	
+	/**
+	 * Records an exception that has reached the tested invoked.
+	 * 
+	 * @param		line Line of the tested invoked where the exception was
+	 * thrown or -1 if it is unknown
+	 * @param		handler Index of the exception handler of the tested invoked
+	 * that caught the exception or -1 if the exception was not caught
+	 */
+	public void addException(int line, int handler) {
+		if (!recording)
+			return;
+		
+		int index = exceptionCount * EXCEPTION_FIELDS;
+		
+		if (index == exceptions.length)
+			exceptions = Arrays.copyOf(exceptions, Math.max(EXCEPTION_FIELDS, index * 2));
+		
+		exceptions[index] = branchCount;
+		exceptions[index+1] = selectionCount;
+		exceptions[index+2] = line;
+		exceptions[index+3] = handler;
+		exceptionCount++;
+	}
+	
+	/**
+	 * Writes decisions taken to an output.
+	 * 
+	 * @param		output Output
+	 * 
+	 * @throws		IOException If decisions cannot be written
+	 */
+	public void write(DataOutput output) throws IOException {
+		output.writeInt(method);
+		output.writeInt(branchCount);
+		
+		for (int i = 0; i < ((branchCount + 63) >>> 6); i++) {
+			output.writeLong(branches[i]);
+		}
+		
+		writeInts(output, selections, selectionCount);
+		writeInts(output, exceptions, exceptionCount * EXCEPTION_FIELDS);
+	}
+	
+	private static void writeInts(DataOutput output, int[] values, int size)
+			throws IOException {
+		output.writeInt(size);
+		
+		for (int i = 0; i < size; i++) {
+			output.writeInt(values[i]);
+		}
+	}
+	
+	/**
+	 * Reads decisions written by {@link #write(DataOutput)}.
+	 * 
+	 * @param		input Input
+	 * 
+	 * @return		Decisions read
+	 * 
+	 * @throws		IOException If decisions cannot be read
+	 */
+	public static BranchTrace read(DataInput input) throws IOException {
+		int method = input.readInt();
+		int branchCount = input.readInt();
+		long[] branches = new long[(branchCount + 63) >>> 6];
+		
+		for (int i = 0; i < branches.length; i++) {
+			branches[i] = input.readLong();
+		}
+		
+		return new BranchTrace(method, branches, branchCount, readInts(input), readInts(input));
+	}
+	
+	private static int[] readInts(DataInput input) throws IOException {
+		int[] values = new int[input.readInt()];
+		
+		for (int i = 0; i < values.length; i++) {
+			values[i] = input.readInt();
+		}
+		
+		return values;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public int getMethod() {
+		return method;
+	}
+	
+	public boolean isRecording() {
+		return recording;
+	}
+	
+	public int getBranchCount() {
+		return branchCount;
+	}
+	
+	public boolean wasBranchTaken(int index) {
+		return (branches[index >>> 6] & (1L << (index & 63))) != 0;
+	}
+	
+	public int getSelectionCount() {
+		return selectionCount;
+	}
+	
+	public int getSelection(int index) {
+		return selections[index];
+	}
+	
+	public int getExceptionCount() {
+		return exceptionCount;
+	}
+	
+	public int getBranchesBeforeException(int index) {
+		return exceptions[index * EXCEPTION_FIELDS];
+	}
+	
+	public int getSelectionsBeforeException(int index) {
+		return exceptions[index*EXCEPTION_FIELDS + 1];
+	}
+	
+	public int getExceptionLine(int index) {
+		return exceptions[index*EXCEPTION_FIELDS + 2];
+	}
+	
+	public int getExceptionHandler(int index) {
+		return exceptions[index*EXCEPTION_FIELDS + 3];
+	}
+}
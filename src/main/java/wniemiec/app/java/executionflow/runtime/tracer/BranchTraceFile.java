@@ -0,0 +1,108 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File written by the agent in branch mode. It holds the class file of the
+ * tested invoked, the methods that were instrumented and the decisions taken
+ * by each invocation made from the invocation line. Test paths are rebuilt
+ * from it through the control flow graph of each instrumented method.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class BranchTraceFile {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int VERSION = 1;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private BranchTraceFile() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Writes the decisions taken by the invocations of a tested invoked.
+	 * 
+	 * @param		file Output file
+	 * @param		classFile Class file of the tested invoked before being
+	 * instrumented
+	 * @param		methods Name and descriptor of the instrumented methods
+	 * @param		traces Decisions taken by each invocation
+	 * 
+	 * @throws		IOException If file cannot be written
+	 */
+	static void write(Path file, byte[] classFile, List<String> methods,
+					  List<BranchTrace> traces) throws IOException {
+		try (DataOutputStream output = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(file)))) {
+			output.writeInt(VERSION);
+			output.writeInt(classFile.length);
+			output.write(classFile);
+			output.writeInt(methods.size());
+			
+			for (String method : methods) {
+				output.writeUTF(method);
+			}
+			
+			output.writeInt(traces.size());
+			
+			for (BranchTrace trace : traces) {
+				trace.write(output);
+			}
+		}
+	}
+	
+	/**
+	 * Rebuilds the lines reached by each invocation recorded in a file.
+	 * 
+	 * @param		file File written by the agent in branch mode
+	 * 
+	 * @return		Test paths, in the order the invocations ended
+	 * 
+	 * @throws		IOException If file cannot be read or if it has been
+	 * written by another version
+	 */
+	public static List<int[]> readTestPaths(Path file) throws IOException {
+		List<int[]> testPaths = new ArrayList<>();
+		
+		try (DataInputStream input = new DataInputStream(
+				new BufferedInputStream(Files.newInputStream(file)))) {
+			if (input.readInt() != VERSION)
+				throw new IOException("Unsupported branch trace file: " + file);
+			
+			byte[] classFile = new byte[input.readInt()];
+			input.readFully(classFile);
+			
+			List<ControlFlowGraph> graphs = new ArrayList<>();
+			
+			for (int i = input.readInt(); i > 0; i--) {
+				graphs.add(ControlFlowGraph.build(classFile, input.readUTF()));
+			}
+			
+			for (int i = input.readInt(); i > 0; i--) {
+				BranchTrace trace = BranchTrace.read(input);
+				
+				testPaths.add(graphs.get(trace.getMethod()).replay(trace));
+			}
+		}
+		
+		return testPaths;
+	}
+}
@@ -0,0 +1,317 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import aj.org.objectweb.asm.ClassReader;
+import aj.org.objectweb.asm.ClassVisitor;
+import aj.org.objectweb.asm.Label;
+import aj.org.objectweb.asm.MethodVisitor;
+import aj.org.objectweb.asm.Opcodes;
+
+/**
+ * Control flow graph of a method, built from its class file and line number
+ * table. Only the nodes needed to rebuild the lines reached by an invocation
+ * are kept: line number entries, jumps, switches, returns and throws.
+ * Instructions that always continue to the next one are omitted.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class ControlFlowGraph {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int LINE = 0;
+	private static final int JUMP = 1;
+	private static final int BRANCH = 2;
+	private static final int SWITCH = 3;
+	private static final int EXIT = 4;
+	private final int[] kinds;
+	private final int[] operands;
+	private final List<Selection> switches;
+	private final int[] handlers;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private ControlFlowGraph(int[] kinds, int[] operands, List<Selection> switches,
+							 int[] handlers) {
+		this.kinds = kinds;
+		this.operands = operands;
+		this.switches = switches;
+		this.handlers = handlers;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Builds the control flow graph of a method.
+	 * 
+	 * @param		classFile Class file that declares the method
+	 * @param		method Method name followed by its descriptor
+	 * 
+	 * @return		Control flow graph
+	 * 
+	 * @throws		IllegalArgumentException If class file does not declare
+	 * the method or if the method has subroutines
+	 */
+	public static ControlFlowGraph build(byte[] classFile, String method) {
+		GraphBuilder builder = new GraphBuilder();
+		
+		new ClassReader(classFile).accept(new ClassVisitor(Opcodes.ASM8) {
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor,
+											 String signature, String[] exceptions) {
+				return method.equals(name + descriptor) ? builder : null;
+			}
+		}, ClassReader.SKIP_FRAMES);
+		
+		if (!builder.hasCode())
+			throw new IllegalArgumentException("Method not found: " + method);
+		
+		return builder.build();
+	}
+	
+	/**
+	 * Rebuilds the lines reached by an invocation, walking through the graph
+	 * from the first node and following the recorded decisions. An exception
+	 * is placed where its line is reached after the decisions that preceded
+	 * it or, if that line is not found, before the next decision or exit.
+	 * 
+	 * @param		trace Decisions taken by the invocation
+	 * 
+	 * @return		Lines reached, without consecutive repetitions
+	 */
+	public int[] replay(BranchTrace trace) {
+		LineBuffer lines = new LineBuffer(true);
+		int node = 0;
+		int branch = 0;
+		int selection = 0;
+		int exception = 0;
+		int idleNodes = 0;
+		boolean exceptionLineReached = false;
+		
+		while ((node < kinds.length) && (idleNodes <= kinds.length)) {
+			boolean exceptionPending = (exception < trace.getExceptionCount())
+					&& (trace.getBranchesBeforeException(exception) == branch)
+					&& (trace.getSelectionsBeforeException(exception) == selection);
+			
+			if (exceptionPending && (exceptionLineReached || isDecisionOrExit(node))) {
+				int handler = trace.getExceptionHandler(exception++);
+				
+				if ((handler < 0) || (handler >= handlers.length))
+					break;
+				
+				node = handlers[handler];
+				exceptionLineReached = false;
+				idleNodes = 0;
+				continue;
+			}
+			
+			idleNodes++;
+			
+			if (kinds[node] == LINE) {
+				lines.add(operands[node]);
+				exceptionLineReached = exceptionPending
+						&& (operands[node] == trace.getExceptionLine(exception));
+				node++;
+			}
+			else if (kinds[node] == JUMP) {
+				node = operands[node];
+			}
+			else if (kinds[node] == BRANCH) {
+				if (branch == trace.getBranchCount())
+					break;
+				
+				node = trace.wasBranchTaken(branch++) ? operands[node] : node + 1;
+				idleNodes = 0;
+			}
+			else if (kinds[node] == SWITCH) {
+				if (selection == trace.getSelectionCount())
+					break;
+				
+				node = switches.get(operands[node]).getTarget(trace.getSelection(selection++));
+				idleNodes = 0;
+			}
+			else {
+				break;
+			}
+		}
+		
+		return lines.toArray();
+	}
+	
+	private boolean isDecisionOrExit(int node) {
+		return (kinds[node] != LINE) && (kinds[node] != JUMP);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	/**
+	 * Collects the nodes of a method. Targets are stored as labels and
+	 * replaced by node indexes once all labels have been visited.
+	 */
+	private static class GraphBuilder extends MethodVisitor {
+		
+		private final List<Integer> kinds;
+		private final List<Object> operands;
+		private final List<Label[]> switchLabels;
+		private final List<int[]> switchKeys;
+		private final Map<Label, Integer> labels;
+		private final List<Label> handlerLabels;
+		private boolean code;
+		
+		public GraphBuilder() {
+			super(Opcodes.ASM8);
+			
+			kinds = new ArrayList<>();
+			operands = new ArrayList<>();
+			switchLabels = new ArrayList<>();
+			switchKeys = new ArrayList<>();
+			labels = new HashMap<>();
+			handlerLabels = new ArrayList<>();
+		}
+		
+		@Override
+		public void visitCode() {
+			code = true;
+		}
+		
+		private void addNode(int kind, Object operand) {
+			kinds.add(kind);
+			operands.add(operand);
+		}
+		
+		@Override
+		public void visitLabel(Label label) {
+			labels.put(label, kinds.size());
+		}
+		
+		@Override
+		public void visitLineNumber(int line, Label start) {
+			addNode(LINE, line);
+		}
+		
+		@Override
+		public void visitInsn(int opcode) {
+			if (((opcode >= Opcodes.IRETURN) && (opcode <= Opcodes.RETURN))
+					|| (opcode == Opcodes.ATHROW))
+				addNode(EXIT, null);
+		}
+		
+		@Override
+		public void visitVarInsn(int opcode, int var) {
+			if (opcode == Opcodes.RET)
+				throw new IllegalArgumentException("Subroutines are not supported");
+		}
+		
+		@Override
+		public void visitJumpInsn(int opcode, Label label) {
+			if (opcode == Opcodes.JSR)
+				throw new IllegalArgumentException("Subroutines are not supported");
+			
+			addNode((opcode == Opcodes.GOTO) ? JUMP : BRANCH, label);
+		}
+		
+		@Override
+		public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+			int[] keys = new int[labels.length];
+			
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = min + i;
+			}
+			
+			visitLookupSwitchInsn(dflt, keys, labels);
+		}
+		
+		@Override
+		public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+			Label[] targets = new Label[labels.length + 1];
+			
+			System.arraycopy(labels, 0, targets, 0, labels.length);
+			targets[labels.length] = dflt;
+			
+			addNode(SWITCH, switchLabels.size());
+			switchLabels.add(targets);
+			switchKeys.add(keys.clone());
+		}
+		
+		@Override
+		public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+			if (!handlerLabels.contains(handler))
+				handlerLabels.add(handler);
+		}
+		
+		public boolean hasCode() {
+			return code;
+		}
+		
+		public ControlFlowGraph build() {
+			int[] nodeKinds = new int[kinds.size()];
+			int[] nodeOperands = new int[kinds.size()];
+			List<Selection> selections = new ArrayList<>();
+			int[] handlers = new int[handlerLabels.size()];
+			
+			for (int i = 0; i < nodeKinds.length; i++) {
+				nodeKinds[i] = kinds.get(i);
+				
+				if ((nodeKinds[i] == JUMP) || (nodeKinds[i] == BRANCH))
+					nodeOperands[i] = labels.get((Label) operands.get(i));
+				else if (nodeKinds[i] != EXIT)
+					nodeOperands[i] = (Integer) operands.get(i);
+			}
+			
+			for (int i = 0; i < switchLabels.size(); i++) {
+				selections.add(new Selection(switchKeys.get(i), resolve(switchLabels.get(i))));
+			}
+			
+			for (int i = 0; i < handlers.length; i++) {
+				handlers[i] = labels.get(handlerLabels.get(i));
+			}
+			
+			return new ControlFlowGraph(nodeKinds, nodeOperands, selections, handlers);
+		}
+		
+		private int[] resolve(Label[] targets) {
+			int[] nodes = new int[targets.length];
+			
+			for (int i = 0; i < targets.length; i++) {
+				nodes[i] = labels.get(targets[i]);
+			}
+			
+			return nodes;
+		}
+	}
+	
+	/**
+	 * Targets of a switch. The last target is the default one.
+	 */
+	private static class Selection {
+		
+		private final int[] keys;
+		private final int[] targets;
+		
+		public Selection(int[] keys, int[] targets) {
+			this.keys = keys;
+			this.targets = targets;
+		}
+		
+		public int getTarget(int key) {
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] == key)
+					return targets[i];
+			}
+			
+			return targets[keys.length];
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.Optional;
+
+/**
+ * Line of the test method class where the tested invoked is called. Probes
+ * use it to keep only invocations made from that line.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class InvocationLine {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+	private static volatile String testClass = "";
+	private static volatile int invocationLine = -1;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private InvocationLine() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Defines where the tested invoked is called from.
+	 * 
+	 * @param		testClass Test method class signature
+	 * @param		invocationLine Line of the test method class where the
+	 * tested invoked is called
+	 */
+	static void configure(String testClass, int invocationLine) {
+		InvocationLine.testClass = testClass;
+		InvocationLine.invocationLine = invocationLine;
+	}
+	
+	/**
+	 * Checks whether the tested invoked that has just started was called
+	 * from the invocation line. It must be called directly by the probe run
+	 * when the tested invoked starts.
+	 * 
+	 * @return		True if it was called from the invocation line; false
+	 * otherwise
+	 */
+	static boolean isCallerOfTestedInvoked() {
+		// Frames: this method, probe, tested invoked and its caller
+		Optional<StackWalker.StackFrame> caller = STACK_WALKER.walk(
+				frames -> frames.skip(3).findFirst()
+		);
+		
+		return	caller.isPresent()
+				&& (caller.get().getLineNumber() == invocationLine)
+				&& caller.get().getClassName().equals(testClass);
+	}
+}
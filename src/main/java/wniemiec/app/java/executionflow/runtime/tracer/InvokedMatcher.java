@@ -0,0 +1,116 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.List;
+
+import aj.org.objectweb.asm.Type;
+
+/**
+ * Finds the methods of a class file that correspond to a tested invoked,
+ * comparing their names and the simple names of their parameter types.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class InvokedMatcher {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	static final String CONSTRUCTOR_NAME = "<init>";
+	private final String invokedClass;
+	private final String invokedName;
+	private final List<String> invokedParameters;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Finds the methods that correspond to a tested invoked.
+	 * 
+	 * @param		invokedClass Binary name of the class that declares the
+	 * tested invoked
+	 * @param		invokedName Method name or '&lt;init&gt;' for constructors
+	 * @param		invokedParameters Parameter types of the tested invoked as
+	 * they appear in its signature
+	 */
+	public InvokedMatcher(String invokedClass, String invokedName,
+						  List<String> invokedParameters) {
+		this.invokedClass = invokedClass.replace('.', '/');
+		this.invokedName = invokedName;
+		this.invokedParameters = invokedParameters;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Splits parameter types of a tested invoked, separated by commas.
+	 * 
+	 * @param		parameters Parameter types as they appear in its signature,
+	 * without spaces
+	 * 
+	 * @return		Parameter types
+	 */
+	public static List<String> parseParameters(String parameters) {
+		if (parameters.isBlank())
+			return List.of();
+		
+		return List.of(parameters.split(","));
+	}
+	
+	/**
+	 * Checks whether a class is the one that declares the tested invoked.
+	 * 
+	 * @param		className Internal name of the class
+	 * 
+	 * @return		True if it declares the tested invoked; false otherwise
+	 */
+	public boolean isInvokedClass(String className) {
+		return invokedClass.equals(className);
+	}
+	
+	/**
+	 * Checks whether a method of the class that declares the tested invoked
+	 * is the tested invoked.
+	 * 
+	 * @param		name Method name
+	 * @param		descriptor Method descriptor
+	 * 
+	 * @return		True if it is the tested invoked; false otherwise
+	 */
+	public boolean isTestedInvoked(String name, String descriptor) {
+		if (!name.equals(invokedName))
+			return false;
+		
+		// Synthetic parameters of inner class constructors are not part of
+		// the signature
+		if (name.equals(CONSTRUCTOR_NAME) && invokedClass.contains("$"))
+			return true;
+		
+		Type[] parameters = Type.getArgumentTypes(descriptor);
+		
+		if (parameters.length != invokedParameters.size())
+			return false;
+		
+		for (int i = 0; i < parameters.length; i++) {
+			String parameter = toSimpleName(parameters[i].getClassName());
+			
+			if (!parameter.equals(toSimpleName(invokedParameters.get(i))))
+				return false;
+		}
+		
+		return true;
+	}
+	
+	private String toSimpleName(String type) {
+		String simpleName = type.replaceAll("<.*>", "")
+				.replace("...", "[]")
+				.trim();
+		
+		simpleName = simpleName.substring(simpleName.lastIndexOf('.') + 1);
+		
+		return simpleName.substring(simpleName.lastIndexOf('$') + 1);
+	}
+}
@@ -0,0 +1,64 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.Arrays;
+
+/**
+ * Lines reached by an invocation of the tested invoked, stored in a growable
+ * array of primitives. Consecutive repetitions of a line are stored once.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class LineBuffer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int INITIAL_CAPACITY = 32;
+	private final boolean recording;
+	private int[] lines;
+	private int size;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Lines reached by an invocation of the tested invoked.
+	 * 
+	 * @param		recording False if lines reached should be discarded
+	 */
+	public LineBuffer(boolean recording) {
+		this.recording = recording;
+		lines = recording ? new int[INITIAL_CAPACITY] : new int[0];
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	public void add(int line) {
+		if (!recording)
+			return;
+		
+		if ((size > 0) && (lines[size-1] == line))
+			return;
+		
+		if (size == lines.length)
+			lines = Arrays.copyOf(lines, size * 2);
+		
+		lines[size++] = line;
+	}
+	
+	public int[] toArray() {
+		return Arrays.copyOf(lines, size);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	public boolean isRecording() {
+		return recording;
+	}
+}
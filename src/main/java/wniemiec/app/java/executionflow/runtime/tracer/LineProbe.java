@@ -0,0 +1,86 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Receives the probes inserted into the tested invoked by 
+ * {@link LineProbeTransformer}. Each thread keeps a buffer per running 
+ * invocation of the tested invoked, and only invocations made from the 
+ * invocation line of the test method class are kept as test paths.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class LineProbe {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final ThreadLocal<Deque<LineBuffer>> INVOCATIONS = 
+			ThreadLocal.withInitial(ArrayDeque::new);
+	private static final List<int[]> TEST_PATHS = new ArrayList<>();
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private LineProbe() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Probe run when the tested invoked starts.
+	 */
+	public static void enter() {
+		INVOCATIONS.get().push(new LineBuffer(InvocationLine.isCallerOfTestedInvoked()));
+	}
+	
+	/**
+	 * Probe run when a line of the tested invoked is reached.
+	 * 
+	 * @param		line Line reached
+	 */
+	public static void hit(int line) {
+		LineBuffer invocation = INVOCATIONS.get().peek();
+		
+		if (invocation != null)
+			invocation.add(line);
+	}
+	
+	/**
+	 * Probe run when the tested invoked ends, either by returning or by 
+	 * throwing an exception.
+	 */
+	public static void exit() {
+		LineBuffer invocation = INVOCATIONS.get().poll();
+		
+		if ((invocation == null) || !invocation.isRecording())
+			return;
+		
+		synchronized (TEST_PATHS) {
+			TEST_PATHS.add(invocation.toArray());
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Getters
+	//-------------------------------------------------------------------------
+	/**
+	 * Gets lines reached by each invocation of the tested invoked made from
+	 * the invocation line, in the order they ended.
+	 * 
+	 * @return		Test paths
+	 */
+	public static List<int[]> getTestPaths() {
+		synchronized (TEST_PATHS) {
+			return new ArrayList<>(TEST_PATHS);
+		}
+	}
+}
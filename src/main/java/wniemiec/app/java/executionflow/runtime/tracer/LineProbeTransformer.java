@@ -0,0 +1,140 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.List;
+
+import aj.org.objectweb.asm.ClassReader;
+import aj.org.objectweb.asm.ClassVisitor;
+import aj.org.objectweb.asm.ClassWriter;
+import aj.org.objectweb.asm.Label;
+import aj.org.objectweb.asm.MethodVisitor;
+import aj.org.objectweb.asm.Opcodes;
+import aj.org.objectweb.asm.Type;
+
+/**
+ * Inserts {@link LineProbe} calls into the tested invoked: one when it 
+ * starts, one at each entry of its line number table and one whenever it
+ * ends, either by returning or by throwing an exception.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class LineProbeTransformer implements ClassFileTransformer {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String LINE_PROBE = Type.getInternalName(LineProbe.class);
+	private final InvokedMatcher matcher;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	/**
+	 * Inserts line probes into a tested invoked.
+	 * 
+	 * @param		invokedClass Binary name of the class that declares the
+	 * tested invoked
+	 * @param		invokedName Method name or '&lt;init&gt;' for constructors
+	 * @param		invokedParameters Parameter types of the tested invoked as
+	 * they appear in its signature
+	 */
+	public LineProbeTransformer(String invokedClass, String invokedName, 
+								List<String> invokedParameters) {
+		matcher = new InvokedMatcher(invokedClass, invokedName, invokedParameters);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	public byte[] transform(ClassLoader loader, String className, 
+							Class<?> classBeingRedefined,
+							ProtectionDomain protectionDomain, 
+							byte[] classfileBuffer) {
+		if (!matcher.isInvokedClass(className))
+			return null;
+		
+		try {
+			ClassReader reader = new ClassReader(classfileBuffer);
+			ClassWriter writer = new ProbeClassWriter(loader);
+			
+			reader.accept(new ProbeClassVisitor(writer), ClassReader.SKIP_FRAMES);
+			
+			return writer.toByteArray();
+		}
+		catch (RuntimeException e) {
+			System.err.println("Line probes cannot be inserted into " + className + ": " + e);
+			
+			return null;
+		}
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	private class ProbeClassVisitor extends ClassVisitor {
+		
+		public ProbeClassVisitor(ClassVisitor classVisitor) {
+			super(Opcodes.ASM8, classVisitor);
+		}
+		
+		@Override
+		public MethodVisitor visitMethod(int access, String name, String descriptor, 
+										 String signature, String[] exceptions) {
+			MethodVisitor methodVisitor = super.visitMethod(
+					access, 
+					name, 
+					descriptor, 
+					signature, 
+					exceptions
+			);
+			
+			if (((access & Opcodes.ACC_ABSTRACT) != 0) 
+					|| !matcher.isTestedInvoked(name, descriptor))
+				return methodVisitor;
+			
+			return new LineProbeMethodVisitor(
+					methodVisitor, 
+					name.equals(InvokedMatcher.CONSTRUCTOR_NAME)
+			);
+		}
+	}
+	
+	private static class LineProbeMethodVisitor extends ProbeMethodVisitor {
+		
+		public LineProbeMethodVisitor(MethodVisitor methodVisitor, boolean constructor) {
+			super(methodVisitor, constructor);
+		}
+		
+		@Override
+		protected void visitEnterProbe() {
+			visitProbe("enter");
+		}
+		
+		private void visitProbe(String name) {
+			super.visitMethodInsn(Opcodes.INVOKESTATIC, LINE_PROBE, name, "()V", false);
+		}
+		
+		@Override
+		public void visitLineNumber(int line, Label start) {
+			super.visitLineNumber(line, start);
+			super.visitLdcInsn(line);
+			super.visitMethodInsn(Opcodes.INVOKESTATIC, LINE_PROBE, "hit", "(I)V", false);
+		}
+		
+		@Override
+		protected void visitExitProbe() {
+			visitProbe("exit");
+		}
+		
+		@Override
+		protected void visitExceptionExitProbe() {
+			visitProbe("exit");
+		}
+	}
+}
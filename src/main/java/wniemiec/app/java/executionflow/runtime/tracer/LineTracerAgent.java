@@ -0,0 +1,146 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.instrument.Instrumentation;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Java agent that records the lines reached by each invocation of a tested
+ * invoked, writing them to a file when the debuggee ends. In branch mode, 
+ * only the decisions taken by each invocation are recorded, and lines are 
+ * rebuilt afterwards by {@link BranchTraceFile}. Its argument is the path of
+ * a properties file with the following keys:
+ * <ul>
+ * 	<li><b>output:</b> File where test paths will be written, one per line, 
+ * 	or where branch traces will be written</li>
+ * 	<li><b>invokedClass:</b> Binary name of the class of the tested invoked</li>
+ * 	<li><b>invokedName:</b> Tested invoked name ('&lt;init&gt;' for 
+ * 	constructors)</li>
+ * 	<li><b>invokedParameters:</b> Parameter types, separated by commas</li>
+ * 	<li><b>testClass:</b> Test method class signature</li>
+ * 	<li><b>invocationLine:</b> Line where the tested invoked is called</li>
+ * 	<li><b>mode:</b> 'lines' (default) or 'branches'</li>
+ * </ul>
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class LineTracerAgent {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	public static final String OUTPUT = "output";
+	public static final String INVOKED_CLASS = "invokedClass";
+	public static final String INVOKED_NAME = "invokedName";
+	public static final String INVOKED_PARAMETERS = "invokedParameters";
+	public static final String TEST_CLASS = "testClass";
+	public static final String INVOCATION_LINE = "invocationLine";
+	public static final String MODE = "mode";
+	public static final String MODE_LINES = "lines";
+	public static final String MODE_BRANCHES = "branches";
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private LineTracerAgent() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	public static void premain(String args, Instrumentation instrumentation) 
+			throws IOException {
+		Properties config = readConfig(Path.of(args));
+		Path output = Path.of(config.getProperty(OUTPUT));
+		
+		InvocationLine.configure(
+				config.getProperty(TEST_CLASS), 
+				Integer.parseInt(config.getProperty(INVOCATION_LINE))
+		);
+		
+		String invokedClass = config.getProperty(INVOKED_CLASS);
+		String invokedName = config.getProperty(INVOKED_NAME);
+		List<String> invokedParameters = InvokedMatcher.parseParameters(
+				config.getProperty(INVOKED_PARAMETERS, "")
+		);
+		
+		if (MODE_BRANCHES.equals(config.getProperty(MODE, MODE_LINES))) {
+			BranchProbeTransformer transformer = new BranchProbeTransformer(
+					invokedClass, 
+					invokedName, 
+					invokedParameters
+			);
+			
+			instrumentation.addTransformer(transformer);
+			Runtime.getRuntime().addShutdownHook(new Thread(
+					() -> writeBranchTraces(output, transformer)
+			));
+		}
+		else {
+			instrumentation.addTransformer(new LineProbeTransformer(
+					invokedClass, 
+					invokedName, 
+					invokedParameters
+			));
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> writeTestPaths(output)));
+		}
+	}
+	
+	private static Properties readConfig(Path configFile) throws IOException {
+		Properties config = new Properties();
+		
+		try (Reader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+			config.load(reader);
+		}
+		
+		return config;
+	}
+	
+	private static void writeTestPaths(Path output) {
+		try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+			for (int[] testPath : LineProbe.getTestPaths()) {
+				writer.write(toString(testPath));
+				writer.newLine();
+			}
+		}
+		catch (IOException e) {
+			System.err.println("Test paths cannot be written: " + e.getMessage());
+		}
+	}
+	
+	private static void writeBranchTraces(Path output, BranchProbeTransformer transformer) {
+		try {
+			BranchTraceFile.write(
+					output, 
+					transformer.getClassFile(), 
+					transformer.getInstrumentedMethods(), 
+					BranchProbe.getTraces()
+			);
+		}
+		catch (IOException e) {
+			System.err.println("Branch traces cannot be written: " + e.getMessage());
+		}
+	}
+	
+	private static String toString(int[] testPath) {
+		StringBuilder line = new StringBuilder();
+		
+		for (int i = 0; i < testPath.length; i++) {
+			if (i > 0)
+				line.append(',');
+			
+			line.append(testPath[i]);
+		}
+		
+		return line.toString();
+	}
+}
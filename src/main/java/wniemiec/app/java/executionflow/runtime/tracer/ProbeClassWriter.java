@@ -0,0 +1,48 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import aj.org.objectweb.asm.ClassWriter;
+
+/**
+ * Computes stack map frames of instrumented classes using their class
+ * loader. If a common super class cannot be found, 'java.lang.Object' is
+ * used.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+class ProbeClassWriter extends ClassWriter {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final ClassLoader loader;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public ProbeClassWriter(ClassLoader loader) {
+		super(ClassWriter.COMPUTE_FRAMES);
+		
+		this.loader = loader;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	@Override
+	protected ClassLoader getClassLoader() {
+		return (loader == null) ? ClassLoader.getSystemClassLoader() : loader;
+	}
+	
+	@Override
+	protected String getCommonSuperClass(String type1, String type2) {
+		try {
+			return super.getCommonSuperClass(type1, type2);
+		}
+		catch (RuntimeException | LinkageError e) {
+			return "java/lang/Object";
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import aj.org.objectweb.asm.Label;
+import aj.org.objectweb.asm.MethodVisitor;
+import aj.org.objectweb.asm.Opcodes;
+
+/**
+ * Inserts probes into the tested invoked when it starts and whenever it
+ * ends, either by returning or by throwing an exception. Exceptions are
+ * caught by a handler that covers the whole method body, except the call to
+ * the super constructor in constructors, since it cannot be protected by an
+ * exception handler.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+abstract class ProbeMethodVisitor extends MethodVisitor {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final boolean constructor;
+	private final Label bodyStart;
+	private final Label bodyEnd;
+	private final Label handler;
+	private boolean insideBody;
+	private int pendingNewInstructions;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	protected ProbeMethodVisitor(MethodVisitor methodVisitor, boolean constructor) {
+		super(Opcodes.ASM8, methodVisitor);
+		
+		this.constructor = constructor;
+		bodyStart = new Label();
+		bodyEnd = new Label();
+		handler = new Label();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Inserts the probe run when the tested invoked starts.
+	 */
+	protected abstract void visitEnterProbe();
+	
+	/**
+	 * Inserts the probe run when the tested invoked returns.
+	 */
+	protected abstract void visitExitProbe();
+	
+	/**
+	 * Inserts the probe run when the tested invoked throws an exception. The
+	 * exception is on top of the operand stack and must be kept there.
+	 */
+	protected abstract void visitExceptionExitProbe();
+	
+	@Override
+	public void visitCode() {
+		super.visitCode();
+		visitEnterProbe();
+		
+		if (!constructor)
+			startBody();
+	}
+	
+	private void startBody() {
+		super.visitLabel(bodyStart);
+		insideBody = true;
+	}
+	
+	@Override
+	public void visitTypeInsn(int opcode, String type) {
+		super.visitTypeInsn(opcode, type);
+		
+		if ((opcode == Opcodes.NEW) && !insideBody)
+			pendingNewInstructions++;
+	}
+	
+	@Override
+	public void visitMethodInsn(int opcode, String owner, String name,
+								String descriptor, boolean isInterface) {
+		super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+		
+		if (!constructor || insideBody || (opcode != Opcodes.INVOKESPECIAL)
+				|| !name.equals(InvokedMatcher.CONSTRUCTOR_NAME))
+			return;
+		
+		if (pendingNewInstructions > 0)
+			pendingNewInstructions--;
+		else
+			startBody();
+	}
+	
+	@Override
+	public void visitInsn(int opcode) {
+		if ((opcode >= Opcodes.IRETURN) && (opcode <= Opcodes.RETURN))
+			visitExitProbe();
+		
+		super.visitInsn(opcode);
+	}
+	
+	@Override
+	public void visitMaxs(int maxStack, int maxLocals) {
+		if (insideBody) {
+			super.visitLabel(bodyEnd);
+			super.visitTryCatchBlock(bodyStart, bodyEnd, handler, null);
+			super.visitLabel(handler);
+			visitExceptionExitProbe();
+			super.visitInsn(Opcodes.ATHROW);
+		}
+		
+		super.visitMaxs(maxStack, maxLocals);
+	}
+}
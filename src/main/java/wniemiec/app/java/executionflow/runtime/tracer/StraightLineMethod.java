@@ -0,0 +1,348 @@
+package wniemiec.app.java.executionflow.runtime.tracer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import aj.org.objectweb.asm.ClassReader;
+import aj.org.objectweb.asm.ClassVisitor;
+import aj.org.objectweb.asm.Handle;
+import aj.org.objectweb.asm.Label;
+import aj.org.objectweb.asm.MethodVisitor;
+import aj.org.objectweb.asm.Opcodes;
+
+/**
+ * Reads the lines of a tested invoked whose test path is fully determined by
+ * its class file, that is, a method or constructor that has no conditional
+ * jumps, switches, exception handlers or method calls. Conditional jumps
+ * and calls woven by AspectJ are not part of the tested invoked, so they are
+ * ignored.
+ * 
+ * @author		William Niemiec &lt; williamniemiec@hotmail.com &gt;
+ * @since		8.1.0
+ */
+public class StraightLineMethod {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String ASPECTJ_PACKAGE = "org/aspectj/";
+	private static final String ASPECTJ_MEMBER_PREFIX = "ajc$";
+	private static final String ASPECT_OF = "aspectOf";
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	private StraightLineMethod() {
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Reads the lines of a tested invoked in the order they are run.
+	 * 
+	 * @param		classFile Class file that declares the tested invoked
+	 * @param		invokedClass Binary name of the class that declares the
+	 * tested invoked
+	 * @param		invokedName Method name or '&lt;init&gt;' for constructors
+	 * @param		invokedParameters Parameter types of the tested invoked as
+	 * they appear in its signature, separated by commas and without spaces
+	 * 
+	 * @return		Lines of the tested invoked or an empty array if its test
+	 * path depends on how it is run or if the class file does not declare it
+	 */
+	public static int[] readLines(byte[] classFile, String invokedClass,
+								  String invokedName, String invokedParameters) {
+		InvokedMatcher matcher = new InvokedMatcher(
+				invokedClass,
+				invokedName,
+				InvokedMatcher.parseParameters(invokedParameters)
+		);
+		ClassReader reader = new ClassReader(classFile);
+		
+		if (!matcher.isInvokedClass(reader.getClassName()))
+			return new int[0];
+		
+		List<LineReader> readers = new ArrayList<>();
+		
+		reader.accept(new ClassVisitor(Opcodes.ASM8) {
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor,
+											 String signature, String[] exceptions) {
+				if (((access & Opcodes.ACC_ABSTRACT) != 0)
+						|| !matcher.isTestedInvoked(name, descriptor))
+					return null;
+				
+				LineReader lineReader = new LineReader();
+				readers.add(lineReader);
+				
+				return lineReader;
+			}
+		}, ClassReader.SKIP_FRAMES);
+		
+		// Overloads that cannot be told apart by parameter simple names
+		if ((readers.size() != 1) || !readers.get(0).isStraightLine())
+			return new int[0];
+		
+		return readers.get(0).getLines();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	/**
+	 * Code woven by AspectJ is recognized as follows:
+	 * <ul>
+	 * 	<li>A conditional jump is woven when it tests the result of a call to
+	 * 	AspectJ runtime, such as the guards of cflow pointcuts</li>
+	 * 	<li>An exception handler is woven when it catches any exception, has
+	 * 	no lines and only calls AspectJ runtime before throwing the exception
+	 * 	again, such as the ones that leave the control flow of a pointcut</li>
+	 * 	<li>A jump is woven when it skips a woven exception handler</li>
+	 * </ul>
+	 */
+	private static class LineReader extends MethodVisitor {
+		
+		private static final int LABEL = 0;
+		private static final int LINE = 1;
+		private static final int WOVEN_CALL = 2;
+		private static final int JUMP = 3;
+		private static final int CONDITIONAL_JUMP = 4;
+		private static final int THROW = 5;
+		private static final int OTHER = 6;
+		private final List<Integer> kinds;
+		private final List<Object> operands;
+		private final List<Label> handlers;
+		private boolean straightLine;
+		private int[] lines;
+		
+		public LineReader() {
+			super(Opcodes.ASM8);
+			
+			kinds = new ArrayList<>();
+			operands = new ArrayList<>();
+			handlers = new ArrayList<>();
+			straightLine = true;
+			lines = new int[0];
+		}
+		
+		private void add(int kind, Object operand) {
+			kinds.add(kind);
+			operands.add(operand);
+		}
+		
+		@Override
+		public void visitLabel(Label label) {
+			add(LABEL, label);
+		}
+		
+		@Override
+		public void visitLineNumber(int line, Label start) {
+			add(LINE, line);
+		}
+		
+		@Override
+		public void visitJumpInsn(int opcode, Label label) {
+			if (opcode == Opcodes.JSR)
+				straightLine = false;
+			
+			add((opcode == Opcodes.GOTO) ? JUMP : CONDITIONAL_JUMP, label);
+		}
+		
+		@Override
+		public void visitMethodInsn(int opcode, String owner, String name,
+									String descriptor, boolean isInterface) {
+			if (isWovenCall(owner, name)) {
+				add(WOVEN_CALL, null);
+				return;
+			}
+			
+			// Constructor calls are not collected as methods called by the
+			// tested invoked
+			if (!name.equals(InvokedMatcher.CONSTRUCTOR_NAME))
+				straightLine = false;
+			
+			add(OTHER, null);
+		}
+		
+		private boolean isWovenCall(String owner, String name) {
+			return	owner.startsWith(ASPECTJ_PACKAGE)
+					|| name.startsWith(ASPECTJ_MEMBER_PREFIX)
+					|| name.equals(ASPECT_OF);
+		}
+		
+		@Override
+		public void visitInvokeDynamicInsn(String name, String descriptor,
+										   Handle bootstrapMethodHandle,
+										   Object... bootstrapMethodArguments) {
+			straightLine = false;
+		}
+		
+		@Override
+		public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+			straightLine = false;
+		}
+		
+		@Override
+		public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+			straightLine = false;
+		}
+		
+		@Override
+		public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+			if ((type != null) && !type.equals("java/lang/Throwable"))
+				straightLine = false;
+			
+			handlers.add(handler);
+		}
+		
+		@Override
+		public void visitInsn(int opcode) {
+			add((opcode == Opcodes.ATHROW) ? THROW : OTHER, null);
+		}
+		
+		@Override
+		public void visitIntInsn(int opcode, int operand) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitVarInsn(int opcode, int var) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitTypeInsn(int opcode, String type) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitLdcInsn(Object value) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitIincInsn(int var, int increment) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+			add(OTHER, null);
+		}
+		
+		@Override
+		public void visitEnd() {
+			if (straightLine)
+				readLines();
+		}
+		
+		private void readLines() {
+			List<int[]> wovenHandlers = new ArrayList<>();
+			List<Integer> lineNumbers = new ArrayList<>();
+			
+			for (Label handler : handlers) {
+				int start = indexOf(handler);
+				int end = findWovenHandlerEnd(start);
+				
+				if (end < 0)
+					return;
+				
+				wovenHandlers.add(new int[] {start, end});
+			}
+			
+			boolean lastInstructionWasWovenCall = false;
+			
+			for (int i = 0; i < kinds.size(); i++) {
+				int kind = kinds.get(i);
+				
+				if (kind == LINE)
+					lineNumbers.add((Integer) operands.get(i));
+				else if ((kind == CONDITIONAL_JUMP) && !lastInstructionWasWovenCall)
+					return;
+				else if ((kind == JUMP) && !skipsWovenHandler(i, wovenHandlers))
+					return;
+				
+				if ((kind != LABEL) && (kind != LINE))
+					lastInstructionWasWovenCall = (kind == WOVEN_CALL);
+			}
+			
+			lines = lineNumbers.stream().mapToInt(Integer::intValue).toArray();
+		}
+		
+		/**
+		 * Finds where a woven exception handler ends.
+		 * 
+		 * @param		start Index of the exception handler label
+		 * 
+		 * @return		Index of the instruction that throws the exception
+		 * again or -1 if the exception handler is not woven
+		 */
+		private int findWovenHandlerEnd(int start) {
+			boolean wovenCall = false;
+			
+			for (int i = start + 1; i < kinds.size(); i++) {
+				int kind = kinds.get(i);
+				
+				if (kind == THROW)
+					return wovenCall ? i : -1;
+				
+				if ((kind == LINE) || (kind == JUMP) || (kind == CONDITIONAL_JUMP))
+					return -1;
+				
+				wovenCall |= (kind == WOVEN_CALL);
+			}
+			
+			return -1;
+		}
+		
+		/**
+		 * Checks whether a jump is immediately followed by a woven exception
+		 * handler and leads to the instruction right after it.
+		 */
+		private boolean skipsWovenHandler(int jump, List<int[]> wovenHandlers) {
+			int next = skipLabels(jump + 1);
+			int target = skipLabels(indexOf((Label) operands.get(jump)));
+			
+			for (int[] handler : wovenHandlers) {
+				if ((handler[0] > jump) && (handler[0] < next)
+						&& (skipLabels(handler[1] + 1) == target))
+					return true;
+			}
+			
+			return false;
+		}
+		
+		private int indexOf(Label label) {
+			for (int i = 0; i < kinds.size(); i++) {
+				if ((kinds.get(i) == LABEL) && (operands.get(i) == label))
+					return i;
+			}
+			
+			return -1;
+		}
+		
+		private int skipLabels(int index) {
+			while ((index < kinds.size()) && (kinds.get(index) == LABEL))
+				index++;
+			
+			return index;
+		}
+		
+		public boolean isStraightLine() {
+			return straightLine && (lines.length > 0);
+		}
+		
+		public int[] getLines() {
+			return lines;
+		}
+	}
+}
@@ -7,10 +7,14 @@ import java.util.List;
 import java.util.Map;
 
 import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzer;
+import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzerType;
 import wniemiec.app.java.executionflow.exporter.testpath.TestPathExportType;
 import wniemiec.app.java.executionflow.gui.RemoteControl;
 import wniemiec.app.java.executionflow.gui.popup.MainSelector;
+import wniemiec.app.java.executionflow.invoked.InvokedCodec;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.io.compiler.aspectj.WeavingScope;
 import wniemiec.io.java.Consolex;
 import wniemiec.io.java.LogLevel;
 import wniemiec.data.java.Session;
@@ -28,6 +32,8 @@ public class User {
 	//-------------------------------------------------------------------------
 	private static Session session;
 	private static MainSelector selector;
+	private static WeavingScope weavingScope;
+	private static List<String> classExclusionFilters;
 	
 	
 	//-------------------------------------------------------------------------
@@ -74,6 +80,14 @@ public class User {
 		session.save(UserInfo.LOG_LEVEL.name(), selector.getSelectedLoggingLevel());
 		session.save(UserInfo.TESTPATH_EXPORT_TYPE.name(), selector.getSelectedTestPathExportType());
 		session.save(UserInfo.SURROUND_ASSERTS_WITH_TRY_CATCH.name(), selector.getShouldComputeTestPathOfFailingAsserts());
+		session.save(UserInfo.DEBUGGER_ANALYZER_TYPE.name(), selector.getSelectedDebuggerAnalyzerType());
+		session.save(UserInfo.ANALYSIS_WORKERS.name(), selector.getSelectedAnalysisWorkers());
+		session.save(UserInfo.CLASS_EXCLUSION_FILTERS.name(), selector.getSelectedClassExclusionFilters());
+		session.save(UserInfo.KEEP_PROCESSED_FILES.name(), selector.getShouldKeepProcessedFiles());
+		session.save(UserInfo.WEAVING_INCLUDES.name(), selector.getSelectedWeavingIncludes());
+		session.save(UserInfo.WEAVING_EXCLUDES.name(), selector.getSelectedWeavingExcludes());
+		weavingScope = null;
+		classExclusionFilters = null;
 	}
 	
 	public static LogLevel getSelectedLogLevel() {
@@ -131,21 +145,102 @@ public class User {
 		}
 	}
 
+	public static DebuggerAnalyzerType getSelectedDebuggerAnalyzerType() {
+		try {
+			Object analyzerType = session.read(UserInfo.DEBUGGER_ANALYZER_TYPE.name());
+			
+			return (analyzerType == null) 
+						? DebuggerAnalyzerType.STANDARD 
+						: (DebuggerAnalyzerType) analyzerType;
+		} 
+		catch (IOException e) {
+			Consolex.writeError("Corrupted session");
+			session.destroy();
+			
+			Consolex.writeInfo("Default debugger analyzer selected: STANDARD");
+			tryStore(UserInfo.DEBUGGER_ANALYZER_TYPE.name(), DebuggerAnalyzerType.STANDARD);
+			
+			return DebuggerAnalyzerType.STANDARD;
+		}
+	}
+	
+	/**
+	 * Gets how many test paths can be computed at the same time.
+	 * 
+	 * @return		Number of analysis workers, being 1 if test paths should
+	 * be computed sequentially
+	 */
+	public static int getSelectedAnalysisWorkers() {
+		try {
+			Object workers = session.read(UserInfo.ANALYSIS_WORKERS.name());
+			
+			return (workers == null) ? 1 : Math.max(1, (int) workers);
+		} 
+		catch (IOException e) {
+			Consolex.writeError("Corrupted session");
+			session.destroy();
+			
+			Consolex.writeInfo("Default analysis workers selected: 1");
+			tryStore(UserInfo.ANALYSIS_WORKERS.name(), 1);
+			
+			return 1;
+		}
+	}
+
+	/**
+	 * Gets classes whose frames are skipped by the debugger while stepping.
+	 * It is read from the session only once.
+	 * 
+	 * @return		Class exclusion filters, which are 
+	 * {@link DebuggerAnalyzer#DEFAULT_CLASS_EXCLUSION_FILTERS} if none has 
+	 * been selected or if selected filters are invalid
+	 */
+	public static synchronized List<String> getSelectedClassExclusionFilters() {
+		if (classExclusionFilters == null)
+			classExclusionFilters = readClassExclusionFilters();
+		
+		return classExclusionFilters;
+	}
+	
+	private static List<String> readClassExclusionFilters() {
+		try {
+			if (session.exists() && session.hasKey(UserInfo.CLASS_EXCLUSION_FILTERS.name())) {
+				return DebuggerAnalyzer.parseClassExclusionFilters(
+						readString(UserInfo.CLASS_EXCLUSION_FILTERS)
+				);
+			}
+		}
+		catch (IOException e) {
+			Consolex.writeError("Corrupted session");
+			Consolex.writeInfo("Default class exclusion filters selected");
+		}
+		catch (IllegalArgumentException e) {
+			Consolex.writeError(e.getMessage());
+			Consolex.writeInfo("Default class exclusion filters selected");
+		}
+		
+		return DebuggerAnalyzer.DEFAULT_CLASS_EXCLUSION_FILTERS;
+	}
+
 	public static void storeMethodCollector(Map<Integer, List<TestedInvoked>> collector)
 			throws IOException {
 		if (collector.isEmpty())
 			return;
 		
-		session.save(UserInfo.METHOD_COLLECTOR.name(), collector);
+		session.save(
+				UserInfo.METHOD_COLLECTOR.name(), 
+				InvokedCodec.encodeMethodCollector(collector)
+		);
 	}
 	
-	@SuppressWarnings("unchecked")
 	public static Map<Integer, List<TestedInvoked>> getMethodCollector() 
 			throws IOException {
 		if (!session.exists())
 			return new HashMap<>();
 		
-		return (Map<Integer, List<TestedInvoked>>) session.read(UserInfo.METHOD_COLLECTOR.name());
+		byte[] collector = (byte[]) session.read(UserInfo.METHOD_COLLECTOR.name());
+		
+		return (collector == null) ? null : InvokedCodec.decodeMethodCollector(collector);
 	}
 
 	public static void storeConstructorCollector(Map<Integer, TestedInvoked> collector) 
@@ -153,16 +248,20 @@ public class User {
 		if (collector.isEmpty())
 			return;
 		
-		session.save(UserInfo.CONSTRUCTOR_COLLECTOR.name(), collector);
+		session.save(
+				UserInfo.CONSTRUCTOR_COLLECTOR.name(), 
+				InvokedCodec.encodeConstructorCollector(collector)
+		);
 	}
 	
-	@SuppressWarnings("unchecked")
 	public static Map<Integer, TestedInvoked> getConstructorCollector() 
 			throws IOException {
 		if (!session.exists())
 			return new HashMap<>();
 		
-		return (Map<Integer, TestedInvoked>) session.read(UserInfo.CONSTRUCTOR_COLLECTOR.name());
+		byte[] collector = (byte[]) session.read(UserInfo.CONSTRUCTOR_COLLECTOR.name());
+		
+		return (collector == null) ? null : InvokedCodec.decodeConstructorCollector(collector);
 	}
 	
 	public static void resetMethodCollector() {
@@ -211,4 +310,65 @@ public class User {
 			return false;
 		}
 	}
+	
+	/**
+	 * Checks whether processed source files should replace the original ones,
+	 * so that they can be inspected.
+	 * 
+	 * @return		True if processed source files should replace the original
+	 * ones; false if they should be stored apart from the source tree
+	 */
+	public static boolean hasSelectedKeepProcessedFiles() {
+		if (!session.exists() || !session.hasKey(UserInfo.KEEP_PROCESSED_FILES.name()))
+			return false;
+		
+		try {
+			return ((boolean) session.read(UserInfo.KEEP_PROCESSED_FILES.name()));
+		} 
+		catch (IOException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Gets classes in which hooks can be woven. It is read from the session
+	 * only once.
+	 * 
+	 * @return		Weaving scope, which has all classes if no package pattern
+	 * has been selected or if selected patterns are invalid
+	 */
+	public static synchronized WeavingScope getSelectedWeavingScope() {
+		if (weavingScope == null)
+			weavingScope = readWeavingScope();
+		
+		return weavingScope;
+	}
+	
+	private static WeavingScope readWeavingScope() {
+		try {
+			return WeavingScope.of(
+					readString(UserInfo.WEAVING_INCLUDES),
+					readString(UserInfo.WEAVING_EXCLUDES)
+			);
+		}
+		catch (IOException e) {
+			Consolex.writeError("Corrupted session");
+		}
+		catch (IllegalArgumentException e) {
+			Consolex.writeError(e.getMessage());
+		}
+		
+		Consolex.writeInfo("Default weaving scope selected: all packages");
+		
+		return WeavingScope.everything();
+	}
+	
+	private static String readString(UserInfo info) throws IOException {
+		if (!session.exists() || !session.hasKey(info.name()))
+			return "";
+		
+		Object value = session.read(info.name());
+		
+		return (value == null) ? "" : (String) value;
+	}
 }
@@ -11,5 +11,11 @@ public enum UserInfo {
 	TESTPATH_EXPORT_TYPE,
 	METHOD_COLLECTOR,
 	CONSTRUCTOR_COLLECTOR,
-	SURROUND_ASSERTS_WITH_TRY_CATCH
+	SURROUND_ASSERTS_WITH_TRY_CATCH,
+	DEBUGGER_ANALYZER_TYPE,
+	ANALYSIS_WORKERS,
+	CLASS_EXCLUSION_FILTERS,
+	KEEP_PROCESSED_FILES,
+	WEAVING_INCLUDES,
+	WEAVING_EXCLUDES
 }
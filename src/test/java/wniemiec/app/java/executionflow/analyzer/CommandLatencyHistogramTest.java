@@ -0,0 +1,67 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CommandLatencyHistogramTest {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private CommandLatencyHistogram histogram;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeEach
+	void prepare() {
+		histogram = new CommandLatencyHistogram();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testRecord() {
+		histogram.record("next", 0);
+		histogram.record("next", 3);
+		histogram.record("next", 4);
+		histogram.record("step into", 250);
+		
+		Assertions.assertEquals(1, histogram.getCount("next", 0));
+		Assertions.assertEquals(2, histogram.getCount("next", 2));
+		Assertions.assertEquals(3, histogram.getTotalCount("next"));
+		Assertions.assertEquals(1, histogram.getCount("step into", 499));
+		Assertions.assertEquals(1, histogram.getTotalCount("step into"));
+	}
+	
+	@Test
+	void testRecordAboveLastBucket() {
+		histogram.record("cont", 5000);
+		
+		Assertions.assertEquals(1, histogram.getCount("cont", 1000));
+	}
+	
+	@Test
+	void testEmpty() {
+		Assertions.assertTrue(histogram.isEmpty());
+		Assertions.assertEquals(0, histogram.getTotalCount("next"));
+	}
+	
+	@Test
+	void testRecordWithNullCommand() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			histogram.record(null, 1);
+		});
+	}
+	
+	@Test
+	void testRecordWithNegativeLatency() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			histogram.record("next", -1);
+		});
+	}
+}
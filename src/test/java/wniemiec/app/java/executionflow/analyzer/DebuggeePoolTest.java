@@ -0,0 +1,142 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+
+class DebuggeePoolTest {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final int READY_TIMEOUT_MS = 30000;
+	private final Path resourcesSrc;
+	private final Path resourcesBin;
+	private final DebuggeePool debuggeePool;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public DebuggeePoolTest() {
+		resourcesSrc = ExecutionFlow.getCurrentProjectRoot().resolve(
+				Path.of(".", "src", "test", "java", "auxfiles")
+		);
+		resourcesBin = ExecutionFlow.getAppTargetPath().resolve(
+				Path.of("test-classes", "auxfiles")
+		);
+		debuggeePool = DebuggeePool.getInstance();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@AfterEach
+	void clean() {
+		debuggeePool.close();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testGetTestPathWithPooledDebuggee() throws IOException, InterruptedException {
+		debuggeePool.open(getTestMethodTestFactorial(), 1);
+		waitForReadyDebuggee();
+		
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createJDITestPathAnalyzer(
+				new TestedInvoked(getTestedInvokedFactorial(), getTestMethodTestFactorial())
+		);
+		
+		debugger.disableTimeout();
+		debugger.analyze();
+		
+		Assertions.assertEquals(
+				List.of(List.of(94, 96, 98, 99, 98, 99, 98, 99, 98, 99, 98, 102)), 
+				debugger.getTestPaths()
+		);
+	}
+	
+	@Test
+	void testOpenAgainKeepsReadyDebuggees() throws InterruptedException {
+		debuggeePool.open(getTestMethodTestFactorial(), 1);
+		waitForReadyDebuggee();
+		
+		debuggeePool.open(getTestMethodTestFactorial(), 1);
+		
+		Assertions.assertTrue(debuggeePool.isOpen());
+		Assertions.assertEquals(1, debuggeePool.getReadyDebuggees());
+	}
+	
+	@Test
+	void testOpenWithAnotherSizeRelaunchesDebuggees() throws InterruptedException {
+		debuggeePool.open(getTestMethodTestFactorial(), 1);
+		waitForReadyDebuggee();
+		
+		debuggeePool.open(getTestMethodTestFactorial(), 2);
+		
+		Assertions.assertTrue(debuggeePool.isOpen());
+		Assertions.assertEquals(0, debuggeePool.getReadyDebuggees());
+	}
+	
+	@Test
+	void testTakeWithClosedPool() {
+		Assertions.assertNull(debuggeePool.take(resourcesBin.getParent()));
+	}
+	
+	@Test
+	void testOpenWithNullTestMethod() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			debuggeePool.open(null, 1);
+		});
+	}
+	
+	@Test
+	void testOpenWithInvalidSize() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			debuggeePool.open(getTestMethodTestFactorial(), 0);
+		});
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void waitForReadyDebuggee() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + READY_TIMEOUT_MS;
+		
+		while ((debuggeePool.getReadyDebuggees() == 0) 
+				&& (System.currentTimeMillis() < deadline)) {
+			Thread.sleep(100);
+		}
+		
+		Assertions.assertEquals(1, debuggeePool.getReadyDebuggees());
+	}
+	
+	private Invoked getTestMethodTestFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.testFactorial()")
+				.build();
+	}
+	
+	private Invoked getTestedInvokedFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.factorial(int)")
+				.invocationLine(32)
+				.build();
+	}
+}
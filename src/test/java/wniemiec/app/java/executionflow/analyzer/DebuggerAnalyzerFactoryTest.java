@@ -2,6 +2,7 @@ package wniemiec.app.java.executionflow.analyzer;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import wniemiec.app.java.ExecutionFlow;
 import wniemiec.app.java.executionflow.invoked.Invoked;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.user.User;
 
 class DebuggerAnalyzerFactoryTest {
 
@@ -54,6 +56,287 @@ class DebuggerAnalyzerFactoryTest {
 		});
 	}
 	
+	@Test
+	void testCreateJDITestPathAnalyzer() throws IOException {
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createJDITestPathAnalyzer(
+				new TestedInvoked(
+						getTestedInvokedFactorial(), 
+						getTestMethodTestFactorial()
+				)
+		);
+		
+		Assertions.assertTrue(debugger instanceof JDIDebuggerAnalyzer);
+	}
+	
+	@Test
+	void testCreateJDITestPathAnalyzerWithNullTestedInvoked() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createJDITestPathAnalyzer(null);		
+		});
+	}
+	
+	@Test
+	void testCreateJDIMethodEntryTestPathAnalyzer() throws IOException {
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createJDIMethodEntryTestPathAnalyzer(
+				new TestedInvoked(
+						getTestedInvokedFactorial(), 
+						getTestMethodTestFactorial()
+				)
+		);
+		
+		Assertions.assertTrue(debugger instanceof JDIDebuggerAnalyzer);
+	}
+	
+	@Test
+	void testCreateJDIMethodEntryTestPathAnalyzerWithNullTestedInvoked() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createJDIMethodEntryTestPathAnalyzer(null);		
+		});
+	}
+	
+	@Test
+	void testCreateLineTracerTestPathAnalyzer() throws IOException {
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createLineTracerTestPathAnalyzer(
+				new TestedInvoked(
+						getTestedInvokedFactorial(), 
+						getTestMethodTestFactorial()
+				)
+		);
+		
+		Assertions.assertTrue(debugger instanceof LineTracerAnalyzer);
+	}
+	
+	@Test
+	void testCreateLineTracerTestPathAnalyzerWithNullTestedInvoked() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createLineTracerTestPathAnalyzer(null);		
+		});
+	}
+	
+	@Test
+	void testCreateBranchTracerTestPathAnalyzer() throws IOException {
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createBranchTracerTestPathAnalyzer(
+				new TestedInvoked(
+						getTestedInvokedFactorial(), 
+						getTestMethodTestFactorial()
+				)
+		);
+		
+		Assertions.assertTrue(debugger instanceof LineTracerAnalyzer);
+	}
+	
+	@Test
+	void testCreateBranchTracerTestPathAnalyzerWithNullTestedInvoked() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createBranchTracerTestPathAnalyzer(null);		
+		});
+	}
+	
+	@Test
+	void testCreateStaticTestPathAnalyzer() throws IOException {
+		TestedInvoked testedInvoked = new TestedInvoked(
+				getTestedInvokedGetNumber(), 
+				getTestMethodOnlyOneMethod()
+		);
+		
+		testedInvoked.countInvocation(true);
+		
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(
+				testedInvoked
+		);
+		
+		Assertions.assertTrue(debugger instanceof StaticTestPathAnalyzer);
+	}
+	
+	@Test
+	void testCreateStaticTestPathAnalyzerWithoutCountedRuns() throws IOException {
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(
+				new TestedInvoked(
+						getTestedInvokedGetNumber(), 
+						getTestMethodOnlyOneMethod()
+				)
+		);
+		
+		Assertions.assertNull(debugger);
+	}
+	
+	@Test
+	void testCreateStaticTestPathAnalyzerWithBranches() throws IOException {
+		TestedInvoked testedInvoked = new TestedInvoked(
+				getTestedInvokedFactorial(), 
+				getTestMethodTestFactorial()
+		);
+		
+		testedInvoked.countInvocation(true);
+		
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(
+				testedInvoked
+		);
+		
+		Assertions.assertNull(debugger);
+	}
+	
+	@Test
+	void testCreateStaticTestPathAnalyzerWithNullTestedInvoked() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(null);		
+		});
+	}
+	
+	@Test
+	void testCreateSharedSessionTestPathAnalyzersWithLineTracerType() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+					DebuggerAnalyzerType.LINE_TRACER,
+					List.of(new TestedInvoked(
+							getTestedInvokedFactorial(), 
+							getTestMethodTestFactorial()
+					))
+			);		
+		});
+	}
+	
+	@Test
+	void testCreateTestPathAnalyzerWithType() throws IOException {
+		DebuggerAnalyzer debugger = DebuggerAnalyzerFactory.createTestPathAnalyzer(
+				DebuggerAnalyzerType.JDI,
+				new TestedInvoked(
+						getTestedInvokedFactorial(), 
+						getTestMethodTestFactorial()
+				)
+		);
+		
+		Assertions.assertTrue(debugger instanceof JDIDebuggerAnalyzer);
+	}
+	
+	@Test
+	void testCreateTestPathAnalyzerWithNullType() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createTestPathAnalyzer(
+					null,
+					new TestedInvoked(
+							getTestedInvokedFactorial(), 
+							getTestMethodTestFactorial()
+					)
+			);		
+		});
+	}
+	
+	@Test
+	void testCreateSharedSessionTestPathAnalyzers() throws IOException {
+		List<DebuggerAnalyzer> analyzers = 
+				DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+						DebuggerAnalyzerType.JDI,
+						List.of(new TestedInvoked(
+								getTestedInvokedFactorial(), 
+								getTestMethodTestFactorial()
+						))
+				);
+		
+		Assertions.assertEquals(1, analyzers.size());
+		Assertions.assertTrue(analyzers.get(0) instanceof JDIDebuggerAnalyzer);
+	}
+	
+	@Test
+	void testCreatedAnalyzersUseSelectedClassExclusionFilters() throws IOException {
+		List<DebuggerAnalyzer> analyzers = List.of(
+				DebuggerAnalyzerFactory.createTestPathAnalyzer(
+						DebuggerAnalyzerType.STANDARD,
+						new TestedInvoked(
+								getTestedInvokedFactorial(), 
+								getTestMethodTestFactorial()
+						)
+				),
+				DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+						DebuggerAnalyzerType.JDI,
+						List.of(new TestedInvoked(
+								getTestedInvokedFactorial(), 
+								getTestMethodTestFactorial()
+						))
+				).get(0)
+		);
+		
+		for (DebuggerAnalyzer analyzer : analyzers) {
+			Assertions.assertEquals(
+					User.getSelectedClassExclusionFilters(), 
+					analyzer.getClassExclusionFilters()
+			);
+		}
+	}
+	
+	@Test
+	void testParseClassExclusionFilters() {
+		Assertions.assertEquals(
+				List.of("java.*", "*.Helper", "foo.Bar"),
+				DebuggerAnalyzer.parseClassExclusionFilters(" java.*, *.Helper,,foo.Bar ")
+		);
+	}
+	
+	@Test
+	void testParseBlankClassExclusionFilters() {
+		Assertions.assertTrue(DebuggerAnalyzer.parseClassExclusionFilters("  ").isEmpty());
+	}
+	
+	@Test
+	void testParseClassExclusionFilterWithInnerWildcard() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzer.parseClassExclusionFilters("java.*.util");
+		});
+	}
+	
+	@Test
+	void testCreateSharedSessionTestPathAnalyzersSplitByInvocationLine() throws IOException {
+		List<TestedInvoked> testedInvoked = List.of(
+				new TestedInvoked(getTestedInvokedFactorial(), getTestMethodTestFactorial()),
+				new TestedInvoked(getTestedInvokedFactorialAtLine(33), getTestMethodTestFactorial()),
+				new TestedInvoked(getTestedInvokedFactorial(), getTestMethodTestFactorial())
+		);
+		
+		List<List<Integer>> singleSession = DebuggerAnalyzerFactory.groupByDebugSession(
+				DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+						DebuggerAnalyzerType.JDI, 
+						testedInvoked
+				)
+		);
+		List<List<Integer>> sessionPerLine = DebuggerAnalyzerFactory.groupByDebugSession(
+				DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+						DebuggerAnalyzerType.JDI, 
+						testedInvoked,
+						4
+				)
+		);
+		
+		Assertions.assertEquals(List.of(List.of(0, 1, 2)), singleSession);
+		Assertions.assertEquals(List.of(List.of(0, 2), List.of(1)), sessionPerLine);
+	}
+	
+	@Test
+	void testCreateSharedSessionTestPathAnalyzersWithoutSessions() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+					DebuggerAnalyzerType.JDI,
+					List.of(new TestedInvoked(
+							getTestedInvokedFactorial(), 
+							getTestMethodTestFactorial()
+					)),
+					0
+			);		
+		});
+	}
+	
+	@Test
+	void testCreateSharedSessionTestPathAnalyzersWithStandardType() throws IOException {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+					DebuggerAnalyzerType.STANDARD,
+					List.of(new TestedInvoked(
+							getTestedInvokedFactorial(), 
+							getTestMethodTestFactorial()
+					))
+			);		
+		});
+	}
+	
 	
 	//-------------------------------------------------------------------------
 	//		Methods
@@ -67,11 +350,32 @@ class DebuggerAnalyzerFactoryTest {
 	}
 
 	private Invoked getTestedInvokedFactorial() {
+		return getTestedInvokedFactorialAtLine(32);
+	}
+	
+	private Invoked getTestedInvokedFactorialAtLine(int invocationLine) {
 		return new Invoked.Builder()
 				.srcPath(resourcesSrc.resolve("AuxClass.java"))
 				.binPath(resourcesBin.resolve("AuxClass.class"))
 				.signature("auxfiles.AuxClass.factorial(int)")
-				.invocationLine(32)
+				.invocationLine(invocationLine)
+				.build();
+	}
+	
+	private Invoked getTestMethodOnlyOneMethod() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.onlyOneMethod()")
+				.build();
+	}
+	
+	private Invoked getTestedInvokedGetNumber() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.getNumber()")
+				.invocationLine(125)
 				.build();
 	}
 }
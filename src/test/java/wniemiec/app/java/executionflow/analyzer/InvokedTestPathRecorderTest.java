@@ -0,0 +1,128 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+import wniemiec.app.java.executionflow.io.processing.file.factory.InvokedFileProcessorFactory;
+import wniemiec.app.java.executionflow.io.processing.manager.FileProcessingManager;
+
+class InvokedTestPathRecorderTest {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final Path resourcesSrc;
+	private final Path resourcesBin;
+	private FileProcessingManager fileProcessingManager;
+
+
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public InvokedTestPathRecorderTest() {
+		resourcesSrc = ExecutionFlow.getCurrentProjectRoot().resolve(
+				Path.of(".", "src", "test", "java", "auxfiles")
+		);
+		resourcesBin = ExecutionFlow.getAppTargetPath().resolve(
+				Path.of("test-classes", "auxfiles")
+		);
+	}
+
+
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testTestPathsAreTheSameWhetherProcessedFilesAreKeptOrNot() throws Exception {
+		List<List<Integer>> testPathsKeepingProcessedFiles =
+				recordTestPathsAfterProcessing(true);
+		List<List<Integer>> testPathsWithoutKeepingProcessedFiles =
+				recordTestPathsAfterProcessing(false);
+
+		Assertions.assertFalse(testPathsKeepingProcessedFiles.isEmpty());
+		Assertions.assertEquals(
+				testPathsKeepingProcessedFiles,
+				testPathsWithoutKeepingProcessedFiles
+		);
+	}
+
+
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	/**
+	 * Records each line of the tested invoked source file as a test path, so
+	 * that test paths contain the lines that are not ignored by the recorder.
+	 */
+	private List<List<Integer>> recordTestPathsAfterProcessing(boolean keepProcessedFiles)
+			throws Exception {
+		Invoked testedInvoked = getTestedInvokedFactorial();
+
+		fileProcessingManager = createFileProcessingManager(
+				testedInvoked,
+				keepProcessedFiles
+		);
+
+		try {
+			fileProcessingManager.processFile(false);
+
+			return recordEachLineOf(testedInvoked);
+		}
+		finally {
+			fileProcessingManager.revertProcessing();
+			fileProcessingManager.deleteSrcBackupFile();
+		}
+	}
+
+	private List<List<Integer>> recordEachLineOf(Invoked testedInvoked)
+			throws Exception {
+		InvokedTestPathRecorder recorder = new InvokedTestPathRecorder(
+				new TestedInvoked(testedInvoked, getTestMethodTestFactorial())
+		);
+		int totalLines = Files.readAllLines(testedInvoked.getSrcPath()).size();
+
+		for (int line = 1; line <= totalLines; line++) {
+			recorder.enter(testedInvoked.getClassSignature(), 1);
+			recorder.recordLine(line);
+			recorder.finish();
+		}
+
+		return recorder.getTestPaths();
+	}
+
+	private FileProcessingManager createFileProcessingManager(Invoked invoked,
+															  boolean keepProcessedFiles) {
+		return new FileProcessingManager.Builder()
+				.srcPath(invoked.getSrcPath())
+				.binPath(invoked.getBinPath())
+				.filePackage(invoked.getPackage())
+				.backupExtensionName("recorder.bkp")
+				.fileProcessorFactory(new InvokedFileProcessorFactory())
+				.keepProcessedFiles(keepProcessedFiles)
+				.build();
+	}
+
+	private Invoked getTestMethodTestFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.testFactorial()")
+				.build();
+	}
+
+	private Invoked getTestedInvokedFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.factorial(int)")
+				.invocationLine(32)
+				.build();
+	}
+}
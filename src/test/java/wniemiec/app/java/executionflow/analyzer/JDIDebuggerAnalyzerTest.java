@@ -0,0 +1,288 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+
+class JDIDebuggerAnalyzerTest {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final Path resourcesSrc;
+	private final Path resourcesBin;
+	private DebuggerAnalyzer debugger;
+	private Invoked testMethod;
+	private Invoked testedInvoked;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public JDIDebuggerAnalyzerTest() {
+		resourcesSrc = ExecutionFlow.getCurrentProjectRoot().resolve(
+				Path.of(".", "src", "test", "java", "auxfiles")
+		);
+		resourcesBin = ExecutionFlow.getAppTargetPath().resolve(
+				Path.of("test-classes", "auxfiles")
+		);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeEach
+	void prepare() {
+		testedInvoked = null;
+		testMethod = null;
+		debugger = null;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testGetTestPath() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		runDebuggerAnalyzer();
+		
+		assertTestPathIs(94, 96, 98, 99, 98, 99, 98, 99, 98, 99, 98, 102);
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	void testGetTestPathWithinLoop() throws IOException {
+		withTestedInvoked(getTestedInvokedLoopAuxClass());
+		withTestMethod(getTestMethodLoop());
+		runDebuggerAnalyzer();
+		
+		assertTestPathIs(
+				List.of(68, 70, 71, 70, 74),
+				List.of(68, 70, 71, 70, 71, 70, 74),
+				List.of(68, 70, 71, 70, 71, 70, 71, 70, 74),
+				List.of(68, 70, 71, 70, 71, 70, 71, 70, 71, 70, 74)
+		);
+	}
+	
+	@Test
+	void testGetTestPathStoppingAtInvokedEntry() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		runDebuggerAnalyzerStoppingAtInvokedEntry();
+		
+		assertTestPathIs(94, 96, 98, 99, 98, 99, 98, 99, 98, 99, 98, 102);
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Test
+	void testGetTestPathWithinLoopStoppingAtInvokedEntry() throws IOException {
+		withTestedInvoked(getTestedInvokedLoopAuxClass());
+		withTestMethod(getTestMethodLoop());
+		runDebuggerAnalyzerStoppingAtInvokedEntry();
+		
+		assertTestPathIs(
+				List.of(68, 70, 71, 70, 74),
+				List.of(68, 70, 71, 70, 71, 70, 74),
+				List.of(68, 70, 71, 70, 71, 70, 71, 70, 74),
+				List.of(68, 70, 71, 70, 71, 70, 71, 70, 71, 70, 74)
+		);
+	}
+	
+	@Test
+	void testGetTestPathsSharingDebugSession() throws IOException {
+		List<DebuggerAnalyzer> analyzers = runDebuggerAnalyzersSharingDebugSession(
+				new TestedInvoked(getTestedInvokedFactorial(), getTestMethodTestFactorial()),
+				new TestedInvoked(getTestedInvokedFactorialZero(), getTestMethodTestFactorialZero())
+		);
+		
+		assertTestPathIs(
+				analyzers.get(0), 
+				94, 96, 98, 99, 98, 99, 98, 99, 98, 99, 98, 102
+		);
+		assertTestPathIs(analyzers.get(1), 94, 96, 98, 102);
+	}
+	
+	@Test
+	void testTimeoutTrue() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		
+		runDebuggerAnalyzerWithTimeout(100);
+		
+		assertTimeoutOcurred();
+	}
+	
+	@Test
+	void testNegativeTimeout() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			runDebuggerAnalyzerWithTimeout(-100);			
+		});
+	}
+	
+	@Test
+	void testTimeoutFalse() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		
+		runDebuggerAnalyzerWithTimeout(1000*60*10);
+		
+		assertNoTimeoutOcurred();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void withTestedInvoked(Invoked testedInvoked) {
+		this.testedInvoked = testedInvoked;
+	}
+	
+	private void withTestMethod(Invoked testMethod) {
+		this.testMethod = testMethod;
+	}
+		
+	private void runDebuggerAnalyzer() throws IOException {
+		debugger = DebuggerAnalyzerFactory.createJDITestPathAnalyzer(
+				new TestedInvoked(testedInvoked, testMethod)
+		);
+		
+		debugger.disableTimeout();
+		debugger.analyze();
+	}
+	
+	private void runDebuggerAnalyzerStoppingAtInvokedEntry() throws IOException {
+		debugger = DebuggerAnalyzerFactory.createJDIMethodEntryTestPathAnalyzer(
+				new TestedInvoked(testedInvoked, testMethod)
+		);
+		
+		debugger.disableTimeout();
+		debugger.analyze();
+	}
+	
+	private List<DebuggerAnalyzer> runDebuggerAnalyzersSharingDebugSession(
+			TestedInvoked... testedInvoked
+	) throws IOException {
+		List<DebuggerAnalyzer> analyzers = 
+				DebuggerAnalyzerFactory.createSharedSessionTestPathAnalyzers(
+						DebuggerAnalyzerType.JDI,
+						List.of(testedInvoked)
+				);
+		
+		for (DebuggerAnalyzer analyzer : analyzers) {
+			analyzer.disableTimeout();
+			analyzer.analyze();
+		}
+		
+		return analyzers;
+	}
+	
+	private void runDebuggerAnalyzerWithTimeout(int timeout) throws IOException {
+		debugger = DebuggerAnalyzerFactory.createJDITestPathAnalyzer(
+				new TestedInvoked(testedInvoked, testMethod)
+		);
+		
+		//debugger.enableTimeout();
+		debugger.setTimeout(timeout);
+		debugger.analyze();
+	}
+	
+	private void assertTestPathIs(Integer... testPath) {
+		assertEquals(
+				List.of(Arrays.asList(testPath)), 
+				debugger.getTestPaths()
+		);
+	}
+	
+	private void assertTestPathIs(DebuggerAnalyzer analyzer, Integer... testPath) {
+		assertEquals(
+				List.of(Arrays.asList(testPath)), 
+				analyzer.getTestPaths()
+		);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void assertTestPathIs(List<Integer>... testPath) {
+		Assertions.assertEquals(
+				List.of(testPath), 
+				debugger.getTestPaths()
+		);
+		
+		Assertions.assertTrue(debugger.wasTestPathObtainedInALoop());
+	}
+	
+	private void assertNoTimeoutOcurred() {
+		Assertions.assertFalse(debugger.checkTimeout());
+	}
+
+	private void assertTimeoutOcurred() {
+		Assertions.assertTrue(debugger.checkTimeout());
+	}
+	
+	private Invoked getTestMethodTestFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.testFactorial()")
+				.build();
+	}
+
+	private Invoked getTestedInvokedFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.factorial(int)")
+				.invocationLine(32)
+				.build();
+	}
+	
+	private Invoked getTestMethodTestFactorialZero() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.testFactorial_zero()")
+				.build();
+	}
+	
+	private Invoked getTestedInvokedFactorialZero() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.factorial(int)")
+				.invocationLine(43)
+				.build();
+	}
+	
+	private Invoked getTestMethodLoop() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "Loop.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "Loop.class")))
+				.signature("auxfiles.loop.Loop.testForConstructorAndMethod()")
+				.build();
+	}
+
+	private Invoked getTestedInvokedLoopAuxClass() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "AuxClass.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "AuxClass.class")))
+				.signature("auxfiles.loop.LoopAuxClass.factorial_constructor()")
+				.invocationLine(13)
+				.build();
+	}
+}
@@ -63,6 +63,34 @@ class StandardDebuggerAnalyzerTest {
 		assertTestPathIs(94, 96, 98, 99, 98, 99, 98, 99, 98, 99, 98, 102);
 	}
 	
+	@Test
+	void testGetTestPathWithoutClassExclusionFilters() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		runDebuggerAnalyzerWithClassExclusionFilters(List.of());
+		
+		assertTestPathIs(94, 96, 98, 99, 98, 99, 98, 99, 98, 99, 98, 102);
+	}
+	
+	@Test
+	void testNullClassExclusionFilters() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			runDebuggerAnalyzerWithClassExclusionFilters(null);			
+		});
+	}
+	
+	@Test
+	void testCommandLatencies() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		runDebuggerAnalyzer();
+		
+		assertCommandLatenciesWereRecorded();
+	}
+	
 	@SuppressWarnings("unchecked")
 	@Test
 	void testGetTestPathWithinLoop() throws IOException {
@@ -129,6 +157,17 @@ class StandardDebuggerAnalyzerTest {
 		debugger.analyze();
 	}
 	
+	private void runDebuggerAnalyzerWithClassExclusionFilters(List<String> filters) 
+			throws IOException {
+		debugger = DebuggerAnalyzerFactory.createStandardTestPathAnalyzer(
+				new TestedInvoked(testedInvoked, testMethod)
+		);
+		
+		debugger.disableTimeout();
+		debugger.setClassExclusionFilters(filters);
+		debugger.analyze();
+	}
+	
 	private void runDebuggerAnalyzerWithTimeout(int timeout) throws IOException {
 		debugger = DebuggerAnalyzerFactory.createStandardTestPathAnalyzer(
 				new TestedInvoked(testedInvoked, testMethod)
@@ -156,6 +195,10 @@ class StandardDebuggerAnalyzerTest {
 		Assertions.assertTrue(debugger.wasTestPathObtainedInALoop());
 	}
 	
+	private void assertCommandLatenciesWereRecorded() {
+		Assertions.assertFalse(debugger.getCommandLatencies().isEmpty());
+	}
+	
 	private void assertNoTimeoutOcurred() {
 		Assertions.assertFalse(debugger.checkTimeout());
 	}
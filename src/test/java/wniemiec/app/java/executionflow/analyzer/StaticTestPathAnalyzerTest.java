@@ -0,0 +1,281 @@
+package wniemiec.app.java.executionflow.analyzer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
+
+class StaticTestPathAnalyzerTest {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private final Path resourcesSrc;
+	private final Path resourcesBin;
+	private DebuggerAnalyzer debugger;
+	private Invoked testMethod;
+	private Invoked testedInvoked;
+	private int invocations;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Constructor
+	//-------------------------------------------------------------------------
+	public StaticTestPathAnalyzerTest() {
+		resourcesSrc = ExecutionFlow.getCurrentProjectRoot().resolve(
+				Path.of(".", "src", "test", "java", "auxfiles")
+		);
+		resourcesBin = ExecutionFlow.getAppTargetPath().resolve(
+				Path.of("test-classes", "auxfiles")
+		);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeEach
+	void prepare() {
+		testedInvoked = null;
+		testMethod = null;
+		debugger = null;
+		invocations = 1;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testGetTestPathOfMethod() throws IOException {
+		withTestedInvoked(getTestedInvokedGetNumber());
+		withTestMethod(getTestMethodOnlyOneMethod());
+		runDebuggerAnalyzer();
+		
+		assertTestPathIs(212);
+	}
+	
+	@Test
+	void testGetTestPathOfConstructor() throws IOException {
+		withTestedInvoked(getTestedInvokedLoopAuxClassConstructor());
+		withTestMethod(getTestMethodMoreOneConstructor());
+		runDebuggerAnalyzer();
+		
+		assertTestPathIs(9, 10);
+	}
+	
+	@Test
+	void testGetTestPathOfConstructorThatCallsAnotherConstructor() throws IOException {
+		withTestedInvoked(getTestedInvokedLoopAuxClassDefaultConstructor());
+		withTestMethod(getTestMethodMoreOneConstructor());
+		runDebuggerAnalyzer();
+		
+		assertTestPathIs(23);
+	}
+	
+	@Test
+	void testGetTestPathOfInvokedRunSeveralTimesFromTheSameLine() throws IOException {
+		withTestedInvoked(getTestedInvokedLoopAuxClassNumConstructor());
+		withTestMethod(getTestMethodForConstructorAndMethod());
+		withInvocations(4);
+		runDebuggerAnalyzer();
+		
+		assertTestPathsAre(
+				List.of(19), 
+				List.of(19), 
+				List.of(19), 
+				List.of(19)
+		);
+	}
+	
+	@Test
+	void testInvokedWhoseRunsWereNotCounted() throws IOException {
+		withTestedInvoked(getTestedInvokedGetNumber());
+		withTestMethod(getTestMethodOnlyOneMethod());
+		withInvocations(0);
+		
+		assertNoStaticTestPath();
+	}
+	
+	@Test
+	void testInvokedWhoseRunEndedWithException() throws IOException {
+		withTestedInvoked(getTestedInvokedGetNumber());
+		withTestMethod(getTestMethodOnlyOneMethod());
+		withInvocations(2);
+		
+		TestedInvoked collector = new TestedInvoked(testedInvoked, testMethod);
+		collector.setInvocations(invocations);
+		collector.countInvocation(false);
+		
+		Assertions.assertNull(DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(collector));
+	}
+	
+	@Test
+	void testInvokedWithBranches() throws IOException {
+		withTestedInvoked(getTestedInvokedFactorial());
+		withTestMethod(getTestMethodTestFactorial());
+		
+		assertNoStaticTestPath();
+	}
+	
+	@Test
+	void testInvokedWithMethodCalls() throws IOException {
+		withTestedInvoked(getTestedInvokedLoopAuxClassSkipConstructor());
+		withTestMethod(getTestMethodMoreOneConstructor());
+		
+		assertNoStaticTestPath();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void withTestedInvoked(Invoked testedInvoked) {
+		this.testedInvoked = testedInvoked;
+	}
+	
+	private void withTestMethod(Invoked testMethod) {
+		this.testMethod = testMethod;
+	}
+	
+	private void withInvocations(int invocations) {
+		this.invocations = invocations;
+	}
+	
+	private TestedInvoked createTestedInvoked() {
+		TestedInvoked collector = new TestedInvoked(testedInvoked, testMethod);
+		
+		collector.setInvocations(invocations);
+		
+		return collector;
+	}
+	
+	private void runDebuggerAnalyzer() throws IOException {
+		debugger = DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(
+				createTestedInvoked()
+		);
+		
+		debugger.analyze();
+	}
+	
+	private void assertTestPathIs(Integer... testPath) {
+		assertEquals(
+				List.of(Arrays.asList(testPath)),
+				debugger.getTestPaths()
+		);
+	}
+	
+	@SafeVarargs
+	private void assertTestPathsAre(List<Integer>... testPaths) {
+		assertEquals(
+				Arrays.asList(testPaths),
+				debugger.getTestPaths()
+		);
+	}
+	
+	private void assertNoStaticTestPath() throws IOException {
+		Assertions.assertNull(DebuggerAnalyzerFactory.createStaticTestPathAnalyzer(
+				createTestedInvoked()
+		));
+	}
+	
+	private Invoked getTestMethodOnlyOneMethod() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.onlyOneMethod()")
+				.build();
+	}
+	
+	private Invoked getTestedInvokedGetNumber() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.getNumber()")
+				.invocationLine(125)
+				.build();
+	}
+	
+	private Invoked getTestMethodTestFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("Others.java"))
+				.binPath(resourcesBin.resolve("Others.class"))
+				.signature("auxfiles.Others.testFactorial()")
+				.build();
+	}
+	
+	private Invoked getTestedInvokedFactorial() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve("AuxClass.java"))
+				.binPath(resourcesBin.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.factorial(int)")
+				.invocationLine(32)
+				.build();
+	}
+	
+	private Invoked getTestMethodMoreOneConstructor() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "Loop.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "Loop.class")))
+				.signature("auxfiles.loop.Loop.moreOneConstructor()")
+				.build();
+	}
+	
+	private Invoked getTestMethodForConstructorAndMethod() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "Loop.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "Loop.class")))
+				.signature("auxfiles.loop.Loop.testForConstructorAndMethod()")
+				.build();
+	}
+	
+	private Invoked getTestedInvokedLoopAuxClassNumConstructor() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "LoopAuxClass.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "LoopAuxClass.class")))
+				.signature("auxfiles.loop.LoopAuxClass(int)")
+				.isConstructor(true)
+				.invocationLine(12)
+				.build();
+	}
+	
+	private Invoked getTestedInvokedLoopAuxClassConstructor() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "LoopAuxClass.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "LoopAuxClass.class")))
+				.signature("auxfiles.loop.LoopAuxClass(boolean, int)")
+				.isConstructor(true)
+				.invocationLine(21)
+				.build();
+	}
+	
+	private Invoked getTestedInvokedLoopAuxClassDefaultConstructor() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "LoopAuxClass.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "LoopAuxClass.class")))
+				.signature("auxfiles.loop.LoopAuxClass()")
+				.isConstructor(true)
+				.invocationLine(21)
+				.build();
+	}
+	
+	private Invoked getTestedInvokedLoopAuxClassSkipConstructor() {
+		return new Invoked.Builder()
+				.srcPath(resourcesSrc.resolve(Path.of("loop", "LoopAuxClass.java")))
+				.binPath(resourcesBin.resolve(Path.of("loop", "LoopAuxClass.class")))
+				.signature("auxfiles.loop.LoopAuxClass(boolean)")
+				.isConstructor(true)
+				.invocationLine(22)
+				.build();
+	}
+}
@@ -1,5 +1,6 @@
 package wniemiec.app.java.executionflow.collector;
 
+import java.io.File;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
@@ -91,10 +92,123 @@ class CallCollectorTest {
 		});
 	}
 	
+	@Test
+	void testCreateInstanceWithNullMctiFile() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			CallCollector.createInstance(null);
+		});
+	}
+	
+	@Test
+	void testMergeWorkerCollector() {
+		CallCollector workerCollector = createWorkerCollector();
+		
+		try {
+			withTestedInvoked(getTestedInvokedA());
+			doCollectionCall("auxfiles.mcti.MethodsCalledByTestedInvokedAuxClass.B()");
+			doCollectionCall(
+					"auxfiles.mcti.MethodsCalledByTestedInvokedAuxClass.C()", 
+					workerCollector
+			);
+			
+			callCollector.merge(workerCollector);
+			
+			assertCallsWereCollected();
+		}
+		finally {
+			workerCollector.deleteStoredContent();
+		}
+	}
+	
+	@Test
+	void testWorkerCollectorDoesNotAffectGlobalCollector() {
+		CallCollector workerCollector = createWorkerCollector();
+		
+		try {
+			withTestedInvoked(getTestedInvokedA());
+			doCollectionCall(
+					"auxfiles.mcti.MethodsCalledByTestedInvokedAuxClass.B()", 
+					workerCollector
+			);
+			
+			Assertions.assertNull(getMethodsCalledByTestedInvokedFrom(testedInvoked));
+		}
+		finally {
+			workerCollector.deleteStoredContent();
+		}
+	}
+	
+	@Test
+	void testCollectCallIsNotStoredBeforeFlush() {
+		CallCollector workerCollector = createWorkerCollector();
+		
+		try {
+			withTestedInvoked(getTestedInvokedA());
+			doCollectionCall(
+					"auxfiles.mcti.MethodsCalledByTestedInvokedAuxClass.B()", 
+					workerCollector
+			);
+			
+			Assertions.assertFalse(workerCollector.getMctiFile().exists());
+		}
+		finally {
+			workerCollector.deleteStoredContent();
+		}
+	}
+	
+	@Test
+	void testFlush() {
+		CallCollector workerCollector = createWorkerCollector();
+		
+		try {
+			withTestedInvoked(getTestedInvokedA());
+			doCollectionCall(
+					"auxfiles.mcti.MethodsCalledByTestedInvokedAuxClass.B()", 
+					workerCollector
+			);
+			doCollectionCall(
+					"auxfiles.mcti.MethodsCalledByTestedInvokedAuxClass.C()", 
+					workerCollector
+			);
+			workerCollector.flush();
+			
+			CallCollector readerCollector = CallCollector.createInstance(
+					workerCollector.getMctiFile()
+			);
+			readerCollector.mergeMethodsCalledByTestedInvoked();
+			
+			Assertions.assertEquals(
+					signatureOfMethodsCalled, 
+					readerCollector.getMethodsCalledByTestedInvoked().get(testedInvoked)
+			);
+		}
+		finally {
+			workerCollector.deleteStoredContent();
+		}
+	}
+	
+	@Test
+	void testMergeWithNullCollector() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			callCollector.merge(null);
+		});
+	}
+	
 	
 	//-------------------------------------------------------------------------
 	//		Methods
 	//-------------------------------------------------------------------------
+	private CallCollector createWorkerCollector() {
+		CallCollector workerCollector = CallCollector.createInstance(new File(
+				System.getProperty("java.io.tmpdir"), 
+				"mcti-test.ef"
+		));
+		
+		workerCollector.deleteStoredContent();
+		
+		return workerCollector;
+	}
+	
 	private void withTestedInvoked(Invoked testedInvoked) {
 		this.testedInvoked = testedInvoked;
 	}
@@ -104,6 +218,12 @@ class CallCollectorTest {
 		signatureOfMethodsCalled.add(signatureOfMethodCalled);
 	}
 	
+	private void doCollectionCall(String signatureOfMethodCalled, 
+								  CallCollector collector) {
+		collector.collectCall(signatureOfMethodCalled, testedInvoked);
+		signatureOfMethodsCalled.add(signatureOfMethodCalled);
+	}
+	
 	private void assertCallsWereCollected() {
 		Assertions.assertEquals(
 				signatureOfMethodsCalled, 
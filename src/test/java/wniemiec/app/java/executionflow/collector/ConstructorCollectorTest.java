@@ -53,6 +53,18 @@ class ConstructorCollectorTest extends InvokedCollectorTest {
 		assertTestedInvokedHasInvocationLine(99);
 	}
 	
+	@Test
+	void testCountInvocations() {
+		withTestedMethod(getTestedConstructor());
+		withTestMethod(getTestMethodMethod4());
+		doCollection();
+		countInvocation(true);
+		countInvocation(true);
+		countInvocation(true);
+		
+		assertTestedInvokedHasInvocations(3);
+	}
+	
 	
 	//-------------------------------------------------------------------------
 	//		Methods
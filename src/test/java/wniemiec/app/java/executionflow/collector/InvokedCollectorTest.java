@@ -90,18 +90,65 @@ abstract class InvokedCollectorTest {
 		collector.updateInvocationLines(mapping, testMethod.getSrcPath());
 	}
 	
+	protected void countInvocation(boolean returnedNormally) {
+		collector.countInvocation(
+				testedMethod.getInvokedSignature(), 
+				testedMethod.getInvocationLine(), 
+				returnedNormally
+		);
+	}
+	
+	protected void assertTestedInvokedHasInvocations(int invocations) {
+		Assertions.assertEquals(
+				invocations, 
+				collector.getAllCollectedInvoked().iterator().next().getInvocations()
+		);
+	}
+	
+	protected void assertTestedInvokedHasUnknownInvocations() {
+		Assertions.assertFalse(
+				collector.getAllCollectedInvoked().iterator().next().hasKnownInvocations()
+		);
+	}
+	
 	protected void assertTestedInvokedHasInvocationLine(int line) {
 		Assertions.assertEquals(line, getFirstCollectedTestedMethod().getInvocationLine());
 	}
 
 	private Invoked getFirstCollectedTestedMethod() {
+		return getFirstCollectedTestedInvoked().getTestedInvoked();
+	}
+	
+	protected TestedInvoked getFirstCollectedTestedInvoked() {
 		return collector
 					.getAllCollectedInvoked()
 					.iterator()
-					.next()
-					.getTestedInvoked();
+					.next();
 	}
 	
+	protected void assertCollectedInvokedAreReadOnly() {
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+			collector.getAllCollectedInvoked().clear();
+		});
+	}
+	
+	protected void assertCollectorHasPendingChanges() {
+		Assertions.assertTrue(collector.hasPendingChanges());
+	}
+	
+	protected void assertCollectorHasNoPendingChanges() {
+		Assertions.assertFalse(collector.hasPendingChanges());
+	}
+	
+	protected void assertCollectorIsUpToDate() {
+		Assertions.assertFalse(collector.shouldReadStoredContent());
+	}
+	
+	protected void assertCollectorIsNotUpToDate() {
+		Assertions.assertTrue(collector.shouldReadStoredContent());
+	}
+	
+	
 	//-------------------------------------------------------------------------
 	//		Getters
 	//-------------------------------------------------------------------------
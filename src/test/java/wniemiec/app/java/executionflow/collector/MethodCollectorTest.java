@@ -3,11 +3,13 @@ package wniemiec.app.java.executionflow.collector;
 import java.util.List;
 import java.util.Map;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import wniemiec.app.java.executionflow.collector.MethodCollector;
 import wniemiec.app.java.executionflow.invoked.Invoked;
+import wniemiec.app.java.executionflow.invoked.TestedInvoked;
 
 class MethodCollectorTest extends InvokedCollectorTest {
 	
@@ -53,6 +55,93 @@ class MethodCollectorTest extends InvokedCollectorTest {
 		assertTestedInvokedHasInvocationLine(99);
 	}
 	
+	@Test
+	void testFlushAndReadStoredCollector() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		
+		collector.flush();
+		InvokedCollector.invalidateAll();
+		
+		assertTestedInvokedWasCollected();
+	}
+	
+	@Test
+	void testCountInvocations() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		countInvocation(true);
+		countInvocation(true);
+		
+		assertTestedInvokedHasInvocations(2);
+	}
+	
+	@Test
+	void testCountInvocationEndedWithException() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		countInvocation(true);
+		countInvocation(false);
+		countInvocation(true);
+		
+		assertTestedInvokedHasUnknownInvocations();
+	}
+	
+	@Test
+	void testCollectionIsPendingUntilFlush() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		
+		assertCollectorHasPendingChanges();
+		
+		collector.flush();
+		
+		assertCollectorHasNoPendingChanges();
+		assertCollectorIsUpToDate();
+	}
+	
+	@Test
+	void testInvalidateWithPendingChanges() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		
+		InvokedCollector.invalidateAll();
+		
+		assertCollectorIsUpToDate();
+		assertTestedInvokedWasCollected();
+	}
+	
+	@Test
+	void testInvalidateAfterFlush() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		collector.flush();
+		
+		InvokedCollector.invalidateAll();
+		
+		assertCollectorIsNotUpToDate();
+	}
+	
+	@Test
+	void testCollectedInvokedAreNotCopied() {
+		withTestedMethod(getTestedInvokedM3Method());
+		withTestMethod(getTestMethodMethod1());
+		doCollection();
+		
+		TestedInvoked collected = getFirstCollectedTestedInvoked();
+		countInvocation(true);
+		
+		Assertions.assertSame(collected, getFirstCollectedTestedInvoked());
+		Assertions.assertEquals(1, collected.getInvocations());
+		assertCollectedInvokedAreReadOnly();
+	}
+	
 	
 	//-------------------------------------------------------------------------
 	//		Methods
@@ -0,0 +1,171 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InvokedCodecTest {
+	
+	//-----------------------------------------------------------------------
+	//		Attributes
+	//-----------------------------------------------------------------------
+	private final Invoked testedMethod;
+	private final Invoked testedConstructor;
+	private final Invoked testMethod;
+	
+	
+	//-----------------------------------------------------------------------
+	//		Constructor
+	//-----------------------------------------------------------------------
+	InvokedCodecTest() {
+		testedMethod = new Invoked.Builder()
+				.binPath(Path.of("bin", "foo", "SomeClass.class"))
+				.srcPath(Path.of("src", "foo", "SomeClass.java"))
+				.signature("foo.SomeClass.method(int, java.lang.String[])")
+				.parameterTypes(new Class<?>[] {int.class, String[].class})
+				.returnType(List.class)
+				.args(10, "bar")
+				.invocationLine(10)
+				.build();
+		
+		testedConstructor = new Invoked.Builder()
+				.binPath(Path.of("bin", "foo", "SomeClass.class"))
+				.srcPath(Path.of("src", "foo", "SomeClass.java"))
+				.signature("foo.SomeClass()")
+				.isConstructor(true)
+				.invocationLine(12)
+				.build();
+		
+		testMethod = new Invoked.Builder()
+				.binPath(Path.of("bin", "foo", "SomeClassTest.class"))
+				.srcPath(Path.of("src", "foo", "SomeClassTest.java"))
+				.signature("foo.SomeClassTest.testMethod()")
+				.build();
+	}
+	
+	
+	//-----------------------------------------------------------------------
+	//		Tests
+	//-----------------------------------------------------------------------
+	@Test
+	void testMethodCollectorRoundTrip() throws IOException {
+		Map<Integer, List<TestedInvoked>> collector = new HashMap<>();
+		collector.put(10, List.of(new TestedInvoked(testedMethod, testMethod)));
+		
+		Map<Integer, List<TestedInvoked>> copy = InvokedCodec.copyMethodCollector(collector);
+		Invoked copiedMethod = copy.get(10).get(0).getTestedInvoked();
+		
+		Assertions.assertEquals(collector, copy);
+		Assertions.assertNotSame(testedMethod, copiedMethod);
+		Assertions.assertEquals(testedMethod.getConcreteSignature(), copiedMethod.getConcreteSignature());
+		Assertions.assertEquals(testedMethod.getInvocationLine(), copiedMethod.getInvocationLine());
+		Assertions.assertEquals(testedMethod.getArgs(), copiedMethod.getArgs());
+		Assertions.assertEquals(testedMethod.isConstructor(), copiedMethod.isConstructor());
+	}
+	
+	@Test
+	void testInvocationsRoundTrip() throws IOException {
+		TestedInvoked testedInvoked = new TestedInvoked(testedMethod, testMethod);
+		TestedInvoked abortedInvoked = new TestedInvoked(testedConstructor, testMethod);
+		Map<Integer, TestedInvoked> collector = new LinkedHashMap<>();
+		
+		testedInvoked.setInvocations(4);
+		abortedInvoked.countInvocation(false);
+		collector.put(10, testedInvoked);
+		collector.put(12, abortedInvoked);
+		
+		Map<Integer, TestedInvoked> copy = InvokedCodec.copyConstructorCollector(collector);
+		
+		Assertions.assertEquals(4, copy.get(10).getInvocations());
+		Assertions.assertFalse(copy.get(12).hasKnownInvocations());
+	}
+	
+	@Test
+	void testConstructorCollectorRoundTrip() throws IOException {
+		Map<Integer, TestedInvoked> collector = new LinkedHashMap<>();
+		collector.put(12, new TestedInvoked(testedConstructor, testMethod));
+		collector.put(10, new TestedInvoked(testedMethod, testMethod));
+		
+		Map<Integer, TestedInvoked> copy = InvokedCodec.copyConstructorCollector(collector);
+		
+		Assertions.assertEquals(collector, copy);
+		Assertions.assertEquals(List.copyOf(collector.keySet()), List.copyOf(copy.keySet()));
+		Assertions.assertTrue(copy.get(12).getTestedInvoked().isConstructor());
+		Assertions.assertSame(copy.get(12).getTestMethod(), copy.get(10).getTestMethod());
+	}
+	
+	@Test
+	void testMethodsCalledByTestedInvokedRoundTrip() throws IOException {
+		Map<Invoked, Set<String>> methodsCalled = new HashMap<>();
+		methodsCalled.put(testedMethod, Set.of("foo.SomeClass.a()", "foo.SomeClass.b()"));
+		methodsCalled.put(testedConstructor, Set.of("foo.SomeClass.a()"));
+		
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		
+		try (InvokedWriter writer = new InvokedWriter(content)) {
+			writer.writeMethodsCalledByTestedInvoked(methodsCalled);
+		}
+		
+		try (InvokedReader reader = new InvokedReader(
+				new ByteArrayInputStream(content.toByteArray())
+		)) {
+			Assertions.assertEquals(methodsCalled, reader.readMethodsCalledByTestedInvoked());
+		}
+	}
+	
+	@Test
+	void testTypesAreResolvedWhenRequested() throws IOException {
+		Map<Integer, List<TestedInvoked>> collector = new HashMap<>();
+		collector.put(10, List.of(new TestedInvoked(testedMethod, testMethod)));
+		
+		Invoked copiedMethod = InvokedCodec.copyMethodCollector(collector)
+				.get(10).get(0).getTestedInvoked();
+		
+		Assertions.assertArrayEquals(
+				new Class<?>[] {int.class, String[].class}, 
+				copiedMethod.getParameterTypes()
+		);
+		Assertions.assertEquals(List.class, copiedMethod.getReturnType());
+	}
+	
+	@Test
+	void testEncodingIsSmallerThanJavaSerialization() throws IOException {
+		Map<Integer, List<TestedInvoked>> collector = new HashMap<>();
+		collector.put(10, List.of(new TestedInvoked(testedMethod, testMethod)));
+		collector.put(12, List.of(new TestedInvoked(testedConstructor, testMethod)));
+		
+		ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+			oos.writeObject(collector);
+		}
+		
+		Assertions.assertTrue(
+				InvokedCodec.encodeMethodCollector(collector).length < serialized.size()
+		);
+	}
+	
+	@Test
+	void testReadContentNotWrittenByInvokedWriter() throws IOException {
+		ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream oos = new ObjectOutputStream(serialized)) {
+			oos.writeObject(new HashMap<>());
+		}
+		
+		Assertions.assertThrows(StreamCorruptedException.class, () -> {
+			InvokedCodec.decodeMethodCollector(serialized.toByteArray());
+		});
+	}
+}
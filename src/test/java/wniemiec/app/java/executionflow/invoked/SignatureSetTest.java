@@ -0,0 +1,92 @@
+package wniemiec.app.java.executionflow.invoked;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SignatureSetTest {
+	
+	//-----------------------------------------------------------------------
+	//		Tests
+	//-----------------------------------------------------------------------
+	@Test
+	void testInternIsStable() {
+		SignatureTable table = SignatureTable.getInstance();
+		int id = table.intern("foo.SomeClass.method(int)");
+		
+		Assertions.assertNotEquals(SignatureTable.NONE, id);
+		Assertions.assertEquals(id, table.intern(new String("foo.SomeClass.method(int)")));
+		Assertions.assertEquals(id, table.find("foo.SomeClass.method(int)"));
+		Assertions.assertEquals("foo.SomeClass.method(int)", table.getSignature(id));
+		Assertions.assertEquals(SignatureTable.NONE, table.find("foo.SomeClass.neverInterned()"));
+	}
+	
+	@Test
+	void testClearDiscardsIdsCachedByInvoked() {
+		SignatureTable table = SignatureTable.getInstance();
+		Invoked invoked = new Invoked.Builder()
+				.binPath(Path.of("."))
+				.srcPath(Path.of("."))
+				.signature("foo.SomeClass.cached(int)")
+				.build();
+		
+		table.intern("foo.SomeClass.internedBefore()");
+		invoked.getSignatureId();
+		table.clear();
+		
+		Assertions.assertEquals(0, table.size());
+		Assertions.assertEquals(SignatureTable.NONE, table.find("foo.SomeClass.cached(int)"));
+		Assertions.assertEquals(1, invoked.getSignatureId());
+		Assertions.assertEquals("foo.SomeClass.cached(int)", table.getSignature(1));
+		Assertions.assertEquals(1, invoked.getConcreteSignatureId());
+	}
+	
+	@Test
+	void testAddKeepsInsertionOrder() {
+		SignatureSet signatures = new SignatureSet();
+		List<String> expected = new ArrayList<>();
+		
+		for (int i = 0; i < 100; i++) {
+			expected.add("foo.SomeClass.method" + (99 - i) + "()");
+		}
+		
+		for (String signature : expected) {
+			Assertions.assertTrue(signatures.add(signature));
+		}
+		
+		Assertions.assertFalse(signatures.add("foo.SomeClass.method0()"));
+		Assertions.assertEquals(100, signatures.size());
+		Assertions.assertEquals(expected, new ArrayList<>(signatures));
+		Assertions.assertTrue(signatures.contains("foo.SomeClass.method50()"));
+		Assertions.assertFalse(signatures.contains("foo.SomeClass.method100()"));
+		Assertions.assertEquals(Set.copyOf(expected), signatures);
+	}
+	
+	@Test
+	void testMapKeyedOnSignatureIds() {
+		SignatureTable table = SignatureTable.getInstance();
+		SignatureMap<SignatureSet> testers = new SignatureMap<>();
+		List<String> keys = new ArrayList<>();
+		
+		for (int i = 0; i < 50; i++) {
+			int id = table.intern("foo.SomeClass.tested" + i + "()");
+			
+			testers.computeIfAbsent(id, key -> new SignatureSet()).add("foo.SomeClassTest.test()");
+			testers.computeIfAbsent(id, key -> new SignatureSet()).add("foo.SomeClassTest.test()");
+		}
+		
+		testers.forEach((signature, testMethods) -> {
+			keys.add(signature);
+			Assertions.assertEquals(Set.of("foo.SomeClassTest.test()"), testMethods);
+		});
+		
+		Assertions.assertEquals(50, testers.size());
+		Assertions.assertEquals("foo.SomeClass.tested0()", keys.get(0));
+		Assertions.assertEquals("foo.SomeClass.tested49()", keys.get(49));
+		Assertions.assertNull(testers.get(table.intern("foo.SomeClass.untested()")));
+	}
+}
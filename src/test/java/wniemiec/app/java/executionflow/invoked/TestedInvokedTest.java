@@ -1,6 +1,8 @@
 package wniemiec.app.java.executionflow.invoked;
 
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -98,4 +100,57 @@ class TestedInvokedTest {
 				testedInvoked
 		);
 	}
+	
+	@Test
+	void testEqualsAfterSignatureTableIsCleared() {
+		SignatureTable table = SignatureTable.getInstance();
+		TestedInvoked testedInvoked = new TestedInvoked(
+				defaultTestedMethod,
+				defaultTestMethod
+		);
+		Set<TestedInvoked> collected = new HashSet<>(Set.of(testedInvoked));
+		int hashCode = testedInvoked.hashCode();
+		
+		table.clear();
+		table.intern("foo.SomeClass.anotherMethod()");
+		
+		Assertions.assertEquals(hashCode, testedInvoked.hashCode());
+		Assertions.assertTrue(collected.contains(
+				new TestedInvoked(defaultTestedMethod, defaultTestMethod)
+		));
+		Assertions.assertEquals(
+				SignatureTable.NONE, 
+				table.find(defaultTestedMethod.getInvokedSignature())
+		);
+	}
+	
+	@Test
+	void testCountInvocation() {
+		TestedInvoked testedInvoked = new TestedInvoked(
+				defaultTestedMethod,
+				defaultTestMethod
+		);
+		
+		Assertions.assertFalse(testedInvoked.hasKnownInvocations());
+		
+		testedInvoked.countInvocation(true);
+		testedInvoked.countInvocation(true);
+		
+		Assertions.assertEquals(2, testedInvoked.getInvocations());
+		Assertions.assertTrue(testedInvoked.hasKnownInvocations());
+	}
+	
+	@Test
+	void testCountInvocationEndedWithException() {
+		TestedInvoked testedInvoked = new TestedInvoked(
+				defaultTestedMethod,
+				defaultTestMethod
+		);
+		
+		testedInvoked.countInvocation(true);
+		testedInvoked.countInvocation(false);
+		testedInvoked.countInvocation(true);
+		
+		Assertions.assertFalse(testedInvoked.hasKnownInvocations());
+	}
 }
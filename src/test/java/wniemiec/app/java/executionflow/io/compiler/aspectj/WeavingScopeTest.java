@@ -0,0 +1,78 @@
+package wniemiec.app.java.executionflow.io.compiler.aspectj;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WeavingScopeTest {
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testEmptyPatterns() {
+		WeavingScope scope = WeavingScope.of(" ", "");
+		
+		Assertions.assertTrue(scope.isEverything());
+		Assertions.assertNull(scope.toTypePattern());
+	}
+	
+	@Test
+	void testIncludesAndExcludes() {
+		WeavingScope scope = WeavingScope.of("com.example..*, org.foo..*", "com.example.gen..*");
+		
+		Assertions.assertEquals(List.of("com.example..*", "org.foo..*"), scope.getIncludes());
+		Assertions.assertEquals(
+				"(com.example..* || org.foo..*) && !(com.example.gen..*)", 
+				scope.toTypePattern()
+		);
+	}
+	
+	@Test
+	void testOnlyExcludes() {
+		WeavingScope scope = WeavingScope.of("", "com.example.gen..* org.bar.Baz");
+		
+		Assertions.assertEquals("!(com.example.gen..* || org.bar.Baz)", scope.toTypePattern());
+	}
+	
+	@Test
+	void testInvalidPattern() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			WeavingScope.of("com.example..* || java..*", "");
+		});
+	}
+	
+	@Test
+	void testNullPatterns() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			WeavingScope.of(null, "");
+		});
+	}
+	
+	@Test
+	void testTestMethodHookIsNotScoped() {
+		List<String> declarations = WeavingScope.of("com.example..*", "")
+				.buildAspectDeclarations();
+		
+		for (String declaration : declarations) {
+			Assertions.assertEquals(
+					declaration.contains("TestMethodHook"), 
+					!declaration.contains("scope=\"(com.example..*)\"")
+			);
+		}
+	}
+	
+	@Test
+	void testConfigurationEscapesPattern() throws IOException {
+		String configuration = Files.readString(
+				WeavingScope.of("com.example..*", "com.example.gen..*").getConfiguration()
+		);
+		
+		Assertions.assertTrue(configuration.contains(
+				"scope=\"(com.example..*) &amp;&amp; !(com.example.gen..*)\""
+		));
+	}
+}
@@ -0,0 +1,112 @@
+package wniemiec.app.java.executionflow.io.ipc;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import wniemiec.app.java.executionflow.invoked.Invoked;
+
+class MessageServerTest {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private MessageServer server;
+	private Map<Invoked, Set<String>> methodsCalled;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeEach
+	void prepare() throws IOException {
+		methodsCalled = new HashMap<>();
+		server = MessageServer.open((signature, invoked) -> {
+			synchronized (methodsCalled) {
+				methodsCalled.computeIfAbsent(invoked, key -> new HashSet<>()).add(signature);
+			}
+		});
+	}
+	
+	@AfterEach
+	void clean() {
+		server.close();
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testMethodsCalledAreReceived() throws IOException {
+		Invoked method = buildInvoked("auxfiles.SomeClass.a()", false);
+		Invoked constructor = buildInvoked("auxfiles.SomeClass()", true);
+		
+		try (MessageWriter writer = MessageWriter.connect(server.getAddress())) {
+			writer.writeMethodCalled("auxfiles.SomeClass.b()", method);
+			writer.writeMethodCalled("auxfiles.SomeClass.c()", method);
+			writer.writeMethodCalled("auxfiles.SomeClass.b()", constructor);
+			writer.flush();
+		}
+		
+		server.close();
+		
+		Assertions.assertEquals(
+				Set.of("auxfiles.SomeClass.b()", "auxfiles.SomeClass.c()"), 
+				methodsCalled.get(method)
+		);
+		Assertions.assertEquals(
+				Set.of("auxfiles.SomeClass.b()"), 
+				methodsCalled.get(constructor)
+		);
+	}
+	
+	@Test
+	void testMessagesFromSeveralWritersAreReceived() throws IOException {
+		Invoked method = buildInvoked("auxfiles.SomeClass.a()", false);
+		
+		try (MessageWriter writer = MessageWriter.connect(server.getAddress())) {
+			writer.writeMethodCalled("auxfiles.SomeClass.b()", method);
+		}
+		
+		try (MessageWriter writer = MessageWriter.connect(server.getAddress())) {
+			writer.writeMethodCalled("auxfiles.SomeClass.c()", method);
+		}
+		
+		server.close();
+		
+		Assertions.assertEquals(
+				Set.of("auxfiles.SomeClass.b()", "auxfiles.SomeClass.c()"), 
+				methodsCalled.get(method)
+		);
+	}
+	
+	@Test
+	void testConnectWithInvalidAddress() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> {
+			MessageWriter.connect("localhost");
+		});
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private Invoked buildInvoked(String signature, boolean isConstructor) {
+		return new Invoked.Builder()
+				.signature(signature)
+				.binPath(Path.of("bin", "auxfiles", "SomeClass.class"))
+				.srcPath(Path.of("src", "auxfiles", "SomeClass.java"))
+				.invocationLine(10)
+				.isConstructor(isConstructor)
+				.build();
+	}
+}
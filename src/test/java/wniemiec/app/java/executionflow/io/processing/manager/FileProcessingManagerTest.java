@@ -225,6 +225,24 @@ class FileProcessingManagerTest {
 		restoreBackupFiles();
 	}
 	
+	@Test
+	void testProcessFileWithoutKeepingProcessedFiles() throws Exception {
+		fileProcessingManager = createFileProcessingManagerWithoutKeepingProcessedFiles();
+		
+		createBackupFiles();
+		assertSrcFileIsNotChangedAfterProcessing();
+		restoreBackupFiles();
+	}
+	
+	@Test
+	void testProcessAndCompileFileWithoutKeepingProcessedFiles() throws Exception {
+		fileProcessingManager = createFileProcessingManagerWithoutKeepingProcessedFiles();
+		
+		createBackupFiles();
+		assertSrcFileIsCompiledAfterProcessing();
+		restoreBackupFiles();
+	}
+	
 	@Test
 	void testDeleteSrcBackupFile() throws IOException {
 		fileProcessingManager = createFileProcessingManager();
@@ -282,6 +300,17 @@ class FileProcessingManagerTest {
 				.build();
 	}
 	
+	private FileProcessingManager createFileProcessingManagerWithoutKeepingProcessedFiles() {
+		return new FileProcessingManager.Builder()
+				.srcPath(srcPath)
+				.binPath(binPath)
+				.filePackage(pkg)
+				.backupExtensionName("bkp")
+				.fileProcessorFactory(new InvokedFileProcessorFactory())
+				.keepProcessedFiles(false)
+				.build();
+	}
+	
 	private void assertSrcFileIsRestoredAfterProcessing() throws Exception {
 		List<String> originalSrcFile = Files.readAllLines(srcPath);
 		
@@ -331,6 +360,16 @@ class FileProcessingManagerTest {
 		);
 	}
 	
+	private void assertSrcFileIsNotChangedAfterProcessing() throws Exception {
+		byte[] originalSrcFile = Files.readAllBytes(srcPath);
+		FileTime srcFileTime = Files.getLastModifiedTime(srcPath);
+		
+		fileProcessingManager.processFile(false);
+		
+		Assertions.assertArrayEquals(originalSrcFile, Files.readAllBytes(srcPath));
+		Assertions.assertEquals(srcFileTime, Files.getLastModifiedTime(srcPath));
+	}
+	
 	private void restoreBackupFiles() throws IOException {
 		fileProcessingManager.revertCompilation();
 		fileProcessingManager.revertProcessing();
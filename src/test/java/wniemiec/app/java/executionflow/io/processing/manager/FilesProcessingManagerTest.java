@@ -127,6 +127,33 @@ class FilesProcessingManagerTest {
 		Assertions.assertFalse(processingManager.wasCompiled(fileProcessingManager));
 	}
 	
+	@Test
+	void testFileRemovedFromBatchIsNotCompiled() 
+			throws ClassNotFoundException, Exception {
+		CompilationBatch batch = new CompilationBatch();
+		
+		processingManager.process(fileProcessingManager);
+		batch.add(processingManager, fileProcessingManager);
+		batch.remove(fileProcessingManager);
+		batch.compile();
+		
+		Assertions.assertTrue(batch.isEmpty());
+		Assertions.assertFalse(processingManager.wasCompiled(fileProcessingManager));
+	}
+	
+	@Test
+	void testRestoreBatch() 
+			throws ClassNotFoundException, Exception {
+		CompilationBatch batch = new CompilationBatch();
+		
+		processingManager.process(fileProcessingManager);
+		batch.add(processingManager, fileProcessingManager);
+		batch.restore();
+		
+		Assertions.assertTrue(batch.isEmpty());
+		Assertions.assertFalse(processingManager.wasProcessed(fileProcessingManager));
+	}
+	
 	@Test
 	void testRemoveBackup() 
 			throws ClassNotFoundException, Exception {
@@ -0,0 +1,160 @@
+package wniemiec.app.java.executionflow.io.processing.manager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import wniemiec.app.java.executionflow.io.FileEncoding;
+import wniemiec.app.java.executionflow.io.processing.file.ProcessorType;
+
+class ProcessedFileCacheTest {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final byte[] SOURCE = "class Foo {}".getBytes(StandardCharsets.UTF_8);
+	
+	@TempDir
+	Path cacheDirectory;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testGetStoredFile() throws IOException {
+		ProcessedFileCache cache = new ProcessedFileCache(cacheDirectory, 1024 * 1024);
+		String key = generateKey(ProcessorType.INVOKED, "");
+		
+		cache.put(key, createProcessedFile(10));
+		
+		ProcessedFile processedFile = cache.get(key);
+		
+		Assertions.assertArrayEquals(
+				"processed".getBytes(StandardCharsets.UTF_8), 
+				processedFile.getProcessedSource()
+		);
+		Assertions.assertEquals(Integer.valueOf(1), processedFile.getProcessingInfo());
+		Assertions.assertEquals(
+				Set.of("Foo.class", "Foo$1.class"), 
+				processedFile.getClassFiles().keySet()
+		);
+	}
+	
+	@Test
+	void testGetFileNotStored() {
+		ProcessedFileCache cache = new ProcessedFileCache(cacheDirectory, 1024 * 1024);
+		
+		Assertions.assertNull(cache.get(generateKey(ProcessorType.INVOKED, "")));
+	}
+	
+	@Test
+	void testKeyDependsOnProcessorTypeAndOptions() {
+		String key = generateKey(ProcessorType.PRE_TEST_METHOD, "foo()");
+		
+		Assertions.assertEquals(key, generateKey(ProcessorType.PRE_TEST_METHOD, "foo()"));
+		Assertions.assertNotEquals(key, generateKey(ProcessorType.PRE_TEST_METHOD, "bar()"));
+		Assertions.assertNotEquals(key, generateKey(ProcessorType.TEST_METHOD, "foo()"));
+	}
+	
+	@Test
+	void testLeastRecentlyUsedFileIsRemoved() throws IOException, InterruptedException {
+		ProcessedFileCache cache = new ProcessedFileCache(cacheDirectory, 4000);
+		String first = generateKey(ProcessorType.INVOKED, "first");
+		String second = generateKey(ProcessorType.INVOKED, "second");
+		String third = generateKey(ProcessorType.INVOKED, "third");
+		
+		cache.put(first, createProcessedFile(1000));
+		Thread.sleep(20);
+		cache.put(second, createProcessedFile(1000));
+		Thread.sleep(20);
+		cache.get(first);
+		Thread.sleep(20);
+		cache.put(third, createProcessedFile(1000));
+		
+		Assertions.assertNotNull(cache.get(first));
+		Assertions.assertNull(cache.get(second));
+		Assertions.assertNotNull(cache.get(third));
+	}
+	
+	
+	@Test
+	void testFileIsNotRestoredAfterDependencyChanges(@TempDir Path classpathDirectory) 
+			throws IOException {
+		ProcessedFileCache cache = new ProcessedFileCache(cacheDirectory, 1024 * 1024);
+		Path dependency = classpathDirectory.resolve("Bar.class");
+		
+		Files.write(dependency, new byte[10]);
+		Files.setLastModifiedTime(dependency, FileTime.fromMillis(1000));
+		cache.put(generateKey(classpathDirectory), createProcessedFile(10));
+		
+		Files.write(dependency, new byte[12]);
+		Files.setLastModifiedTime(dependency, FileTime.fromMillis(2000));
+		
+		Assertions.assertNull(cache.get(generateKey(classpathDirectory)));
+	}
+	
+	@Test
+	void testFileIsRestoredWhileDependencyIsCompiledByProcessing(@TempDir Path classpathDirectory) 
+			throws IOException {
+		ProcessedFileCache cache = new ProcessedFileCache(cacheDirectory, 1024 * 1024);
+		Path dependency = classpathDirectory.resolve("Bar.class");
+		
+		Files.write(dependency, new byte[10]);
+		Files.setLastModifiedTime(dependency, FileTime.fromMillis(1000));
+		cache.put(generateKey(classpathDirectory), createProcessedFile(10));
+		
+		Files.copy(
+				dependency, 
+				classpathDirectory.resolve("Bar.class.invoked.bkp"), 
+				StandardCopyOption.COPY_ATTRIBUTES
+		);
+		Files.write(dependency, new byte[12]);
+		Files.write(classpathDirectory.resolve("Bar$1.class"), new byte[1]);
+		
+		Assertions.assertNotNull(cache.get(generateKey(classpathDirectory)));
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private String generateKey(Path classpathDirectory) {
+		return ProcessedFileCache.generateKey(
+				SOURCE, 
+				ProcessorType.INVOKED, 
+				"", 
+				ProcessedFileCache.generateClasspathFingerprint(
+						cacheDirectory.resolve("aspects"), 
+						List.of(classpathDirectory)
+				)
+		);
+	}
+	
+
+	private String generateKey(ProcessorType type, String options) {
+		return ProcessedFileCache.generateKey(SOURCE, type, options, "");
+	}
+	
+	private ProcessedFile createProcessedFile(int classFileSize) {
+		return new ProcessedFile(
+				FileEncoding.UTF_8, 
+				"processed".getBytes(StandardCharsets.UTF_8), 
+				1, 
+				Map.of(
+						"Foo.class", new byte[classFileSize],
+						"Foo$1.class", new byte[1]
+				)
+		);
+	}
+}
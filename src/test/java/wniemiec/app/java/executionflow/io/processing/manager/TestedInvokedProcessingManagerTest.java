@@ -7,12 +7,18 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.analyzer.DebuggerAnalyzer;
 import wniemiec.app.java.executionflow.collector.parser.TestedInvokedParser;
 import wniemiec.app.java.executionflow.invoked.Invoked;
 import wniemiec.app.java.executionflow.invoked.TestedInvoked;
@@ -74,9 +80,53 @@ class TestedInvokedProcessingManagerTest {
 	}
 	
 	
+	@Test
+	void testParseInParallelRunsAnalyzersAtTheSameTime() throws IOException {
+		withTestedInvoked(getAuxClassInvoked(), getOthersInvoked());
+		withTestedInvoked(getAuxClassInvokedAtAnotherLine(), getOthersInvoked());
+		invokedCollectorParser = new TestedInvokedProcessingManager();
+		
+		TestedInvokedParser sequentialParser = new TestedInvokedParser();
+		TestedInvokedParser parallelParser = new TestedInvokedParser();
+		
+		invokedCollectorParser.parse(
+				sequentialParser, 
+				invokedCollector, 
+				createAnalyzers(new CyclicBarrier(1))
+		);
+		invokedCollectorParser.parseInParallel(
+				parallelParser, 
+				invokedCollector, 
+				createAnalyzers(new CyclicBarrier(2)), 
+				2
+		);
+		
+		Assertions.assertEquals(2, parallelParser.getTestPaths().size());
+		Assertions.assertEquals(
+				sequentialParser.getTestPaths(), 
+				parallelParser.getTestPaths()
+		);
+	}
+	
+	
 	//-------------------------------------------------------------------------
 	//		Methods
 	//-------------------------------------------------------------------------
+	/**
+	 * Creates analyzers that only record a test path once all analyzers
+	 * that share the barrier are running.
+	 */
+	private List<DebuggerAnalyzer> createAnalyzers(CyclicBarrier barrier) 
+			throws IOException {
+		List<DebuggerAnalyzer> analyzers = new ArrayList<>();
+		
+		for (TestedInvoked testedInvoked : invokedCollector) {
+			analyzers.add(new BarrierAnalyzer(testedInvoked, barrier));
+		}
+		
+		return analyzers;
+	}
+	
 	private void withTestedInvoked(Invoked testedInvoked, Invoked testMethod) {
 		invokedCollector.add(new TestedInvoked(testedInvoked, testMethod));
 	}
@@ -102,6 +152,15 @@ class TestedInvokedProcessingManagerTest {
 				.build();
 	}
 	
+	private Invoked getAuxClassInvokedAtAnotherLine() {
+		return new Invoked.Builder()
+				.srcPath(srcDirectory.resolve("AuxClass.java"))
+				.binPath(binDirectory.resolve("AuxClass.class"))
+				.signature("auxfiles.AuxClass.factorial(int)")
+				.invocationLine(33)
+				.build();
+	}
+	
 	private Invoked getOthersInvoked() {
 		return new Invoked.Builder()
 				.srcPath(srcDirectory.resolve("Others.java"))
@@ -109,4 +168,47 @@ class TestedInvokedProcessingManagerTest {
 				.signature("auxfiles.Others.testFactorial()")
 				.build();
 	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Inner classes
+	//-------------------------------------------------------------------------
+	private static class BarrierAnalyzer extends DebuggerAnalyzer {
+		
+		private final CyclicBarrier barrier;
+		
+		BarrierAnalyzer(TestedInvoked testedInvoked, CyclicBarrier barrier) 
+				throws IOException {
+			super(testedInvoked);
+			
+			this.barrier = barrier;
+		}
+		
+		@Override
+		protected void startDebugger() {
+		}
+		
+		@Override
+		protected void run() throws IOException {
+			try {
+				barrier.await(30, TimeUnit.SECONDS);
+			}
+			catch (BrokenBarrierException | TimeoutException e) {
+				throw new IOException("Analyzers have not run at the same time");
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IOException(e);
+			}
+			
+			testPaths = List.of(List.of(
+					testedInvoked.getInvocationLine(), 
+					testedInvoked.getInvocationLine() + 1
+			));
+		}
+		
+		@Override
+		protected void closeDebugger() {
+		}
+	}
 }
@@ -2,9 +2,13 @@ package wniemiec.app.java.executionflow.io.processing.processor.holeplug;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import wniemiec.app.java.executionflow.io.processing.Processing;
 import wniemiec.app.java.executionflow.io.processing.processor.holeplug.HolePlug;
@@ -26,6 +30,27 @@ class HolePlugTest extends Processing {
 	void testHoleplug() throws Exception {
 		testProcessorOnFile("holeplug");
 	}
+	
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"holeplug",
+			"open-curlybrackets",
+			"invoked-processor",
+			"else-without-curlybrackets",
+			"else",
+			"try-catch-finally",
+			"continue-break",
+			"dowhile",
+			"while",
+			"switch",
+			"uninitialized-variables"
+	})
+	void testSinglePassIsEqualToOnePassPerProcessor(String filename) throws Exception {
+		Assertions.assertEquals(
+				normalizeVarNames(processWithOnePassPerProcessor(filename)),
+				normalizeVarNames(processSourceCodeFrom(filename))
+		);
+	}
 
 	
 	//-----------------------------------------------------------------------
@@ -37,4 +62,32 @@ class HolePlugTest extends Processing {
 		
 		return holeplug.processLines();
 	}
+	
+	private List<String> processWithOnePassPerProcessor(String filename) 
+			throws IOException {
+		List<String> sourceCode = readTestFile(filename);
+		
+		new OpenCurlyBracketProcessor(sourceCode).processLines();
+		new InvokedProcessor(sourceCode).processLines();
+		new ElseWithoutCurlyBracketProcessor(sourceCode).processLines();
+		new ElseProcessor(sourceCode).processLines();
+		new TryCatchFinallyProcessor(sourceCode).processLines();
+		new ContinueBreakProcessor(sourceCode).processLines();
+		new DoWhileProcessor(sourceCode).processLines();
+		new WhileProcessor(sourceCode).processLines();
+		new SwitchProcessor(sourceCode).processLines();
+		new UninitializedVariableProcessor(sourceCode).processLines();
+		
+		return sourceCode;
+	}
+	
+	private List<String> normalizeVarNames(List<String> sourceCode) {
+		List<String> normalizedSourceCode = new ArrayList<>();
+		
+		for (String line : sourceCode) {
+			normalizedSourceCode.add(line.replaceAll("_[0-9A-Fa-f]{32}", "_"));
+		}
+		
+		return normalizedSourceCode;
+	}
 }
@@ -0,0 +1,155 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.CHAR_LITERAL;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.CLOSING_CURLY_BRACKET;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.CLOSING_ROUND_BRACKET;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.COMMENT;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.NUMBER;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.OPENING_ROUND_BRACKET;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.SEMICOLON;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.STRING_LITERAL;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.SYMBOL;
+import static wniemiec.app.java.executionflow.io.processing.processor.lexer.JavaTokenType.WORD;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JavaLexerTest {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private JavaLexer lexer;
+	private List<JavaToken> tokens;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeEach
+	void prepare() {
+		lexer = new JavaLexer();
+		tokens = null;
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testMethodCall() {
+		tokenize("\t\tassertEquals(foo.bar(2), 1.5e-3);");
+		
+		assertTokenTypesAre(
+				WORD, OPENING_ROUND_BRACKET, WORD, SYMBOL, WORD, 
+				OPENING_ROUND_BRACKET, NUMBER, CLOSING_ROUND_BRACKET, SYMBOL,
+				NUMBER, CLOSING_ROUND_BRACKET, SEMICOLON
+		);
+		assertTokenTextsAre(
+				"assertEquals", "(", "foo", ".", "bar", "(", "2", ")", ",", 
+				"1.5e-3", ")", ";"
+		);
+	}
+	
+	@Test
+	void testColumns() {
+		tokenize("\tif (x) {");
+		
+		assertEquals(1, tokens.get(0).getColumn());
+		assertEquals(3, tokens.get(0).getEndColumn());
+		assertEquals(8, tokens.get(4).getColumn());
+	}
+	
+	@Test
+	void testBracketsInsideLiterals() {
+		tokenize("s = \"({\\\")\" + '}' + '\\'';");
+		
+		assertTokenTypesAre(
+				WORD, SYMBOL, STRING_LITERAL, SYMBOL, CHAR_LITERAL, SYMBOL,
+				CHAR_LITERAL, SEMICOLON
+		);
+	}
+	
+	@Test
+	void testInlineComment() {
+		tokenize("x = \"//\"; // foo()");
+		
+		assertTokenTypesAre(WORD, SYMBOL, STRING_LITERAL, SEMICOLON, COMMENT);
+		assertEquals("// foo()", tokens.get(4).getText());
+	}
+	
+	@Test
+	void testMultiLineComment() {
+		tokenize("foo(); /* {");
+		assertTokenTypesAre(WORD, OPENING_ROUND_BRACKET, CLOSING_ROUND_BRACKET, 
+							SEMICOLON, COMMENT);
+		
+		tokenize("   } (");
+		assertTokenTypesAre(COMMENT);
+		
+		tokenize("*/ }");
+		assertTokenTypesAre(COMMENT, CLOSING_CURLY_BRACKET);
+	}
+	
+	@Test
+	void testTextBlock() {
+		tokenize("s = \"\"\"");
+		assertTokenTypesAre(WORD, SYMBOL, STRING_LITERAL);
+		
+		tokenize("  ( \" {");
+		assertTokenTypesAre(STRING_LITERAL);
+		
+		tokenize("  \"\"\";");
+		assertTokenTypesAre(STRING_LITERAL, SEMICOLON);
+	}
+	
+	@Test
+	void testUnterminatedStringEndsWithLine() {
+		tokenize("s = \"foo(");
+		assertTokenTypesAre(WORD, SYMBOL, STRING_LITERAL);
+		
+		tokenize("(");
+		assertTokenTypesAre(OPENING_ROUND_BRACKET);
+	}
+	
+	@Test
+	void testNullLine() {
+		assertThrows(
+				IllegalArgumentException.class, 
+				() -> tokenize(null)
+		);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void tokenize(String line) {
+		tokens = lexer.tokenizeLine(line);
+	}
+	
+	private void assertTokenTypesAre(JavaTokenType... types) {
+		List<JavaTokenType> tokenTypes = new ArrayList<>();
+		
+		for (JavaToken token : tokens) {
+			tokenTypes.add(token.getType());
+		}
+		
+		assertEquals(List.of(types), tokenTypes);
+	}
+	
+	private void assertTokenTextsAre(String... texts) {
+		List<String> tokenTexts = new ArrayList<>();
+		
+		for (JavaToken token : tokens) {
+			tokenTexts.add(token.getText());
+		}
+		
+		assertEquals(List.of(texts), tokenTexts);
+	}
+}
@@ -0,0 +1,92 @@
+package wniemiec.app.java.executionflow.io.processing.processor.lexer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JavaTokenStreamTest {
+	
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private List<String> sourceCode;
+	private JavaTokenStream tokenStream;
+	
+	
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeEach
+	void prepare() {
+		sourceCode = new ArrayList<>(List.of(
+				"void foo() {",
+				"	bar(); /* (",
+				"	) */ baz(",
+				"	);",
+				"}"
+		));
+		tokenStream = new JavaTokenStream(sourceCode);
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testLinesAreSplitOnlyOnce() {
+		List<JavaToken> tokens = tokenStream.getTokens(2);
+		
+		assertSame(tokens, tokenStream.getTokens(2));
+	}
+	
+	@Test
+	void testMultiLineCommentIsCarriedOver() {
+		assertRoundBracketBalanceIs(1, 2);
+	}
+	
+	@Test
+	void testChangedLineIsSplitAgain() {
+		tokenStream.getTokens(3);
+		sourceCode.set(2, "	baz();");
+		
+		assertRoundBracketBalanceIs(0, 2);
+	}
+	
+	@Test
+	void testLinesAfterChangedCommentAreSplitAgain() {
+		tokenStream.getTokens(4);
+		sourceCode.set(1, "	bar();");
+		
+		assertRoundBracketBalanceIs(-1, 2);
+	}
+	
+	@Test
+	void testBracketBalanceOfMethod() {
+		BracketCounter counter = BracketCounter.curlyBrackets();
+		
+		for (int i = 0; i < sourceCode.size(); i++) {
+			counter.parse(tokenStream.getTokens(i));
+		}
+		
+		assertEquals(true, counter.alreadyIncreased());
+		assertEquals(true, counter.isBalanceEmpty());
+	}
+	
+	
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private void assertRoundBracketBalanceIs(int balance, int line) {
+		assertEquals(
+				balance, 
+				BracketCounter.roundBrackets()
+						.parse(tokenStream.getTokens(line))
+						.getBalance()
+		);
+	}
+}
@@ -0,0 +1,146 @@
+package wniemiec.app.java.executionflow.runtime.hook;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import wniemiec.app.java.ExecutionFlow;
+import wniemiec.app.java.executionflow.io.FileEncoding;
+import wniemiec.app.java.executionflow.io.compiler.Compiler;
+import wniemiec.app.java.executionflow.io.compiler.CompilerFactory;
+import wniemiec.app.java.executionflow.lib.LibraryManager;
+
+/**
+ * Checks that the constructor calls selected by
+ * {@link ConstructorHook#outsideUserMethods()} are the ones selected when the
+ * cflowbelow also counted application methods. A probe aspect woven in a
+ * fixture records the calls that each version of the pointcut selects.
+ */
+class ConstructorHookTest {
+
+	//-------------------------------------------------------------------------
+	//		Attributes
+	//-------------------------------------------------------------------------
+	private static final String PROBE =
+			"wniemiec.app.java.executionflow.runtime.hook.ConstructorCallsProbe";
+	private static final String FIXTURE = "auxfiles.hook.ConstructorCalls";
+	private static final String LAUNCHER =
+			"wniemiec.app.java.executionflow.runtime.hook.ConstructorCallsLauncher";
+	private static final Path RESOURCES = ExecutionFlow.getCurrentProjectRoot()
+			.resolve(Path.of(
+					"src", "test", "java", "auxfiles", "wniemiec", "app", "java",
+					"executionflow", "runtime", "hook"
+			));
+	private static ClassLoader wovenClasses;
+
+
+	//-------------------------------------------------------------------------
+	//		Test hooks
+	//-------------------------------------------------------------------------
+	@BeforeAll
+	static void weaveProbe() throws IOException {
+		Path workingDirectory = Files.createTempDirectory("constructor-hook");
+		Path srcDirectory = workingDirectory.resolve("src");
+		Path binDirectory = workingDirectory.resolve("bin");
+		List<Path> sources = new ArrayList<>();
+
+		sources.add(copySource("constructor-calls-fixture.txt", srcDirectory, FIXTURE));
+		sources.add(copySource("constructor-calls-launcher.txt", srcDirectory, LAUNCHER));
+		sources.add(copySource("constructor-calls-probe.txt", srcDirectory, PROBE));
+		Files.createDirectories(binDirectory);
+
+		Compiler compiler = CompilerFactory.createStandardAspectJCompiler()
+				.inpath(Files.createDirectories(workingDirectory.resolve("inpath")))
+				.classpath(LibraryManager.getJavaClassPath())
+				.build();
+		compiler.compile(sources, binDirectory, FileEncoding.UTF_8);
+
+		wovenClasses = new URLClassLoader(
+				new URL[] {binDirectory.toUri().toURL()},
+				ConstructorHookTest.class.getClassLoader()
+		);
+	}
+
+
+	//-------------------------------------------------------------------------
+	//		Tests
+	//-------------------------------------------------------------------------
+	@Test
+	void testSameConstructorsAsBefore() throws Exception {
+		run(FIXTURE, "testMethod");
+
+		assertMatchesAre(
+				List.of(
+						"6 auxfiles.hook.ConstructorCalls.Point(int, int)",
+						"8 auxfiles.hook.ConstructorCalls.Segment()"
+				),
+				getMatches("getPreviousMatches")
+		);
+		assertMatchesAre(
+				getMatches("getPreviousMatches"),
+				getMatches("getCurrentMatches")
+		);
+	}
+
+	@Test
+	void testCallsFromApplicationMethodAsIfCalledDirectly() throws Exception {
+		run(FIXTURE, "testMethod");
+		List<String> directMatches = getMatches("getCurrentMatches");
+
+		run(LAUNCHER, "run");
+
+		assertMatchesAre(List.of(), getMatches("getPreviousMatches"));
+		assertMatchesAre(directMatches, getMatches("getCurrentMatches"));
+	}
+
+
+	//-------------------------------------------------------------------------
+	//		Methods
+	//-------------------------------------------------------------------------
+	private static Path copySource(String resource, Path srcDirectory,
+								   String className)
+			throws IOException {
+		Path source = srcDirectory.resolve(className.replace('.', '/') + ".java");
+
+		Files.createDirectories(source.getParent());
+
+		return Files.copy(RESOURCES.resolve(resource), source);
+	}
+
+	private void run(String className, String methodName)
+			throws ReflectiveOperationException {
+		invoke(PROBE, "reset");
+		invoke(className, methodName);
+	}
+
+	private Object invoke(String className, String methodName)
+			throws ReflectiveOperationException {
+		try {
+			return Class.forName(className, true, wovenClasses)
+					.getMethod(methodName)
+					.invoke(null);
+		}
+		catch (InvocationTargetException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<String> getMatches(String getter)
+			throws ReflectiveOperationException {
+		return (List<String>) invoke(PROBE, getter);
+	}
+
+	private void assertMatchesAre(List<String> expected, List<String> matches) {
+		Assertions.assertEquals(expected, matches);
+	}
+}